@@ -0,0 +1,215 @@
+package com.interview.organiser.config;
+
+import com.interview.organiser.model.entity.AnalyticsRollup;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Feedback;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.InterviewEvent;
+import com.interview.organiser.model.entity.InterviewTimelineEntry;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.model.entity.Notification;
+import com.interview.organiser.model.entity.Recruiter;
+import com.interview.organiser.model.entity.RefreshToken;
+import com.interview.organiser.model.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the indexes every repository query shape relies on.
+ * Compound indexes are declared here next to the query that needs them; single-field indexes
+ * declared with @Indexed on the entities are resolved from the mapping context. Index creation is
+ * idempotent, so this runs on every startup, ahead of the other startup jobs. Coverage is checked by
+ * IndexCoverageTest, which runs explain() for every repository query method and fails on a COLLSCAN.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.mongo.indexes.enabled", havingValue = "true", matchIfMissing = true)
+public class IndexManager implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ensureIndexes();
+    }
+
+    public void ensureIndexes() {
+        int created = 0;
+
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        for (MongoPersistentEntity<?> entity : mongoTemplate.getConverter().getMappingContext().getPersistentEntities()) {
+            if (entity.isAnnotationPresent(Document.class)) {
+                IndexOperations indexOps = mongoTemplate.indexOps(entity.getType());
+                for (IndexDefinition definition : resolver.resolveIndexFor(entity.getTypeInformation())) {
+                    created += createIndex(indexOps, definition);
+                }
+            }
+        }
+
+        for (Map.Entry<Class<?>, List<Index>> entry : declaredIndexes().entrySet()) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entry.getKey());
+            for (Index index : entry.getValue()) {
+                created += createIndex(indexOps, index);
+            }
+        }
+
+        log.info("Ensured {} MongoDB indexes", created);
+    }
+
+    private int createIndex(IndexOperations indexOps, IndexDefinition definition) {
+        try {
+            indexOps.createIndex(definition);
+            return 1;
+        } catch (RuntimeException e) {
+            // e.g. a unique index that existing duplicate data violates; keep starting and surface it loudly
+            log.error("Could not create index {}: {}", definition.getIndexKeys(), e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Compound and secondary indexes per entity, each named after the repository query it serves.
+     */
+    public static Map<Class<?>, List<Index>> declaredIndexes() {
+        Map<Class<?>, List<Index>> indexes = new LinkedHashMap<>();
+
+        indexes.put(Interview.class, List.of(
+                // findByCandidateId, findByCandidateIdAndStatus
+                new Index().on("candidate.$id", Sort.Direction.ASC).on("status", Sort.Direction.ASC)
+                        .named("candidate_status"),
+                // findByInterviewerId, findByInterviewerIdAndStatus
+                new Index().on("interviewers.$id", Sort.Direction.ASC).on("status", Sort.Direction.ASC)
+                        .named("interviewers_status"),
+                // countByRecruiterId*, countByRecruiterIdAndStatusAndScheduledAtAfter
+                new Index().on("recruiterId", Sort.Direction.ASC).on("status", Sort.Direction.ASC)
+                        .on("scheduledAt", Sort.Direction.ASC).named("recruiter_status_scheduledAt"),
+                // findByStatus, countByStatus, keyset listing by status
+                new Index().on("status", Sort.Direction.ASC).on("scheduledAt", Sort.Direction.ASC)
+                        .on("_id", Sort.Direction.ASC).named("status_scheduledAt_id"),
+                // findByScheduledAtBetween, keyset listing ordered by (scheduledAt, _id)
+                new Index().on("scheduledAt", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                        .named("scheduledAt_id"),
+                // AnalyticsRollupService: documents updated since the watermark
+                new Index().on("updatedAt", Sort.Direction.ASC).named("updatedAt")));
+
+        indexes.put(InterviewEvent.class, List.of(
+                // InterviewEventTailer: range reads after the last delivered seq
+                new Index().on("seq", Sort.Direction.ASC).unique().named("seq")));
+
+        indexes.put(InterviewTimelineEntry.class, List.of(
+                // findByInterviewIdOrderByCreatedAtAscIdAsc, keyset timeline ordered by (createdAt, _id)
+                new Index().on("interviewId", Sort.Direction.ASC).on("createdAt", Sort.Direction.ASC)
+                        .on("_id", Sort.Direction.ASC).named("interviewId_createdAt_id")));
+
+        indexes.put(Feedback.class, List.of(
+                // findByInterviewId, findByInterviewIdPage, keyset listing by interview
+                new Index().on("interview.$id", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                        .named("interview_id"),
+                // findByCandidateId, keyset listing by candidate
+                new Index().on("candidateId", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                        .named("candidateId_id"),
+                // findByInterviewerIds, keyset listing by interviewer
+                new Index().on("interviewerIds", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                        .named("interviewerIds_id"),
+                // AnalyticsRollupService: documents updated since the watermark, buckets by submission time
+                new Index().on("updatedAt", Sort.Direction.ASC).named("updatedAt"),
+                new Index().on("submittedAt", Sort.Direction.ASC).named("submittedAt")));
+
+        indexes.put(Candidate.class, List.of(
+                // findByStatus, keyset listing by status
+                new Index().on("status", Sort.Direction.ASC).on("_id", Sort.Direction.ASC).named("status_id"),
+                // countByRecruiterId, countByRecruiterIdAndStatusNot
+                new Index().on("recruiterId", Sort.Direction.ASC).on("status", Sort.Direction.ASC)
+                        .named("recruiter_status"),
+                // findByInvitationToken
+                new Index().on("invitationToken", Sort.Direction.ASC).sparse().named("invitationToken"),
+                // search without a status filter
+                new Index().on("searchTokens", Sort.Direction.ASC).named("searchTokens"),
+                // search with a status filter
+                new Index().on("status", Sort.Direction.ASC).on("searchTokens", Sort.Direction.ASC)
+                        .named("status_searchTokens"),
+                // search: candidates matching every term as a whole word, ranked ahead of the prefix hits
+                new Index().on("searchWords", Sort.Direction.ASC).named("searchWords"),
+                new Index().on("status", Sort.Direction.ASC).on("searchWords", Sort.Direction.ASC)
+                        .named("status_searchWords"),
+                // AnalyticsRollupService: documents updated since the watermark, buckets by creation time
+                new Index().on("updatedAt", Sort.Direction.ASC).named("updatedAt"),
+                new Index().on("createdAt", Sort.Direction.ASC).named("createdAt")));
+
+        indexes.put(AnalyticsRollup.class, List.of(
+                // AnalyticsService: buckets of a range, all recruiters; stale buckets of a refresh
+                new Index().on("granularity", Sort.Direction.ASC).on("metric", Sort.Direction.ASC)
+                        .on("bucket", Sort.Direction.ASC).named("granularity_metric_bucket"),
+                // AnalyticsService: buckets of a range, one recruiter
+                new Index().on("granularity", Sort.Direction.ASC).on("metric", Sort.Direction.ASC)
+                        .on("recruiterId", Sort.Direction.ASC).on("bucket", Sort.Direction.ASC)
+                        .named("granularity_metric_recruiterId_bucket")));
+
+        indexes.put(Interviewer.class, List.of(
+                // findByUserId
+                new Index().on("user.$id", Sort.Direction.ASC).named("user"),
+                // findByExpertise, findByExpertiseAndAvailability
+                new Index().on("expertise", Sort.Direction.ASC).on("availability", Sort.Direction.ASC)
+                        .named("expertise_availability"),
+                // findByAvailability, keyset listing by availability
+                new Index().on("availability", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                        .named("availability_id"),
+                // findByInvitationToken
+                new Index().on("invitationToken", Sort.Direction.ASC).sparse().named("invitationToken")));
+
+        indexes.put(Notification.class, List.of(
+                // NotificationDispatcher: due pending records
+                new Index().on("status", Sort.Direction.ASC).on("nextAttemptAt", Sort.Direction.ASC)
+                        .named("status_nextAttemptAt"),
+                // NotificationDispatcher: expired claims
+                new Index().on("status", Sort.Direction.ASC).on("claimedUntil", Sort.Direction.ASC)
+                        .named("status_claimedUntil"),
+                // NotificationDispatcher: records of one claim
+                new Index().on("claimToken", Sort.Direction.ASC).sparse().named("claimToken"),
+                // keep delivered records for a week
+                new Index().on("sentAt", Sort.Direction.ASC).expire(Duration.ofDays(7)).named("sentAt_ttl")));
+
+        indexes.put(Recruiter.class, List.of(
+                // findByAdminUserId
+                new Index().on("adminUserId", Sort.Direction.ASC).named("adminUserId"),
+                // findByVerificationStatus, countByVerificationStatus, keyset listing by status
+                new Index().on("verificationStatus", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                        .named("verificationStatus_id"),
+                // findByIsActive, keyset listing by isActive
+                new Index().on("isActive", Sort.Direction.ASC).on("_id", Sort.Direction.ASC).named("isActive_id")));
+
+        indexes.put(RefreshToken.class, List.of(
+                // findByUserId, deleteByUserId
+                new Index().on("userId", Sort.Direction.ASC).named("userId"),
+                // deleteByExpiryDateBefore
+                new Index().on("expiryDate", Sort.Direction.ASC).named("expiryDate")));
+
+        indexes.put(User.class, List.of(
+                // findByRolesContaining, keyset listing by role
+                new Index().on("roles", Sort.Direction.ASC).on("_id", Sort.Direction.ASC).named("roles_id")));
+
+        return indexes;
+    }
+}
@@ -0,0 +1,38 @@
+package com.interview.organiser.config;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the commands the Mongo driver sends, grouped by command name (find, count, aggregate ...).
+ * Used to measure round trips per request, e.g. to verify that listing endpoints do not issue
+ * one query per referenced document.
+ */
+public class MongoCommandCounter implements CommandListener {
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        counts.computeIfAbsent(event.getCommandName(), name -> new LongAdder()).increment();
+    }
+
+    public long total() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counts.forEach((name, count) -> snapshot.put(name, count.sum()));
+        return snapshot;
+    }
+
+    public void reset() {
+        counts.clear();
+    }
+}
@@ -0,0 +1,40 @@
+package com.interview.organiser.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoCommandCounter mongoCommandCounter() {
+        return new MongoCommandCounter();
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer commandCounterCustomizer(MongoCommandCounter mongoCommandCounter) {
+        return builder -> builder.addCommandListener(mongoCommandCounter);
+    }
+
+    /**
+     * With request handling on virtual threads the connection pool, not the Tomcat thread pool, bounds how many
+     * requests talk to Mongo at once; callers beyond max-size park until a connection frees up or max-wait passes.
+     * Defaults are the driver's; these settings take precedence over pool options in the connection string.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(
+            @Value("${app.mongo.pool.max-size:100}") int maxSize,
+            @Value("${app.mongo.pool.min-size:0}") int minSize,
+            @Value("${app.mongo.pool.max-connecting:2}") int maxConnecting,
+            @Value("${app.mongo.pool.max-wait-ms:120000}") long maxWaitMs) {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .minSize(minSize)
+                .maxConnecting(maxConnecting)
+                .maxWaitTime(maxWaitMs, TimeUnit.MILLISECONDS));
+    }
+}
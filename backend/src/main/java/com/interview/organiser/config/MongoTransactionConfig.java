@@ -0,0 +1,22 @@
+package com.interview.organiser.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * Backs ConflictRetry attempts and @Transactional methods with MongoDB multi-document transactions, so state
+ * changes, interview_events, dashboard counters and the notification outbox commit atomically.
+ * Transactions need a replica set or sharded cluster, hence opt-in.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.mongo.transactions.enabled", havingValue = "true")
+public class MongoTransactionConfig {
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
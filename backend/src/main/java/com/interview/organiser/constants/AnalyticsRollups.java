@@ -0,0 +1,47 @@
+package com.interview.organiser.constants;
+
+/**
+ * Metric and counter names of the analytics_rollups collection.
+ * Each rollup document holds the counters of one metric for one hour or day bucket, one recruiter and,
+ * for interview and feedback metrics, one round. Counters are plain sums so buckets add up to any range.
+ */
+public final class AnalyticsRollups {
+
+    // Metrics, one per source collection and named after it
+    public static final String CANDIDATES = "candidates";
+    public static final String INTERVIEWS = "interviews";
+    public static final String FEEDBACK = "feedback";
+
+    // Counters
+    public static final String COUNT = "count";
+    public static final String HIRES = "hires";
+    public static final String TIMED_HIRES = "timedHires";
+    public static final String HIRE_MINUTES = "hireMinutes";
+    public static final String RATED = "rated";
+    public static final String RATING_SUM = "ratingSum";
+
+    // Counter prefixes, followed by the enum name
+    public static final String STATUS_PREFIX = "status:";
+    public static final String RESULT_PREFIX = "result:";
+    public static final String RECOMMENDATION_PREFIX = "recommendation:";
+
+    // Bookkeeping collections of the incremental refresh
+    public static final String WATERMARKS = "analytics_watermarks";
+    public static final String INTERVIEW_BUCKETS = "analytics_interview_buckets";
+
+    public static String status(Enum<?> status) {
+        return STATUS_PREFIX + status.name();
+    }
+
+    public static String result(Enum<?> result) {
+        return RESULT_PREFIX + result.name();
+    }
+
+    public static String recommendation(Enum<?> recommendation) {
+        return RECOMMENDATION_PREFIX + recommendation.name();
+    }
+
+    private AnalyticsRollups() {
+        // Private constructor to prevent instantiation
+    }
+}
@@ -34,6 +34,8 @@ public class AppConstants {
     public static final int DEFAULT_INTERVIEW_DURATION = 60; // minutes
     public static final int MIN_INTERVIEW_DURATION = 15; // minutes
     public static final int MAX_INTERVIEW_DURATION = 480; // minutes (8 hours)
+    public static final int MAX_BULK_SCHEDULE_SIZE = 500;
+    public static final int MAX_HIRING_DRIVE_DAYS = 31;
 
     // Feedback
     public static final int MIN_RATING = 1;
@@ -0,0 +1,53 @@
+package com.interview.organiser.constants;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Scope keys and counter names of the materialised calibration_stats collection.
+ * Each stats document is keyed by scope ("global", "interviewer:{id}", "position:{position}") and holds
+ * a histogram per score dimension, recommendation counts and recommendation x interview result counts.
+ */
+public final class CalibrationCounters {
+
+    // Scopes
+    public static final String GLOBAL_SCOPE = "global";
+    public static final String INTERVIEWER_SCOPE_PREFIX = "interviewer:";
+    public static final String POSITION_SCOPE_PREFIX = "position:";
+
+    // Score dimensions, named after the Feedback fields; scores are validated to this range on the requests
+    public static final List<String> DIMENSIONS =
+            List.of("rating", "technicalSkills", "communicationSkills", "problemSolving", "culturalFit");
+    public static final int MIN_SCORE = 1;
+    public static final int MAX_SCORE = 10;
+
+    // Counters
+    public static final String FEEDBACK_COUNT = "feedback";
+
+    public static String interviewerScope(String interviewerId) {
+        return INTERVIEWER_SCOPE_PREFIX + interviewerId;
+    }
+
+    /**
+     * Positions are free text on candidates, so they are compared trimmed and case-insensitively.
+     */
+    public static String positionScope(String position) {
+        return POSITION_SCOPE_PREFIX + position.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static String score(String dimension, int score) {
+        return dimension + ":" + score;
+    }
+
+    public static String recommendation(Enum<?> recommendation) {
+        return "recommendation:" + recommendation.name();
+    }
+
+    public static String outcome(Enum<?> recommendation, Enum<?> result) {
+        return "outcome:" + recommendation.name() + ":" + result.name();
+    }
+
+    private CalibrationCounters() {
+        // Private constructor to prevent instantiation
+    }
+}
@@ -0,0 +1,45 @@
+package com.interview.organiser.constants;
+
+/**
+ * Scope keys and counter names of the materialised dashboard_stats collection.
+ * Each stats document is keyed by scope ("global", "recruiter:{id}", ...) and holds a map of counters.
+ */
+public final class DashboardCounters {
+
+    // Scopes
+    public static final String GLOBAL_SCOPE = "global";
+    public static final String RECRUITER_SCOPE_PREFIX = "recruiter:";
+    public static final String INTERVIEWER_SCOPE_PREFIX = "interviewer:";
+    public static final String CANDIDATE_SCOPE_PREFIX = "candidate:";
+
+    // Counters
+    public static final String TOTAL_RECRUITERS = "totalRecruiters";
+    public static final String VERIFIED_RECRUITERS = "verifiedRecruiters";
+    public static final String PENDING_RECRUITERS = "pendingRecruiters";
+    public static final String TOTAL_USERS = "totalUsers";
+    public static final String TOTAL_INTERVIEWERS = "totalInterviewers";
+    public static final String TOTAL_CANDIDATES = "totalCandidates";
+    public static final String ACTIVE_CANDIDATES = "activeCandidates";
+    public static final String TOTAL_INTERVIEWS = "totalInterviews";
+    public static final String ACTIVE_INTERVIEWS = "activeInterviews";
+    public static final String UPCOMING_INTERVIEWS = "upcomingInterviews";
+    public static final String COMPLETED_INTERVIEWS = "completedInterviews";
+    public static final String PENDING_FEEDBACKS = "pendingFeedbacks";
+    public static final String PENDING_CONFIRMATIONS = "pendingConfirmations";
+
+    public static String recruiterScope(String recruiterId) {
+        return RECRUITER_SCOPE_PREFIX + recruiterId;
+    }
+
+    public static String interviewerScope(String interviewerId) {
+        return INTERVIEWER_SCOPE_PREFIX + interviewerId;
+    }
+
+    public static String candidateScope(String candidateId) {
+        return CANDIDATE_SCOPE_PREFIX + candidateId;
+    }
+
+    private DashboardCounters() {
+        // Private constructor to prevent instantiation
+    }
+}
@@ -0,0 +1,7 @@
+package com.interview.organiser.constants.enums;
+
+public enum AnalyticsGranularity {
+    HOUR,
+    DAY,
+    WEEK // Summed from DAY rollups when read, not stored
+}
@@ -0,0 +1,14 @@
+package com.interview.organiser.constants.enums;
+
+public enum InterviewEventType {
+    INTERVIEW_SCHEDULED,
+    INTERVIEW_UPDATED,
+    INTERVIEW_STATUS_CHANGED,
+    INTERVIEW_CONFIRMED,
+    INTERVIEW_CANCELLED,
+    INTERVIEW_RESULT_MARKED,
+    NEXT_ROUND_CREATED,
+    FEEDBACK_REQUESTED,
+    INVITATION_ACCEPTED,
+    INVITATION_DECLINED
+}
@@ -0,0 +1,8 @@
+package com.interview.organiser.constants.enums;
+
+public enum NotificationStatus {
+    PENDING,
+    PROCESSING,
+    SENT,
+    FAILED
+}
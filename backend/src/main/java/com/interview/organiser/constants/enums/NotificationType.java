@@ -0,0 +1,17 @@
+package com.interview.organiser.constants.enums;
+
+public enum NotificationType {
+    INTERVIEWER_INVITATION,
+    CANDIDATE_INVITATION,
+    INTERVIEW_SCHEDULED,
+    INTERVIEWER_ASSIGNED,
+    INTERVIEW_CONFIRMED,
+    INTERVIEW_CANCELLED,
+    FEEDBACK_REQUEST,
+    CANDIDATE_FEEDBACK_REQUEST,
+    CANDIDATE_RESULT,
+    RECRUITER_NEW_CANDIDATE,
+    ADMIN_NEW_RECRUITER,
+    RECRUITER_VERIFICATION_STATUS,
+    NEXT_ROUND_SCHEDULED
+}
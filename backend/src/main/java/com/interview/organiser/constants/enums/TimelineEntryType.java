@@ -0,0 +1,8 @@
+package com.interview.organiser.constants.enums;
+
+public enum TimelineEntryType {
+    NOTE,
+    STATUS_REASON,
+    CONFIRMATION_NOTE,
+    RESULT_COMMENT
+}
@@ -0,0 +1,76 @@
+package com.interview.organiser.controller;
+
+import com.interview.organiser.constants.enums.AnalyticsGranularity;
+import com.interview.organiser.model.dto.response.CalibrationResponse;
+import com.interview.organiser.model.dto.response.FunnelResponse;
+import com.interview.organiser.model.dto.response.InterviewVolumeResponse;
+import com.interview.organiser.model.dto.response.ResultRatesResponse;
+import com.interview.organiser.model.dto.response.TimeToHireResponse;
+import com.interview.organiser.service.AnalyticsService;
+import com.interview.organiser.service.CalibrationStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    private final CalibrationStatsService calibrationStatsService;
+
+    @GetMapping("/funnel")
+    public ResponseEntity<FunnelResponse> getFunnel(
+            @RequestParam(required = false) String recruiterId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        return ResponseEntity.ok(analyticsService.getFunnel(recruiterId, fromDate, toDate));
+    }
+
+    @GetMapping("/time-to-hire")
+    public ResponseEntity<TimeToHireResponse> getTimeToHire(
+            @RequestParam(required = false) String recruiterId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        return ResponseEntity.ok(analyticsService.getTimeToHire(recruiterId, fromDate, toDate));
+    }
+
+    @GetMapping("/interviews")
+    public ResponseEntity<InterviewVolumeResponse> getInterviewVolume(
+            @RequestParam(required = false) String recruiterId,
+            @RequestParam(defaultValue = "WEEK") AnalyticsGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        return ResponseEntity.ok(analyticsService.getInterviewVolume(recruiterId, granularity, fromDate, toDate));
+    }
+
+    @GetMapping("/result-rates")
+    public ResponseEntity<ResultRatesResponse> getResultRates(
+            @RequestParam(required = false) String recruiterId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        return ResponseEntity.ok(analyticsService.getResultRates(recruiterId, fromDate, toDate));
+    }
+
+    @GetMapping("/calibration/interviewers")
+    public ResponseEntity<List<CalibrationResponse>> getInterviewerCalibrations(
+            @RequestParam(defaultValue = "5") int minFeedback) {
+        return ResponseEntity.ok(calibrationStatsService.getInterviewerCalibrations(minFeedback));
+    }
+
+    @GetMapping("/calibration/interviewers/{interviewerId}")
+    public ResponseEntity<CalibrationResponse> getInterviewerCalibration(@PathVariable String interviewerId) {
+        return ResponseEntity.ok(calibrationStatsService.getInterviewerCalibration(interviewerId));
+    }
+
+    @GetMapping("/calibration/positions")
+    public ResponseEntity<List<CalibrationResponse>> getPositionCalibrations(
+            @RequestParam(defaultValue = "5") int minFeedback) {
+        return ResponseEntity.ok(calibrationStatsService.getPositionCalibrations(minFeedback));
+    }
+}
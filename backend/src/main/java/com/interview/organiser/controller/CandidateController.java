@@ -1,7 +1,9 @@
 package com.interview.organiser.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.interview.organiser.constants.enums.CandidateStatus;
 import com.interview.organiser.model.dto.request.CreateCandidateRequest;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.InviteCandidateRequest;
 import com.interview.organiser.model.dto.request.RespondToInvitationRequest;
 import com.interview.organiser.model.dto.request.UpdateCandidateRequest;
@@ -9,6 +11,9 @@ import com.interview.organiser.model.dto.response.CandidateResponse;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
 import com.interview.organiser.service.CandidateService;
+import com.interview.organiser.service.ResourceVersionService;
+import com.interview.organiser.util.ConditionalRequestUtil;
+import com.interview.organiser.util.FieldSelection;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -16,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/candidates")
@@ -23,15 +29,28 @@ import org.springframework.web.bind.annotation.*;
 public class CandidateController {
 
     private final CandidateService candidateService;
+    private final ResourceVersionService resourceVersionService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<PageResponse<CandidateResponse>> getAllCandidates(
+    public ResponseEntity<PageResponse<?>> getAllCandidates(
             @RequestParam(required = false) CandidateStatus status,
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, CandidateResponse.class);
+        if (cursor || after != null) {
+            CursorPageRequest cursorRequest = new CursorPageRequest(after, size, includeTotal);
+            return ResponseEntity.ok(selection.apply(
+                    candidateService.getAllCandidates(status, search, cursorRequest, selection), objectMapper));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(candidateService.getAllCandidates(status, search, pageable));
+        return ResponseEntity.ok(selection.apply(
+                candidateService.getAllCandidates(status, search, pageable, includeTotal, selection), objectMapper));
     }
 
     @PostMapping
@@ -40,7 +59,10 @@ public class CandidateController {
     }
 
     @GetMapping("/{candidateId}")
-    public ResponseEntity<CandidateResponse> getCandidateById(@PathVariable String candidateId) {
+    public ResponseEntity<CandidateResponse> getCandidateById(@PathVariable String candidateId, WebRequest webRequest) {
+        if (ConditionalRequestUtil.notModified(resourceVersionService.getCandidateVersion(candidateId), webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(candidateService.getCandidateById(candidateId));
     }
 
@@ -1,11 +1,16 @@
 package com.interview.organiser.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.SubmitFeedbackRequest;
 import com.interview.organiser.model.dto.request.UpdateFeedbackRequest;
 import com.interview.organiser.model.dto.response.FeedbackResponse;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
 import com.interview.organiser.service.FeedbackService;
+import com.interview.organiser.service.ResourceVersionService;
+import com.interview.organiser.util.ConditionalRequestUtil;
+import com.interview.organiser.util.FieldSelection;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -13,6 +18,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/feedback")
@@ -20,16 +26,29 @@ import org.springframework.web.bind.annotation.*;
 public class FeedbackController {
 
     private final FeedbackService feedbackService;
+    private final ResourceVersionService resourceVersionService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<PageResponse<FeedbackResponse>> getAllFeedback(
+    public ResponseEntity<PageResponse<?>> getAllFeedback(
             @RequestParam(required = false) String interviewId,
             @RequestParam(required = false) String candidateId,
             @RequestParam(required = false) String interviewerId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, FeedbackResponse.class);
+        if (cursor || after != null) {
+            CursorPageRequest cursorRequest = new CursorPageRequest(after, size, includeTotal);
+            return ResponseEntity.ok(selection.apply(feedbackService.getAllFeedback(
+                    interviewId, candidateId, interviewerId, cursorRequest, selection), objectMapper));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(feedbackService.getAllFeedback(interviewId, candidateId, interviewerId, pageable));
+        return ResponseEntity.ok(selection.apply(feedbackService.getAllFeedback(
+                interviewId, candidateId, interviewerId, pageable, selection), objectMapper));
     }
 
     @PostMapping
@@ -38,7 +57,10 @@ public class FeedbackController {
     }
 
     @GetMapping("/{feedbackId}")
-    public ResponseEntity<FeedbackResponse> getFeedbackById(@PathVariable String feedbackId) {
+    public ResponseEntity<FeedbackResponse> getFeedbackById(@PathVariable String feedbackId, WebRequest webRequest) {
+        if (ConditionalRequestUtil.notModified(resourceVersionService.getFeedbackVersion(feedbackId), webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(feedbackService.getFeedbackById(feedbackId));
     }
 
@@ -1,17 +1,24 @@
 package com.interview.organiser.controller;
 
+import com.interview.organiser.model.dto.response.CacheStatsResponse;
 import com.interview.organiser.model.dto.response.HealthResponseDTO;
+import com.interview.organiser.repository.EntityCache;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/health")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final EntityCache entityCache;
+
     @GetMapping
     public ResponseEntity<HealthResponseDTO> checkHealth() {
         HealthResponseDTO response = HealthResponseDTO.builder()
@@ -21,5 +28,9 @@ public class HealthController {
                 .build();
         return ResponseEntity.ok(response);
     }
-}
 
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(entityCache.stats());
+    }
+}
@@ -1,19 +1,32 @@
 package com.interview.organiser.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.interview.organiser.constants.enums.InterviewStatus;
 import com.interview.organiser.model.dto.request.*;
+import com.interview.organiser.model.dto.response.BulkScheduleInterviewResponse;
+import com.interview.organiser.model.dto.response.HiringDriveResponse;
 import com.interview.organiser.model.dto.response.InterviewResponse;
+import com.interview.organiser.model.dto.response.InterviewTimelineEntryResponse;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
+import com.interview.organiser.service.HiringDriveService;
 import com.interview.organiser.service.InterviewService;
+import com.interview.organiser.service.InterviewStreamService;
+import com.interview.organiser.service.InterviewTimelineService;
+import com.interview.organiser.service.ResourceVersionService;
+import com.interview.organiser.util.ConditionalRequestUtil;
+import com.interview.organiser.util.FieldSelection;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 
@@ -23,18 +36,52 @@ import java.time.LocalDateTime;
 public class InterviewController {
 
     private final InterviewService interviewService;
+    private final InterviewStreamService interviewStreamService;
+    private final InterviewTimelineService interviewTimelineService;
+    private final HiringDriveService hiringDriveService;
+    private final ResourceVersionService resourceVersionService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<PageResponse<InterviewResponse>> getAllInterviews(
+    public ResponseEntity<PageResponse<?>> getAllInterviews(
             @RequestParam(required = false) InterviewStatus status,
             @RequestParam(required = false) String candidateId,
             @RequestParam(required = false) String interviewerId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, InterviewResponse.class);
+        if (cursor || after != null) {
+            CursorPageRequest cursorRequest = new CursorPageRequest(after, size, includeTotal);
+            if (ConditionalRequestUtil.notModified(resourceVersionService.getInterviewsVersion(
+                    status, candidateId, interviewerId, fromDate, toDate, cursorRequest, selection), webRequest)) {
+                return null;
+            }
+            return ResponseEntity.ok(selection.apply(interviewService.getAllInterviews(
+                    status, candidateId, interviewerId, fromDate, toDate, cursorRequest, selection), objectMapper));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(interviewService.getAllInterviews(status, candidateId, interviewerId, fromDate, toDate, pageable));
+        if (ConditionalRequestUtil.notModified(resourceVersionService.getInterviewsVersion(
+                status, candidateId, interviewerId, fromDate, toDate, pageable, selection), webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok(selection.apply(interviewService.getAllInterviews(
+                status, candidateId, interviewerId, fromDate, toDate, pageable, selection), objectMapper));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamInterviewEvents(
+            @RequestParam(required = false) String recruiterId,
+            @RequestParam(required = false) String interviewerId,
+            @RequestParam(required = false) String candidateId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return interviewStreamService.subscribe(recruiterId, interviewerId, candidateId, lastEventId);
     }
 
     @PostMapping
@@ -42,11 +89,40 @@ public class InterviewController {
         return ResponseEntity.status(HttpStatus.CREATED).body(interviewService.scheduleInterview(request));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkScheduleInterviewResponse> scheduleInterviews(
+            @Valid @RequestBody BulkScheduleInterviewRequest request) {
+        return ResponseEntity.ok(interviewService.scheduleInterviews(request));
+    }
+
+    @PostMapping("/drives")
+    public ResponseEntity<HiringDriveResponse> planDrive(@Valid @RequestBody HiringDriveRequest request) {
+        return ResponseEntity.ok(hiringDriveService.planDrive(request));
+    }
+
     @GetMapping("/{interviewId}")
-    public ResponseEntity<InterviewResponse> getInterviewById(@PathVariable String interviewId) {
+    public ResponseEntity<InterviewResponse> getInterviewById(@PathVariable String interviewId, WebRequest webRequest) {
+        if (ConditionalRequestUtil.notModified(resourceVersionService.getInterviewVersion(interviewId), webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(interviewService.getInterviewById(interviewId));
     }
 
+    @GetMapping("/{interviewId}/timeline")
+    public ResponseEntity<PageResponse<InterviewTimelineEntryResponse>> getInterviewTimeline(
+            @PathVariable String interviewId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        if (cursor || after != null) {
+            return ResponseEntity.ok(interviewTimelineService.getTimeline(interviewId,
+                    new CursorPageRequest(after, size, includeTotal)));
+        }
+        return ResponseEntity.ok(interviewTimelineService.getTimeline(interviewId, PageRequest.of(page, size)));
+    }
+
     @PutMapping("/{interviewId}")
     public ResponseEntity<InterviewResponse> updateInterview(
             @PathVariable String interviewId,
@@ -1,19 +1,31 @@
 package com.interview.organiser.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.interview.organiser.model.dto.request.CreateInterviewerRequest;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.InviteInterviewerRequest;
 import com.interview.organiser.model.dto.request.UpdateInterviewerRequest;
+import com.interview.organiser.model.dto.response.InterviewerMatchResponse;
 import com.interview.organiser.model.dto.response.InterviewerResponse;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
+import com.interview.organiser.service.InterviewerMatchingService;
 import com.interview.organiser.service.InterviewerService;
+import com.interview.organiser.service.ResourceVersionService;
+import com.interview.organiser.util.ConditionalRequestUtil;
+import com.interview.organiser.util.FieldSelection;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/interviewers")
@@ -21,15 +33,38 @@ import org.springframework.web.bind.annotation.*;
 public class InterviewerController {
 
     private final InterviewerService interviewerService;
+    private final InterviewerMatchingService interviewerMatchingService;
+    private final ResourceVersionService resourceVersionService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<PageResponse<InterviewerResponse>> getAllInterviewers(
+    public ResponseEntity<PageResponse<?>> getAllInterviewers(
             @RequestParam(required = false) String expertise,
             @RequestParam(required = false) Boolean available,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, InterviewerResponse.class);
+        if (cursor || after != null) {
+            CursorPageRequest cursorRequest = new CursorPageRequest(after, size, includeTotal);
+            return ResponseEntity.ok(selection.apply(interviewerService.getAllInterviewers(
+                    expertise, available, cursorRequest, selection), objectMapper));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(interviewerService.getAllInterviewers(expertise, available, pageable));
+        return ResponseEntity.ok(selection.apply(
+                interviewerService.getAllInterviewers(expertise, available, pageable, selection), objectMapper));
+    }
+
+    @GetMapping("/matches")
+    public ResponseEntity<List<InterviewerMatchResponse>> matchInterviewers(
+            @RequestParam String candidateId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(interviewerMatchingService.matchInterviewers(candidateId, from, to, limit));
     }
 
     @PostMapping
@@ -43,7 +78,10 @@ public class InterviewerController {
     }
 
     @GetMapping("/{interviewerId}")
-    public ResponseEntity<InterviewerResponse> getInterviewerById(@PathVariable String interviewerId) {
+    public ResponseEntity<InterviewerResponse> getInterviewerById(@PathVariable String interviewerId, WebRequest webRequest) {
+        if (ConditionalRequestUtil.notModified(resourceVersionService.getInterviewerVersion(interviewerId), webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(interviewerService.getInterviewerById(interviewerId));
     }
 
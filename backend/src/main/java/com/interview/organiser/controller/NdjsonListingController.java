@@ -0,0 +1,81 @@
+package com.interview.organiser.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.model.dto.response.FeedbackResponse;
+import com.interview.organiser.model.dto.response.InterviewResponse;
+import com.interview.organiser.service.FeedbackService;
+import com.interview.organiser.service.InterviewService;
+import com.interview.organiser.util.FieldSelection;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Unpaged interview and feedback listings as newline-delimited JSON, for clients that read a whole listing.
+ * Selected by {@code Accept: application/x-ndjson} on the same URLs as the paged JSON listings, which keep
+ * serving every other request. Each listing is written as it is read from a Mongo cursor on the request's
+ * (virtual) thread: a slow reader blocks that thread's writes, which stops the cursor, so memory stays at one
+ * cursor batch per listing and nothing else waits on it. Enabled with the {@code ndjson} profile.
+ */
+@Profile("ndjson")
+@RestController
+@RequiredArgsConstructor
+public class NdjsonListingController {
+
+    private final InterviewService interviewService;
+    private final FeedbackService feedbackService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/interviews", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamInterviews(
+            @RequestParam(required = false) InterviewStatus status,
+            @RequestParam(required = false) String candidateId,
+            @RequestParam(required = false) String interviewerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate,
+            @RequestParam(required = false) String fields,
+            HttpServletResponse response) throws IOException {
+        FieldSelection selection = FieldSelection.parse(fields, InterviewResponse.class);
+        write(interviewService.streamInterviews(status, candidateId, interviewerId, fromDate, toDate, selection),
+                selection, response);
+    }
+
+    @GetMapping(value = "/feedback", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamFeedback(
+            @RequestParam(required = false) String interviewId,
+            @RequestParam(required = false) String candidateId,
+            @RequestParam(required = false) String interviewerId,
+            @RequestParam(required = false) String fields,
+            HttpServletResponse response) throws IOException {
+        FieldSelection selection = FieldSelection.parse(fields, FeedbackResponse.class);
+        write(feedbackService.streamFeedback(interviewId, candidateId, interviewerId, selection),
+                selection, response);
+    }
+
+    private void write(Stream<?> items, FieldSelection selection, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ObjectWriter writer = objectMapper.writer();
+        OutputStream out = response.getOutputStream();
+        try (items) {
+            Iterator<?> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(selection.apply(iterator.next(), objectMapper)));
+                out.write('\n');
+            }
+        }
+        out.flush();
+    }
+}
@@ -2,11 +2,14 @@ package com.interview.organiser.controller;
 
 import com.interview.organiser.constants.enums.VerificationStatus;
 import com.interview.organiser.model.dto.request.CreateRecruiterRequest;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.UpdateRecruiterRequest;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.RecruiterResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
 import com.interview.organiser.service.RecruiterService;
+import com.interview.organiser.service.ResourceVersionService;
+import com.interview.organiser.util.ConditionalRequestUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -14,6 +17,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/recruiters")
@@ -21,13 +25,21 @@ import org.springframework.web.bind.annotation.*;
 public class RecruiterController {
 
     private final RecruiterService recruiterService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     public ResponseEntity<PageResponse<RecruiterResponse>> getAllRecruiters(
             @RequestParam(required = false) VerificationStatus status,
             @RequestParam(required = false) Boolean isActive,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        if (cursor || after != null) {
+            CursorPageRequest cursorRequest = new CursorPageRequest(after, size, includeTotal);
+            return ResponseEntity.ok(recruiterService.getAllRecruiters(status, isActive, cursorRequest));
+        }
         Pageable pageable = PageRequest.of(page, size);
         return ResponseEntity.ok(recruiterService.getAllRecruiters(status, isActive, pageable));
     }
@@ -38,7 +50,10 @@ public class RecruiterController {
     }
 
     @GetMapping("/{recruiterId}")
-    public ResponseEntity<RecruiterResponse> getRecruiterById(@PathVariable String recruiterId) {
+    public ResponseEntity<RecruiterResponse> getRecruiterById(@PathVariable String recruiterId, WebRequest webRequest) {
+        if (ConditionalRequestUtil.notModified(resourceVersionService.getRecruiterVersion(recruiterId), webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(recruiterService.getRecruiterById(recruiterId));
     }
 
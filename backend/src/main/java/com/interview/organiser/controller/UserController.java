@@ -1,17 +1,21 @@
 package com.interview.organiser.controller;
 
 import com.interview.organiser.constants.enums.UserRole;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.UpdateUserRequest;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
 import com.interview.organiser.model.dto.response.UserResponse;
 import com.interview.organiser.service.UserService;
+import com.interview.organiser.service.ResourceVersionService;
+import com.interview.organiser.util.ConditionalRequestUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/users")
@@ -19,18 +23,29 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     public ResponseEntity<PageResponse<UserResponse>> getAllUsers(
             @RequestParam(required = false) UserRole role,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        if (cursor || after != null) {
+            CursorPageRequest cursorRequest = new CursorPageRequest(after, size, includeTotal);
+            return ResponseEntity.ok(userService.getAllUsers(role, cursorRequest));
+        }
         Pageable pageable = PageRequest.of(page, size);
         return ResponseEntity.ok(userService.getAllUsers(role, pageable));
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable String userId) {
+    public ResponseEntity<UserResponse> getUserById(@PathVariable String userId, WebRequest webRequest) {
+        if (ConditionalRequestUtil.notModified(resourceVersionService.getUserVersion(userId), webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(userService.getUserById(userId));
     }
 
@@ -0,0 +1,17 @@
+package com.interview.organiser.exception;
+
+import java.util.List;
+
+public class SchedulingConflictException extends RuntimeException {
+
+    private final List<String> busyInterviewerIds;
+
+    public SchedulingConflictException(List<String> busyInterviewerIds) {
+        super("Interviewers already booked in this slot: " + String.join(", ", busyInterviewerIds));
+        this.busyInterviewerIds = List.copyOf(busyInterviewerIds);
+    }
+
+    public List<String> getBusyInterviewerIds() {
+        return busyInterviewerIds;
+    }
+}
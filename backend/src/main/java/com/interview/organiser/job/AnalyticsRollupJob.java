@@ -0,0 +1,49 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.service.AnalyticsRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the analytics_rollups buckets current. Refreshes on startup (a first run builds every bucket) and then
+ * every {@code app.jobs.analytics-rollup.interval-ms}, recomputing only the buckets of documents updated since
+ * the previous refresh; a nightly rebuild drops buckets of deleted documents and repairs any drift. Scheduled
+ * tasks can run in parallel, so refreshes and rebuilds are serialised here.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jobs.analytics-rollup.enabled", havingValue = "true", matchIfMissing = true)
+public class AnalyticsRollupJob implements ApplicationRunner {
+
+    private final AnalyticsRollupService analyticsRollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${app.jobs.analytics-rollup.interval-ms:60000}",
+            fixedDelayString = "${app.jobs.analytics-rollup.interval-ms:60000}")
+    public synchronized void refresh() {
+        try {
+            analyticsRollupService.refresh();
+        } catch (RuntimeException e) {
+            log.error("Analytics rollup refresh failed", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.jobs.analytics-rollup.rebuild-cron:0 15 4 * * *}")
+    public synchronized void rebuild() {
+        try {
+            analyticsRollupService.rebuild();
+        } catch (RuntimeException e) {
+            log.error("Analytics rollup rebuild failed", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.model.entity.CalibrationStats;
+import com.interview.organiser.repository.JobLock;
+import com.interview.organiser.service.CalibrationStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes the calibration_stats counters in one pass over feedback.
+ * Runs on startup when the collection is empty, which also fills in the position and interview result of
+ * feedback written before they were kept, and then nightly to repair drift from lost counter updates.
+ * Only one instance reconciles at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jobs.calibration-reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class CalibrationStatsReconciliationJob implements ApplicationRunner {
+
+    private static final String LOCK = "calibration-reconcile";
+
+    private final CalibrationStatsService calibrationStatsService;
+    private final MongoTemplate mongoTemplate;
+    private final JobLock jobLock;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (mongoTemplate.estimatedCount(CalibrationStats.class) == 0) {
+            jobLock.runExclusively(LOCK, calibrationStatsService::reconcile);
+        }
+    }
+
+    @Scheduled(cron = "${app.jobs.calibration-reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        try {
+            jobLock.runExclusively(LOCK, calibrationStatsService::reconcile);
+        } catch (RuntimeException e) {
+            log.error("Calibration stats reconciliation failed", e);
+        }
+    }
+}
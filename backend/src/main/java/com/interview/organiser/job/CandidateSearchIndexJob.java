@@ -0,0 +1,72 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.util.SearchTokenUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Computes search tokens for candidates created before the token index existed.
+ * Streams only the searchable fields of candidates without searchTokens and writes the tokens back with
+ * one unordered bulk update per batch. Candidates that already carry tokens are skipped, so the job is
+ * cheap to run on every start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jobs.candidate-search-index.enabled", havingValue = "true", matchIfMissing = true)
+public class CandidateSearchIndexJob implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long updated = backfill();
+        if (updated > 0) {
+            log.info("Built search tokens for {} candidates", updated);
+        }
+    }
+
+    public long backfill() {
+        Query pending = Query.query(Criteria.where("searchTokens").exists(false));
+        pending.fields().include("firstName").include("lastName").include("email").include("position").include("skills");
+        pending.cursorBatchSize(BATCH_SIZE);
+
+        long updated = 0;
+        int operations = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Candidate.class);
+        try (Stream<Candidate> candidates = mongoTemplate.stream(pending, Candidate.class)) {
+            for (Candidate candidate : (Iterable<Candidate>) candidates::iterator) {
+                SearchTokenUtil.index(candidate);
+                bulk.updateOne(Query.query(Criteria.where("_id").is(candidate.getId())),
+                        new Update()
+                                .set("searchWords", candidate.getSearchWords())
+                                .set("searchTokens", candidate.getSearchTokens()));
+                if (++operations == BATCH_SIZE) {
+                    bulk.execute();
+                    updated += operations;
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Candidate.class);
+                    operations = 0;
+                }
+            }
+        }
+        if (operations > 0) {
+            bulk.execute();
+            updated += operations;
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,48 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.model.entity.DashboardStats;
+import com.interview.organiser.repository.JobLock;
+import com.interview.organiser.service.DashboardStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes the dashboard_stats counters from the source collections.
+ * Runs on startup when the collection is empty (first deployment) and then on a cron schedule
+ * to repair any drift from increments lost to failures between a write and its counter update.
+ * Only one instance reconciles at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jobs.dashboard-reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class DashboardStatsReconciliationJob implements ApplicationRunner {
+
+    private static final String LOCK = "dashboard-reconcile";
+
+    private final DashboardStatsService dashboardStatsService;
+    private final MongoTemplate mongoTemplate;
+    private final JobLock jobLock;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (mongoTemplate.estimatedCount(DashboardStats.class) == 0) {
+            jobLock.runExclusively(LOCK, dashboardStatsService::reconcile);
+        }
+    }
+
+    @Scheduled(cron = "${app.jobs.dashboard-reconcile.cron:0 0 3 * * *}")
+    public void reconcile() {
+        try {
+            jobLock.runExclusively(LOCK, dashboardStatsService::reconcile);
+        } catch (RuntimeException e) {
+            log.error("Dashboard stats reconciliation failed", e);
+        }
+    }
+}
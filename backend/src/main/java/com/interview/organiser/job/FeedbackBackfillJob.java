@@ -0,0 +1,115 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.model.entity.Feedback;
+import com.interview.organiser.repository.ReferenceResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Backfills the denormalised candidateId/interviewerIds fields on feedback written before they existed.
+ * Streams feedback in fixed-size batches, reads only the reference fields of the matching interviews
+ * and writes the projection back with one unordered bulk update per batch, so memory stays constant.
+ * Feedback that already carries candidateId is skipped, which makes the job safe to run on every start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jobs.feedback-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class FeedbackBackfillJob implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long updated = backfill();
+        if (updated > 0) {
+            log.info("Backfilled candidate/interviewer projection on {} feedback documents", updated);
+        }
+    }
+
+    public long backfill() {
+        Query pending = Query.query(Criteria.where("candidateId").exists(false));
+        pending.fields().include("interview");
+        pending.cursorBatchSize(BATCH_SIZE);
+
+        long updated = 0;
+        List<Document> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<Document> feedback = mongoTemplate.stream(pending, Document.class,
+                mongoTemplate.getCollectionName(Feedback.class))) {
+            for (Document document : (Iterable<Document>) feedback::iterator) {
+                batch.add(document);
+                if (batch.size() == BATCH_SIZE) {
+                    updated += applyBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            updated += applyBatch(batch);
+        }
+        return updated;
+    }
+
+    private int applyBatch(List<Document> feedbackBatch) {
+        List<Object> interviewIds = feedbackBatch.stream()
+                .map(document -> ReferenceResolver.refId(document.get("interview")))
+                .filter(Objects::nonNull)
+                .toList();
+
+        Query interviewQuery = Query.query(Criteria.where("_id").in(interviewIds));
+        interviewQuery.fields().include("candidate").include("interviewers");
+        Map<Object, Document> interviews = new HashMap<>();
+        for (Document interview : mongoTemplate.find(interviewQuery, Document.class, ReferenceResolver.INTERVIEWS)) {
+            interviews.put(interview.get("_id"), interview);
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Feedback.class);
+        int operations = 0;
+        for (Document feedback : feedbackBatch) {
+            Document interview = interviews.get(ReferenceResolver.refId(feedback.get("interview")));
+            if (interview == null) {
+                continue;
+            }
+            Object candidateId = ReferenceResolver.refId(interview.get("candidate"));
+            List<String> interviewerIds = new ArrayList<>();
+            if (interview.get("interviewers") instanceof List<?> refs) {
+                for (Object ref : refs) {
+                    Object interviewerId = ReferenceResolver.refId(ref);
+                    if (interviewerId != null) {
+                        interviewerIds.add(interviewerId.toString());
+                    }
+                }
+            }
+
+            bulk.updateOne(Query.query(Criteria.where("_id").is(feedback.get("_id"))),
+                    new Update()
+                            .set("candidateId", candidateId != null ? candidateId.toString() : null)
+                            .set("interviewerIds", interviewerIds));
+            operations++;
+        }
+
+        if (operations > 0) {
+            bulk.execute();
+        }
+        return operations;
+    }
+}
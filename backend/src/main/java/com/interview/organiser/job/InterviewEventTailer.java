@@ -0,0 +1,149 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.model.entity.InterviewEvent;
+import com.interview.organiser.service.InterviewEventSubscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tails interview_events and fans every event out to the in-process subscribers.
+ * The resume token is the last delivered seq, checkpointed per reader name in event_checkpoints, so a
+ * restart continues where it stopped. Each poll is one indexed range read on seq; a missing seq stops
+ * delivery until gap-timeout passes (an append still in flight commits meanwhile, a crashed one never does),
+ * which keeps delivery in commit order. Instances of the same service need distinct reader names because
+ * every instance delivers to its own subscribers.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.jobs.interview-events.enabled", havingValue = "true", matchIfMissing = true)
+public class InterviewEventTailer {
+
+    public static final String CHECKPOINTS = "event_checkpoints";
+
+    private final MongoTemplate mongoTemplate;
+    private final List<InterviewEventSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final String readerName;
+    private final int batchSize;
+    private final Duration gapTimeout;
+    private final boolean startFromEarliest;
+
+    private Long position;
+    private Long gapSeq;
+    private Instant gapSince;
+
+    public InterviewEventTailer(MongoTemplate mongoTemplate,
+                                ObjectProvider<InterviewEventSubscriber> subscriberBeans,
+                                @Value("${app.events.reader-name:${spring.application.name}}") String readerName,
+                                @Value("${app.events.batch-size:500}") int batchSize,
+                                @Value("${app.events.gap-timeout-ms:5000}") long gapTimeoutMs,
+                                @Value("${app.events.start-from-earliest:false}") boolean startFromEarliest) {
+        this.mongoTemplate = mongoTemplate;
+        this.readerName = readerName;
+        this.batchSize = batchSize;
+        this.gapTimeout = Duration.ofMillis(gapTimeoutMs);
+        this.startFromEarliest = startFromEarliest;
+        subscriberBeans.orderedStream().forEach(subscribers::add);
+    }
+
+    /**
+     * Registers a subscriber at runtime; run the returned handle to unsubscribe.
+     */
+    public Runnable subscribe(InterviewEventSubscriber subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.poll-interval-ms:500}")
+    public void poll() {
+        while (tail() == batchSize) {
+            log.debug("Interview event feed has more events, reading next batch");
+        }
+    }
+
+    /**
+     * Delivers the next batch of committed events, returning how many were delivered.
+     */
+    public synchronized int tail() {
+        long from = position();
+        Query query = Query.query(Criteria.where("seq").gt(from))
+                .with(Sort.by("seq"))
+                .limit(batchSize);
+        List<InterviewEvent> events = mongoTemplate.find(query, InterviewEvent.class);
+
+        long last = from;
+        int delivered = 0;
+        for (InterviewEvent event : events) {
+            if (event.getSeq() != last + 1) {
+                if (!gapExpired(last + 1)) {
+                    break;
+                }
+                log.warn("Skipping interview event seq {}..{}, never committed", last + 1, event.getSeq() - 1);
+            }
+            gapSeq = null;
+            publish(event);
+            last = event.getSeq();
+            delivered++;
+        }
+
+        if (last != from) {
+            position = last;
+            mongoTemplate.upsert(Query.query(Criteria.where("_id").is(readerName)),
+                    new Update().set("seq", last).set("updatedAt", LocalDateTime.now()),
+                    CHECKPOINTS);
+        }
+        return delivered;
+    }
+
+    private void publish(InterviewEvent event) {
+        for (InterviewEventSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onEvent(event);
+            } catch (RuntimeException e) {
+                // One failing consumer must not stall the feed for the others
+                log.error("Interview event subscriber failed on {} #{}", event.getType(), event.getSeq(), e);
+            }
+        }
+    }
+
+    private boolean gapExpired(long missingSeq) {
+        Instant now = Instant.now();
+        if (gapSeq == null || gapSeq != missingSeq) {
+            gapSeq = missingSeq;
+            gapSince = now;
+        }
+        return !now.isBefore(gapSince.plus(gapTimeout));
+    }
+
+    private long position() {
+        if (position == null) {
+            Document checkpoint = mongoTemplate.findById(readerName, Document.class, CHECKPOINTS);
+            if (checkpoint != null) {
+                position = ((Number) checkpoint.get("seq")).longValue();
+            } else if (startFromEarliest) {
+                position = 0L;
+            } else {
+                InterviewEvent latest = mongoTemplate.findOne(
+                        new Query().with(Sort.by(Sort.Direction.DESC, "seq")).limit(1), InterviewEvent.class);
+                position = latest != null ? latest.getSeq() : 0L;
+            }
+            log.info("Interview event reader '{}' starting after seq {}", readerName, position);
+        }
+        return position;
+    }
+}
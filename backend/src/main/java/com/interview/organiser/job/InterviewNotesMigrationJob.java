@@ -0,0 +1,147 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.constants.enums.TimelineEntryType;
+import com.interview.organiser.model.entity.InterviewTimelineEntry;
+import com.interview.organiser.repository.ReferenceResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Moves the status reasons, confirmation notes and result comments that used to be appended to
+ * Interview.notes into interview_timeline entries, leaving notes with the text written before the first of them.
+ * Entries get ids derived from the interview id and their position, and are upserted before the notes are cut,
+ * so a run that stops halfway is completed by the next one without duplicates. Notes are only rewritten if they
+ * still hold the text that was split; the rewrite moves updatedAt and the version like any other change, while
+ * the entries keep the previous updatedAt as their time. Interviews without appended text are skipped,
+ * which makes the job safe to run on every start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jobs.interview-notes-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class InterviewNotesMigrationJob implements ApplicationRunner {
+
+    // Prefixes the services wrote before each appended line
+    private static final Map<String, TimelineEntryType> LEGACY_PREFIXES = new LinkedHashMap<>();
+
+    static {
+        LEGACY_PREFIXES.put("Status update reason: ", TimelineEntryType.STATUS_REASON);
+        LEGACY_PREFIXES.put("Candidate confirmation notes: ", TimelineEntryType.CONFIRMATION_NOTE);
+        LEGACY_PREFIXES.put("Result comments: ", TimelineEntryType.RESULT_COMMENT);
+    }
+
+    // Also sent to Mongo as a $regex, so the prefixes are kept free of regex metacharacters
+    private static final Pattern APPENDED = Pattern.compile("\\n(" + String.join("|", LEGACY_PREFIXES.keySet()) + ")");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long migrated = migrate();
+        if (migrated > 0) {
+            log.info("Moved appended notes of {} interviews to the timeline", migrated);
+        }
+    }
+
+    public long migrate() {
+        Query pending = Query.query(Criteria.where("notes").regex(APPENDED.pattern()));
+        pending.fields().include("notes").include("createdAt").include("updatedAt");
+
+        long migrated = 0;
+        try (Stream<Document> interviews = mongoTemplate.stream(pending, Document.class,
+                ReferenceResolver.INTERVIEWS)) {
+            for (Document interview : (Iterable<Document>) interviews::iterator) {
+                if (migrate(interview)) {
+                    migrated++;
+                }
+            }
+        }
+        return migrated;
+    }
+
+    private boolean migrate(Document interview) {
+        String interviewId = interview.get("_id").toString();
+        String notes = interview.getString("notes");
+        Split split = split(notes);
+        if (split.entries().isEmpty()) {
+            return false;
+        }
+
+        // The original times are unknown; the last update is the closest bound, and _id keeps the order
+        Date at = interview.getDate("updatedAt") != null
+                ? interview.getDate("updatedAt")
+                : interview.getDate("createdAt");
+        String collection = mongoTemplate.getCollectionName(InterviewTimelineEntry.class);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        for (int i = 0; i < split.entries().size(); i++) {
+            Entry entry = split.entries().get(i);
+            bulk.upsert(Query.query(Criteria.where("_id").is(String.format("%s-notes-%04d", interviewId, i))),
+                    new Update()
+                            .setOnInsert("interviewId", interviewId)
+                            .setOnInsert("type", entry.type().name())
+                            .setOnInsert("text", entry.text())
+                            .setOnInsert("createdAt", at != null ? at : new Date()));
+        }
+        bulk.execute();
+
+        // updatedAt moves so conditional GETs, caches and rollup watermarks see the new notes; the version moves
+        // so a save from a copy read before the cut cannot write the appended text back
+        Update update = split.notes().isBlank()
+                ? new Update().unset("notes")
+                : new Update().set("notes", split.notes());
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(interview.get("_id")).and("notes").is(notes)),
+                update.set("updatedAt", new Date()).inc("version", 1),
+                ReferenceResolver.INTERVIEWS);
+        return true;
+    }
+
+    /**
+     * Splits a notes string at every appended prefix; the text before the first one stays as the notes.
+     */
+    static Split split(String notes) {
+        Matcher matcher = APPENDED.matcher(notes);
+        List<Entry> entries = new ArrayList<>();
+        String remaining = notes;
+        int start = -1;
+        TimelineEntryType type = null;
+        while (matcher.find()) {
+            if (start < 0) {
+                remaining = notes.substring(0, matcher.start());
+            } else {
+                entries.add(new Entry(type, notes.substring(start, matcher.start())));
+            }
+            type = LEGACY_PREFIXES.get(matcher.group(1));
+            start = matcher.end();
+        }
+        if (start >= 0) {
+            entries.add(new Entry(type, notes.substring(start)));
+        }
+        return new Split(remaining, entries);
+    }
+
+    record Split(String notes, List<Entry> entries) {
+    }
+
+    record Entry(TimelineEntryType type, String text) {
+    }
+}
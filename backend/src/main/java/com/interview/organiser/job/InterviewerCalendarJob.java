@@ -0,0 +1,37 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.service.InterviewerCalendarService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the interviewer busy calendars on startup and rebuilds them nightly, which drops slots that have
+ * ended and picks up any change to interviews the event feed did not deliver.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jobs.interviewer-calendar.enabled", havingValue = "true", matchIfMissing = true)
+public class InterviewerCalendarJob implements ApplicationRunner {
+
+    private final InterviewerCalendarService interviewerCalendarService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        interviewerCalendarService.rebuild();
+    }
+
+    @Scheduled(cron = "${app.jobs.interviewer-calendar.cron:0 30 3 * * *}")
+    public void rebuild() {
+        try {
+            interviewerCalendarService.rebuild();
+        } catch (RuntimeException e) {
+            log.error("Interviewer calendar rebuild failed", e);
+        }
+    }
+}
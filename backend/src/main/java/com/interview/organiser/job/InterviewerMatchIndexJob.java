@@ -0,0 +1,37 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.service.InterviewerMatchingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the expertise index used for interviewer matching on startup and rebuilds it nightly, which picks up
+ * interviewers changed through other instances.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jobs.interviewer-match-index.enabled", havingValue = "true", matchIfMissing = true)
+public class InterviewerMatchIndexJob implements ApplicationRunner {
+
+    private final InterviewerMatchingService interviewerMatchingService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        interviewerMatchingService.rebuild();
+    }
+
+    @Scheduled(cron = "${app.jobs.interviewer-match-index.cron:0 45 3 * * *}")
+    public void rebuild() {
+        try {
+            interviewerMatchingService.rebuild();
+        } catch (RuntimeException e) {
+            log.error("Interviewer match index rebuild failed", e);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.constants.enums.NotificationStatus;
+import com.interview.organiser.model.entity.Notification;
+import com.interview.organiser.service.NotificationSender;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the notification outbox.
+ * Each round claims up to batch-size due records with multi-updates (a lease, so records of a
+ * crashed dispatcher become due again, at the cost of an attempt), groups them by recipient and hands every group to the
+ * NotificationSender on a fixed pool of concurrency threads. Sent records are marked in one update;
+ * failed ones are rescheduled with jittered exponential backoff until max-attempts, then parked as FAILED.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.jobs.notification-dispatch.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationDispatcher {
+
+    private final MongoTemplate mongoTemplate;
+    private final NotificationSender sender;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public NotificationDispatcher(MongoTemplate mongoTemplate,
+                                  NotificationSender sender,
+                                  @Value("${app.notifications.concurrency:4}") int concurrency,
+                                  @Value("${app.notifications.batch-size:100}") int batchSize,
+                                  @Value("${app.notifications.max-attempts:5}") int maxAttempts,
+                                  @Value("${app.notifications.backoff-initial-ms:1000}") long initialBackoffMs,
+                                  @Value("${app.notifications.backoff-max-ms:300000}") long maxBackoffMs,
+                                  @Value("${app.notifications.lease-ms:60000}") long leaseMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.sender = sender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.lease = Duration.ofMillis(leaseMs);
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "notification-dispatch-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.dispatch-interval-ms:1000}")
+    public void drain() {
+        // Keep going while full batches come back so a backlog drains without waiting for the next tick
+        while (dispatchBatch() == batchSize) {
+            log.debug("Notification outbox still has due records, dispatching next batch");
+        }
+    }
+
+    /**
+     * Claims and delivers one batch of due notifications, returning how many were claimed.
+     */
+    public int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> claimed = claim(now);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        String claimToken = claimed.getFirst().getClaimToken();
+        Map<String, List<Notification>> byRecipient = new LinkedHashMap<>();
+        claimed.forEach(notification ->
+                byRecipient.computeIfAbsent(notification.getRecipient(), recipient -> new ArrayList<>()).add(notification));
+
+        List<Future<?>> deliveries = new ArrayList<>(byRecipient.size());
+        byRecipient.forEach((recipient, notifications) ->
+                deliveries.add(executor.submit(() -> deliver(recipient, notifications, claimToken))));
+        for (Future<?> delivery : deliveries) {
+            try {
+                delivery.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.error("Notification delivery task failed", e.getCause());
+            }
+        }
+
+        log.info("Dispatched {} notifications to {} recipients", claimed.size(), byRecipient.size());
+        return claimed.size();
+    }
+
+    private List<Notification> claim(LocalDateTime now) {
+        Criteria pending = Criteria.where("status").is(NotificationStatus.PENDING.name()).and("nextAttemptAt").lte(now);
+        Criteria expired = Criteria.where("status").is(NotificationStatus.PROCESSING.name())
+                .and("claimedUntil").lt(now);
+
+        // A lease that ran out means its dispatcher died mid-delivery, which counts as a failed attempt; records
+        // that keep taking their dispatcher down are parked instead of being retried forever
+        mongoTemplate.updateMulti(
+                new Query(new Criteria().andOperator(expired, Criteria.where("attempts").gte(maxAttempts - 1))),
+                new Update()
+                        .set("status", NotificationStatus.FAILED.name())
+                        .inc("attempts", 1)
+                        .set("lastError", "Delivery lease expired")
+                        .unset("claimToken")
+                        .unset("claimedUntil"),
+                Notification.class);
+
+        Criteria due = new Criteria().orOperator(pending, expired);
+
+        Query dueQuery = Query.query(due).with(Sort.by("nextAttemptAt")).limit(batchSize);
+        dueQuery.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(dueQuery, Document.class, mongoTemplate.getCollectionName(Notification.class))
+                .stream()
+                .map(document -> document.get("_id"))
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Re-checking the due condition makes the claim safe against other dispatcher instances
+        String claimToken = UUID.randomUUID().toString();
+        Update claim = new Update()
+                .set("status", NotificationStatus.PROCESSING.name())
+                .set("claimToken", claimToken)
+                .set("claimedUntil", now.plus(lease));
+        mongoTemplate.updateMulti(new Query(new Criteria().andOperator(Criteria.where("_id").in(ids), pending)),
+                claim, Notification.class);
+        mongoTemplate.updateMulti(new Query(new Criteria().andOperator(Criteria.where("_id").in(ids), expired)),
+                claim.inc("attempts", 1), Notification.class);
+
+        return mongoTemplate.find(Query.query(Criteria.where("claimToken").is(claimToken)), Notification.class);
+    }
+
+    /**
+     * Marks the outcome only on records still held under this claim; one whose lease ran out may have been
+     * reclaimed by another dispatcher, which owns it from then on.
+     */
+    private void deliver(String recipient, List<Notification> notifications, String claimToken) {
+        try {
+            sender.send(recipient, notifications);
+            mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("_id").in(notifications.stream().map(Notification::getId).toList())
+                            .and("claimToken").is(claimToken)),
+                    new Update()
+                            .set("status", NotificationStatus.SENT.name())
+                            .set("sentAt", LocalDateTime.now())
+                            .inc("attempts", 1)
+                            .unset("claimToken")
+                            .unset("claimedUntil")
+                            .unset("lastError"),
+                    Notification.class);
+        } catch (Exception e) {
+            log.warn("Failed to send {} notifications to {}: {}", notifications.size(), recipient, e.getMessage());
+            reschedule(notifications, claimToken, e);
+        }
+    }
+
+    private void reschedule(List<Notification> notifications, String claimToken, Exception cause) {
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class);
+        for (Notification notification : notifications) {
+            int attempts = notification.getAttempts() + 1;
+            boolean exhausted = attempts >= maxAttempts;
+            Update update = new Update()
+                    .set("attempts", attempts)
+                    .set("status", exhausted ? NotificationStatus.FAILED.name() : NotificationStatus.PENDING.name())
+                    .set("lastError", String.valueOf(cause.getMessage()))
+                    .unset("claimToken")
+                    .unset("claimedUntil");
+            if (!exhausted) {
+                update.set("nextAttemptAt", now.plus(backoff(attempts)));
+            }
+            bulk.updateOne(Query.query(Criteria.where("_id").is(notification.getId()).and("claimToken").is(claimToken)),
+                    update);
+        }
+        bulk.execute();
+    }
+
+    /**
+     * initial * 2^(attempt - 1), capped at max, with the upper half jittered so retries spread out.
+     */
+    Duration backoff(int attempt) {
+        long exponential = initialBackoff.toMillis() << Math.min(attempt - 1, 30);
+        long capped = Math.min(Math.max(exponential, 0), maxBackoff.toMillis());
+        long jittered = capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+        return Duration.ofMillis(jittered);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,54 @@
+package com.interview.organiser.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sets version 0 on documents of @Version entities written before they were versioned. Spring Data treats an
+ * entity whose version is null as new, so saving one of those documents unversioned would attempt an insert.
+ * Documents that already have a version are skipped, which makes the job safe to run on every start; it runs
+ * right after the indexes are in place, ahead of the other startup jobs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "app.jobs.version-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class VersionBackfillJob implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long updated = backfill();
+        if (updated > 0) {
+            log.info("Backfilled version 0 on {} unversioned documents", updated);
+        }
+    }
+
+    public long backfill() {
+        long updated = 0;
+        for (MongoPersistentEntity<?> entity :
+                mongoTemplate.getConverter().getMappingContext().getPersistentEntities()) {
+            MongoPersistentProperty version = entity.getVersionProperty();
+            if (version == null) {
+                continue;
+            }
+            updated += mongoTemplate.updateMulti(Query.query(Criteria.where(version.getFieldName()).exists(false)),
+                    new Update().set(version.getFieldName(), 0L), entity.getCollection()).getModifiedCount();
+        }
+        return updated;
+    }
+}
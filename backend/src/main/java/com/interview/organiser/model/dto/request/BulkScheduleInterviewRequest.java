@@ -0,0 +1,24 @@
+package com.interview.organiser.model.dto.request;
+
+import com.interview.organiser.constants.AppConstants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkScheduleInterviewRequest {
+
+    @NotEmpty(message = "At least one interview is required")
+    @Size(max = AppConstants.MAX_BULK_SCHEDULE_SIZE,
+            message = "At most " + AppConstants.MAX_BULK_SCHEDULE_SIZE + " interviews can be scheduled at once")
+    private List<@Valid ScheduleInterviewRequest> interviews;
+}
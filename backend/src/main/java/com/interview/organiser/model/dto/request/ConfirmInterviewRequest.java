@@ -21,5 +21,6 @@ public class ConfirmInterviewRequest {
     private Boolean confirmed;
 
     private String notes;
-}
 
+    private Long version; // Expected version, if given; a request against a changed entity gets 409
+}
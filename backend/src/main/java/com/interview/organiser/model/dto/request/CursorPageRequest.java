@@ -0,0 +1,23 @@
+package com.interview.organiser.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Keyset pagination parameters: the opaque cursor returned as nextCursor by the previous slice
+ * (null for the first slice), the slice size and whether a total count should be computed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageRequest {
+
+    private String after;
+
+    private int size;
+
+    private boolean includeTotal;
+}
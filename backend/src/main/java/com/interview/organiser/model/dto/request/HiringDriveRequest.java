@@ -0,0 +1,76 @@
+package com.interview.organiser.model.dto.request;
+
+import com.interview.organiser.constants.AppConstants;
+import com.interview.organiser.constants.enums.InterviewType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HiringDriveRequest {
+
+    @NotBlank(message = "Recruiter ID is required")
+    private String recruiterId;
+
+    @NotEmpty(message = "At least one candidate is required")
+    @Size(max = AppConstants.MAX_BULK_SCHEDULE_SIZE,
+            message = "At most " + AppConstants.MAX_BULK_SCHEDULE_SIZE + " candidates can be placed at once")
+    private List<String> candidateIds;
+
+    @NotEmpty(message = "At least one interviewer is required")
+    private List<String> interviewerIds;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate fromDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate toDate;
+
+    // Working hours of each day; slots are laid back to back from dayStart and must end by dayEnd
+    private LocalTime dayStart;
+
+    private LocalTime dayEnd;
+
+    private boolean includeWeekends;
+
+    @Min(value = AppConstants.MIN_INTERVIEW_DURATION, message = "Duration must be between "
+            + AppConstants.MIN_INTERVIEW_DURATION + " and " + AppConstants.MAX_INTERVIEW_DURATION + " minutes")
+    @Max(value = AppConstants.MAX_INTERVIEW_DURATION, message = "Duration must be between "
+            + AppConstants.MIN_INTERVIEW_DURATION + " and " + AppConstants.MAX_INTERVIEW_DURATION + " minutes")
+    private Integer duration;
+
+    @Min(value = 1, message = "Panel size must be at least 1")
+    private Integer panelSize;
+
+    // Consecutive rounds each candidate goes through, numbered from firstRound, each after the previous one
+    @Min(value = 1, message = "Rounds must be at least 1")
+    private Integer rounds;
+
+    @Min(value = 1, message = "First round must be at least 1")
+    private Integer firstRound;
+
+    @Min(value = 1, message = "Max interviews per interviewer per day must be at least 1")
+    private Integer maxInterviewsPerInterviewerPerDay;
+
+    @NotNull(message = "Interview type is required")
+    private InterviewType interviewType;
+
+    private String meetingLink;
+
+    // Only returns the plan, without scheduling anything
+    private boolean dryRun;
+}
@@ -19,5 +19,6 @@ public class MarkInterviewResultRequest {
     private String result; // SELECTED, REJECTED, NEXT_ROUND
 
     private String comments;
-}
 
+    private Long version; // Expected version, if given; a request against a changed entity gets 409
+}
@@ -35,5 +35,6 @@ public class UpdateCandidateRequest {
     private String githubUrl;
 
     private CandidateStatus status;
-}
 
+    private Long version; // Expected version, if given; a request against a changed entity gets 409
+}
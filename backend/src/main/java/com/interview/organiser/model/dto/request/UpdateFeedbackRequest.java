@@ -41,6 +41,6 @@ public class UpdateFeedbackRequest {
     private String weaknesses;
 
     private FeedbackRecommendation recommendation;
-}
-
 
+    private Long version; // Expected version, if given; a request against a changed entity gets 409
+}
@@ -23,5 +23,6 @@ public class UpdateInterviewRequest {
     private String meetingLink;
 
     private String notes;
-}
 
+    private Long version; // Expected version, if given; a request against a changed entity gets 409
+}
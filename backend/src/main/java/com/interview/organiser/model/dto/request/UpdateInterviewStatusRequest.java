@@ -17,5 +17,6 @@ public class UpdateInterviewStatusRequest {
     private InterviewStatus status;
 
     private String reason;
-}
 
+    private Long version; // Expected version, if given; a request against a changed entity gets 409
+}
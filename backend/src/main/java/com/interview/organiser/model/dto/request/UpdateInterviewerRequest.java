@@ -20,5 +20,6 @@ public class UpdateInterviewerRequest {
     private Integer yearsOfExperience;
 
     private Boolean availability;
-}
 
+    private Long version; // Expected version, if given; a request against a changed entity gets 409
+}
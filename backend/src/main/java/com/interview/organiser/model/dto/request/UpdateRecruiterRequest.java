@@ -20,4 +20,6 @@ public class UpdateRecruiterRequest {
     private String website;
 
     private String description;
+
+    private Long version; // Expected version, if given; a request against a changed entity gets 409
 }
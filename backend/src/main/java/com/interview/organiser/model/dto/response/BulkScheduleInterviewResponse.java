@@ -0,0 +1,39 @@
+package com.interview.organiser.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkScheduleInterviewResponse {
+
+    private int requested;
+
+    private int scheduled;
+
+    private int failed;
+
+    // One entry per request item, in request order
+    private List<ItemResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+
+        private int index;
+
+        private boolean success;
+
+        private InterviewResponse interview;
+
+        private String error;
+    }
+}
@@ -0,0 +1,34 @@
+package com.interview.organiser.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    private String name;
+
+    private boolean enabled;
+
+    private int size;
+
+    private int maxSize;
+
+    private long ttlSeconds;
+
+    private long hits;
+
+    private long misses;
+
+    private double hitRate;
+
+    // Entries dropped to stay within maxSize
+    private long evictions;
+
+    private long invalidations;
+}
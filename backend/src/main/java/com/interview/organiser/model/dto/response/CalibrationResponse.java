@@ -0,0 +1,42 @@
+package com.interview.organiser.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalibrationResponse {
+
+    private String interviewerId; // Set on interviewer calibrations
+    private String position; // Set on position calibrations, normalised to lower case
+    private Long feedback;
+    private List<ScoreStats> scores;
+    private Map<String, Long> recommendations;
+    private Map<String, Map<String, Long>> outcomes; // Recommendation -> interview result -> feedback
+    private Double agreementRate; // Hire/no-hire recommendations matching the result; HOLD is not counted
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScoreStats {
+        private String dimension;
+        private Long count;
+        private Double mean;
+        private Double variance;
+        private Double standardDeviation;
+        private Integer p25;
+        private Integer median;
+        private Integer p75;
+        private Integer p90;
+        private Double deviation; // Mean minus the mean over all feedback; negative is harsher
+        private Double zScore; // Deviation in standard errors of this scope's mean
+    }
+}
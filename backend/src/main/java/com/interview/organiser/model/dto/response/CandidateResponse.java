@@ -42,5 +42,7 @@ public class CandidateResponse {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    private Long version;
 }
 
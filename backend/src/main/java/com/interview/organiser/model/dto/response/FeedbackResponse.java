@@ -41,5 +41,7 @@ public class FeedbackResponse {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    private Long version;
 }
 
@@ -0,0 +1,35 @@
+package com.interview.organiser.model.dto.response;
+
+import com.interview.organiser.constants.enums.CandidateStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelResponse {
+
+    private String recruiterId;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private Long candidates; // Created in the range
+    private Long rejected; // Rejected at any stage; counted as reaching APPLIED only
+    private List<Stage> stages;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Stage {
+        private CandidateStatus status;
+        private Long reached; // Currently at this stage or a later one
+        private Long current;
+        private Double conversionRate; // reached / reached of the previous stage
+    }
+}
@@ -0,0 +1,48 @@
+package com.interview.organiser.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HiringDriveResponse {
+
+    private boolean dryRun;
+
+    private int candidates;
+
+    private int placedCandidates;
+
+    // Candidates that could not get all of their rounds, including unknown ids
+    private List<String> unplacedCandidateIds;
+
+    // Planned interviews, ordered by candidate then round
+    private List<PlannedInterview> plan;
+
+    // Outcome of scheduling the plan; null on a dry run
+    private BulkScheduleInterviewResponse scheduling;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlannedInterview {
+
+        private String candidateId;
+
+        private int round;
+
+        private LocalDateTime scheduledAt;
+
+        private int duration;
+
+        private List<String> interviewerIds;
+    }
+}
@@ -0,0 +1,37 @@
+package com.interview.organiser.model.dto.response;
+
+import com.interview.organiser.constants.enums.InterviewEventType;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewEventResponse {
+
+    private Long seq;
+
+    private InterviewEventType type;
+
+    private String interviewId;
+
+    private String candidateId;
+
+    private String recruiterId;
+
+    private List<String> interviewerIds;
+
+    private InterviewStatus status;
+
+    private Map<String, Object> data;
+
+    private LocalDateTime occurredAt;
+}
@@ -38,5 +38,7 @@ public class InterviewResponse {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    private Long version;
 }
 
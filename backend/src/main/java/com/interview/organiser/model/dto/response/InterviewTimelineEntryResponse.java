@@ -0,0 +1,26 @@
+package com.interview.organiser.model.dto.response;
+
+import com.interview.organiser.constants.enums.TimelineEntryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewTimelineEntryResponse {
+
+    private String id;
+
+    private String interviewId;
+
+    private TimelineEntryType type;
+
+    private String text;
+
+    private LocalDateTime createdAt;
+}
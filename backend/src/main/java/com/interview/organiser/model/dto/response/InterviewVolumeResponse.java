@@ -0,0 +1,35 @@
+package com.interview.organiser.model.dto.response;
+
+import com.interview.organiser.constants.enums.AnalyticsGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewVolumeResponse {
+
+    private AnalyticsGranularity granularity;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private List<Bucket> buckets; // Ordered by start, then recruiter; empty buckets are left out
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private String recruiterId;
+        private LocalDateTime start;
+        private Long interviews;
+        private Long completed;
+        private Long cancelled;
+    }
+}
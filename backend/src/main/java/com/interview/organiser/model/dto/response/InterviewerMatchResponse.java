@@ -0,0 +1,23 @@
+package com.interview.organiser.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewerMatchResponse {
+
+    private InterviewerResponse interviewer;
+
+    // Between 0 and 1; higher is a better fit
+    private double score;
+
+    // Candidate skills covered by the interviewer's expertise, normalised to lower case
+    private List<String> matchedSkills;
+}
@@ -31,5 +31,7 @@ public class InterviewerResponse {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    private Long version;
 }
 
@@ -22,4 +22,13 @@ public class PageResponse<T> {
     private Long totalElements;
 
     private Integer totalPages;
+
+    // True on a search page when more candidates match than app.search.max-matches; the total then counts
+    // only the hits that can be paged to
+    private Boolean totalCapped;
+
+    // Set instead of page/totalPages when the list was read with keyset (cursor) pagination
+    private String nextCursor;
+
+    private Boolean hasNext;
 }
@@ -40,6 +40,8 @@ public class RecruiterResponse {
 
     private LocalDateTime updatedAt;
 
+    private Long version;
+
     @Data
     @Builder
     @NoArgsConstructor
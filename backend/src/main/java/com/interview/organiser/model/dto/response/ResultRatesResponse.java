@@ -0,0 +1,41 @@
+package com.interview.organiser.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultRatesResponse {
+
+    private String recruiterId;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private List<Round> rounds;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Round {
+        private Integer round;
+        private Long interviews;
+        private Long decided; // Interviews with a result
+        private Long selected;
+        private Long rejected;
+        private Long nextRound;
+        private Double selectionRate; // Of decided interviews
+        private Double rejectionRate;
+        private Double nextRoundRate;
+        private Long feedback;
+        private Double averageRating;
+        private Map<String, Long> recommendations;
+    }
+}
@@ -0,0 +1,21 @@
+package com.interview.organiser.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeToHireResponse {
+
+    private String recruiterId;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private Long hires; // Interviews marked SELECTED
+    private Double averageDays; // From candidate creation to the selecting interview; null without hires
+}
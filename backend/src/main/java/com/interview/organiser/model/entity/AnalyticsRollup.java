@@ -0,0 +1,45 @@
+package com.interview.organiser.model.entity;
+
+import com.interview.organiser.constants.enums.AnalyticsGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "analytics_rollups")
+public class AnalyticsRollup {
+
+    // "{granularity}:{metric}:{bucket}:{recruiterId}:{round}", see AnalyticsRollupServiceImpl
+    @Id
+    private String id;
+
+    private AnalyticsGranularity granularity; // HOUR or DAY
+
+    private String metric; // See AnalyticsRollups
+
+    private LocalDateTime bucket; // Start of the hour or day
+
+    private String recruiterId;
+
+    private Integer round; // Interview and feedback metrics only
+
+    @Builder.Default
+    private Map<String, Long> counters = new HashMap<>();
+
+    private LocalDateTime updatedAt;
+
+    public long get(String counter) {
+        Long value = counters != null ? counters.get(counter) : null;
+        return value != null ? value : 0L;
+    }
+}
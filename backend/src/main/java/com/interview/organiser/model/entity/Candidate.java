@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -54,8 +55,16 @@ public class Candidate {
     
     private LocalDateTime invitationAcceptedAt;
 
+    // Normalised words of name/email/position/skills and all of their prefixes, see SearchTokenUtil
+    private List<String> searchWords;
+
+    private List<String> searchTokens;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
 }
 
@@ -0,0 +1,37 @@
+package com.interview.organiser.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "dashboard_stats")
+public class DashboardStats {
+
+    // Scope key, e.g. "global" or "recruiter:{recruiterId}" (see DashboardCounters)
+    @Id
+    private String id;
+
+    @Builder.Default
+    private Map<String, Long> counters = new HashMap<>();
+
+    // Incremented by every counter update; guards reconciliation corrections (see CounterReconciler)
+    private Long generation;
+
+    private LocalDateTime updatedAt;
+
+    public long get(String counter) {
+        Long value = counters != null ? counters.get(counter) : null;
+        return value != null ? value : 0L;
+    }
+}
@@ -1,15 +1,18 @@
 package com.interview.organiser.model.entity;
 
 import com.interview.organiser.constants.enums.FeedbackRecommendation;
+import com.interview.organiser.constants.enums.InterviewResult;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -24,6 +27,18 @@ public class Feedback {
     @DBRef
     private Interview interview;
 
+    // Denormalised from the interview so feedback can be listed per candidate/interviewer in one query;
+    // indexed together with _id in IndexManager
+    private String candidateId;
+
+    private List<String> interviewerIds;
+
+    // Calibration stats keys (see CalibrationStatsService): the candidate's position when the feedback was
+    // submitted, and the result marked on the interview, copied here when it is marked
+    private String position;
+
+    private InterviewResult interviewResult;
+
     private Integer rating;
 
     private Integer technicalSkills;
@@ -47,5 +62,8 @@ public class Feedback {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
 }
 
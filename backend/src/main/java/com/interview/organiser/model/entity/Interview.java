@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -62,6 +63,9 @@ public class Interview {
 
     private LocalDateTime feedbackRequestedAt;
 
+    @Builder.Default
+    private Boolean feedbackSubmitted = false;
+
     // Result tracking
     private InterviewResult result; // SELECTED, REJECTED, NEXT_ROUND
 
@@ -70,5 +74,8 @@ public class Interview {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
 }
 
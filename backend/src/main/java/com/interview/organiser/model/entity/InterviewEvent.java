@@ -0,0 +1,53 @@
+package com.interview.organiser.model.entity;
+
+import com.interview.organiser.constants.enums.InterviewEventType;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only record of one interview lifecycle transition. Events are never updated; seq is allocated
+ * from a counter in the same transaction as the state change, so it follows commit order and is the
+ * resume position of InterviewEventTailer.
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+@Document(collection = "interview_events")
+public class InterviewEvent {
+
+    @Id
+    private String id;
+
+    private Long seq;
+
+    private InterviewEventType type;
+
+    private String interviewId;
+
+    private String candidateId;
+
+    private String recruiterId;
+
+    private List<String> interviewerIds;
+
+    // Interview status after the transition
+    private InterviewStatus status;
+
+    // Transition-specific details, e.g. result, previousInterviewId, reason
+    private Map<String, Object> data;
+
+    private LocalDateTime occurredAt;
+}
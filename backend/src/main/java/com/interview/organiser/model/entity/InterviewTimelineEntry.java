@@ -0,0 +1,38 @@
+package com.interview.organiser.model.entity;
+
+import com.interview.organiser.constants.enums.TimelineEntryType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * One note on an interview's timeline: a status change reason, a confirmation note, result comments, or a
+ * free-form note. Entries are only ever inserted, never updated, so adding one never rewrites the interview
+ * or the entries before it; they are read per interview in (createdAt, _id) order.
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+@Document(collection = "interview_timeline")
+public class InterviewTimelineEntry {
+
+    @Id
+    private String id;
+
+    private String interviewId;
+
+    private TimelineEntryType type;
+
+    private String text;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,58 @@
+package com.interview.organiser.model.entity;
+
+import com.interview.organiser.constants.enums.NotificationStatus;
+import com.interview.organiser.constants.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox record for one message to one recipient. The text is rendered when the record is written,
+ * so the dispatcher never has to load the interview, candidate or interviewer again.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "notification_outbox")
+public class Notification {
+
+    @Id
+    private String id;
+
+    private NotificationType type;
+
+    // Email address, or "<role>:<id>" when no address is known
+    private String recipient;
+
+    private String subject;
+
+    private String body;
+
+    // Id of the interview, candidate or recruiter the message is about
+    private String referenceId;
+
+    @Builder.Default
+    private NotificationStatus status = NotificationStatus.PENDING;
+
+    @Builder.Default
+    private Integer attempts = 0;
+
+    private LocalDateTime nextAttemptAt;
+
+    // Set while a dispatcher owns the record; an expired claim makes it eligible again
+    private String claimToken;
+
+    private LocalDateTime claimedUntil;
+
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+}
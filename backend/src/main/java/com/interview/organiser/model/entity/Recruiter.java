@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -49,6 +50,9 @@ public class Recruiter {
 
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -5,13 +5,12 @@ import com.interview.organiser.model.entity.Candidate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface CandidateRepository extends MongoRepository<Candidate, String> {
+public interface CandidateRepository extends MongoRepository<Candidate, String>, CandidateRepositoryCustom {
 
     boolean existsByEmail(String email);
 
@@ -19,12 +18,6 @@ public interface CandidateRepository extends MongoRepository<Candidate, String>
 
     Optional<Candidate> findByInvitationToken(String invitationToken);
 
-    @Query("{ $or: [ { 'firstName': { $regex: ?0, $options: 'i' } }, { 'lastName': { $regex: ?0, $options: 'i' } }, { 'email': { $regex: ?0, $options: 'i' } }, { 'position': { $regex: ?0, $options: 'i' } } ] }")
-    Page<Candidate> searchCandidates(String search, Pageable pageable);
-
-    @Query("{ 'status': ?0, $or: [ { 'firstName': { $regex: ?1, $options: 'i' } }, { 'lastName': { $regex: ?1, $options: 'i' } }, { 'email': { $regex: ?1, $options: 'i' } }, { 'position': { $regex: ?1, $options: 'i' } } ] }")
-    Page<Candidate> searchCandidatesByStatus(CandidateStatus status, String search, Pageable pageable);
-
     // Count methods for dashboard
     long countByRecruiterId(String recruiterId);
 
@@ -0,0 +1,34 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.constants.enums.CandidateStatus;
+import com.interview.organiser.model.entity.Candidate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+
+/**
+ * Candidate search over the words and prefix tokens maintained by SearchTokenUtil.
+ * Up to app.search.max-matches candidates matching every term as a whole word, then as many matching only by
+ * prefix, are ranked and paged, so a short prefix that matches most of the collection costs the same as a
+ * selective one without cutting off its whole-word hits.
+ */
+public interface CandidateRepositoryCustom {
+
+    /**
+     * Finds candidates where every search term is a prefix of some word in name, email, position or skills,
+     * ranked by the number of terms that match a whole word. The status filter is optional.
+     */
+    CappedPage<Candidate> search(CandidateStatus status, String search, Pageable pageable);
+
+    /**
+     * Same ranking, with only the given fields read into each candidate; all fields when empty.
+     */
+    CappedPage<Candidate> search(CandidateStatus status, String search, Pageable pageable,
+                                 Collection<String> fields);
+
+    /**
+     * Same ranking without counting the hits; the slice only tells whether another page follows.
+     */
+    Slice<Candidate> searchSlice(CandidateStatus status, String search, Pageable pageable, Collection<String> fields);
+}
@@ -0,0 +1,124 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.constants.enums.CandidateStatus;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.util.SearchTokenUtil;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public class CandidateRepositoryCustomImpl implements CandidateRepositoryCustom {
+
+    private static final String SCORE = "searchScore";
+
+    private final MongoTemplate mongoTemplate;
+    private final int maxMatches;
+
+    public CandidateRepositoryCustomImpl(MongoTemplate mongoTemplate,
+                                         @Value("${app.search.max-matches:1000}") int maxMatches) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxMatches = Math.max(maxMatches, 1);
+    }
+
+    @Override
+    public CappedPage<Candidate> search(CandidateStatus status, String search, Pageable pageable) {
+        return search(status, search, pageable, List.of());
+    }
+
+    @Override
+    public CappedPage<Candidate> search(CandidateStatus status, String search, Pageable pageable,
+                                        Collection<String> fields) {
+        List<String> terms = SearchTokenUtil.queryTerms(search);
+        if (terms.isEmpty()) {
+            return new CappedPage<>(List.of(), pageable, 0, false);
+        }
+        List<Candidate> candidates = rank(status, terms, pageable, pageable.getPageSize(), fields);
+        if (pageable.getOffset() == 0 && candidates.size() < pageable.getPageSize()) {
+            return new CappedPage<>(candidates, pageable, candidates.size(), false);
+        }
+
+        // Each branch is counted one past its cap, which tells whether hits were left out of the pages
+        long wholeWords = countUpToCap(wholeWords(status, terms));
+        long prefixOnly = countUpToCap(prefixOnly(status, terms));
+        return new CappedPage<>(candidates, pageable,
+                Math.min(wholeWords, maxMatches) + Math.min(prefixOnly, maxMatches),
+                wholeWords > maxMatches || prefixOnly > maxMatches);
+    }
+
+    @Override
+    public Slice<Candidate> searchSlice(CandidateStatus status, String search, Pageable pageable,
+                                        Collection<String> fields) {
+        List<String> terms = SearchTokenUtil.queryTerms(search);
+        if (terms.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        // One extra hit tells whether another page follows
+        List<Candidate> candidates = rank(status, terms, pageable, pageable.getPageSize() + 1, fields);
+        boolean hasNext = candidates.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? candidates.subList(0, pageable.getPageSize()) : candidates, pageable, hasNext);
+    }
+
+    private static Criteria wholeWords(CandidateStatus status, List<String> terms) {
+        // $all on the multikey word index; the leading status key narrows the scan when a status is given
+        return status != null
+                ? Criteria.where("status").is(status.name()).and("searchWords").all(terms)
+                : Criteria.where("searchWords").all(terms);
+    }
+
+    private static Criteria prefixOnly(CandidateStatus status, List<String> terms) {
+        // $all on the multikey token index, leaving out the whole-word hits the other branch already has
+        return status != null
+                ? Criteria.where("status").is(status.name()).and("searchTokens").all(terms)
+                        .and("searchWords").not().all(terms)
+                : Criteria.where("searchTokens").all(terms).and("searchWords").not().all(terms);
+    }
+
+    private long countUpToCap(Criteria criteria) {
+        return mongoTemplate.count(Query.query(criteria).limit(maxMatches + 1), Candidate.class);
+    }
+
+    private List<Candidate> rank(CandidateStatus status, List<String> terms, Pageable pageable, int limit,
+                                 Collection<String> fields) {
+        long remaining = maxMatches - pageable.getOffset();
+        if (remaining <= 0) {
+            return List.of();
+        }
+
+        // Whole-word hits rank above prefix-only hits, ties fall back to a stable name order
+        AggregationOperation score = context -> new Document("$addFields", new Document(SCORE,
+                new Document("$size", new Document("$setIntersection",
+                        List.of(new Document("$ifNull", List.of("$searchWords", List.of())), terms)))));
+
+        // Whole-word hits and prefix-only hits come from separate index-backed $match stages, each stopped at
+        // the cap by the $limit straight after it. The score sort never holds more than twice max-matches
+        // documents however short the prefix, and a whole-word hit cannot fall behind the prefix branch's cap
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(wholeWords(status, terms)),
+                Aggregation.limit(maxMatches),
+                UnionWithOperation.unionWith(mongoTemplate.getCollectionName(Candidate.class)).pipeline(
+                        Aggregation.match(prefixOnly(status, terms)),
+                        Aggregation.limit(maxMatches)),
+                score,
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, SCORE)
+                        .and(Sort.by("lastName", "firstName", "_id"))),
+                Aggregation.skip(pageable.getOffset()),
+                Aggregation.limit(Math.min(limit, remaining)),
+                fields.isEmpty()
+                        ? Aggregation.project().andExclude(SCORE, "searchWords", "searchTokens")
+                        : Aggregation.project(fields.toArray(String[]::new)));
+
+        return mongoTemplate.aggregate(aggregation, Candidate.class, Candidate.class).getMappedResults();
+    }
+}
@@ -0,0 +1,22 @@
+package com.interview.organiser.repository;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * A {@link org.springframework.data.domain.Page} whose total stops at a cap. The total counts only the
+ * elements that can be paged to; {@code capped} tells that more elements match beyond them.
+ */
+@Getter
+public class CappedPage<T> extends PageImpl<T> {
+
+    private final boolean capped;
+
+    public CappedPage(List<T> content, Pageable pageable, long total, boolean capped) {
+        super(content, pageable, total);
+        this.capped = capped;
+    }
+}
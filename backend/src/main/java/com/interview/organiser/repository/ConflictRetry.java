@@ -0,0 +1,103 @@
+package com.interview.organiser.repository;
+
+import com.mongodb.MongoException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.mongodb.TransientClientSessionException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a read-modify-write of versioned entities and, for operations that give the same result whichever
+ * concurrent change lands first, runs it again from a fresh read when a version check fails. Attempts are
+ * bounded and spaced by a short jittered backoff; when they run out, or for operations that must not be
+ * retried, the conflict propagates and is answered with 409.
+ * <p>
+ * Each attempt is one transaction when Mongo transactions are enabled, so a retry reads committed state
+ * rather than the snapshot of the attempt that failed; methods run through here are therefore not
+ * {@code @Transactional} themselves. A transaction the server aborted as transient, typically a write
+ * conflict on a shared document such as the event sequence or a counter, left nothing behind, so it is
+ * retried even for operations that are not retryable on a version conflict; when attempts run out it
+ * surfaces as {@link TransientClientSessionException}. Called inside a transaction that is already active,
+ * the attempt runs once and the conflict is left to that transaction's owner.
+ */
+@Slf4j
+@Component
+public class ConflictRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public ConflictRetry(ObjectProvider<PlatformTransactionManager> transactionManager,
+                         @Value("${app.concurrency.max-attempts:3}") int maxAttempts,
+                         @Value("${app.concurrency.backoff-ms:20}") long backoffMs) {
+        PlatformTransactionManager manager = transactionManager.getIfAvailable();
+        this.transactionTemplate = manager != null ? new TransactionTemplate(manager) : null;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoffMs = Math.max(backoffMs, 0);
+    }
+
+    /**
+     * Runs the attempt, again from the start on a version conflict if retryable and on an aborted transaction
+     * always; each run must re-read what it changes.
+     */
+    public <T> T run(boolean retryable, Supplier<T> attempt) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return attempt.get();
+        }
+        for (int i = 1; ; i++) {
+            try {
+                return transactionTemplate != null
+                        ? transactionTemplate.execute(status -> attempt.get())
+                        : attempt.get();
+            } catch (RuntimeException e) {
+                boolean aborted = isTransientTransactionFailure(e);
+                if (!aborted && !(retryable && e instanceof ConcurrencyFailureException)) {
+                    throw e;
+                }
+                if (i >= maxAttempts) {
+                    throw aborted && !(e instanceof TransientClientSessionException)
+                            ? new TransientClientSessionException(e.getMessage(), e)
+                            : e;
+                }
+                log.info("Concurrent update, retrying (attempt {} of {}): {}", i + 1, maxAttempts, e.getMessage());
+                backOff(i);
+            }
+        }
+    }
+
+    /**
+     * Whether the server aborted the transaction in a way the driver labels safe to retry as a whole.
+     * Spring translates a WriteConflict by its code alone, so the label is looked up on the cause chain.
+     */
+    static boolean isTransientTransactionFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientClientSessionException
+                    || cause instanceof MongoException mongoException
+                    && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void backOff(int attempt) {
+        if (backoffMs == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a concurrent update", e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.interview.organiser.repository;
+
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Corrects materialised scope counters (dashboard_stats, calibration_stats) from a recount of their sources
+ * without racing the live $inc updates. Every live update also increments the scope's {@code generation};
+ * reconciliation {@link #read reads} each scope's counters and generation before it starts recounting, then
+ * {@link #apply applies} recounted - stored as an $inc guarded by the generation it read. A scope that took a
+ * live update meanwhile no longer matches the guard and is left for the next run, since its live updates are
+ * exact and whether the recount saw the source changes behind them is unknown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterReconciler {
+
+    public static final String GENERATION = "generation";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public record Stored(Map<String, Long> counters, Long generation) {
+    }
+
+    public record Result(int corrected, int created, int removed, int skipped) {
+    }
+
+    /**
+     * Reads every stored scope; call before recounting the sources.
+     */
+    public Map<String, Stored> read(Class<?> statsClass) {
+        Map<String, Stored> stored = new HashMap<>();
+        Query query = new Query();
+        query.fields().include("counters").include(GENERATION);
+        query.cursorBatchSize(BATCH_SIZE);
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class,
+                mongoTemplate.getCollectionName(statsClass))) {
+            documents.forEach(document -> {
+                Map<String, Long> counters = new HashMap<>();
+                if (document.get("counters") instanceof Document values) {
+                    values.forEach((counter, value) -> {
+                        if (value instanceof Number number) {
+                            counters.put(counter, number.longValue());
+                        }
+                    });
+                }
+                Object generation = document.get(GENERATION);
+                stored.put(document.getString("_id"), new Stored(counters,
+                        generation instanceof Number number ? number.longValue() : null));
+            });
+        }
+        return stored;
+    }
+
+    /**
+     * Brings the stored scopes to the recounted values: scopes that are off get the difference, scopes missing
+     * from the recount are removed and new scopes are inserted, each only if nothing changed it since it was read.
+     */
+    public Result apply(Class<?> statsClass, Map<String, Stored> stored, Map<String, Map<String, Long>> recounted) {
+        LocalDateTime now = LocalDateTime.now();
+        Batches corrections = new Batches(statsClass);
+        Batches creations = new Batches(statsClass);
+        Batches removals = new Batches(statsClass);
+
+        corrections(stored, recounted).forEach((scope, delta) -> {
+            Stored current = stored.get(scope);
+            if (current == null) {
+                // Only inserts: a scope a live update created meanwhile already holds that update
+                Update update = new Update().setOnInsert("counters", recounted.get(scope))
+                        .setOnInsert("updatedAt", now).setOnInsert(GENERATION, 0L);
+                creations.add(bulk -> bulk.upsert(Query.query(Criteria.where("_id").is(scope)), update));
+                return;
+            }
+            Query unchanged = Query.query(Criteria.where("_id").is(scope).and(GENERATION).is(current.generation()));
+            if (!recounted.containsKey(scope)) {
+                removals.add(bulk -> bulk.remove(unchanged));
+                return;
+            }
+            Update update = new Update().set("updatedAt", now);
+            delta.forEach((counter, value) -> update.inc("counters." + counter, value));
+            corrections.add(bulk -> bulk.updateOne(unchanged, update));
+        });
+
+        int corrected = corrections.execute(BulkWriteResult::getMatchedCount);
+        int created = creations.execute(result -> result.getUpserts().size());
+        int removed = removals.execute(BulkWriteResult::getDeletedCount);
+        int skipped = corrections.size() + creations.size() + removals.size() - corrected - created - removed;
+        log.info("Corrected {} {} scopes, created {}, removed {}, skipped {} updated meanwhile",
+                corrected, mongoTemplate.getCollectionName(statsClass), created, removed, skipped);
+        return new Result(corrected, created, removed, skipped);
+    }
+
+    /**
+     * recounted - stored per scope, leaving out zero differences and scopes that are already right. Scopes
+     * that are no longer recounted map to the negation of their stored counters.
+     */
+    public static Map<String, Map<String, Long>> corrections(Map<String, Stored> stored,
+                                                             Map<String, Map<String, Long>> recounted) {
+        Set<String> scopes = new HashSet<>(stored.keySet());
+        scopes.addAll(recounted.keySet());
+
+        Map<String, Map<String, Long>> corrections = new LinkedHashMap<>();
+        for (String scope : scopes) {
+            Map<String, Long> delta = new HashMap<>(recounted.getOrDefault(scope, Map.of()));
+            Stored current = stored.get(scope);
+            if (current != null) {
+                current.counters().forEach((counter, value) -> delta.merge(counter, -value, Long::sum));
+            }
+            delta.values().removeIf(value -> value == 0);
+            boolean removed = current != null && !recounted.containsKey(scope);
+            if (!delta.isEmpty() || removed) {
+                corrections.put(scope, delta);
+            }
+        }
+        return corrections;
+    }
+
+    /**
+     * Unordered bulk writes flushed every {@link #BATCH_SIZE} operations.
+     */
+    private class Batches {
+
+        private final Class<?> statsClass;
+        private final List<Consumer<BulkOperations>> operations = new ArrayList<>();
+
+        Batches(Class<?> statsClass) {
+            this.statsClass = statsClass;
+        }
+
+        void add(Consumer<BulkOperations> operation) {
+            operations.add(operation);
+        }
+
+        int size() {
+            return operations.size();
+        }
+
+        int execute(ToIntFunction<BulkWriteResult> applied) {
+            int total = 0;
+            for (int from = 0; from < operations.size(); from += BATCH_SIZE) {
+                BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, statsClass);
+                operations.subList(from, Math.min(from + BATCH_SIZE, operations.size()))
+                        .forEach(operation -> operation.accept(bulk));
+                total += applied.applyAsInt(bulk.execute());
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.interview.organiser.repository;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Unpaged reads over raw collections, the streaming counterpart of {@link OffsetPager} and {@link KeysetPager}.
+ * The result is a lazy stream over one server cursor: documents are taken a batch at a time, converted by the
+ * caller's resolver (which can look up references for the whole batch at once) and handed on one by one.
+ * A consumer that stops pulling, e.g. one blocked writing to a slow client, stops the cursor with it, so at most
+ * one batch is held in memory however long the listing. Close the stream to release the cursor.
+ */
+@Component
+public class CursorStreamer {
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public CursorStreamer(MongoTemplate mongoTemplate,
+                          @Value("${app.streaming.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * Streams the matching documents in sort order with only the given fields; all fields when empty.
+     */
+    public <T> Stream<T> stream(String collection, Criteria filter, Sort sort, Collection<String> fields,
+                                Function<List<Document>, List<T>> resolver) {
+        Query query = Query.query(filter).with(sort).cursorBatchSize(batchSize);
+        fields.forEach(query.fields()::include);
+
+        Stream<Document> documents = mongoTemplate.stream(query, Document.class, collection);
+        Iterator<Document> cursor = documents.iterator();
+        Iterator<List<T>> batches = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                List<Document> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && cursor.hasNext()) {
+                    batch.add(cursor.next());
+                }
+                return resolver.apply(batch);
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+                .flatMap(List::stream)
+                .onClose(documents::close);
+    }
+}
@@ -0,0 +1,9 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.model.entity.DashboardStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DashboardStatsRepository extends MongoRepository<DashboardStats, String> {
+}
@@ -0,0 +1,173 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.model.dto.response.CacheStatsResponse;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.model.entity.Recruiter;
+import com.interview.organiser.model.entity.User;
+import com.interview.organiser.util.LookupCache;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of findById for candidates, interviewers, recruiters and users, for read
+ * paths that look the same entities up again and again. Each entity type is configured on its own with
+ * {@code app.cache.<type>.enabled}, {@code .max-size} and {@code .ttl-seconds}.
+ * <p>
+ * Returned entities are shared and read-only: paths that modify an entity load it from the repository and
+ * evict it after writing. Eviction only reaches this instance, so other instances can serve an entity up
+ * to its TTL after a change.
+ */
+@Component
+public class EntityCache {
+
+    private final CandidateRepository candidateRepository;
+    private final InterviewerRepository interviewerRepository;
+    private final RecruiterRepository recruiterRepository;
+    private final UserRepository userRepository;
+
+    private final LookupCache<Candidate> candidates;
+    private final LookupCache<Interviewer> interviewers;
+    private final LookupCache<Recruiter> recruiters;
+    private final LookupCache<User> users;
+
+    public EntityCache(CandidateRepository candidateRepository,
+                       InterviewerRepository interviewerRepository,
+                       RecruiterRepository recruiterRepository,
+                       UserRepository userRepository,
+                       Environment environment) {
+        this.candidateRepository = candidateRepository;
+        this.interviewerRepository = interviewerRepository;
+        this.recruiterRepository = recruiterRepository;
+        this.userRepository = userRepository;
+        this.candidates = lookupCache("candidates", environment);
+        this.interviewers = lookupCache("interviewers", environment);
+        this.recruiters = lookupCache("recruiters", environment);
+        this.users = lookupCache("users", environment);
+    }
+
+    public Optional<Candidate> findCandidate(String candidateId) {
+        return candidates.get(candidateId, candidateRepository::findById);
+    }
+
+    public Optional<Interviewer> findInterviewer(String interviewerId) {
+        return interviewers.get(interviewerId, interviewerRepository::findById);
+    }
+
+    public Optional<Recruiter> findRecruiter(String recruiterId) {
+        return recruiters.get(recruiterId, recruiterRepository::findById);
+    }
+
+    public Optional<User> findUser(String userId) {
+        return users.get(userId, userRepository::findById);
+    }
+
+    public void evictCandidate(String candidateId) {
+        evict(candidates, candidateId);
+    }
+
+    public void evictInterviewers(Collection<String> interviewerIds) {
+        interviewerIds.forEach(interviewerId -> evict(interviewers, interviewerId));
+    }
+
+    public void evictInterviewer(String interviewerId) {
+        evict(interviewers, interviewerId);
+    }
+
+    public void evictRecruiter(String recruiterId) {
+        evict(recruiters, recruiterId);
+    }
+
+    /**
+     * Also drops every cached interviewer, as interviewers carry their user.
+     */
+    public void evictUser(String userId) {
+        evict(users, userId);
+        interviewers.invalidateAll();
+    }
+
+    /**
+     * Evicts cached entities older than the given updatedAt, read straight from the database, so that a
+     * conditional GET never pairs an up-to-date ETag with a stale body from another instance's change.
+     */
+    public void evictCandidateIfChanged(String candidateId, Date updatedAt) {
+        candidates.invalidateIf(candidateId, candidate -> changed(candidate.getUpdatedAt(), updatedAt));
+    }
+
+    /**
+     * Interviewers carry their user, so either one having changed evicts the interviewer.
+     */
+    public void evictInterviewerIfChanged(String interviewerId, Date updatedAt, Date userUpdatedAt) {
+        interviewers.invalidateIf(interviewerId, interviewer -> changed(interviewer.getUpdatedAt(), updatedAt)
+                || (interviewer.getUser() != null && changed(interviewer.getUser().getUpdatedAt(), userUpdatedAt)));
+    }
+
+    public void evictRecruiterIfChanged(String recruiterId, Date updatedAt) {
+        recruiters.invalidateIf(recruiterId, recruiter -> changed(recruiter.getUpdatedAt(), updatedAt));
+    }
+
+    public void evictUserIfChanged(String userId, Date updatedAt) {
+        users.invalidateIf(userId, user -> changed(user.getUpdatedAt(), updatedAt));
+    }
+
+    public List<CacheStatsResponse> stats() {
+        return List.of(candidates.stats(), interviewers.stats(), recruiters.stats(), users.stats()).stream()
+                .map(stats -> CacheStatsResponse.builder()
+                        .name(stats.name())
+                        .enabled(stats.enabled())
+                        .size(stats.size())
+                        .maxSize(stats.maxSize())
+                        .ttlSeconds(stats.ttl().toSeconds())
+                        .hits(stats.hits())
+                        .misses(stats.misses())
+                        .hitRate(stats.hitRate())
+                        .evictions(stats.evictions())
+                        .invalidations(stats.invalidations())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Evicts now and again once the surrounding transaction completes, so an entity read between the write
+     * and the commit, still in its old state, is not served afterwards.
+     */
+    private static void evict(LookupCache<?> cache, String id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Compares in the zone Spring Data stores LocalDateTime with.
+     */
+    private static boolean changed(LocalDateTime cached, Date current) {
+        if (cached == null || current == null) {
+            return cached != null || current != null;
+        }
+        return cached.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() != current.getTime();
+    }
+
+    private static <V> LookupCache<V> lookupCache(String name, Environment environment) {
+        String prefix = "app.cache." + name;
+        return new LookupCache<>(name,
+                environment.getProperty(prefix + ".enabled", Boolean.class, true),
+                environment.getProperty(prefix + ".max-size", Integer.class, 10_000),
+                Duration.ofSeconds(environment.getProperty(prefix + ".ttl-seconds", Long.class, 60L)));
+    }
+}
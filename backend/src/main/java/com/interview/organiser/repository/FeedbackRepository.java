@@ -15,13 +15,9 @@ public interface FeedbackRepository extends MongoRepository<Feedback, String> {
     @Query("{ 'interview.$id': ?0 }")
     Optional<Feedback> findByInterviewId(String interviewId);
 
-    // Note: For these queries, we'll need to handle them in the service layer
-    // by first finding interviews and then finding feedback for those interviews
-    @Query("{ 'interview.$id': { $in: ?0 } }")
-    Page<Feedback> findByCandidateInterviewIds(java.util.List<String> interviewIds, Pageable pageable);
+    Page<Feedback> findByCandidateId(String candidateId, Pageable pageable);
 
-    @Query("{ 'interview.$id': { $in: ?0 } }")
-    Page<Feedback> findByInterviewerInterviewIds(java.util.List<String> interviewIds, Pageable pageable);
+    Page<Feedback> findByInterviewerIds(String interviewerId, Pageable pageable);
 
     @Query("{ 'interview.$id': ?0 }")
     Page<Feedback> findByInterviewIdPage(String interviewId, Pageable pageable);
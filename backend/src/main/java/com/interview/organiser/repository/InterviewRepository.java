@@ -11,7 +11,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 
 @Repository
-public interface InterviewRepository extends MongoRepository<Interview, String> {
+public interface InterviewRepository extends MongoRepository<Interview, String>, InterviewRepositoryCustom {
 
     Page<Interview> findByStatus(InterviewStatus status, Pageable pageable);
 
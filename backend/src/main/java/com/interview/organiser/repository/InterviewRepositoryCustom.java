@@ -0,0 +1,56 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.util.FieldSelection;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Read paths for interview listings that resolve candidate/interviewer references in batches
+ * rather than through per-document @DBRef lookups.
+ */
+public interface InterviewRepositoryCustom {
+
+    /**
+     * Reads only the fields of the InterviewResponse selection, and only the references it needs.
+     */
+    Page<Interview> findAllWithReferences(InterviewStatus status, String candidateId, String interviewerId,
+                                          LocalDateTime fromDate, LocalDateTime toDate, Pageable pageable,
+                                          FieldSelection fields);
+
+    /**
+     * Keyset variant ordered by scheduledAt then _id, for clients that walk the whole listing.
+     */
+    KeysetSlice<Interview> findAllWithReferences(InterviewStatus status, String candidateId, String interviewerId,
+                                                 LocalDateTime fromDate, LocalDateTime toDate,
+                                                 CursorPageRequest cursorRequest, FieldSelection fields);
+
+    /**
+     * The whole listing in the keyset order, resolved a cursor batch at a time; close the stream when done.
+     */
+    Stream<Interview> streamWithReferences(InterviewStatus status, String candidateId, String interviewerId,
+                                           LocalDateTime fromDate, LocalDateTime toDate, FieldSelection fields);
+
+    /**
+     * The interview's status, slot and interviewers (ids only), for checking a reschedule against the calendar.
+     */
+    Optional<Interview> findSlot(String interviewId);
+
+    /**
+     * The same page as findAllWithReferences with only _id, updatedAt, version and the candidate and interviewer
+     * references read and nothing resolved, so the page's version can be checked before loading it.
+     */
+    Page<Document> findVersionStamps(InterviewStatus status, String candidateId, String interviewerId,
+                                     LocalDateTime fromDate, LocalDateTime toDate, Pageable pageable);
+
+    KeysetSlice<Document> findVersionStamps(InterviewStatus status, String candidateId, String interviewerId,
+                                            LocalDateTime fromDate, LocalDateTime toDate,
+                                            CursorPageRequest cursorRequest);
+}
@@ -0,0 +1,132 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.util.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.interview.organiser.repository.ReferenceResolver.INTERVIEWS;
+import static com.interview.organiser.repository.ReferenceResolver.refId;
+import static com.interview.organiser.repository.ReferenceResolver.storedId;
+
+@RequiredArgsConstructor
+public class InterviewRepositoryCustomImpl implements InterviewRepositoryCustom {
+
+    private static final List<String> VERSION_FIELDS = List.of("updatedAt", "version", "candidate",
+            "interviewers");
+    private static final List<String> SLOT_FIELDS = List.of("status", "scheduledAt", "duration", "interviewers");
+
+    private final MongoTemplate mongoTemplate;
+    private final ReferenceResolver referenceResolver;
+    private final KeysetPager keysetPager;
+    private final CursorStreamer cursorStreamer;
+
+    @Override
+    public Page<Interview> findAllWithReferences(InterviewStatus status, String candidateId, String interviewerId,
+                                                 LocalDateTime fromDate, LocalDateTime toDate, Pageable pageable,
+                                                 FieldSelection fields) {
+        Query query = new Query(buildCriteria(status, candidateId, interviewerId, fromDate, toDate));
+        Query countQuery = Query.of(query);
+        fields.documentFields(ReferenceResolver.INTERVIEW_FIELDS).forEach(query.fields()::include);
+
+        List<Document> documents = mongoTemplate.find(query.with(pageable), Document.class, INTERVIEWS);
+        List<Interview> interviews = referenceResolver.resolveInterviews(documents, fields);
+
+        return PageableExecutionUtils.getPage(interviews, pageable,
+                () -> mongoTemplate.count(countQuery, INTERVIEWS));
+    }
+
+    @Override
+    public KeysetSlice<Interview> findAllWithReferences(InterviewStatus status, String candidateId, String interviewerId,
+                                                        LocalDateTime fromDate, LocalDateTime toDate,
+                                                        CursorPageRequest cursorRequest, FieldSelection fields) {
+        return keysetPager.find(INTERVIEWS, buildCriteria(status, candidateId, interviewerId, fromDate, toDate),
+                        List.of("scheduledAt", "_id"), cursorRequest,
+                        fields.documentFields(ReferenceResolver.INTERVIEW_FIELDS))
+                .mapContent(documents -> referenceResolver.resolveInterviews(documents, fields));
+    }
+
+    @Override
+    public Stream<Interview> streamWithReferences(InterviewStatus status, String candidateId, String interviewerId,
+                                                  LocalDateTime fromDate, LocalDateTime toDate, FieldSelection fields) {
+        return cursorStreamer.stream(INTERVIEWS, buildCriteria(status, candidateId, interviewerId, fromDate, toDate),
+                Sort.by("scheduledAt", "_id"), fields.documentFields(ReferenceResolver.INTERVIEW_FIELDS),
+                documents -> referenceResolver.resolveInterviews(documents, fields));
+    }
+
+    @Override
+    public Optional<Interview> findSlot(String interviewId) {
+        Query query = Query.query(Criteria.where("_id").is(storedId(interviewId)));
+        SLOT_FIELDS.forEach(query.fields()::include);
+        Document document = mongoTemplate.findOne(query, Document.class, INTERVIEWS);
+        if (document == null) {
+            return Optional.empty();
+        }
+
+        List<Interviewer> interviewers = new ArrayList<>();
+        if (document.remove("interviewers") instanceof List<?> refs) {
+            refs.forEach(ref -> interviewers.add(Interviewer.builder().id(String.valueOf(refId(ref))).build()));
+        }
+        Interview interview = mongoTemplate.getConverter().read(Interview.class, document);
+        interview.setInterviewers(interviewers);
+        return Optional.of(interview);
+    }
+
+    @Override
+    public Page<Document> findVersionStamps(InterviewStatus status, String candidateId, String interviewerId,
+                                            LocalDateTime fromDate, LocalDateTime toDate, Pageable pageable) {
+        Query query = new Query(buildCriteria(status, candidateId, interviewerId, fromDate, toDate));
+        Query countQuery = Query.of(query);
+        VERSION_FIELDS.forEach(query.fields()::include);
+
+        List<Document> documents = mongoTemplate.find(query.with(pageable), Document.class, INTERVIEWS);
+        return PageableExecutionUtils.getPage(documents, pageable,
+                () -> mongoTemplate.count(countQuery, INTERVIEWS));
+    }
+
+    @Override
+    public KeysetSlice<Document> findVersionStamps(InterviewStatus status, String candidateId, String interviewerId,
+                                                   LocalDateTime fromDate, LocalDateTime toDate,
+                                                   CursorPageRequest cursorRequest) {
+        return keysetPager.find(INTERVIEWS, buildCriteria(status, candidateId, interviewerId, fromDate, toDate),
+                List.of("scheduledAt", "_id"), cursorRequest, VERSION_FIELDS);
+    }
+
+    /**
+     * Mirrors the filter precedence of the derived finders used by InterviewServiceImpl:
+     * a date range wins over everything else, then status combined with candidate or interviewer.
+     */
+    private Criteria buildCriteria(InterviewStatus status, String candidateId, String interviewerId,
+                                   LocalDateTime fromDate, LocalDateTime toDate) {
+        if (fromDate != null && toDate != null) {
+            return Criteria.where("scheduledAt").gte(fromDate).lte(toDate);
+        }
+
+        Criteria criteria = new Criteria();
+        if (candidateId != null) {
+            criteria.and("candidate.$id").is(storedId(candidateId));
+        } else if (interviewerId != null) {
+            criteria.and("interviewers.$id").is(storedId(interviewerId));
+        }
+        if (status != null) {
+            criteria.and("status").is(status.name());
+        }
+        return criteria;
+    }
+}
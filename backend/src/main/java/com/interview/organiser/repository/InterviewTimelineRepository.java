@@ -0,0 +1,13 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.model.entity.InterviewTimelineEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InterviewTimelineRepository extends MongoRepository<InterviewTimelineEntry, String> {
+
+    Page<InterviewTimelineEntry> findByInterviewIdOrderByCreatedAtAscIdAsc(String interviewId, Pageable pageable);
+}
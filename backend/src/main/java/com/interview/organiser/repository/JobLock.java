@@ -0,0 +1,73 @@
+package com.interview.organiser.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Cluster-wide mutual exclusion for jobs that every instance schedules but only one should run at a time.
+ * A job holds a lease in the job_locks collection while it runs; instances that find the lease taken skip
+ * that run. Leases expire, so a holder that dies mid-run does not block the job past the lease.
+ */
+@Slf4j
+@Component
+public class JobLock {
+
+    private static final String COLLECTION = "job_locks";
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration lease;
+
+    public JobLock(MongoTemplate mongoTemplate,
+                   @Value("${app.jobs.lock-lease-ms:1800000}") long leaseMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.lease = Duration.ofMillis(leaseMs);
+    }
+
+    /**
+     * Runs the task if no other instance holds the named lock, returning whether it ran.
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        String owner = UUID.randomUUID().toString();
+        if (!acquire(name, owner)) {
+            log.info("Skipping {}: another instance holds the lock", name);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            release(name, owner);
+        }
+    }
+
+    private boolean acquire(String name, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            // Matches only a missing or expired lease; a held one makes the upsert collide on _id
+            Document lock = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("_id").is(name).and("lockedUntil").lt(now)),
+                    new Update().set("owner", owner).set("lockedAt", now).set("lockedUntil", now.plus(lease)),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), Document.class, COLLECTION);
+            return lock != null && owner.equals(lock.getString("owner"));
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void release(String name, String owner) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(name).and("owner").is(owner)),
+                new Update().set("lockedUntil", LocalDateTime.now()), COLLECTION);
+    }
+}
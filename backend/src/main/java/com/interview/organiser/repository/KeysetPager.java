@@ -0,0 +1,114 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.model.dto.request.CursorPageRequest;
+import com.interview.organiser.util.CursorUtil;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keyset ("seek") pagination over raw collections.
+ * Each slice is a range query strictly after the sort key values of the previous slice's last
+ * document, sorted by those keys and limited to size + 1 to detect a following slice, so reading
+ * slice n costs the same as reading slice 1. No count runs unless the caller asks for a total;
+ * an unfiltered total uses the collection's estimated document count.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPager {
+
+    public static final List<String> ID_KEYS = List.of("_id");
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Reads one slice of mapped entities ordered by _id.
+     */
+    public <T> KeysetSlice<T> find(Class<T> type, Criteria filter, CursorPageRequest request) {
+        return find(type, filter, request, List.of());
+    }
+
+    /**
+     * Same slice, with only the given fields read into each entity; all fields when empty.
+     */
+    public <T> KeysetSlice<T> find(Class<T> type, Criteria filter, CursorPageRequest request,
+                                   Collection<String> fields) {
+        return find(mongoTemplate.getCollectionName(type), filter, ID_KEYS, request, fields)
+                .mapContent(documents -> documents.stream()
+                        .map(document -> mongoTemplate.getConverter().read(type, document))
+                        .toList());
+    }
+
+    /**
+     * Reads one slice of raw documents ordered ascending by the given keys, which must end with _id.
+     */
+    public KeysetSlice<Document> find(String collection, Criteria filter, List<String> keys, CursorPageRequest request) {
+        return find(collection, filter, keys, request, List.of());
+    }
+
+    /**
+     * Same slice, with only the given fields (plus the keys) read from each document; all fields when empty.
+     */
+    public KeysetSlice<Document> find(String collection, Criteria filter, List<String> keys, CursorPageRequest request,
+                                      Collection<String> fields) {
+        int size = Math.max(request.getSize(), 1);
+
+        Criteria criteria = filter;
+        if (request.getAfter() != null && !request.getAfter().isBlank()) {
+            criteria = new Criteria().andOperator(filter, after(keys, CursorUtil.decode(request.getAfter(), keys.size())));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, keys.toArray(String[]::new)))
+                .limit(size + 1);
+        if (!fields.isEmpty()) {
+            fields.forEach(query.fields()::include);
+            keys.forEach(query.fields()::include);
+        }
+        List<Document> documents = new ArrayList<>(mongoTemplate.find(query, Document.class, collection));
+
+        String nextCursor = null;
+        if (documents.size() > size) {
+            documents = new ArrayList<>(documents.subList(0, size));
+            Document last = documents.get(size - 1);
+            nextCursor = CursorUtil.encode(keys.stream().map(last::get).toList());
+        }
+
+        Long total = null;
+        if (request.isIncludeTotal()) {
+            total = filter.getCriteriaObject().isEmpty()
+                    ? mongoTemplate.estimatedCount(collection)
+                    : mongoTemplate.count(Query.query(filter), collection);
+        }
+        return new KeysetSlice<>(documents, size, nextCursor, total);
+    }
+
+    /**
+     * (k1 > v1) or (k1 = v1 and k2 > v2) ..., with a leading k1 >= v1 bound so the planner can
+     * seek straight into an index on the keys.
+     */
+    private static Criteria after(List<String> keys, List<Object> values) {
+        List<Criteria> branches = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Criteria branch = new Criteria();
+            for (int j = 0; j < i; j++) {
+                branch = branch.and(keys.get(j)).is(values.get(j));
+            }
+            branches.add(branch.and(keys.get(i)).gt(values.get(i)));
+        }
+        if (branches.size() == 1) {
+            return branches.get(0);
+        }
+        return new Criteria().andOperator(
+                Criteria.where(keys.get(0)).gte(values.get(0)),
+                new Criteria().orOperator(branches));
+    }
+}
@@ -0,0 +1,30 @@
+package com.interview.organiser.repository;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link org.springframework.data.domain.Slice} read by keyset pagination. Carries the cursor of
+ * the next slice instead of a page number, and a total only when one was requested.
+ */
+@Getter
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+    private final String nextCursor;
+
+    private final Long totalElements;
+
+    public KeysetSlice(List<T> content, int size, String nextCursor, Long totalElements) {
+        super(content, PageRequest.ofSize(size), nextCursor != null);
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    public <U> KeysetSlice<U> mapContent(Function<List<T>, List<U>> converter) {
+        return new KeysetSlice<>(converter.apply(getContent()), getSize(), nextCursor, totalElements);
+    }
+}
@@ -0,0 +1,46 @@
+package com.interview.organiser.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Offset pagination over raw collections, the page/size counterpart of {@link KeysetPager} for
+ * reads that project fields or resolve references themselves instead of going through a repository.
+ */
+@Component
+@RequiredArgsConstructor
+public class OffsetPager {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Reads one page of mapped entities with only the given fields; all fields when empty.
+     */
+    public <T> Page<T> find(Class<T> type, Criteria filter, Pageable pageable, Collection<String> fields) {
+        return find(mongoTemplate.getCollectionName(type), filter, pageable, fields)
+                .map(document -> mongoTemplate.getConverter().read(type, document));
+    }
+
+    /**
+     * Reads one page of raw documents with only the given fields; all fields when empty.
+     * The count only runs when the page size does not already tell the total.
+     */
+    public Page<Document> find(String collection, Criteria filter, Pageable pageable, Collection<String> fields) {
+        Query query = Query.query(filter).with(pageable);
+        fields.forEach(query.fields()::include);
+        List<Document> documents = mongoTemplate.find(query, Document.class, collection);
+
+        return PageableExecutionUtils.getPage(documents, pageable,
+                () -> mongoTemplate.count(Query.query(filter), collection));
+    }
+}
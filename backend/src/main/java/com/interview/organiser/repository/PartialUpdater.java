@@ -0,0 +1,159 @@
+package com.interview.organiser.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Partial updates from Update*Request DTOs: every non-null request field is written with $set to the entity
+ * property of the same name, together with updatedAt and, for versioned entities, an increment of the @Version
+ * property, in one findAndModify. Fields the request leaves null are never rewritten, so concurrent edits of
+ * different fields do not overwrite each other. A request field named like the @Version property is not written
+ * but expected: the update then only applies while the stored version still has that value.
+ * <p>
+ * The pre-image comes back from the server and the post-image is derived from it by applying the same values,
+ * so callers that keep derived state (dashboard counters, search tokens, caches) see both sides of the change
+ * without another read. A precondition that no longer holds, such as an expected version, fails the update
+ * with {@link OptimisticLockingFailureException}; an id that does not exist gives an empty result.
+ */
+@Component
+@RequiredArgsConstructor
+public class PartialUpdater {
+
+    private static final String UPDATED_AT = "updatedAt";
+
+    private final MongoTemplate mongoTemplate;
+
+    // Instance fields of each request type, read once
+    private final Map<Class<?>, List<Field>> requestFields = new ConcurrentHashMap<>();
+
+    public Optional<Result> update(Class<?> entityType, String id, Object changes) {
+        return update(entityType, id, changes, null);
+    }
+
+    /**
+     * Applies the request's non-null fields only if the document still matches the precondition (null for none).
+     */
+    public Optional<Result> update(Class<?> entityType, String id, Object changes, Criteria precondition) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(entityType);
+
+        MongoPersistentProperty versionProperty = entity.getVersionProperty();
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        Object expectedVersion = null;
+        for (Field field : fieldsOf(changes.getClass())) {
+            Object value = read(field, changes);
+            if (value == null) {
+                continue;
+            }
+            if (versionProperty != null && field.getName().equals(versionProperty.getName())) {
+                expectedVersion = value;
+            } else {
+                values.put(field.getName(), value);
+            }
+        }
+        if (expectedVersion != null) {
+            Criteria sameVersion = Criteria.where(versionProperty.getFieldName()).is(expectedVersion);
+            precondition = precondition != null ? new Criteria().andOperator(precondition, sameVersion) : sameVersion;
+        }
+        List<String> changed = List.copyOf(values.keySet());
+        if (entity.getPersistentProperty(UPDATED_AT) != null) {
+            values.put(UPDATED_AT, LocalDateTime.now());
+        }
+
+        Update update = new Update();
+        Map<String, Object> sets = new LinkedHashMap<>();
+        values.forEach((name, value) -> {
+            MongoPersistentProperty property = entity.getPersistentProperty(name);
+            if (property == null) {
+                throw new IllegalArgumentException(changes.getClass().getSimpleName() + "." + name
+                        + " has no matching property on " + entityType.getSimpleName());
+            }
+            Object converted = mongoTemplate.getConverter().convertToMongoType(value, property.getTypeInformation());
+            update.set(property.getFieldName(), converted);
+            sets.put(property.getFieldName(), converted);
+        });
+        if (versionProperty != null) {
+            update.inc(versionProperty.getFieldName(), 1);
+        }
+
+        Criteria byId = Criteria.where("_id").is(ReferenceResolver.storedId(id));
+        Query query = Query.query(precondition != null ? new Criteria().andOperator(byId, precondition) : byId);
+        String collection = entity.getCollection();
+
+        Document before = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(false),
+                Document.class, collection);
+        if (before == null) {
+            if (precondition != null && mongoTemplate.exists(Query.query(byId), collection)) {
+                throw new OptimisticLockingFailureException(
+                        entityType.getSimpleName() + " " + id + " was changed by another request");
+            }
+            return Optional.empty();
+        }
+
+        Document after = new Document(before);
+        after.putAll(sets);
+        if (versionProperty != null) {
+            Object version = before.get(versionProperty.getFieldName());
+            after.put(versionProperty.getFieldName(), version instanceof Number number ? number.longValue() + 1 : 1L);
+        }
+        return Optional.of(new Result(before, after, changed));
+    }
+
+    /**
+     * Converts a pre- or post-image to the entity; only for entities without references to resolve.
+     */
+    public <T> T read(Class<T> entityType, Document document) {
+        return mongoTemplate.getConverter().read(entityType, document);
+    }
+
+    private List<Field> fieldsOf(Class<?> requestType) {
+        return requestFields.computeIfAbsent(requestType, type -> {
+            List<Field> fields = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return List.copyOf(fields);
+        });
+    }
+
+    private static Object read(Field field, Object target) {
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read " + field, e);
+        }
+    }
+
+    /**
+     * The document before and after the update, and the request properties that were set.
+     */
+    public record Result(Document before, Document after, List<String> changed) {
+
+        public boolean changed(String property) {
+            return changed.contains(property);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Feedback;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.model.entity.User;
+import com.interview.organiser.util.FieldSelection;
+import com.mongodb.DBRef;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the @DBRef graph of raw interview documents (candidate, interviewers and the
+ * interviewers' users) with one batched $in query per referenced collection, instead of
+ * the one-round-trip-per-reference behaviour of the default DBRef resolver.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceResolver {
+
+    public static final String INTERVIEWS = "interviews";
+    public static final String CANDIDATES = "candidates";
+    public static final String INTERVIEWERS = "interviewers";
+    public static final String USERS = "users";
+
+    // Response field names that differ from the stored field they are mapped from
+    public static final Map<String, String> INTERVIEW_FIELDS = Map.of("interviewer", "interviewers");
+    public static final Map<String, String> USER_FIELDS = Map.of("role", "roles");
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Converts raw interview documents into fully populated {@link Interview} entities.
+     * Issues at most three queries (candidates, interviewers, users) regardless of page size.
+     */
+    public List<Interview> resolveInterviews(List<Document> interviewDocuments) {
+        return resolveInterviews(interviewDocuments, FieldSelection.ALL);
+    }
+
+    /**
+     * Same as {@link #resolveInterviews(List)} for an InterviewResponse field selection: the candidate and
+     * interviewers are only looked up when selected, and then with only their selected fields.
+     */
+    public List<Interview> resolveInterviews(List<Document> interviewDocuments, FieldSelection fields) {
+        if (interviewDocuments.isEmpty()) {
+            return List.of();
+        }
+        FieldSelection candidateFields = fields.nested("candidate");
+        FieldSelection interviewerFields = fields.nested("interviewer");
+
+        Set<Object> candidateIds = new LinkedHashSet<>();
+        Set<Object> interviewerIds = new LinkedHashSet<>();
+        for (Document document : interviewDocuments) {
+            Object candidateId = refId(document.get("candidate"));
+            if (candidateId != null) {
+                candidateIds.add(candidateId);
+            }
+            for (Object ref : refList(document.get("interviewers"))) {
+                Object interviewerId = refId(ref);
+                if (interviewerId != null) {
+                    interviewerIds.add(interviewerId);
+                }
+                // InterviewResponse shows the first interviewer, so a sparse read looks up no others
+                if (!fields.isAll()) {
+                    break;
+                }
+            }
+        }
+
+        Map<Object, Candidate> candidates = candidateFields.isNone()
+                ? Map.of() : findCandidates(candidateIds, candidateFields);
+        Map<Object, Interviewer> interviewers = interviewerFields.isNone()
+                ? Map.of() : findInterviewers(interviewerIds, interviewerFields);
+
+        List<Interview> interviews = new ArrayList<>(interviewDocuments.size());
+        for (Document document : interviewDocuments) {
+            Object candidateRef = document.remove("candidate");
+            List<Object> interviewerRefs = refList(document.remove("interviewers"));
+
+            Interview interview = mongoTemplate.getConverter().read(Interview.class, document);
+            interview.setCandidate(candidates.get(refId(candidateRef)));
+
+            List<Interviewer> resolved = new ArrayList<>(interviewerRefs.size());
+            for (Object ref : interviewerRefs) {
+                Interviewer interviewer = interviewers.get(refId(ref));
+                if (interviewer != null) {
+                    resolved.add(interviewer);
+                }
+            }
+            interview.setInterviewers(resolved);
+            interviews.add(interview);
+        }
+        return interviews;
+    }
+
+    public Map<Object, Candidate> findCandidates(Collection<Object> ids) {
+        return findCandidates(ids, FieldSelection.ALL);
+    }
+
+    public Map<Object, Candidate> findCandidates(Collection<Object> ids, FieldSelection fields) {
+        Map<Object, Candidate> candidates = new HashMap<>();
+        if (ids.isEmpty()) {
+            return candidates;
+        }
+        for (Document document : findByIds(ids, CANDIDATES, fields.documentFields(Map.of()))) {
+            Object id = document.get("_id");
+            candidates.put(id, mongoTemplate.getConverter().read(Candidate.class, document));
+        }
+        return candidates;
+    }
+
+    public Map<Object, Interviewer> findInterviewers(Collection<Object> ids) {
+        return findInterviewers(ids, FieldSelection.ALL);
+    }
+
+    public Map<Object, Interviewer> findInterviewers(Collection<Object> ids, FieldSelection fields) {
+        Map<Object, Interviewer> interviewers = new HashMap<>();
+        if (ids.isEmpty()) {
+            return interviewers;
+        }
+        List<Document> documents = findByIds(ids, INTERVIEWERS, fields.documentFields(Map.of()));
+        List<Object> documentIds = documents.stream().map(document -> document.get("_id")).toList();
+        List<Interviewer> resolved = resolveInterviewers(documents, fields);
+        for (int i = 0; i < resolved.size(); i++) {
+            interviewers.put(documentIds.get(i), resolved.get(i));
+        }
+        return interviewers;
+    }
+
+    /**
+     * Converts raw interviewer documents, resolving their users with one query when the InterviewerResponse
+     * selection includes the user.
+     */
+    public List<Interviewer> resolveInterviewers(List<Document> documents, FieldSelection fields) {
+        FieldSelection userFields = fields.nested("user");
+        Set<Object> userIds = new LinkedHashSet<>();
+        for (Document document : documents) {
+            Object userId = refId(document.get("user"));
+            if (userId != null) {
+                userIds.add(userId);
+            }
+        }
+
+        Map<Object, User> users = new HashMap<>();
+        if (!userIds.isEmpty() && !userFields.isNone()) {
+            for (Document document : findByIds(userIds, USERS, userFields.documentFields(USER_FIELDS))) {
+                users.put(document.get("_id"), mongoTemplate.getConverter().read(User.class, document));
+            }
+        }
+
+        List<Interviewer> interviewers = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            Object userRef = document.remove("user");
+            Interviewer interviewer = mongoTemplate.getConverter().read(Interviewer.class, document);
+            interviewer.setUser(users.get(refId(userRef)));
+            interviewers.add(interviewer);
+        }
+        return interviewers;
+    }
+
+    /**
+     * Converts raw feedback documents, resolving their interviews (and those interviews' references) with
+     * batched queries when the FeedbackResponse selection includes the interview.
+     */
+    public List<Feedback> resolveFeedback(List<Document> documents, FieldSelection fields) {
+        FieldSelection interviewFields = fields.nested("interview");
+        Set<Object> interviewIds = new LinkedHashSet<>();
+        for (Document document : documents) {
+            Object interviewId = refId(document.get("interview"));
+            if (interviewId != null) {
+                interviewIds.add(interviewId);
+            }
+        }
+
+        Map<Object, Interview> interviews = new HashMap<>();
+        if (!interviewIds.isEmpty() && !interviewFields.isNone()) {
+            List<Document> interviewDocuments = findByIds(interviewIds, INTERVIEWS,
+                    interviewFields.documentFields(INTERVIEW_FIELDS));
+            List<Object> documentIds = interviewDocuments.stream().map(document -> document.get("_id")).toList();
+            List<Interview> resolved = resolveInterviews(interviewDocuments, interviewFields);
+            for (int i = 0; i < resolved.size(); i++) {
+                interviews.put(documentIds.get(i), resolved.get(i));
+            }
+        }
+
+        List<Feedback> feedback = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            Object interviewRef = document.remove("interview");
+            Feedback item = mongoTemplate.getConverter().read(Feedback.class, document);
+            item.setInterview(interviews.get(refId(interviewRef)));
+            feedback.add(item);
+        }
+        return feedback;
+    }
+
+    /**
+     * Finds documents by id with only the given fields, or whole documents when none are given.
+     */
+    private List<Document> findByIds(Collection<Object> ids, String collection, Collection<String> fields) {
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        fields.forEach(query.fields()::include);
+        return mongoTemplate.find(query, Document.class, collection);
+    }
+
+    /**
+     * Returns the identifier held by a stored DBRef, or null when the field is absent.
+     */
+    public static Object refId(Object ref) {
+        if (ref instanceof DBRef dbRef) {
+            return dbRef.getId();
+        }
+        return null;
+    }
+
+    /**
+     * Converts an entity id into the form it is stored under, mirroring Spring Data's
+     * String-to-ObjectId conversion so raw queries against $id match mapped documents.
+     */
+    public static Object storedId(String id) {
+        return id != null && ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> refList(Object value) {
+        return value instanceof List<?> list ? (List<Object>) list : List.of();
+    }
+}
@@ -0,0 +1,145 @@
+package com.interview.organiser.security;
+
+import com.interview.organiser.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Authenticates requests carrying a bearer token issued by {@link JwtUtil}.
+ * The principal is the user id (token subject) and the authorities are the roles embedded in the token,
+ * so no user lookup happens per request. Verified tokens are kept in a bounded LRU keyed by their
+ * signature until they expire, which skips the HMAC check and JSON parsing for repeat callers.
+ * Requests without a valid token pass through unauthenticated and are rejected by the authorization rules.
+ */
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache cache;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, int cacheSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = new VerifiedTokenCache(cacheSize);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            VerifiedToken verified = verify(header.substring(BEARER_PREFIX.length()).trim());
+            if (verified != null) {
+                UsernamePasswordAuthenticationToken authentication =
+                        UsernamePasswordAuthenticationToken.authenticated(verified.userId(), null, verified.authorities());
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private VerifiedToken verify(String token) {
+        int signatureStart = token.lastIndexOf('.');
+        if (signatureStart < 0) {
+            return null;
+        }
+        String signature = token.substring(signatureStart + 1);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = cache.get(signature);
+        // The signature only identifies the entry; the whole token must match before it is trusted
+        if (cached != null && cached.token().equals(token)) {
+            if (cached.expiresAt() > now) {
+                return cached;
+            }
+            cache.remove(signature);
+            return null;
+        }
+
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected bearer token: {}", e.getMessage());
+            return null;
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+
+        VerifiedToken verified = new VerifiedToken(token, claims.getSubject(),
+                authorities(claims.get(JwtUtil.ROLES_CLAIM, String.class)), claims.getExpiration().getTime());
+        cache.put(signature, verified);
+        return verified;
+    }
+
+    private static List<GrantedAuthority> authorities(String roles) {
+        if (roles == null || roles.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role))
+                .toList();
+    }
+
+    private record VerifiedToken(String token, String userId, List<GrantedAuthority> authorities, long expiresAt) {
+    }
+
+    /**
+     * Access-ordered LinkedHashMap that evicts the least recently used entry beyond the capacity.
+     * A capacity of zero disables caching.
+     */
+    private static final class VerifiedTokenCache {
+
+        private final int capacity;
+        private final Map<String, VerifiedToken> entries;
+
+        VerifiedTokenCache(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                    return size() > VerifiedTokenCache.this.capacity;
+                }
+            };
+        }
+
+        synchronized VerifiedToken get(String signature) {
+            return capacity > 0 ? entries.get(signature) : null;
+        }
+
+        synchronized void put(String signature, VerifiedToken token) {
+            if (capacity > 0) {
+                entries.put(signature, token);
+            }
+        }
+
+        synchronized void remove(String signature) {
+            entries.remove(signature);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.interview.organiser.service;
+
+/**
+ * Maintains the analytics_rollups collection: hourly and daily buckets of candidate, interview and feedback
+ * counters, computed by aggregation pipelines over the source collections so analytics reads never scan them.
+ */
+public interface AnalyticsRollupService {
+
+    /**
+     * Recomputes the buckets of documents updated since the last refresh; sources never refreshed are rebuilt.
+     */
+    void refresh();
+
+    /**
+     * Recomputes every bucket from the source collections and replaces the stored rollups.
+     */
+    void rebuild();
+}
@@ -0,0 +1,37 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.AnalyticsGranularity;
+import com.interview.organiser.model.dto.response.FunnelResponse;
+import com.interview.organiser.model.dto.response.InterviewVolumeResponse;
+import com.interview.organiser.model.dto.response.ResultRatesResponse;
+import com.interview.organiser.model.dto.response.TimeToHireResponse;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for hiring pipeline analytics, read from the rollups kept by {@link AnalyticsRollupService}.
+ * Date ranges are inclusive; a null recruiter id covers all recruiters.
+ */
+public interface AnalyticsService {
+
+    /**
+     * Candidate funnel of the candidates created in the range
+     */
+    FunnelResponse getFunnel(String recruiterId, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Time from a candidate's creation to the interview that selected them, for interviews held in the range
+     */
+    TimeToHireResponse getTimeToHire(String recruiterId, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Interviews per recruiter and hour, day or week, by scheduled time
+     */
+    InterviewVolumeResponse getInterviewVolume(String recruiterId, AnalyticsGranularity granularity,
+                                               LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Result rates, feedback ratings and recommendations per interview round
+     */
+    ResultRatesResponse getResultRates(String recruiterId, LocalDate fromDate, LocalDate toDate);
+}
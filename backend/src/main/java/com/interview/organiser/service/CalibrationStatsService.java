@@ -0,0 +1,53 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.InterviewResult;
+import com.interview.organiser.model.dto.response.CalibrationResponse;
+import com.interview.organiser.model.entity.Feedback;
+import com.interview.organiser.service.DashboardStatsService.Snapshot;
+import org.bson.Document;
+
+import java.util.List;
+
+/**
+ * Maintains the materialised calibration_stats counters: score histograms, recommendation counts and
+ * recommendation x interview result counts over all feedback, per interviewer and per candidate position.
+ * Writes pass the {@link Snapshot} of a feedback before and after a change to {@link #recordChange}, like the
+ * dashboard counters, so reads never scan feedback.
+ */
+public interface CalibrationStatsService {
+
+    Snapshot snapshot(Feedback feedback);
+
+    /**
+     * Snapshot of a raw feedback document, e.g. the before and after images of a partial update.
+     */
+    Snapshot snapshot(Document feedback);
+
+    /**
+     * Applies the counter difference between two snapshots; use {@link Snapshot#EMPTY} for creations and deletions.
+     */
+    void recordChange(Snapshot before, Snapshot after);
+
+    /**
+     * Copies a result marked on an interview to its feedback and moves their outcome counters.
+     */
+    void recordResult(String interviewId, InterviewResult result);
+
+    /**
+     * Recomputes every counter in one streaming pass over feedback and corrects the stored documents through
+     * {@link com.interview.organiser.repository.CounterReconciler}, keeping updates made during the pass.
+     */
+    void reconcile();
+
+    CalibrationResponse getInterviewerCalibration(String interviewerId);
+
+    /**
+     * Interviewers with at least the given amount of feedback, harshest rating first
+     */
+    List<CalibrationResponse> getInterviewerCalibrations(int minFeedback);
+
+    /**
+     * Positions with at least the given amount of feedback, harshest rating first
+     */
+    List<CalibrationResponse> getPositionCalibrations(int minFeedback);
+}
@@ -2,17 +2,26 @@ package com.interview.organiser.service;
 
 import com.interview.organiser.constants.enums.CandidateStatus;
 import com.interview.organiser.model.dto.request.CreateCandidateRequest;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.InviteCandidateRequest;
 import com.interview.organiser.model.dto.request.RespondToInvitationRequest;
 import com.interview.organiser.model.dto.request.UpdateCandidateRequest;
 import com.interview.organiser.model.dto.response.CandidateResponse;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
+import com.interview.organiser.util.FieldSelection;
 import org.springframework.data.domain.Pageable;
 
 public interface CandidateService {
 
-    PageResponse<CandidateResponse> getAllCandidates(CandidateStatus status, String search, Pageable pageable);
+    /**
+     * Offset page of candidates; a search page is only counted when includeTotal is set, other listings always are
+     */
+    PageResponse<CandidateResponse> getAllCandidates(CandidateStatus status, String search, Pageable pageable,
+                                                     boolean includeTotal, FieldSelection fields);
+
+    PageResponse<CandidateResponse> getAllCandidates(CandidateStatus status, String search,
+                                                     CursorPageRequest cursorRequest, FieldSelection fields);
 
     CandidateResponse createCandidate(CreateCandidateRequest request);
 
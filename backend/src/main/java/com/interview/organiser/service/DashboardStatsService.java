@@ -0,0 +1,88 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.DashboardStats;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.Recruiter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maintains the materialised dashboard_stats counters.
+ * Callers take a {@link Snapshot} of an entity's contribution before changing it and pass it to
+ * {@link #recordChange} together with the snapshot after the change; only the difference is applied,
+ * atomically with $inc, so dashboards never have to count source collections.
+ */
+public interface DashboardStatsService {
+
+    Snapshot snapshot(Interview interview);
+
+    Snapshot snapshot(Candidate candidate);
+
+    Snapshot snapshot(Recruiter recruiter);
+
+    /**
+     * Applies the counter difference between two snapshots; use {@link Snapshot#EMPTY} for creations and deletions.
+     */
+    void recordChange(Snapshot before, Snapshot after);
+
+    void increment(String scope, String counter, long delta);
+
+    /**
+     * Reads the stats documents of the given scopes in a single query. Missing scopes map to empty stats.
+     */
+    Map<String, DashboardStats> getStats(String... scopes);
+
+    /**
+     * Recounts every counter from the source collections and corrects the stored documents that are off,
+     * leaving scopes updated during the recount to the next run (see CounterReconciler).
+     */
+    void reconcile();
+
+    /**
+     * Counter contributions of one entity, keyed by scope then counter name.
+     */
+    final class Snapshot {
+
+        public static final Snapshot EMPTY = new Snapshot(Collections.emptyMap());
+
+        private final Map<String, Map<String, Long>> counters;
+
+        public Snapshot() {
+            this(new HashMap<>());
+        }
+
+        private Snapshot(Map<String, Map<String, Long>> counters) {
+            this.counters = counters;
+        }
+
+        public Snapshot add(String scope, String counter, long delta) {
+            counters.computeIfAbsent(scope, key -> new HashMap<>()).merge(counter, delta, Long::sum);
+            return this;
+        }
+
+        public Snapshot addAll(Snapshot other) {
+            other.counters.forEach((scope, values) ->
+                    values.forEach((counter, delta) -> add(scope, counter, delta)));
+            return this;
+        }
+
+        public Map<String, Map<String, Long>> counters() {
+            return Collections.unmodifiableMap(counters);
+        }
+
+        /**
+         * Returns after - before for every counter, dropping counters that did not change.
+         */
+        public static Snapshot difference(Snapshot before, Snapshot after) {
+            Snapshot delta = new Snapshot().addAll(after);
+            before.counters.forEach((scope, values) ->
+                    values.forEach((counter, value) -> delta.add(scope, counter, -value)));
+            delta.counters.values().forEach(values -> values.values().removeIf(value -> value == 0));
+            delta.counters.values().removeIf(Map::isEmpty);
+            return delta;
+        }
+    }
+}
@@ -1,15 +1,29 @@
 package com.interview.organiser.service;
 
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.SubmitFeedbackRequest;
 import com.interview.organiser.model.dto.request.UpdateFeedbackRequest;
 import com.interview.organiser.model.dto.response.FeedbackResponse;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
+import com.interview.organiser.util.FieldSelection;
 import org.springframework.data.domain.Pageable;
 
+import java.util.stream.Stream;
+
 public interface FeedbackService {
 
-    PageResponse<FeedbackResponse> getAllFeedback(String interviewId, String candidateId, String interviewerId, Pageable pageable);
+    PageResponse<FeedbackResponse> getAllFeedback(String interviewId, String candidateId, String interviewerId,
+                                                  Pageable pageable, FieldSelection fields);
+
+    PageResponse<FeedbackResponse> getAllFeedback(String interviewId, String candidateId, String interviewerId,
+                                                  CursorPageRequest cursorRequest, FieldSelection fields);
+
+    /**
+     * Every matching feedback in the cursor order, read lazily; the caller closes the stream.
+     */
+    Stream<FeedbackResponse> streamFeedback(String interviewId, String candidateId, String interviewerId,
+                                            FieldSelection fields);
 
     FeedbackResponse submitFeedback(SubmitFeedbackRequest request);
 
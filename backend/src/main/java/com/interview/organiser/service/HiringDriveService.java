@@ -0,0 +1,14 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.model.dto.request.HiringDriveRequest;
+import com.interview.organiser.model.dto.response.HiringDriveResponse;
+
+public interface HiringDriveService {
+
+    /**
+     * Plans a hiring drive: places every candidate's rounds into working-hour slots of the window, each with a
+     * panel of free interviewers and within the per-day cap, and unless it is a dry run schedules the plan
+     * through the bulk scheduling path. The same inputs and bookings always produce the same plan.
+     */
+    HiringDriveResponse planDrive(HiringDriveRequest request);
+}
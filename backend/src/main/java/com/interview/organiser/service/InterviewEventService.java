@@ -0,0 +1,26 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.InterviewEventType;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.InterviewEvent;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends interview lifecycle events to the interview_events outbox.
+ * Call from inside the ConflictRetry attempt that performs the transition, so the event is committed
+ * together with the state change when Mongo transactions are enabled.
+ */
+public interface InterviewEventService {
+
+    InterviewEvent append(InterviewEventType type, Interview interview, Map<String, Object> data);
+
+    InterviewEvent append(InterviewEventType type, Candidate candidate, Map<String, Object> data);
+
+    /**
+     * Appends one event per interview, reserving their sequence numbers with a single counter update.
+     */
+    List<InterviewEvent> appendAll(InterviewEventType type, List<Interview> interviews);
+}
@@ -0,0 +1,13 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.model.entity.InterviewEvent;
+
+/**
+ * In-process consumer of the interview event feed. Beans implementing this interface are registered
+ * with InterviewEventTailer automatically; events arrive in seq order on the tailer's thread.
+ */
+@FunctionalInterface
+public interface InterviewEventSubscriber {
+
+    void onEvent(InterviewEvent event);
+}
@@ -2,20 +2,46 @@ package com.interview.organiser.service;
 
 import com.interview.organiser.constants.enums.InterviewStatus;
 import com.interview.organiser.model.dto.request.*;
+import com.interview.organiser.model.dto.response.BulkScheduleInterviewResponse;
 import com.interview.organiser.model.dto.response.InterviewResponse;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
+import com.interview.organiser.util.FieldSelection;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
 public interface InterviewService {
 
     PageResponse<InterviewResponse> getAllInterviews(InterviewStatus status, String candidateId, String interviewerId,
-                                                       LocalDateTime fromDate, LocalDateTime toDate, Pageable pageable);
+                                                       LocalDateTime fromDate, LocalDateTime toDate, Pageable pageable,
+                                                       FieldSelection fields);
+
+    PageResponse<InterviewResponse> getAllInterviews(InterviewStatus status, String candidateId, String interviewerId,
+                                                       LocalDateTime fromDate, LocalDateTime toDate,
+                                                       CursorPageRequest cursorRequest, FieldSelection fields);
+
+    /**
+     * Every matching interview in the cursor order, read lazily; the caller closes the stream.
+     */
+    Stream<InterviewResponse> streamInterviews(InterviewStatus status, String candidateId, String interviewerId,
+                                               LocalDateTime fromDate, LocalDateTime toDate, FieldSelection fields);
 
     InterviewResponse scheduleInterview(ScheduleInterviewRequest request);
 
+    /**
+     * Schedules many interviews at once; items whose candidate or interviewers do not exist are reported as
+     * failed without affecting the others.
+     */
+    BulkScheduleInterviewResponse scheduleInterviews(BulkScheduleInterviewRequest request);
+
+    /**
+     * Same, optionally all or nothing per candidate: when wholeCandidates is set and any item of a candidate
+     * fails, none of that candidate's interviews is scheduled and their other items are reported as failed too.
+     */
+    BulkScheduleInterviewResponse scheduleInterviews(BulkScheduleInterviewRequest request, boolean wholeCandidates);
+
     InterviewResponse getInterviewById(String interviewId);
 
     InterviewResponse updateInterview(String interviewId, UpdateInterviewRequest request);
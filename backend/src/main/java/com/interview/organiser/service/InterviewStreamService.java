@@ -0,0 +1,16 @@
+package com.interview.organiser.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes interview events to clients over Server-Sent Events as they arrive on the interview event feed.
+ */
+public interface InterviewStreamService {
+
+    /**
+     * Opens a stream of the events matching every given filter; null filters match all events.
+     * With a Last-Event-ID the events after it are replayed first, or a resync event is sent when
+     * they are no longer buffered and the client has to reload instead.
+     */
+    SseEmitter subscribe(String recruiterId, String interviewerId, String candidateId, String lastEventId);
+}
@@ -0,0 +1,21 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.TimelineEntryType;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
+import com.interview.organiser.model.dto.response.InterviewTimelineEntryResponse;
+import com.interview.organiser.model.dto.response.PageResponse;
+import com.interview.organiser.model.entity.InterviewTimelineEntry;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Notes on an interview, kept as insert-only entries in interview_timeline instead of a growing notes string.
+ * Call append from the service method that makes the change, after its write succeeded.
+ */
+public interface InterviewTimelineService {
+
+    InterviewTimelineEntry append(String interviewId, TimelineEntryType type, String text);
+
+    PageResponse<InterviewTimelineEntryResponse> getTimeline(String interviewId, Pageable pageable);
+
+    PageResponse<InterviewTimelineEntryResponse> getTimeline(String interviewId, CursorPageRequest cursorRequest);
+}
@@ -0,0 +1,50 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.model.entity.Interview;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * In-memory busy calendar of every interviewer, built from the [scheduledAt, scheduledAt + duration) slots
+ * of their non-cancelled interviews and kept in one interval tree per interviewer, so availability checks
+ * take logarithmic time. The calendar is rebuilt from MongoDB on startup and nightly; between rebuilds it
+ * books changes made through this instance at once and follows the interview event feed for changes made
+ * through other instances.
+ */
+public interface InterviewerCalendarService {
+
+    boolean isFree(String interviewerId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the subset of the given interviewers that have no interview overlapping [from, to), in input order.
+     */
+    List<String> freeInterviewers(Collection<String> interviewerIds, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Reserves the interview's slot for its interviewers, replacing any earlier slot of the same interview.
+     * The interview must already have its id. Check and reservation are atomic, so concurrent bookings of
+     * the same slot cannot both succeed; inside a transaction the reservation is undone on rollback.
+     *
+     * @throws com.interview.organiser.exception.SchedulingConflictException if an interviewer is busy
+     */
+    void book(Interview interview);
+
+    /**
+     * Books the interview's slot, then runs the write that persists it; the previous slot is restored if the write fails.
+     */
+    <T> T book(Interview interview, Supplier<T> write);
+
+    /**
+     * Frees the interview's slot, e.g. when it is cancelled.
+     */
+    void release(String interviewId);
+
+    /**
+     * Replaces the calendar with the slots of all current and upcoming non-cancelled interviews. Bookings and
+     * releases made while the interviews are read are replayed onto the new calendar, so none is lost.
+     */
+    void rebuild();
+}
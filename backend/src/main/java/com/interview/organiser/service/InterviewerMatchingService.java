@@ -0,0 +1,37 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.model.dto.response.InterviewerMatchResponse;
+import com.interview.organiser.model.entity.Interviewer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Proposes interviewers for a candidate from an in-memory inverted index of expertise to interviewer ids.
+ * Interviewers are ranked by the share of the candidate's skills they cover, their years of experience and
+ * their current interview load; unavailable interviewers and, when a window is given, interviewers with an
+ * overlapping booking are left out. The index is rebuilt on startup and nightly and kept current by the
+ * interviewer and workload services in between.
+ */
+public interface InterviewerMatchingService {
+
+    /**
+     * Returns at most {@code limit} interviewers, best match first. {@code from} and {@code to} are optional
+     * but must be given together.
+     */
+    List<InterviewerMatchResponse> matchInterviewers(String candidateId, LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * Adds or replaces the interviewer's entry after it was created or changed.
+     */
+    void index(Interviewer interviewer);
+
+    void remove(String interviewerId);
+
+    /**
+     * Mirrors a change of the interviewer's totalInterviews.
+     */
+    void adjustLoad(String interviewerId, int delta);
+
+    void rebuild();
+}
@@ -1,16 +1,22 @@
 package com.interview.organiser.service;
 
 import com.interview.organiser.model.dto.request.CreateInterviewerRequest;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.InviteInterviewerRequest;
 import com.interview.organiser.model.dto.request.UpdateInterviewerRequest;
 import com.interview.organiser.model.dto.response.InterviewerResponse;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
+import com.interview.organiser.util.FieldSelection;
 import org.springframework.data.domain.Pageable;
 
 public interface InterviewerService {
 
-    PageResponse<InterviewerResponse> getAllInterviewers(String expertise, Boolean available, Pageable pageable);
+    PageResponse<InterviewerResponse> getAllInterviewers(String expertise, Boolean available, Pageable pageable,
+                                                         FieldSelection fields);
+
+    PageResponse<InterviewerResponse> getAllInterviewers(String expertise, Boolean available,
+                                                         CursorPageRequest cursorRequest, FieldSelection fields);
 
     InterviewerResponse createInterviewer(CreateInterviewerRequest request);
 
@@ -0,0 +1,23 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.model.entity.Interviewer;
+
+import java.util.List;
+
+/**
+ * Maintains Interviewer.totalInterviews, the number of non-cancelled interviews assigned to an interviewer.
+ * Counters are changed with $inc on the stored document, never by saving a loaded copy, so concurrent
+ * scheduling cannot lose updates. The given instances are updated to match, for building responses.
+ */
+public interface InterviewerWorkloadService {
+
+    /**
+     * Adds one interview per occurrence of an interviewer in the list.
+     */
+    void recordScheduled(List<Interviewer> interviewers);
+
+    /**
+     * Removes one interview per occurrence of an interviewer in the list; counters never drop below zero.
+     */
+    void recordCancelled(List<Interviewer> interviewers);
+}
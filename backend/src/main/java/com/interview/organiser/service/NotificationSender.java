@@ -0,0 +1,15 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.model.entity.Notification;
+
+import java.util.List;
+
+/**
+ * Delivery channel used by NotificationDispatcher. Receives every due notification of one recipient
+ * in a single call, so a channel can send them as one digest. Throwing marks the whole batch for retry.
+ * The implementation is selected with {@code app.notifications.sender} (log or file).
+ */
+public interface NotificationSender {
+
+    void send(String recipient, List<Notification> notifications) throws Exception;
+}
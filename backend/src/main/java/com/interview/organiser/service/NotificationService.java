@@ -8,7 +8,8 @@ import java.util.List;
 
 /**
  * Service interface for handling all notification operations.
- * This is a mock service that logs notifications instead of sending actual emails/SMS.
+ * Implementations only record the notification in the outbox; delivery happens asynchronously
+ * in NotificationDispatcher through the configured NotificationSender.
  */
 public interface NotificationService {
 
@@ -2,6 +2,7 @@ package com.interview.organiser.service;
 
 import com.interview.organiser.constants.enums.VerificationStatus;
 import com.interview.organiser.model.dto.request.CreateRecruiterRequest;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.UpdateRecruiterRequest;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.RecruiterResponse;
@@ -16,6 +17,8 @@ public interface RecruiterService {
 
     PageResponse<RecruiterResponse> getAllRecruiters(VerificationStatus status, Boolean isActive, Pageable pageable);
 
+    PageResponse<RecruiterResponse> getAllRecruiters(VerificationStatus status, Boolean isActive, CursorPageRequest cursorRequest);
+
     RecruiterResponse updateRecruiter(String recruiterId, UpdateRecruiterRequest request);
 
     RecruiterResponse verifyRecruiter(String recruiterId);
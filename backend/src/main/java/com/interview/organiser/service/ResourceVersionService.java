@@ -0,0 +1,48 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
+import com.interview.organiser.util.FieldSelection;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Versions of API representations for conditional GETs. A version covers the updatedAt and version of every
+ * document the response is built from (an interview, its candidate, its interviewers and their users) and is
+ * read with projections of _id, updatedAt, version and references only, without resolving or mapping entities.
+ * A version is empty when the resource does not exist or a document in it has no updatedAt.
+ */
+public interface ResourceVersionService {
+
+    Optional<Version> getInterviewVersion(String interviewId);
+
+    /**
+     * The field selection shapes the body, so it is part of the version.
+     */
+    Optional<Version> getInterviewsVersion(InterviewStatus status, String candidateId, String interviewerId,
+                                           LocalDateTime fromDate, LocalDateTime toDate, Pageable pageable,
+                                           FieldSelection fields);
+
+    Optional<Version> getInterviewsVersion(InterviewStatus status, String candidateId, String interviewerId,
+                                           LocalDateTime fromDate, LocalDateTime toDate,
+                                           CursorPageRequest cursorRequest, FieldSelection fields);
+
+    Optional<Version> getFeedbackVersion(String feedbackId);
+
+    Optional<Version> getCandidateVersion(String candidateId);
+
+    Optional<Version> getInterviewerVersion(String interviewerId);
+
+    Optional<Version> getRecruiterVersion(String recruiterId);
+
+    Optional<Version> getUserVersion(String userId);
+
+    /**
+     * @param etag         strong entity tag, quoted
+     * @param lastModified latest updatedAt in epoch milliseconds
+     */
+    record Version(String etag, long lastModified) {
+    }
+}
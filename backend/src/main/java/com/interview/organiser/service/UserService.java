@@ -1,6 +1,7 @@
 package com.interview.organiser.service;
 
 import com.interview.organiser.constants.enums.UserRole;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.UpdateUserRequest;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
@@ -11,6 +12,8 @@ public interface UserService {
 
     PageResponse<UserResponse> getAllUsers(UserRole role, Pageable pageable);
 
+    PageResponse<UserResponse> getAllUsers(UserRole role, CursorPageRequest cursorRequest);
+
     UserResponse getUserById(String userId);
 
     UserResponse updateUser(String userId, UpdateUserRequest request);
@@ -0,0 +1,445 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.constants.AnalyticsRollups;
+import com.interview.organiser.constants.enums.AnalyticsGranularity;
+import com.interview.organiser.constants.enums.InterviewResult;
+import com.interview.organiser.model.entity.AnalyticsRollup;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Feedback;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.service.AnalyticsRollupService;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Rolls the source collections up into hourly and daily buckets per recruiter (and round). Candidates are
+ * bucketed by creation time, interviews by scheduled time and feedback by submission time.
+ * <p>
+ * A refresh finds the documents updated since the source's watermark, recomputes every hour and day bucket
+ * they fall in with one aggregation per batch of contiguous ranges, and replaces those buckets. Recomputing
+ * whole buckets rather than applying deltas keeps a refresh idempotent, so the watermark trails the refresh
+ * start by {@code app.analytics.watermark-lag-ms} to pick up writes that were in flight. Interviews can move
+ * to another bucket when rescheduled; the hour each was last counted in is kept in analytics_interview_buckets
+ * so the bucket it left is recomputed too. Deleted documents are only dropped by the scheduled rebuild.
+ */
+@Slf4j
+@Service
+public class AnalyticsRollupServiceImpl implements AnalyticsRollupService {
+
+    private static final int WRITE_BATCH_SIZE = 500;
+    private static final int RANGES_PER_AGGREGATION = 50;
+    private static final int ID_BATCH_SIZE = 1000;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    // Mongo takes Olson ids and "+hh:mm" offsets, but not "Z"
+    private static final String TIMEZONE = ZONE.equals(ZoneOffset.UTC) ? "+00:00" : ZONE.getId();
+
+    private static final List<Source> SOURCES = List.of(
+            new Source(AnalyticsRollups.CANDIDATES, Candidate.class, "createdAt", false),
+            new Source(AnalyticsRollups.INTERVIEWS, Interview.class, "scheduledAt", true),
+            new Source(AnalyticsRollups.FEEDBACK, Feedback.class, "submittedAt", false));
+
+    private final MongoTemplate mongoTemplate;
+    private final long watermarkLagMs;
+
+    public AnalyticsRollupServiceImpl(MongoTemplate mongoTemplate,
+                                      @Value("${app.analytics.watermark-lag-ms:60000}") long watermarkLagMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.watermarkLagMs = Math.max(watermarkLagMs, 0);
+    }
+
+    @Override
+    public void refresh() {
+        for (Source source : SOURCES) {
+            LocalDateTime watermark = readWatermark(source);
+            if (watermark == null) {
+                rebuild(source);
+            } else {
+                refresh(source, watermark);
+            }
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        SOURCES.forEach(this::rebuild);
+    }
+
+    private void refresh(Source source, LocalDateTime watermark) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Query changed = Query.query(Criteria.where("updatedAt").gte(date(watermark)));
+        changed.fields().include(source.bucketField());
+
+        NavigableSet<LocalDateTime> hours = new TreeSet<>();
+        Map<Object, LocalDateTime> countedIn = new HashMap<>();
+        try (Stream<Document> documents = mongoTemplate.stream(changed, Document.class, collection(source))) {
+            documents.forEach(document -> {
+                LocalDateTime hour = hour(document.getDate(source.bucketField()));
+                if (hour != null) {
+                    hours.add(hour);
+                }
+                if (source.movable()) {
+                    countedIn.put(document.get("_id"), hour);
+                }
+            });
+        }
+        if (source.movable()) {
+            // A rescheduled interview also has to leave the bucket it was counted in
+            hours.addAll(previousHours(countedIn.keySet()));
+        }
+
+        if (!hours.isEmpty()) {
+            NavigableSet<LocalDateTime> days = hours.stream()
+                    .map(hour -> hour.truncatedTo(ChronoUnit.DAYS))
+                    .collect(Collectors.toCollection(TreeSet::new));
+            for (List<Range> batch : batches(ranges(hours, Duration.ofHours(1)))) {
+                write(source, AnalyticsGranularity.HOUR, batch, startedAt);
+            }
+            for (List<Range> batch : batches(ranges(days, Duration.ofDays(1)))) {
+                write(source, AnalyticsGranularity.DAY, batch, startedAt);
+            }
+            recordHours(countedIn, startedAt);
+            log.info("Refreshed {} analytics rollups: {} hours, {} days", source.metric(), hours.size(), days.size());
+        }
+        writeWatermark(source, startedAt);
+    }
+
+    private void rebuild(Source source) {
+        log.info("Rebuilding {} analytics rollups", source.metric());
+        LocalDateTime startedAt = LocalDateTime.now();
+        write(source, AnalyticsGranularity.HOUR, null, startedAt);
+        write(source, AnalyticsGranularity.DAY, null, startedAt);
+
+        if (source.movable()) {
+            Query all = new Query();
+            all.fields().include(source.bucketField());
+            Map<Object, LocalDateTime> countedIn = new HashMap<>();
+            try (Stream<Document> documents = mongoTemplate.stream(all, Document.class, collection(source))) {
+                documents.forEach(document -> {
+                    countedIn.put(document.get("_id"), hour(document.getDate(source.bucketField())));
+                    if (countedIn.size() == WRITE_BATCH_SIZE) {
+                        recordHours(countedIn, startedAt);
+                        countedIn.clear();
+                    }
+                });
+            }
+            recordHours(countedIn, startedAt);
+            mongoTemplate.remove(Query.query(Criteria.where("updatedAt").lt(date(startedAt))),
+                    AnalyticsRollups.INTERVIEW_BUCKETS);
+        }
+        writeWatermark(source, startedAt);
+    }
+
+    /**
+     * Recomputes the buckets of one granularity within the ranges (all buckets if null) and replaces them.
+     */
+    private void write(Source source, AnalyticsGranularity granularity, List<Range> ranges, LocalDateTime startedAt) {
+        Criteria match = Criteria.where(source.bucketField()).ne(null);
+        Criteria stored = Criteria.where("granularity").is(granularity).and("metric").is(source.metric())
+                .and("updatedAt").lt(startedAt);
+        if (ranges != null) {
+            match = new Criteria().orOperator(ranges.stream()
+                    .map(range -> Criteria.where(source.bucketField()).gte(date(range.start())).lt(date(range.end())))
+                    .toList());
+            stored = stored.orOperator(ranges.stream()
+                    .map(range -> Criteria.where("bucket").gte(range.start()).lt(range.end()))
+                    .toList());
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AnalyticsRollup.class);
+        int pending = 0;
+        AnalyticsRollup current = null;
+        try (Stream<Document> rows = mongoTemplate.aggregateStream(pipeline(source, granularity, match),
+                collection(source), Document.class)) {
+            for (Document row : (Iterable<Document>) rows::iterator) {
+                Document key = row.get("_id", Document.class);
+                AnalyticsRollup rollup = AnalyticsRollup.builder()
+                        .granularity(granularity)
+                        .metric(source.metric())
+                        .bucket(LocalDateTime.ofInstant(key.getDate("bucket").toInstant(), ZONE))
+                        .recruiterId(key.getString("recruiterId"))
+                        .round(key.get("round") instanceof Number round ? round.intValue() : null)
+                        .build();
+                rollup.setId(rollupId(rollup));
+                // Rows are sorted by bucket, recruiter and round, so the rows of one rollup are adjacent
+                if (current == null || !current.getId().equals(rollup.getId())) {
+                    if (current != null) {
+                        upsert(bulk, current, startedAt);
+                        if (++pending == WRITE_BATCH_SIZE) {
+                            bulk.execute();
+                            bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AnalyticsRollup.class);
+                            pending = 0;
+                        }
+                    }
+                    current = rollup;
+                }
+                addCounters(source, row, current.getCounters());
+            }
+        }
+        if (current != null) {
+            upsert(bulk, current, startedAt);
+            pending++;
+        }
+        if (pending > 0) {
+            bulk.execute();
+        }
+        // Buckets of these ranges that no longer have any source documents
+        mongoTemplate.remove(Query.query(stored), AnalyticsRollup.class);
+    }
+
+    private void upsert(BulkOperations bulk, AnalyticsRollup rollup, LocalDateTime startedAt) {
+        bulk.upsert(Query.query(Criteria.where("_id").is(rollup.getId())), new Update()
+                .set("granularity", rollup.getGranularity())
+                .set("metric", rollup.getMetric())
+                .set("bucket", rollup.getBucket())
+                .set("recruiterId", rollup.getRecruiterId())
+                .set("round", rollup.getRound())
+                .set("counters", rollup.getCounters())
+                .set("updatedAt", LocalDateTime.now()));
+    }
+
+    private Aggregation pipeline(Source source, AnalyticsGranularity granularity, Criteria match) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        operations.add(Aggregation.match(match));
+        Document key = new Document("bucket", bucket(source.bucketField(), granularity));
+        Document group = new Document(AnalyticsRollups.COUNT, new Document("$sum", 1));
+
+        switch (source.metric()) {
+            case AnalyticsRollups.CANDIDATES -> key.append("recruiterId", "$recruiterId").append("status", "$status");
+            case AnalyticsRollups.INTERVIEWS -> {
+                // Only selecting interviews need the candidate, for the time to hire; a null id matches nothing
+                Document selected = new Document("$eq", List.of("$result", InterviewResult.SELECTED.name()));
+                operations.add(stage("$addFields", new Document("candidateId", new Document("$cond",
+                        Arrays.asList(selected, refId("candidate"), null)))));
+                operations.add(stage("$lookup", new Document("from", mongoTemplate.getCollectionName(Candidate.class))
+                        .append("localField", "candidateId").append("foreignField", "_id").append("as", "hired")));
+                operations.add(stage("$addFields", new Document("appliedAt",
+                        new Document("$arrayElemAt", List.of("$hired.createdAt", 0)))));
+                key.append("recruiterId", "$recruiterId").append("round", "$round")
+                        .append("status", "$status").append("result", "$result");
+                Document timed = new Document("$and", List.of(selected,
+                        new Document("$gt", Arrays.asList("$appliedAt", null))));
+                group.append(AnalyticsRollups.TIMED_HIRES, new Document("$sum",
+                                new Document("$cond", List.of(timed, 1, 0))))
+                        .append(AnalyticsRollups.HIRE_MINUTES, new Document("$sum", new Document("$cond", List.of(
+                                timed,
+                                new Document("$divide", List.of(
+                                        new Document("$subtract", List.of("$scheduledAt", "$appliedAt")), 60000)),
+                                0))));
+            }
+            case AnalyticsRollups.FEEDBACK -> {
+                // Recruiter and round come from the interview the feedback is for
+                operations.add(stage("$addFields", new Document("interviewId", refId("interview"))));
+                operations.add(stage("$lookup", new Document("from", mongoTemplate.getCollectionName(Interview.class))
+                        .append("localField", "interviewId").append("foreignField", "_id")
+                        .append("as", "interviewed")));
+                key.append("recruiterId", new Document("$arrayElemAt", List.of("$interviewed.recruiterId", 0)))
+                        .append("round", new Document("$arrayElemAt", List.of("$interviewed.round", 0)))
+                        .append("recommendation", "$recommendation");
+                Document rated = new Document("$gt", Arrays.asList("$rating", null));
+                group.append(AnalyticsRollups.RATED, new Document("$sum", new Document("$cond", List.of(rated, 1, 0))))
+                        .append(AnalyticsRollups.RATING_SUM, new Document("$sum",
+                                new Document("$ifNull", List.of("$rating", 0))));
+            }
+            default -> throw new IllegalStateException("Unknown analytics source: " + source.metric());
+        }
+
+        Document grouped = new Document("_id", key);
+        grouped.putAll(group);
+        operations.add(stage("$group", grouped));
+        operations.add(stage("$sort", new Document("_id.bucket", 1).append("_id.recruiterId", 1)
+                .append("_id.round", 1)));
+        return Aggregation.newAggregation(operations)
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+    }
+
+    /**
+     * Adds the counters of one group row; rows are split further than rollups (by status, result ...).
+     */
+    private static void addCounters(Source source, Document row, Map<String, Long> counters) {
+        long count = number(row.get(AnalyticsRollups.COUNT));
+        counters.merge(AnalyticsRollups.COUNT, count, Long::sum);
+        Document key = row.get("_id", Document.class);
+        switch (source.metric()) {
+            case AnalyticsRollups.CANDIDATES ->
+                    addCount(counters, AnalyticsRollups.STATUS_PREFIX, key, "status", count);
+            case AnalyticsRollups.INTERVIEWS -> {
+                addCount(counters, AnalyticsRollups.STATUS_PREFIX, key, "status", count);
+                addCount(counters, AnalyticsRollups.RESULT_PREFIX, key, "result", count);
+                if (InterviewResult.SELECTED.name().equals(key.getString("result"))) {
+                    counters.merge(AnalyticsRollups.HIRES, count, Long::sum);
+                }
+                addSum(counters, AnalyticsRollups.TIMED_HIRES, row);
+                addSum(counters, AnalyticsRollups.HIRE_MINUTES, row);
+            }
+            case AnalyticsRollups.FEEDBACK -> {
+                addCount(counters, AnalyticsRollups.RECOMMENDATION_PREFIX, key, "recommendation", count);
+                addSum(counters, AnalyticsRollups.RATED, row);
+                addSum(counters, AnalyticsRollups.RATING_SUM, row);
+            }
+            default -> throw new IllegalStateException("Unknown analytics source: " + source.metric());
+        }
+        counters.values().removeIf(value -> value == 0);
+    }
+
+    private static void addCount(Map<String, Long> counters, String prefix, Document key, String field, long count) {
+        String value = key.getString(field);
+        if (value != null) {
+            counters.merge(prefix + value, count, Long::sum);
+        }
+    }
+
+    private static void addSum(Map<String, Long> counters, String counter, Document row) {
+        counters.merge(counter, number(row.get(counter)), Long::sum);
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number number ? Math.round(number.doubleValue()) : 0L;
+    }
+
+    /**
+     * Start of the local hour or day of a date field, computed by Mongo in the application's time zone.
+     */
+    private static Document bucket(String field, AnalyticsGranularity granularity) {
+        Document parts = new Document("year", "$$parts.year").append("month", "$$parts.month")
+                .append("day", "$$parts.day")
+                .append("hour", granularity == AnalyticsGranularity.HOUR ? "$$parts.hour" : 0)
+                .append("timezone", TIMEZONE);
+        return new Document("$let", new Document("vars", new Document("parts",
+                new Document("$dateToParts", new Document("date", "$" + field).append("timezone", TIMEZONE))))
+                .append("in", new Document("$dateFromParts", parts)));
+    }
+
+    /**
+     * The id of a DBRef field. Field paths cannot address "$id", so it is read as the second entry of the
+     * reference, which is always stored as {$ref, $id}.
+     */
+    private static Document refId(String field) {
+        return new Document("$let", new Document("vars", new Document("ref",
+                new Document("$arrayElemAt", List.of(new Document("$objectToArray", "$" + field), 1))))
+                .append("in", "$$ref.v"));
+    }
+
+    private static AggregationOperation stage(String name, Document body) {
+        return context -> new Document(name, body);
+    }
+
+    private Set<LocalDateTime> previousHours(Set<Object> ids) {
+        Set<LocalDateTime> hours = new TreeSet<>();
+        List<Object> batch = new ArrayList<>(ids);
+        for (int from = 0; from < batch.size(); from += ID_BATCH_SIZE) {
+            Query query = Query.query(Criteria.where("_id").in(batch.subList(from,
+                    Math.min(from + ID_BATCH_SIZE, batch.size()))));
+            for (Document document : mongoTemplate.find(query, Document.class, AnalyticsRollups.INTERVIEW_BUCKETS)) {
+                LocalDateTime hour = hour(document.getDate("bucket"));
+                if (hour != null) {
+                    hours.add(hour);
+                }
+            }
+        }
+        return hours;
+    }
+
+    private void recordHours(Map<Object, LocalDateTime> countedIn, LocalDateTime startedAt) {
+        if (countedIn.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                AnalyticsRollups.INTERVIEW_BUCKETS);
+        countedIn.forEach((id, hour) -> bulk.upsert(Query.query(Criteria.where("_id").is(id)),
+                new Update().set("bucket", hour != null ? date(hour) : null).set("updatedAt", date(startedAt))));
+        bulk.execute();
+    }
+
+    private LocalDateTime readWatermark(Source source) {
+        Document watermark = mongoTemplate.findById(source.metric(), Document.class, AnalyticsRollups.WATERMARKS);
+        return watermark != null && watermark.getDate("watermark") != null
+                ? LocalDateTime.ofInstant(watermark.getDate("watermark").toInstant(), ZONE)
+                : null;
+    }
+
+    private void writeWatermark(Source source, LocalDateTime startedAt) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(source.metric())),
+                new Update().set("watermark", date(startedAt.minus(Duration.ofMillis(watermarkLagMs))))
+                        .set("updatedAt", date(LocalDateTime.now())),
+                AnalyticsRollups.WATERMARKS);
+    }
+
+    private String collection(Source source) {
+        return mongoTemplate.getCollectionName(source.entity());
+    }
+
+    static String rollupId(AnalyticsRollup rollup) {
+        return String.join(":", rollup.getGranularity().name(), rollup.getMetric(), rollup.getBucket().toString(),
+                rollup.getRecruiterId() != null ? rollup.getRecruiterId() : "",
+                rollup.getRound() != null ? rollup.getRound().toString() : "");
+    }
+
+    /**
+     * Merges consecutive buckets into ranges of [start, end).
+     */
+    static List<Range> ranges(NavigableSet<LocalDateTime> buckets, Duration step) {
+        List<Range> ranges = new ArrayList<>();
+        Range current = null;
+        for (LocalDateTime bucket : buckets) {
+            if (current != null && current.end().equals(bucket)) {
+                current = new Range(current.start(), bucket.plus(step));
+                ranges.set(ranges.size() - 1, current);
+            } else {
+                current = new Range(bucket, bucket.plus(step));
+                ranges.add(current);
+            }
+        }
+        return ranges;
+    }
+
+    private static List<List<Range>> batches(List<Range> ranges) {
+        List<List<Range>> batches = new ArrayList<>();
+        for (int from = 0; from < ranges.size(); from += RANGES_PER_AGGREGATION) {
+            batches.add(ranges.subList(from, Math.min(from + RANGES_PER_AGGREGATION, ranges.size())));
+        }
+        return batches;
+    }
+
+    private static LocalDateTime hour(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZONE).truncatedTo(ChronoUnit.HOURS) : null;
+    }
+
+    // Raw pipelines and bookkeeping documents bypass the entity mapping, so dates are converted the way it would
+    private static Date date(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZONE).toInstant());
+    }
+
+    private record Source(String metric, Class<?> entity, String bucketField, boolean movable) {
+    }
+
+    record Range(LocalDateTime start, LocalDateTime end) {
+    }
+}
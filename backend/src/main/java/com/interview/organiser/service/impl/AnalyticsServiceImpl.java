@@ -0,0 +1,269 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.constants.AnalyticsRollups;
+import com.interview.organiser.constants.enums.AnalyticsGranularity;
+import com.interview.organiser.constants.enums.CandidateStatus;
+import com.interview.organiser.constants.enums.FeedbackRecommendation;
+import com.interview.organiser.constants.enums.InterviewResult;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.exception.BadRequestException;
+import com.interview.organiser.model.dto.response.FunnelResponse;
+import com.interview.organiser.model.dto.response.InterviewVolumeResponse;
+import com.interview.organiser.model.dto.response.ResultRatesResponse;
+import com.interview.organiser.model.dto.response.TimeToHireResponse;
+import com.interview.organiser.model.entity.AnalyticsRollup;
+import com.interview.organiser.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final int DEFAULT_RANGE_DAYS = 90;
+    private static final int MAX_HOURLY_RANGE_DAYS = 31;
+
+    // Candidates only carry their current status: INTERVIEWED has passed INTERVIEW_SCHEDULED, and a
+    // REJECTED candidate is only known to have applied
+    private static final List<CandidateStatus> FUNNEL = List.of(CandidateStatus.APPLIED, CandidateStatus.SCREENING,
+            CandidateStatus.INTERVIEW_SCHEDULED, CandidateStatus.SELECTED);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public FunnelResponse getFunnel(String recruiterId, LocalDate fromDate, LocalDate toDate) {
+        LocalDate to = toDate(toDate);
+        LocalDate from = fromDate(fromDate, to);
+        log.info("Fetching candidate funnel for recruiter: {} from {} to {}", recruiterId, from, to);
+
+        long candidates = 0;
+        long[] current = new long[CandidateStatus.values().length];
+        for (AnalyticsRollup rollup : rollups(AnalyticsGranularity.DAY, AnalyticsRollups.CANDIDATES, recruiterId,
+                from, to)) {
+            candidates += rollup.get(AnalyticsRollups.COUNT);
+            for (CandidateStatus status : CandidateStatus.values()) {
+                current[status.ordinal()] += rollup.get(AnalyticsRollups.status(status));
+            }
+        }
+
+        long[] reached = new long[FUNNEL.size()];
+        for (CandidateStatus status : CandidateStatus.values()) {
+            for (int stage = 0; stage <= funnelStage(status); stage++) {
+                reached[stage] += current[status.ordinal()];
+            }
+        }
+        List<FunnelResponse.Stage> stages = new ArrayList<>();
+        for (int stage = 0; stage < FUNNEL.size(); stage++) {
+            stages.add(FunnelResponse.Stage.builder()
+                    .status(FUNNEL.get(stage))
+                    .reached(reached[stage])
+                    .current(current[FUNNEL.get(stage).ordinal()])
+                    .conversionRate(stage > 0 ? ratio(reached[stage], reached[stage - 1]) : null)
+                    .build());
+        }
+
+        return FunnelResponse.builder()
+                .recruiterId(recruiterId)
+                .fromDate(from)
+                .toDate(to)
+                .candidates(candidates)
+                .rejected(current[CandidateStatus.REJECTED.ordinal()])
+                .stages(stages)
+                .build();
+    }
+
+    @Override
+    public TimeToHireResponse getTimeToHire(String recruiterId, LocalDate fromDate, LocalDate toDate) {
+        LocalDate to = toDate(toDate);
+        LocalDate from = fromDate(fromDate, to);
+        log.info("Fetching time to hire for recruiter: {} from {} to {}", recruiterId, from, to);
+
+        long hires = 0;
+        long timedHires = 0;
+        long hireMinutes = 0;
+        for (AnalyticsRollup rollup : rollups(AnalyticsGranularity.DAY, AnalyticsRollups.INTERVIEWS, recruiterId,
+                from, to)) {
+            hires += rollup.get(AnalyticsRollups.HIRES);
+            timedHires += rollup.get(AnalyticsRollups.TIMED_HIRES);
+            hireMinutes += rollup.get(AnalyticsRollups.HIRE_MINUTES);
+        }
+
+        return TimeToHireResponse.builder()
+                .recruiterId(recruiterId)
+                .fromDate(from)
+                .toDate(to)
+                .hires(hires)
+                .averageDays(timedHires > 0 ? Math.round(hireMinutes * 100.0 / timedHires / 1440) / 100.0 : null)
+                .build();
+    }
+
+    @Override
+    public InterviewVolumeResponse getInterviewVolume(String recruiterId, AnalyticsGranularity granularity,
+                                                      LocalDate fromDate, LocalDate toDate) {
+        AnalyticsGranularity bucketSize = granularity != null ? granularity : AnalyticsGranularity.WEEK;
+        LocalDate to = toDate(toDate);
+        LocalDate from = fromDate(fromDate, to);
+        if (bucketSize == AnalyticsGranularity.HOUR && from.plusDays(MAX_HOURLY_RANGE_DAYS).isBefore(to)) {
+            throw new BadRequestException("Hourly buckets are limited to " + MAX_HOURLY_RANGE_DAYS + " days");
+        }
+        log.info("Fetching {} interview volume for recruiter: {} from {} to {}", bucketSize, recruiterId, from, to);
+
+        AnalyticsGranularity stored = bucketSize == AnalyticsGranularity.HOUR
+                ? AnalyticsGranularity.HOUR
+                : AnalyticsGranularity.DAY;
+        Map<VolumeKey, InterviewVolumeResponse.Bucket> buckets = new HashMap<>();
+        for (AnalyticsRollup rollup : rollups(stored, AnalyticsRollups.INTERVIEWS, recruiterId, from, to)) {
+            LocalDateTime start = bucketSize == AnalyticsGranularity.WEEK
+                    ? rollup.getBucket().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    : rollup.getBucket();
+            InterviewVolumeResponse.Bucket bucket = buckets.computeIfAbsent(
+                    new VolumeKey(start, rollup.getRecruiterId()),
+                    key -> InterviewVolumeResponse.Bucket.builder()
+                            .recruiterId(rollup.getRecruiterId())
+                            .start(start)
+                            .interviews(0L)
+                            .completed(0L)
+                            .cancelled(0L)
+                            .build());
+            bucket.setInterviews(bucket.getInterviews() + rollup.get(AnalyticsRollups.COUNT));
+            bucket.setCompleted(bucket.getCompleted()
+                    + rollup.get(AnalyticsRollups.status(InterviewStatus.COMPLETED)));
+            bucket.setCancelled(bucket.getCancelled()
+                    + rollup.get(AnalyticsRollups.status(InterviewStatus.CANCELLED)));
+        }
+
+        return InterviewVolumeResponse.builder()
+                .granularity(bucketSize)
+                .fromDate(from)
+                .toDate(to)
+                .buckets(buckets.values().stream()
+                        .sorted(Comparator.comparing(InterviewVolumeResponse.Bucket::getStart)
+                                .thenComparing(InterviewVolumeResponse.Bucket::getRecruiterId,
+                                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                        .toList())
+                .build();
+    }
+
+    @Override
+    public ResultRatesResponse getResultRates(String recruiterId, LocalDate fromDate, LocalDate toDate) {
+        LocalDate to = toDate(toDate);
+        LocalDate from = fromDate(fromDate, to);
+        log.info("Fetching result rates for recruiter: {} from {} to {}", recruiterId, from, to);
+
+        Map<Integer, Map<String, Long>> interviews = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        for (AnalyticsRollup rollup : rollups(AnalyticsGranularity.DAY, AnalyticsRollups.INTERVIEWS, recruiterId,
+                from, to)) {
+            rollup.getCounters().forEach((counter, value) ->
+                    interviews.computeIfAbsent(rollup.getRound(), round -> new HashMap<>())
+                            .merge(counter, value, Long::sum));
+        }
+        Map<Integer, Map<String, Long>> feedback = new HashMap<>();
+        for (AnalyticsRollup rollup : rollups(AnalyticsGranularity.DAY, AnalyticsRollups.FEEDBACK, recruiterId,
+                from, to)) {
+            interviews.computeIfAbsent(rollup.getRound(), round -> new HashMap<>());
+            rollup.getCounters().forEach((counter, value) ->
+                    feedback.computeIfAbsent(rollup.getRound(), round -> new HashMap<>())
+                            .merge(counter, value, Long::sum));
+        }
+
+        List<ResultRatesResponse.Round> rounds = new ArrayList<>();
+        interviews.forEach((round, counters) -> {
+            Map<String, Long> feedbackCounters = feedback.getOrDefault(round, Map.of());
+            long selected = counter(counters, AnalyticsRollups.result(InterviewResult.SELECTED));
+            long rejected = counter(counters, AnalyticsRollups.result(InterviewResult.REJECTED));
+            long nextRound = counter(counters, AnalyticsRollups.result(InterviewResult.NEXT_ROUND));
+            long decided = selected + rejected + nextRound;
+            Map<String, Long> recommendations = new LinkedHashMap<>();
+            for (FeedbackRecommendation recommendation : FeedbackRecommendation.values()) {
+                recommendations.put(recommendation.name(),
+                        counter(feedbackCounters, AnalyticsRollups.recommendation(recommendation)));
+            }
+            long rated = counter(feedbackCounters, AnalyticsRollups.RATED);
+            long ratingSum = counter(feedbackCounters, AnalyticsRollups.RATING_SUM);
+            rounds.add(ResultRatesResponse.Round.builder()
+                    .round(round)
+                    .interviews(counter(counters, AnalyticsRollups.COUNT))
+                    .decided(decided)
+                    .selected(selected)
+                    .rejected(rejected)
+                    .nextRound(nextRound)
+                    .selectionRate(ratio(selected, decided))
+                    .rejectionRate(ratio(rejected, decided))
+                    .nextRoundRate(ratio(nextRound, decided))
+                    .feedback(counter(feedbackCounters, AnalyticsRollups.COUNT))
+                    .averageRating(rated > 0 ? Math.round(ratingSum * 100.0 / rated) / 100.0 : null)
+                    .recommendations(recommendations)
+                    .build());
+        });
+
+        return ResultRatesResponse.builder()
+                .recruiterId(recruiterId)
+                .fromDate(from)
+                .toDate(to)
+                .rounds(rounds)
+                .build();
+    }
+
+    /**
+     * Rollups of the days (or hours) from the start of fromDate to the end of toDate, optionally of one recruiter.
+     */
+    private List<AnalyticsRollup> rollups(AnalyticsGranularity granularity, String metric, String recruiterId,
+                                          LocalDate fromDate, LocalDate toDate) {
+        Criteria criteria = Criteria.where("granularity").is(granularity).and("metric").is(metric);
+        if (recruiterId != null) {
+            criteria.and("recruiterId").is(recruiterId);
+        }
+        criteria.and("bucket").gte(fromDate.atStartOfDay()).lt(toDate.plusDays(1).atStartOfDay());
+        return mongoTemplate.find(Query.query(criteria), AnalyticsRollup.class);
+    }
+
+    private static int funnelStage(CandidateStatus status) {
+        return switch (status) {
+            case APPLIED, REJECTED -> 0;
+            case SCREENING -> 1;
+            case INTERVIEW_SCHEDULED, INTERVIEWED -> 2;
+            case SELECTED -> 3;
+        };
+    }
+
+    private static LocalDate toDate(LocalDate toDate) {
+        return toDate != null ? toDate : LocalDate.now();
+    }
+
+    private static LocalDate fromDate(LocalDate fromDate, LocalDate toDate) {
+        LocalDate from = fromDate != null ? fromDate : toDate.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (from.isAfter(toDate)) {
+            throw new BadRequestException("fromDate must not be after toDate");
+        }
+        return from;
+    }
+
+    private static long counter(Map<String, Long> counters, String counter) {
+        return Objects.requireNonNullElse(counters.get(counter), 0L);
+    }
+
+    private static Double ratio(long part, long whole) {
+        return whole > 0 ? Math.round(part * 10000.0 / whole) / 10000.0 : null;
+    }
+
+    private record VolumeKey(LocalDateTime start, String recruiterId) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.interview.organiser.service.impl;
 
 import com.interview.organiser.constants.AppConstants;
+import com.interview.organiser.constants.DashboardCounters;
 import com.interview.organiser.exception.InvalidCredentialsException;
 import com.interview.organiser.exception.InvalidTokenException;
 import com.interview.organiser.exception.ResourceAlreadyExistsException;
@@ -15,6 +16,7 @@ import com.interview.organiser.model.entity.User;
 import com.interview.organiser.repository.RefreshTokenRepository;
 import com.interview.organiser.repository.UserRepository;
 import com.interview.organiser.service.AuthService;
+import com.interview.organiser.service.DashboardStatsService;
 import com.interview.organiser.util.EntityMapper;
 import com.interview.organiser.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +37,7 @@ public class AuthServiceImpl implements AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final DashboardStatsService dashboardStatsService;
     private final EntityMapper entityMapper;
 
     @Override
@@ -61,6 +64,7 @@ public class AuthServiceImpl implements AuthService {
         user.getRoles().add(request.getRole());
 
         User savedUser = userRepository.save(user);
+        dashboardStatsService.increment(DashboardCounters.GLOBAL_SCOPE, DashboardCounters.TOTAL_USERS, 1);
 
         String accessToken = jwtUtil.generateToken(savedUser);
         String refreshToken = createRefreshToken(savedUser.getId());
@@ -0,0 +1,397 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.constants.AppConstants;
+import com.interview.organiser.constants.enums.FeedbackRecommendation;
+import com.interview.organiser.constants.enums.InterviewResult;
+import com.interview.organiser.exception.ResourceNotFoundException;
+import com.interview.organiser.model.dto.response.CalibrationResponse;
+import com.interview.organiser.model.entity.CalibrationStats;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Feedback;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.repository.CounterReconciler;
+import com.interview.organiser.repository.EntityCache;
+import com.interview.organiser.repository.ReferenceResolver;
+import com.interview.organiser.service.CalibrationStatsService;
+import com.interview.organiser.service.DashboardStatsService.Snapshot;
+import com.interview.organiser.util.CalibrationAccumulator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static com.interview.organiser.constants.CalibrationCounters.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalibrationStatsServiceImpl implements CalibrationStatsService {
+
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+    private static final int RATING = DIMENSIONS.indexOf("rating");
+
+    private final MongoTemplate mongoTemplate;
+    private final EntityCache entityCache;
+    private final CounterReconciler counterReconciler;
+
+    @Override
+    public Snapshot snapshot(Feedback feedback) {
+        if (feedback == null) {
+            return Snapshot.EMPTY;
+        }
+        Integer[] scores = {feedback.getRating(), feedback.getTechnicalSkills(), feedback.getCommunicationSkills(),
+                feedback.getProblemSolving(), feedback.getCulturalFit()};
+        return contribution(feedback.getInterviewerIds(), feedback.getPosition(), scores,
+                feedback.getRecommendation(), feedback.getInterviewResult());
+    }
+
+    @Override
+    public Snapshot snapshot(Document feedback) {
+        if (feedback == null) {
+            return Snapshot.EMPTY;
+        }
+        return contribution(feedback.getList("interviewerIds", String.class), feedback.getString("position"),
+                scores(feedback), enumValue(FeedbackRecommendation.class, feedback.getString("recommendation")),
+                enumValue(InterviewResult.class, feedback.getString("interviewResult")));
+    }
+
+    @Override
+    public void recordChange(Snapshot before, Snapshot after) {
+        Snapshot delta = Snapshot.difference(before, after);
+        if (delta.counters().isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CalibrationStats.class);
+        delta.counters().forEach((scope, counters) -> {
+            Update update = new Update().set("updatedAt", now).inc(CounterReconciler.GENERATION, 1);
+            counters.forEach((counter, value) -> update.inc("counters." + counter, value));
+            bulk.upsert(Query.query(Criteria.where("_id").is(scope)), update);
+        });
+        bulk.execute();
+    }
+
+    @Override
+    public void recordResult(String interviewId, InterviewResult result) {
+        String collection = mongoTemplate.getCollectionName(Feedback.class);
+        Criteria stale = Criteria.where("interview.$id").is(ReferenceResolver.storedId(interviewId))
+                .and("interviewResult").ne(result.name());
+        Query query = Query.query(stale);
+        query.fields().include("_id");
+
+        // Each document is switched with its own guarded findAndModify, so a concurrent result moves a
+        // feedback's outcome counters exactly once
+        for (Document feedback : mongoTemplate.find(query, Document.class, collection)) {
+            Document before = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("_id").is(feedback.get("_id")).and("interviewResult").ne(result.name())),
+                    new Update().set("interviewResult", result.name()),
+                    FindAndModifyOptions.options().returnNew(false), Document.class, collection);
+            if (before != null) {
+                Document after = new Document(before);
+                after.put("interviewResult", result.name());
+                recordChange(snapshot(before), snapshot(after));
+            }
+        }
+    }
+
+    @Override
+    public void reconcile() {
+        log.info("Reconciling calibration stats from feedback");
+        Map<String, CounterReconciler.Stored> stored = counterReconciler.read(CalibrationStats.class);
+        Map<String, CalibrationAccumulator> accumulators = new HashMap<>();
+        long repaired = 0;
+
+        Query feedbackQuery = new Query();
+        feedbackQuery.fields().include("interview").include("interviewerIds").include("position")
+                .include("interviewResult").include("recommendation");
+        DIMENSIONS.forEach(dimension -> feedbackQuery.fields().include(dimension));
+        feedbackQuery.cursorBatchSize(RECONCILE_BATCH_SIZE);
+
+        // One pass over feedback; each batch has its denormalised keys checked against the interviews and
+        // candidates before it is folded into the per-scope accumulators
+        List<Document> batch = new ArrayList<>(RECONCILE_BATCH_SIZE);
+        try (Stream<Document> documents = mongoTemplate.stream(feedbackQuery, Document.class,
+                mongoTemplate.getCollectionName(Feedback.class))) {
+            Iterator<Document> iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == RECONCILE_BATCH_SIZE || !iterator.hasNext()) {
+                    repaired += repairKeys(batch);
+                    for (Document feedback : batch) {
+                        Integer[] scores = scores(feedback);
+                        FeedbackRecommendation recommendation =
+                                enumValue(FeedbackRecommendation.class, feedback.getString("recommendation"));
+                        InterviewResult result =
+                                enumValue(InterviewResult.class, feedback.getString("interviewResult"));
+                        for (String scope : scopes(feedback.getList("interviewerIds", String.class),
+                                feedback.getString("position"))) {
+                            accumulators.computeIfAbsent(scope, key -> new CalibrationAccumulator())
+                                    .add(scores, recommendation, result);
+                        }
+                    }
+                    batch.clear();
+                }
+            }
+        }
+
+        // Corrections are applied as guarded $inc, so counter updates made during the recount are kept
+        Map<String, Map<String, Long>> recounted = new HashMap<>();
+        accumulators.forEach((scope, accumulator) -> recounted.put(scope, accumulator.toCounters()));
+        counterReconciler.apply(CalibrationStats.class, stored, recounted);
+
+        log.info("Reconciled {} calibration stats scopes, repaired {} feedback", accumulators.size(), repaired);
+    }
+
+    @Override
+    public CalibrationResponse getInterviewerCalibration(String interviewerId) {
+        log.info("Fetching calibration for interviewer id: {}", interviewerId);
+
+        entityCache.findInterviewer(interviewerId)
+                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEWER_NOT_FOUND));
+
+        Map<String, CalibrationStats> stats = new HashMap<>();
+        mongoTemplate.find(Query.query(Criteria.where("_id").in(GLOBAL_SCOPE, interviewerScope(interviewerId))),
+                        CalibrationStats.class)
+                .forEach(document -> stats.put(document.getId(), document));
+
+        CalibrationAccumulator global = accumulator(stats.get(GLOBAL_SCOPE));
+        CalibrationResponse response = toResponse(accumulator(stats.get(interviewerScope(interviewerId))), global);
+        response.setInterviewerId(interviewerId);
+        return response;
+    }
+
+    @Override
+    public List<CalibrationResponse> getInterviewerCalibrations(int minFeedback) {
+        log.info("Fetching interviewer calibrations with at least {} feedback", minFeedback);
+
+        return scopeCalibrations(INTERVIEWER_SCOPE_PREFIX, minFeedback, CalibrationResponse::setInterviewerId);
+    }
+
+    @Override
+    public List<CalibrationResponse> getPositionCalibrations(int minFeedback) {
+        log.info("Fetching position calibrations with at least {} feedback", minFeedback);
+
+        return scopeCalibrations(POSITION_SCOPE_PREFIX, minFeedback, CalibrationResponse::setPosition);
+    }
+
+    private List<CalibrationResponse> scopeCalibrations(String prefix, int minFeedback,
+                                                        BiConsumer<CalibrationResponse, String> key) {
+        CalibrationAccumulator global = accumulator(mongoTemplate.findById(GLOBAL_SCOPE, CalibrationStats.class));
+        Query query = Query.query(Criteria.where("_id").regex("^" + prefix)
+                .and("counters." + FEEDBACK_COUNT).gte(Math.max(minFeedback, 1)));
+
+        List<CalibrationResponse> responses = new ArrayList<>();
+        for (CalibrationStats stats : mongoTemplate.find(query, CalibrationStats.class)) {
+            CalibrationResponse response = toResponse(accumulator(stats), global);
+            key.accept(response, stats.getId().substring(prefix.length()));
+            responses.add(response);
+        }
+        responses.sort(Comparator.comparing(response -> response.getScores().get(RATING).getDeviation(),
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        return responses;
+    }
+
+    private CalibrationResponse toResponse(CalibrationAccumulator scope, CalibrationAccumulator global) {
+        List<CalibrationResponse.ScoreStats> scores = new ArrayList<>();
+        for (int dimension = 0; dimension < DIMENSIONS.size(); dimension++) {
+            long count = scope.count(dimension);
+            Double mean = scope.mean(dimension);
+            Double variance = scope.variance(dimension);
+            Double globalMean = global.mean(dimension);
+            Double globalVariance = global.variance(dimension);
+            Double deviation = mean != null && globalMean != null ? mean - globalMean : null;
+            Double zScore = deviation != null && globalVariance != null && globalVariance > 0
+                    ? deviation / Math.sqrt(globalVariance / count)
+                    : null;
+            scores.add(CalibrationResponse.ScoreStats.builder()
+                    .dimension(DIMENSIONS.get(dimension))
+                    .count(count)
+                    .mean(round(mean))
+                    .variance(round(variance))
+                    .standardDeviation(variance != null ? round(Math.sqrt(variance)) : null)
+                    .p25(scope.percentile(dimension, 25))
+                    .median(scope.percentile(dimension, 50))
+                    .p75(scope.percentile(dimension, 75))
+                    .p90(scope.percentile(dimension, 90))
+                    .deviation(round(deviation))
+                    .zScore(round(zScore))
+                    .build());
+        }
+
+        Map<String, Long> recommendations = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> outcomes = new LinkedHashMap<>();
+        long decided = 0;
+        long agreed = 0;
+        for (FeedbackRecommendation recommendation : FeedbackRecommendation.values()) {
+            recommendations.put(recommendation.name(), scope.recommendations(recommendation));
+            Map<String, Long> results = new LinkedHashMap<>();
+            for (InterviewResult result : InterviewResult.values()) {
+                long count = scope.outcomes(recommendation, result);
+                results.put(result.name(), count);
+                if (recommendation != FeedbackRecommendation.HOLD) {
+                    decided += count;
+                    agreed += agrees(recommendation, result) ? count : 0;
+                }
+            }
+            outcomes.put(recommendation.name(), results);
+        }
+
+        return CalibrationResponse.builder()
+                .feedback(scope.feedback())
+                .scores(scores)
+                .recommendations(recommendations)
+                .outcomes(outcomes)
+                .agreementRate(decided > 0 ? Math.round(agreed * 10000.0 / decided) / 10000.0 : null)
+                .build();
+    }
+
+    /**
+     * Fills in the position and interview result of a batch of feedback from their interviews and candidates:
+     * the result when it differs from the interview's, the position only on feedback written before it was kept.
+     * Each write is guarded by the values read, so a result marked meanwhile is not overwritten.
+     */
+    private long repairKeys(List<Document> batch) {
+        Set<Object> interviewIds = new HashSet<>();
+        batch.forEach(feedback -> {
+            Object interviewId = ReferenceResolver.refId(feedback.get("interview"));
+            if (interviewId != null) {
+                interviewIds.add(interviewId);
+            }
+        });
+        Map<Object, Document> interviews = findByIds(interviewIds, Interview.class, "result", "candidate");
+
+        Set<Object> candidateIds = new HashSet<>();
+        batch.stream().filter(feedback -> !feedback.containsKey("position")).forEach(feedback -> {
+            Document interview = interviews.get(ReferenceResolver.refId(feedback.get("interview")));
+            Object candidateId = interview != null ? ReferenceResolver.refId(interview.get("candidate")) : null;
+            if (candidateId != null) {
+                candidateIds.add(candidateId);
+            }
+        });
+        Map<Object, Document> candidates = findByIds(candidateIds, Candidate.class, "position");
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Feedback.class);
+        long repaired = 0;
+        for (Document feedback : batch) {
+            Document interview = interviews.get(ReferenceResolver.refId(feedback.get("interview")));
+            Update update = new Update();
+            Criteria unchanged = Criteria.where("_id").is(feedback.get("_id"))
+                    .and("interviewResult").is(feedback.getString("interviewResult"));
+            String result = interview != null ? interview.getString("result") : null;
+            if (!Objects.equals(result, feedback.getString("interviewResult"))) {
+                update.set("interviewResult", result);
+                feedback.put("interviewResult", result);
+            }
+            if (!feedback.containsKey("position")) {
+                unchanged.and("position").exists(false);
+                Document candidate = interview != null
+                        ? candidates.get(ReferenceResolver.refId(interview.get("candidate")))
+                        : null;
+                String position = candidate != null ? candidate.getString("position") : null;
+                update.set("position", position);
+                feedback.put("position", position);
+            }
+            if (!update.getUpdateObject().isEmpty()) {
+                bulk.updateOne(Query.query(unchanged), update);
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            bulk.execute();
+        }
+        return repaired;
+    }
+
+    private Map<Object, Document> findByIds(Set<Object> ids, Class<?> entityClass, String... fields) {
+        Map<Object, Document> documents = new HashMap<>();
+        if (ids.isEmpty()) {
+            return documents;
+        }
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        for (String field : fields) {
+            query.fields().include(field);
+        }
+        mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(entityClass))
+                .forEach(document -> documents.put(document.get("_id"), document));
+        return documents;
+    }
+
+    private Snapshot contribution(List<String> interviewerIds, String position, Integer[] scores,
+                                  FeedbackRecommendation recommendation, InterviewResult result) {
+        CalibrationAccumulator accumulator = new CalibrationAccumulator();
+        accumulator.add(scores, recommendation, result);
+        Map<String, Long> counters = accumulator.toCounters();
+
+        Snapshot snapshot = new Snapshot();
+        for (String scope : scopes(interviewerIds, position)) {
+            counters.forEach((counter, value) -> snapshot.add(scope, counter, value));
+        }
+        return snapshot;
+    }
+
+    private static Set<String> scopes(List<String> interviewerIds, String position) {
+        Set<String> scopes = new LinkedHashSet<>();
+        scopes.add(GLOBAL_SCOPE);
+        if (interviewerIds != null) {
+            interviewerIds.stream().filter(Objects::nonNull).forEach(id -> scopes.add(interviewerScope(id)));
+        }
+        if (position != null && !position.isBlank()) {
+            scopes.add(positionScope(position));
+        }
+        return scopes;
+    }
+
+    private static Integer[] scores(Document feedback) {
+        Integer[] scores = new Integer[DIMENSIONS.size()];
+        for (int dimension = 0; dimension < DIMENSIONS.size(); dimension++) {
+            scores[dimension] = feedback.get(DIMENSIONS.get(dimension)) instanceof Number number
+                    ? number.intValue()
+                    : null;
+        }
+        return scores;
+    }
+
+    private static CalibrationAccumulator accumulator(CalibrationStats stats) {
+        return stats != null && stats.getCounters() != null
+                ? CalibrationAccumulator.fromCounters(stats.getCounters())
+                : new CalibrationAccumulator();
+    }
+
+    private static boolean agrees(FeedbackRecommendation recommendation, InterviewResult result) {
+        return switch (recommendation) {
+            case STRONG_HIRE, HIRE -> result != InterviewResult.REJECTED;
+            case NO_HIRE -> result == InterviewResult.REJECTED;
+            case HOLD -> false;
+        };
+    }
+
+    private static Double round(Double value) {
+        return value != null ? Math.round(value * 100) / 100.0 : null;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+}
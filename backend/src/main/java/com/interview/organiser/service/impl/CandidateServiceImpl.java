@@ -2,9 +2,11 @@ package com.interview.organiser.service.impl;
 
 import com.interview.organiser.constants.AppConstants;
 import com.interview.organiser.constants.enums.CandidateStatus;
+import com.interview.organiser.constants.enums.InterviewEventType;
 import com.interview.organiser.exception.ResourceAlreadyExistsException;
 import com.interview.organiser.exception.ResourceNotFoundException;
 import com.interview.organiser.model.dto.request.CreateCandidateRequest;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.InviteCandidateRequest;
 import com.interview.organiser.model.dto.request.RespondToInvitationRequest;
 import com.interview.organiser.model.dto.request.UpdateCandidateRequest;
@@ -13,18 +15,36 @@ import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
 import com.interview.organiser.model.entity.Candidate;
 import com.interview.organiser.repository.CandidateRepository;
+import com.interview.organiser.repository.CappedPage;
+import com.interview.organiser.repository.ConflictRetry;
+import com.interview.organiser.repository.EntityCache;
 import com.interview.organiser.repository.InterviewRepository;
+import com.interview.organiser.repository.KeysetPager;
+import com.interview.organiser.repository.KeysetSlice;
+import com.interview.organiser.repository.OffsetPager;
+import com.interview.organiser.repository.PartialUpdater;
 import com.interview.organiser.service.CandidateService;
+import com.interview.organiser.service.DashboardStatsService;
+import com.interview.organiser.service.InterviewEventService;
 import com.interview.organiser.util.EntityMapper;
+import com.interview.organiser.util.FieldSelection;
+import com.interview.organiser.util.SearchTokenUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -34,20 +54,44 @@ public class CandidateServiceImpl implements CandidateService {
 
     private final CandidateRepository candidateRepository;
     private final InterviewRepository interviewRepository;
+    private final KeysetPager keysetPager;
+    private final OffsetPager offsetPager;
+    private final PartialUpdater partialUpdater;
+    private final ConflictRetry conflictRetry;
+    private final MongoTemplate mongoTemplate;
+    private final EntityCache entityCache;
+    private final DashboardStatsService dashboardStatsService;
+    private final InterviewEventService interviewEventService;
     private final EntityMapper entityMapper;
 
     @Override
-    public PageResponse<CandidateResponse> getAllCandidates(CandidateStatus status, String search, Pageable pageable) {
-        log.info("Fetching all candidates with status: {}, search: {}", status, search);
+    public PageResponse<CandidateResponse> getAllCandidates(CandidateStatus status, String search, Pageable pageable,
+                                                            boolean includeTotal, FieldSelection fields) {
+        log.info("Fetching all candidates with status: {}, search: {}, fields: {}", status, search, fields);
 
         Page<Candidate> candidatePage;
-
-        if (status != null && search != null && !search.isEmpty()) {
-            candidatePage = candidateRepository.searchCandidatesByStatus(status, search, pageable);
+        Boolean totalCapped = null;
+
+        if (search != null && !search.isEmpty() && !includeTotal) {
+            // Searches run per keystroke, so the hits are only counted on request
+            Slice<Candidate> candidateSlice = candidateRepository.searchSlice(status, search, pageable,
+                    fields.documentFields(Map.of()));
+            return PageResponse.<CandidateResponse>builder()
+                    .content(candidateSlice.getContent().stream().map(entityMapper::toCandidateResponse).toList())
+                    .page(candidateSlice.getNumber())
+                    .size(candidateSlice.getSize())
+                    .hasNext(candidateSlice.hasNext())
+                    .build();
+        } else if (search != null && !search.isEmpty()) {
+            CappedPage<Candidate> searchPage = candidateRepository.search(status, search, pageable,
+                    fields.documentFields(Map.of()));
+            candidatePage = searchPage;
+            totalCapped = searchPage.isCapped();
+        } else if (!fields.isAll()) {
+            Criteria criteria = status != null ? Criteria.where("status").is(status.name()) : new Criteria();
+            candidatePage = offsetPager.find(Candidate.class, criteria, pageable, fields.documentFields(Map.of()));
         } else if (status != null) {
             candidatePage = candidateRepository.findByStatus(status, pageable);
-        } else if (search != null && !search.isEmpty()) {
-            candidatePage = candidateRepository.searchCandidates(search, pageable);
         } else {
             candidatePage = candidateRepository.findAll(pageable);
         }
@@ -62,14 +106,48 @@ public class CandidateServiceImpl implements CandidateService {
                 .size(candidatePage.getSize())
                 .totalElements(candidatePage.getTotalElements())
                 .totalPages(candidatePage.getTotalPages())
+                .totalCapped(totalCapped)
+                .build();
+    }
+
+    @Override
+    public PageResponse<CandidateResponse> getAllCandidates(CandidateStatus status, String search,
+                                                            CursorPageRequest cursorRequest, FieldSelection fields) {
+        log.info("Fetching candidates after cursor with status: {}, search: {}, fields: {}", status, search, fields);
+
+        // Keyset order is by _id, so search results are filtered by token but not ranked in this mode
+        Criteria criteria = new Criteria();
+        if (status != null) {
+            criteria.and("status").is(status.name());
+        }
+        if (search != null && !search.isEmpty()) {
+            criteria.and("searchTokens").all(SearchTokenUtil.queryTerms(search));
+        }
+        KeysetSlice<Candidate> candidateSlice = keysetPager.find(Candidate.class, criteria, cursorRequest,
+                fields.documentFields(Map.of()));
+
+        List<CandidateResponse> candidateResponses = candidateSlice.getContent().stream()
+                .map(entityMapper::toCandidateResponse)
+                .toList();
+
+        return PageResponse.<CandidateResponse>builder()
+                .content(candidateResponses)
+                .size(candidateSlice.getSize())
+                .totalElements(candidateSlice.getTotalElements())
+                .nextCursor(candidateSlice.getNextCursor())
+                .hasNext(candidateSlice.hasNext())
                 .build();
     }
 
     @Override
-    @Transactional
     public CandidateResponse createCandidate(CreateCandidateRequest request) {
         log.info("Creating candidate with email: {}", request.getEmail());
 
+        // Aborted by a concurrent counter write, the whole attempt is rolled back and run again
+        return conflictRetry.run(false, () -> create(request));
+    }
+
+    private CandidateResponse create(CreateCandidateRequest request) {
         if (candidateRepository.existsByEmail(request.getEmail())) {
             throw new ResourceAlreadyExistsException("Candidate", "email", request.getEmail());
         }
@@ -89,8 +167,11 @@ public class CandidateServiceImpl implements CandidateService {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
+        SearchTokenUtil.index(candidate);
 
         Candidate savedCandidate = candidateRepository.save(candidate);
+        dashboardStatsService.recordChange(DashboardStatsService.Snapshot.EMPTY,
+                dashboardStatsService.snapshot(savedCandidate));
 
         return entityMapper.toCandidateResponse(savedCandidate);
     }
@@ -99,71 +180,68 @@ public class CandidateServiceImpl implements CandidateService {
     public CandidateResponse getCandidateById(String candidateId) {
         log.info("Fetching candidate with id: {}", candidateId);
 
-        Candidate candidate = candidateRepository.findById(candidateId)
+        Candidate candidate = entityCache.findCandidate(candidateId)
                 .orElseThrow(() -> new ResourceNotFoundException(AppConstants.CANDIDATE_NOT_FOUND));
 
         return entityMapper.toCandidateResponse(candidate);
     }
 
     @Override
-    @Transactional
     public CandidateResponse updateCandidate(String candidateId, UpdateCandidateRequest request) {
         log.info("Updating candidate with id: {}", candidateId);
 
-        Candidate candidate = candidateRepository.findById(candidateId)
+        return conflictRetry.run(request.getVersion() == null, () -> update(candidateId, request));
+    }
+
+    private CandidateResponse update(String candidateId, UpdateCandidateRequest request) {
+        PartialUpdater.Result result = partialUpdater.update(Candidate.class, candidateId, request)
                 .orElseThrow(() -> new ResourceNotFoundException(AppConstants.CANDIDATE_NOT_FOUND));
+        Candidate candidate = partialUpdater.read(Candidate.class, result.before());
+        Candidate updatedCandidate = partialUpdater.read(Candidate.class, result.after());
 
-        if (request.getFirstName() != null) {
-            candidate.setFirstName(request.getFirstName());
-        }
-        if (request.getLastName() != null) {
-            candidate.setLastName(request.getLastName());
-        }
-        if (request.getEmail() != null) {
-            candidate.setEmail(request.getEmail());
-        }
-        if (request.getPhone() != null) {
-            candidate.setPhone(request.getPhone());
+        if (SearchTokenUtil.SOURCE_FIELDS.stream().anyMatch(result::changed)) {
+            reindex(updatedCandidate);
         }
-        if (request.getPosition() != null) {
-            candidate.setPosition(request.getPosition());
-        }
-        if (request.getExperience() != null) {
-            candidate.setExperience(request.getExperience());
-        }
-        if (request.getSkills() != null) {
-            candidate.setSkills(request.getSkills());
-        }
-        if (request.getResumeUrl() != null) {
-            candidate.setResumeUrl(request.getResumeUrl());
-        }
-        if (request.getLinkedinUrl() != null) {
-            candidate.setLinkedinUrl(request.getLinkedinUrl());
-        }
-        if (request.getGithubUrl() != null) {
-            candidate.setGithubUrl(request.getGithubUrl());
-        }
-        if (request.getStatus() != null) {
-            candidate.setStatus(request.getStatus());
-        }
-
-        candidate.setUpdatedAt(LocalDateTime.now());
-
-        Candidate updatedCandidate = candidateRepository.save(candidate);
+        entityCache.evictCandidate(candidateId);
+        dashboardStatsService.recordChange(dashboardStatsService.snapshot(candidate),
+                dashboardStatsService.snapshot(updatedCandidate));
 
         return entityMapper.toCandidateResponse(updatedCandidate);
     }
 
+    /**
+     * Rewrites the search tokens from the post-image of an update. The tokens also depend on fields the update
+     * did not send, so they are only written while those fields still hold the post-image values; an update
+     * that changed them since has rebuilt the tokens from its own post-image.
+     */
+    private void reindex(Candidate candidate) {
+        SearchTokenUtil.index(candidate);
+        Criteria unchanged = Criteria.where("_id").is(candidate.getId());
+        BeanWrapper properties = new BeanWrapperImpl(candidate);
+        SearchTokenUtil.SOURCE_FIELDS.forEach(field -> unchanged.and(field).is(properties.getPropertyValue(field)));
+
+        mongoTemplate.updateFirst(Query.query(unchanged),
+                new Update()
+                        .set("searchWords", candidate.getSearchWords())
+                        .set("searchTokens", candidate.getSearchTokens()),
+                Candidate.class);
+    }
+
     @Override
-    @Transactional
     public MessageResponse deleteCandidate(String candidateId) {
         log.info("Deleting candidate with id: {}", candidateId);
 
-        if (!candidateRepository.existsById(candidateId)) {
-            throw new ResourceNotFoundException(AppConstants.CANDIDATE_NOT_FOUND);
-        }
+        return conflictRetry.run(true, () -> delete(candidateId));
+    }
+
+    private MessageResponse delete(String candidateId) {
+        Candidate candidate = candidateRepository.findById(candidateId)
+                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.CANDIDATE_NOT_FOUND));
 
-        candidateRepository.deleteById(candidateId);
+        candidateRepository.delete(candidate);
+        entityCache.evictCandidate(candidateId);
+        dashboardStatsService.recordChange(dashboardStatsService.snapshot(candidate),
+                DashboardStatsService.Snapshot.EMPTY);
 
         return MessageResponse.builder()
                 .message("Candidate deleted successfully")
@@ -172,66 +250,85 @@ public class CandidateServiceImpl implements CandidateService {
     }
 
     @Override
-    @Transactional
     public MessageResponse inviteCandidate(InviteCandidateRequest request) {
         log.info("Inviting candidate {} to interview {}", request.getCandidateId(), request.getInterviewId());
 
-        Candidate candidate = candidateRepository.findById(request.getCandidateId())
-                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.CANDIDATE_NOT_FOUND));
-
-        // Verify interview exists
-        if (!interviewRepository.existsById(request.getInterviewId())) {
-            throw new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND);
-        }
-
-        // Generate invitation token
-        String token = UUID.randomUUID().toString();
-        candidate.setInvitationToken(token);
-        candidate.setInvitationSentAt(LocalDateTime.now());
-        candidate.setStatus(CandidateStatus.INTERVIEW_SCHEDULED);
-        
-        candidateRepository.save(candidate);
-
-        // TODO: Send email notification with invitation link
-
-        return MessageResponse.builder()
-                .message("Invitation sent successfully. Token: " + token)
-                .timestamp(LocalDateTime.now())
-                .build();
-    }
+        // Re-applied to a fresh read after a concurrent change; the invitation only sets its own fields
+        return conflictRetry.run(true, () -> {
+            Candidate candidate = candidateRepository.findById(request.getCandidateId())
+                    .orElseThrow(() -> new ResourceNotFoundException(AppConstants.CANDIDATE_NOT_FOUND));
 
-    @Override
-    @Transactional
-    public MessageResponse respondToInvitation(RespondToInvitationRequest request) {
-        log.info("Processing invitation response with token: {}", request.getToken());
+            // Verify interview exists
+            if (!interviewRepository.existsById(request.getInterviewId())) {
+                throw new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND);
+            }
 
-        Candidate candidate = candidateRepository.findByInvitationToken(request.getToken())
-                .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation token"));
+            DashboardStatsService.Snapshot before = dashboardStatsService.snapshot(candidate);
 
-        if ("ACCEPT".equalsIgnoreCase(request.getResponse())) {
-            candidate.setInvitationAcceptedAt(LocalDateTime.now());
+            // Generate invitation token
+            String token = UUID.randomUUID().toString();
+            candidate.setInvitationToken(token);
+            candidate.setInvitationSentAt(LocalDateTime.now());
             candidate.setStatus(CandidateStatus.INTERVIEW_SCHEDULED);
-            candidate.setInvitationToken(null); // Clear token after use
+            candidate.setUpdatedAt(LocalDateTime.now());
 
             candidateRepository.save(candidate);
+            entityCache.evictCandidate(candidate.getId());
+            dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(candidate));
+
+            // TODO: Send email notification with invitation link
 
             return MessageResponse.builder()
-                    .message("Interview invitation accepted successfully")
+                    .message("Invitation sent successfully. Token: " + token)
                     .timestamp(LocalDateTime.now())
                     .build();
-        } else if ("DECLINE".equalsIgnoreCase(request.getResponse())) {
-            candidate.setStatus(CandidateStatus.REJECTED);
-            candidate.setInvitationToken(null); // Clear token after use
+        });
+    }
 
-            candidateRepository.save(candidate);
+    @Override
+    public MessageResponse respondToInvitation(RespondToInvitationRequest request) {
+        log.info("Processing invitation response with token: {}", request.getToken());
 
-            return MessageResponse.builder()
-                    .message("Interview invitation declined")
-                    .timestamp(LocalDateTime.now())
-                    .build();
-        } else {
-            throw new IllegalArgumentException("Invalid response. Must be ACCEPT or DECLINE");
-        }
+        // Re-read by token after a concurrent change, so a response that lost to another one finds no token
+        return conflictRetry.run(true, () -> {
+            Candidate candidate = candidateRepository.findByInvitationToken(request.getToken())
+                    .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation token"));
+
+            DashboardStatsService.Snapshot before = dashboardStatsService.snapshot(candidate);
+
+            if ("ACCEPT".equalsIgnoreCase(request.getResponse())) {
+                candidate.setInvitationAcceptedAt(LocalDateTime.now());
+                candidate.setStatus(CandidateStatus.INTERVIEW_SCHEDULED);
+                candidate.setInvitationToken(null); // Clear token after use
+                candidate.setUpdatedAt(LocalDateTime.now());
+
+                candidateRepository.save(candidate);
+                entityCache.evictCandidate(candidate.getId());
+                dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(candidate));
+                interviewEventService.append(InterviewEventType.INVITATION_ACCEPTED, candidate, Map.of());
+
+                return MessageResponse.builder()
+                        .message("Interview invitation accepted successfully")
+                        .timestamp(LocalDateTime.now())
+                        .build();
+            } else if ("DECLINE".equalsIgnoreCase(request.getResponse())) {
+                candidate.setStatus(CandidateStatus.REJECTED);
+                candidate.setInvitationToken(null); // Clear token after use
+                candidate.setUpdatedAt(LocalDateTime.now());
+
+                candidateRepository.save(candidate);
+                entityCache.evictCandidate(candidate.getId());
+                dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(candidate));
+                interviewEventService.append(InterviewEventType.INVITATION_DECLINED, candidate, Map.of());
+
+                return MessageResponse.builder()
+                        .message("Interview invitation declined")
+                        .timestamp(LocalDateTime.now())
+                        .build();
+            } else {
+                throw new IllegalArgumentException("Invalid response. Must be ACCEPT or DECLINE");
+            }
+        });
     }
 }
 
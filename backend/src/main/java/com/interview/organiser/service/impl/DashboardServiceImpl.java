@@ -1,46 +1,39 @@
 package com.interview.organiser.service.impl;
 
-import com.interview.organiser.constants.enums.InterviewStatus;
-import com.interview.organiser.constants.enums.VerificationStatus;
 import com.interview.organiser.model.dto.response.*;
+import com.interview.organiser.model.entity.DashboardStats;
 import com.interview.organiser.repository.*;
 import com.interview.organiser.service.DashboardService;
+import com.interview.organiser.service.DashboardStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+
+import static com.interview.organiser.constants.DashboardCounters.*;
 
 @Service
 @RequiredArgsConstructor
 public class DashboardServiceImpl implements DashboardService {
 
-    private final RecruiterRepository recruiterRepository;
-    private final UserRepository userRepository;
-    private final InterviewRepository interviewRepository;
-    private final CandidateRepository candidateRepository;
-    private final InterviewerRepository interviewerRepository;
+    private final EntityCache entityCache;
+    private final DashboardStatsService dashboardStatsService;
 
     @Override
     public AdminDashboardResponse getAdminDashboard() {
-        // Get statistics
-        long totalRecruiters = recruiterRepository.count();
-        long verifiedRecruiters = recruiterRepository.countByVerificationStatus(VerificationStatus.VERIFIED);
-        long pendingRecruiters = recruiterRepository.countByVerificationStatus(VerificationStatus.PENDING);
-        long totalUsers = userRepository.count();
-        long totalInterviews = interviewRepository.count();
-        long totalCandidates = candidateRepository.count();
-        long activeInterviews = interviewRepository.countByStatus(InterviewStatus.SCHEDULED);
+        // Get statistics from the materialised counters
+        DashboardStats global = dashboardStatsService.getStats(GLOBAL_SCOPE).get(GLOBAL_SCOPE);
 
         AdminDashboardResponse.DashboardStats stats = AdminDashboardResponse.DashboardStats.builder()
-                .totalRecruiters(totalRecruiters)
-                .verifiedRecruiters(verifiedRecruiters)
-                .pendingRecruiters(pendingRecruiters)
-                .totalUsers(totalUsers)
-                .totalInterviews(totalInterviews)
-                .totalCandidates(totalCandidates)
-                .activeInterviews(activeInterviews)
+                .totalRecruiters(global.get(TOTAL_RECRUITERS))
+                .verifiedRecruiters(global.get(VERIFIED_RECRUITERS))
+                .pendingRecruiters(global.get(PENDING_RECRUITERS))
+                .totalUsers(global.get(TOTAL_USERS))
+                .totalInterviews(global.get(TOTAL_INTERVIEWS))
+                .totalCandidates(global.get(TOTAL_CANDIDATES))
+                .activeInterviews(global.get(ACTIVE_INTERVIEWS))
                 .build();
 
         // Get pending and recent recruiters (mocked for now - will be implemented properly)
@@ -58,26 +51,19 @@ public class DashboardServiceImpl implements DashboardService {
 
     @Override
     public RecruiterDashboardResponse getRecruiterDashboard(String recruiterId) {
-        // Get statistics
-        long totalCandidates = candidateRepository.countByRecruiterId(recruiterId);
-        long activeCandidates = candidateRepository.countByRecruiterIdAndStatusNot(recruiterId,
-                com.interview.organiser.constants.enums.CandidateStatus.REJECTED);
-        long totalInterviews = interviewRepository.countByRecruiterId(recruiterId);
-        long upcomingInterviews = interviewRepository.countByRecruiterIdAndStatusAndScheduledAtAfter(
-                recruiterId, InterviewStatus.SCHEDULED, LocalDateTime.now());
-        long completedInterviews = interviewRepository.countByRecruiterIdAndStatus(
-                recruiterId, InterviewStatus.COMPLETED);
-        long totalInterviewers = interviewerRepository.count();
-        long pendingFeedbacks = 0; // Will be calculated based on feedback status
+        // Get statistics from the materialised counters (recruiter scope plus global interviewer count)
+        String scope = recruiterScope(recruiterId);
+        Map<String, DashboardStats> statsByScope = dashboardStatsService.getStats(scope, GLOBAL_SCOPE);
+        DashboardStats recruiter = statsByScope.get(scope);
 
         RecruiterDashboardResponse.DashboardStats stats = RecruiterDashboardResponse.DashboardStats.builder()
-                .totalCandidates(totalCandidates)
-                .activeCandidates(activeCandidates)
-                .totalInterviews(totalInterviews)
-                .upcomingInterviews(upcomingInterviews)
-                .completedInterviews(completedInterviews)
-                .totalInterviewers(totalInterviewers)
-                .pendingFeedbacks(pendingFeedbacks)
+                .totalCandidates(recruiter.get(TOTAL_CANDIDATES))
+                .activeCandidates(recruiter.get(ACTIVE_CANDIDATES))
+                .totalInterviews(recruiter.get(TOTAL_INTERVIEWS))
+                .upcomingInterviews(recruiter.get(UPCOMING_INTERVIEWS))
+                .completedInterviews(recruiter.get(COMPLETED_INTERVIEWS))
+                .totalInterviewers(statsByScope.get(GLOBAL_SCOPE).get(TOTAL_INTERVIEWERS))
+                .pendingFeedbacks(recruiter.get(PENDING_FEEDBACKS))
                 .build();
 
         // Get lists (mocked for now)
@@ -96,22 +82,19 @@ public class DashboardServiceImpl implements DashboardService {
     @Override
     public InterviewerDashboardResponse getInterviewerDashboard(String interviewerId) {
         // Get interviewer
-        var interviewer = interviewerRepository.findById(interviewerId)
+        var interviewer = entityCache.findInterviewer(interviewerId)
                 .orElseThrow(() -> new RuntimeException("Interviewer not found"));
 
-        // Get statistics
-        long totalInterviews = interviewer.getTotalInterviews();
-        long upcomingInterviews = 0; // Count interviews where this interviewer is assigned and scheduled
-        long completedInterviews = 0; // Count completed interviews
-        long pendingFeedbacks = 0; // Count interviews needing feedback
-        Boolean availability = interviewer.getAvailability();
+        // Get statistics from the materialised counters
+        String scope = interviewerScope(interviewerId);
+        DashboardStats counters = dashboardStatsService.getStats(scope).get(scope);
 
         InterviewerDashboardResponse.DashboardStats stats = InterviewerDashboardResponse.DashboardStats.builder()
-                .totalInterviews(totalInterviews)
-                .upcomingInterviews(upcomingInterviews)
-                .completedInterviews(completedInterviews)
-                .pendingFeedbacks(pendingFeedbacks)
-                .availability(availability)
+                .totalInterviews(counters.get(TOTAL_INTERVIEWS))
+                .upcomingInterviews(counters.get(UPCOMING_INTERVIEWS))
+                .completedInterviews(counters.get(COMPLETED_INTERVIEWS))
+                .pendingFeedbacks(counters.get(PENDING_FEEDBACKS))
+                .availability(interviewer.getAvailability())
                 .build();
 
         // Get lists (mocked for now)
@@ -130,22 +113,19 @@ public class DashboardServiceImpl implements DashboardService {
     @Override
     public CandidateDashboardResponse getCandidateDashboard(String candidateId) {
         // Get candidate
-        var candidate = candidateRepository.findById(candidateId)
+        var candidate = entityCache.findCandidate(candidateId)
                 .orElseThrow(() -> new RuntimeException("Candidate not found"));
 
-        // Get statistics
-        long totalInterviews = 0; // Count all interviews for this candidate
-        long upcomingInterviews = 0; // Count scheduled interviews in the future
-        long completedInterviews = 0; // Count completed interviews
-        long pendingConfirmations = 0; // Count interviews awaiting confirmation
-        String currentStatus = candidate.getStatus().toString();
+        // Get statistics from the materialised counters
+        String scope = candidateScope(candidateId);
+        DashboardStats counters = dashboardStatsService.getStats(scope).get(scope);
 
         CandidateDashboardResponse.DashboardStats stats = CandidateDashboardResponse.DashboardStats.builder()
-                .totalInterviews(totalInterviews)
-                .upcomingInterviews(upcomingInterviews)
-                .completedInterviews(completedInterviews)
-                .pendingConfirmations(pendingConfirmations)
-                .currentStatus(currentStatus)
+                .totalInterviews(counters.get(TOTAL_INTERVIEWS))
+                .upcomingInterviews(counters.get(UPCOMING_INTERVIEWS))
+                .completedInterviews(counters.get(COMPLETED_INTERVIEWS))
+                .pendingConfirmations(counters.get(PENDING_CONFIRMATIONS))
+                .currentStatus(candidate.getStatus().toString())
                 .build();
 
         // Get lists (mocked for now)
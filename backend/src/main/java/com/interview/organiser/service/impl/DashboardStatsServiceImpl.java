@@ -0,0 +1,235 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.constants.enums.CandidateStatus;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.constants.enums.VerificationStatus;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.DashboardStats;
+import com.interview.organiser.model.entity.Feedback;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.model.entity.Recruiter;
+import com.interview.organiser.model.entity.User;
+import com.interview.organiser.repository.CounterReconciler;
+import com.interview.organiser.repository.ReferenceResolver;
+import com.interview.organiser.service.DashboardStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.interview.organiser.constants.DashboardCounters.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsServiceImpl implements DashboardStatsService {
+
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final CounterReconciler counterReconciler;
+
+    @Override
+    public Snapshot snapshot(Interview interview) {
+        if (interview == null) {
+            return Snapshot.EMPTY;
+        }
+        List<String> interviewerIds = interview.getInterviewers() != null
+                ? interview.getInterviewers().stream().map(Interviewer::getId).toList()
+                : List.of();
+        return interviewContribution(
+                interview.getRecruiterId(),
+                interview.getCandidate() != null ? interview.getCandidate().getId() : null,
+                interviewerIds,
+                interview.getStatus(),
+                Boolean.TRUE.equals(interview.getCandidateConfirmed()),
+                Boolean.TRUE.equals(interview.getFeedbackRequested())
+                        && !Boolean.TRUE.equals(interview.getFeedbackSubmitted()));
+    }
+
+    @Override
+    public Snapshot snapshot(Candidate candidate) {
+        if (candidate == null) {
+            return Snapshot.EMPTY;
+        }
+        return candidateContribution(candidate.getRecruiterId(), candidate.getStatus());
+    }
+
+    @Override
+    public Snapshot snapshot(Recruiter recruiter) {
+        if (recruiter == null) {
+            return Snapshot.EMPTY;
+        }
+        return recruiterContribution(recruiter.getVerificationStatus());
+    }
+
+    @Override
+    public void recordChange(Snapshot before, Snapshot after) {
+        Snapshot delta = Snapshot.difference(before, after);
+        if (delta.counters().isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DashboardStats.class);
+        delta.counters().forEach((scope, counters) -> {
+            Update update = new Update().set("updatedAt", now).inc(CounterReconciler.GENERATION, 1);
+            counters.forEach((counter, value) -> update.inc("counters." + counter, value));
+            bulk.upsert(Query.query(Criteria.where("_id").is(scope)), update);
+        });
+        bulk.execute();
+    }
+
+    @Override
+    public void increment(String scope, String counter, long delta) {
+        recordChange(Snapshot.EMPTY, new Snapshot().add(scope, counter, delta));
+    }
+
+    @Override
+    public Map<String, DashboardStats> getStats(String... scopes) {
+        Map<String, DashboardStats> stats = new LinkedHashMap<>();
+        for (String scope : scopes) {
+            stats.put(scope, DashboardStats.builder().id(scope).build());
+        }
+        mongoTemplate.find(Query.query(Criteria.where("_id").in(Arrays.asList(scopes))), DashboardStats.class)
+                .forEach(document -> stats.put(document.getId(), document));
+        return stats;
+    }
+
+    @Override
+    public void reconcile() {
+        log.info("Reconciling dashboard stats from source collections");
+        Map<String, CounterReconciler.Stored> stored = counterReconciler.read(DashboardStats.class);
+        Snapshot totals = new Snapshot();
+
+        totals.add(GLOBAL_SCOPE, TOTAL_USERS, mongoTemplate.count(new Query(), User.class));
+        totals.add(GLOBAL_SCOPE, TOTAL_INTERVIEWERS, mongoTemplate.count(new Query(), Interviewer.class));
+
+        Query recruiters = new Query();
+        recruiters.fields().include("verificationStatus");
+        try (Stream<Document> documents = stream(recruiters, Recruiter.class)) {
+            documents.forEach(document -> totals.addAll(recruiterContribution(
+                    enumValue(VerificationStatus.class, document.getString("verificationStatus")))));
+        }
+
+        Query candidates = new Query();
+        candidates.fields().include("recruiterId").include("status");
+        try (Stream<Document> documents = stream(candidates, Candidate.class)) {
+            documents.forEach(document -> totals.addAll(candidateContribution(
+                    document.getString("recruiterId"),
+                    enumValue(CandidateStatus.class, document.getString("status")))));
+        }
+
+        // Feedback written before Interview.feedbackSubmitted existed only shows up through its interview reference
+        Set<Object> interviewsWithFeedback = new HashSet<>();
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Feedback.class))
+                .distinct("interview.$id", Object.class)
+                .into(new ArrayList<>())
+                .forEach(interviewsWithFeedback::add);
+
+        Query interviews = new Query();
+        interviews.fields().include("recruiterId").include("candidate").include("interviewers").include("status")
+                .include("candidateConfirmed").include("feedbackRequested").include("feedbackSubmitted");
+        try (Stream<Document> documents = stream(interviews, Interview.class)) {
+            documents.forEach(document -> {
+                Object candidateId = ReferenceResolver.refId(document.get("candidate"));
+                List<String> interviewerIds = new ArrayList<>();
+                if (document.get("interviewers") instanceof List<?> refs) {
+                    for (Object ref : refs) {
+                        Object interviewerId = ReferenceResolver.refId(ref);
+                        if (interviewerId != null) {
+                            interviewerIds.add(interviewerId.toString());
+                        }
+                    }
+                }
+                boolean feedbackSubmitted = Boolean.TRUE.equals(document.getBoolean("feedbackSubmitted"))
+                        || interviewsWithFeedback.contains(document.get("_id"));
+                totals.addAll(interviewContribution(
+                        document.getString("recruiterId"),
+                        candidateId != null ? candidateId.toString() : null,
+                        interviewerIds,
+                        enumValue(InterviewStatus.class, document.getString("status")),
+                        Boolean.TRUE.equals(document.getBoolean("candidateConfirmed")),
+                        Boolean.TRUE.equals(document.getBoolean("feedbackRequested")) && !feedbackSubmitted));
+            });
+        }
+
+        // Corrections are applied as guarded $inc, so counter updates made during the recount are kept
+        counterReconciler.apply(DashboardStats.class, stored, totals.counters());
+
+        log.info("Reconciled {} dashboard stats scopes", totals.counters().size());
+    }
+
+    private Snapshot interviewContribution(String recruiterId, String candidateId, List<String> interviewerIds,
+                                           InterviewStatus status, boolean candidateConfirmed,
+                                           boolean feedbackPending) {
+        boolean scheduled = status == InterviewStatus.SCHEDULED;
+        boolean completed = status == InterviewStatus.COMPLETED;
+
+        Snapshot snapshot = new Snapshot();
+        snapshot.add(GLOBAL_SCOPE, TOTAL_INTERVIEWS, 1);
+        snapshot.add(GLOBAL_SCOPE, ACTIVE_INTERVIEWS, scheduled ? 1 : 0);
+
+        List<String> scopes = new ArrayList<>();
+        if (recruiterId != null) {
+            scopes.add(recruiterScope(recruiterId));
+        }
+        interviewerIds.forEach(interviewerId -> scopes.add(interviewerScope(interviewerId)));
+        for (String scope : scopes) {
+            snapshot.add(scope, TOTAL_INTERVIEWS, 1);
+            snapshot.add(scope, UPCOMING_INTERVIEWS, scheduled ? 1 : 0);
+            snapshot.add(scope, COMPLETED_INTERVIEWS, completed ? 1 : 0);
+            snapshot.add(scope, PENDING_FEEDBACKS, feedbackPending ? 1 : 0);
+        }
+
+        if (candidateId != null) {
+            String scope = candidateScope(candidateId);
+            snapshot.add(scope, TOTAL_INTERVIEWS, 1);
+            snapshot.add(scope, UPCOMING_INTERVIEWS, scheduled ? 1 : 0);
+            snapshot.add(scope, COMPLETED_INTERVIEWS, completed ? 1 : 0);
+            snapshot.add(scope, PENDING_CONFIRMATIONS, scheduled && !candidateConfirmed ? 1 : 0);
+        }
+        return snapshot;
+    }
+
+    private Snapshot candidateContribution(String recruiterId, CandidateStatus status) {
+        Snapshot snapshot = new Snapshot().add(GLOBAL_SCOPE, TOTAL_CANDIDATES, 1);
+        if (recruiterId != null) {
+            snapshot.add(recruiterScope(recruiterId), TOTAL_CANDIDATES, 1);
+            snapshot.add(recruiterScope(recruiterId), ACTIVE_CANDIDATES, status != CandidateStatus.REJECTED ? 1 : 0);
+        }
+        return snapshot;
+    }
+
+    private Snapshot recruiterContribution(VerificationStatus status) {
+        return new Snapshot()
+                .add(GLOBAL_SCOPE, TOTAL_RECRUITERS, 1)
+                .add(GLOBAL_SCOPE, VERIFIED_RECRUITERS, status == VerificationStatus.VERIFIED ? 1 : 0)
+                .add(GLOBAL_SCOPE, PENDING_RECRUITERS, status == VerificationStatus.PENDING ? 1 : 0);
+    }
+
+    private Stream<Document> stream(Query query, Class<?> entityClass) {
+        query.cursorBatchSize(RECONCILE_BATCH_SIZE);
+        return mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(entityClass));
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+}
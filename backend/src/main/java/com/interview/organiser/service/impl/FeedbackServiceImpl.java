@@ -2,6 +2,7 @@ package com.interview.organiser.service.impl;
 
 import com.interview.organiser.constants.AppConstants;
 import com.interview.organiser.exception.ResourceNotFoundException;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.SubmitFeedbackRequest;
 import com.interview.organiser.model.dto.request.UpdateFeedbackRequest;
 import com.interview.organiser.model.dto.response.FeedbackResponse;
@@ -9,20 +10,40 @@ import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
 import com.interview.organiser.model.entity.Feedback;
 import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.repository.ConflictRetry;
+import com.interview.organiser.repository.CursorStreamer;
 import com.interview.organiser.repository.FeedbackRepository;
 import com.interview.organiser.repository.InterviewRepository;
+import com.interview.organiser.repository.KeysetPager;
+import com.interview.organiser.repository.KeysetSlice;
+import com.interview.organiser.repository.OffsetPager;
+import com.interview.organiser.repository.PartialUpdater;
+import com.interview.organiser.repository.ReferenceResolver;
+import com.interview.organiser.service.CalibrationStatsService;
+import com.interview.organiser.service.DashboardStatsService;
 import com.interview.organiser.service.FeedbackService;
 import com.interview.organiser.util.EntityMapper;
+import com.interview.organiser.util.FieldSelection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -31,42 +52,38 @@ public class FeedbackServiceImpl implements FeedbackService {
 
     private final FeedbackRepository feedbackRepository;
     private final InterviewRepository interviewRepository;
+    private final KeysetPager keysetPager;
+    private final OffsetPager offsetPager;
+    private final PartialUpdater partialUpdater;
+    private final ConflictRetry conflictRetry;
+    private final CursorStreamer cursorStreamer;
+    private final ReferenceResolver referenceResolver;
+    private final MongoTemplate mongoTemplate;
+    private final DashboardStatsService dashboardStatsService;
+    private final CalibrationStatsService calibrationStatsService;
     private final EntityMapper entityMapper;
 
     @Override
     public PageResponse<FeedbackResponse> getAllFeedback(String interviewId, String candidateId,
-                                                          String interviewerId, Pageable pageable) {
-        log.info("Fetching all feedback with interviewId: {}, candidateId: {}, interviewerId: {}",
-                interviewId, candidateId, interviewerId);
+                                                          String interviewerId, Pageable pageable,
+                                                          FieldSelection fields) {
+        log.info("Fetching all feedback with interviewId: {}, candidateId: {}, interviewerId: {}, fields: {}",
+                interviewId, candidateId, interviewerId, fields);
 
         Page<Feedback> feedbackPage;
 
-        if (interviewId != null) {
+        if (!fields.isAll()) {
+            // Interviews and their references are resolved in batches, and only when selected
+            Page<Document> documents = offsetPager.find(mongoTemplate.getCollectionName(Feedback.class),
+                    buildCriteria(interviewId, candidateId, interviewerId), pageable, fields.documentFields(Map.of()));
+            feedbackPage = new PageImpl<>(referenceResolver.resolveFeedback(documents.getContent(), fields),
+                    pageable, documents.getTotalElements());
+        } else if (interviewId != null) {
             feedbackPage = feedbackRepository.findByInterviewIdPage(interviewId, pageable);
         } else if (candidateId != null) {
-            // First find all interviews for the candidate
-            List<Interview> interviews = interviewRepository.findByCandidateId(candidateId, Pageable.unpaged()).getContent();
-            List<String> interviewIds = interviews.stream()
-                    .map(Interview::getId)
-                    .collect(Collectors.toList());
-
-            if (interviewIds.isEmpty()) {
-                feedbackPage = Page.empty(pageable);
-            } else {
-                feedbackPage = feedbackRepository.findByCandidateInterviewIds(interviewIds, pageable);
-            }
+            feedbackPage = feedbackRepository.findByCandidateId(candidateId, pageable);
         } else if (interviewerId != null) {
-            // First find all interviews for the interviewer
-            List<Interview> interviews = interviewRepository.findByInterviewerId(interviewerId, Pageable.unpaged()).getContent();
-            List<String> interviewIds = interviews.stream()
-                    .map(Interview::getId)
-                    .collect(Collectors.toList());
-
-            if (interviewIds.isEmpty()) {
-                feedbackPage = Page.empty(pageable);
-            } else {
-                feedbackPage = feedbackRepository.findByInterviewerInterviewIds(interviewIds, pageable);
-            }
+            feedbackPage = feedbackRepository.findByInterviewerIds(interviewerId, pageable);
         } else {
             feedbackPage = feedbackRepository.findAll(pageable);
         }
@@ -85,15 +102,65 @@ public class FeedbackServiceImpl implements FeedbackService {
     }
 
     @Override
-    @Transactional
+    public PageResponse<FeedbackResponse> getAllFeedback(String interviewId, String candidateId,
+                                                          String interviewerId, CursorPageRequest cursorRequest,
+                                                          FieldSelection fields) {
+        log.info("Fetching feedback after cursor with interviewId: {}, candidateId: {}, interviewerId: {}, fields: {}",
+                interviewId, candidateId, interviewerId, fields);
+
+        Criteria criteria = buildCriteria(interviewId, candidateId, interviewerId);
+        KeysetSlice<Feedback> feedbackSlice = fields.isAll()
+                ? keysetPager.find(Feedback.class, criteria, cursorRequest)
+                : keysetPager.find(mongoTemplate.getCollectionName(Feedback.class), criteria, KeysetPager.ID_KEYS,
+                                cursorRequest, fields.documentFields(Map.of()))
+                        .mapContent(documents -> referenceResolver.resolveFeedback(documents, fields));
+
+        List<FeedbackResponse> feedbackResponses = feedbackSlice.getContent().stream()
+                .map(entityMapper::toFeedbackResponse)
+                .collect(Collectors.toList());
+
+        return PageResponse.<FeedbackResponse>builder()
+                .content(feedbackResponses)
+                .size(feedbackSlice.getSize())
+                .totalElements(feedbackSlice.getTotalElements())
+                .nextCursor(feedbackSlice.getNextCursor())
+                .hasNext(feedbackSlice.hasNext())
+                .build();
+    }
+
+    @Override
+    public Stream<FeedbackResponse> streamFeedback(String interviewId, String candidateId, String interviewerId,
+                                                   FieldSelection fields) {
+        log.info("Streaming feedback with interviewId: {}, candidateId: {}, interviewerId: {}, fields: {}",
+                interviewId, candidateId, interviewerId, fields);
+
+        return cursorStreamer.stream(mongoTemplate.getCollectionName(Feedback.class),
+                        buildCriteria(interviewId, candidateId, interviewerId), Sort.by("_id"),
+                        fields.documentFields(Map.of()),
+                        documents -> referenceResolver.resolveFeedback(documents, fields))
+                .map(entityMapper::toFeedbackResponse);
+    }
+
+    @Override
     public FeedbackResponse submitFeedback(SubmitFeedbackRequest request) {
         log.info("Submitting feedback for interview id: {}", request.getInterviewId());
 
+        // Aborted by a concurrent counter write, the whole attempt is rolled back and run again
+        return conflictRetry.run(false, () -> submit(request));
+    }
+
+    private FeedbackResponse submit(SubmitFeedbackRequest request) {
         Interview interview = interviewRepository.findById(request.getInterviewId())
                 .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
 
         Feedback feedback = Feedback.builder()
                 .interview(interview)
+                .candidateId(interview.getCandidate() != null ? interview.getCandidate().getId() : null)
+                .interviewerIds(interview.getInterviewers() != null
+                        ? interview.getInterviewers().stream().map(Interviewer::getId).toList()
+                        : List.of())
+                .position(interview.getCandidate() != null ? interview.getCandidate().getPosition() : null)
+                .interviewResult(interview.getResult())
                 .rating(request.getRating())
                 .technicalSkills(request.getTechnicalSkills())
                 .communicationSkills(request.getCommunicationSkills())
@@ -109,10 +176,31 @@ public class FeedbackServiceImpl implements FeedbackService {
                 .build();
 
         Feedback savedFeedback = feedbackRepository.save(feedback);
+        calibrationStatsService.recordChange(DashboardStatsService.Snapshot.EMPTY,
+                calibrationStatsService.snapshot(savedFeedback));
+
+        markFeedbackSubmitted(interview.getId());
 
         return entityMapper.toFeedbackResponse(savedFeedback);
     }
 
+    /**
+     * Sets the interview's feedback flag with one guarded findAndModify, so it cannot hit a version conflict
+     * after the feedback is saved; only the request that flips the flag moves the dashboard counters.
+     */
+    private void markFeedbackSubmitted(String interviewId) {
+        Interview before = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(ReferenceResolver.storedId(interviewId))
+                        .and("feedbackSubmitted").ne(true)),
+                new Update().set("feedbackSubmitted", true).set("updatedAt", LocalDateTime.now()).inc("version", 1),
+                FindAndModifyOptions.options().returnNew(false), Interview.class);
+        if (before != null) {
+            DashboardStatsService.Snapshot snapshot = dashboardStatsService.snapshot(before);
+            before.setFeedbackSubmitted(true);
+            dashboardStatsService.recordChange(snapshot, dashboardStatsService.snapshot(before));
+        }
+    }
+
     @Override
     public FeedbackResponse getFeedbackById(String feedbackId) {
         log.info("Fetching feedback with id: {}", feedbackId);
@@ -124,63 +212,58 @@ public class FeedbackServiceImpl implements FeedbackService {
     }
 
     @Override
-    @Transactional
     public FeedbackResponse updateFeedback(String feedbackId, UpdateFeedbackRequest request) {
         log.info("Updating feedback with id: {}", feedbackId);
 
-        Feedback feedback = feedbackRepository.findById(feedbackId)
-                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.FEEDBACK_NOT_FOUND));
-
-        if (request.getRating() != null) {
-            feedback.setRating(request.getRating());
-        }
-        if (request.getTechnicalSkills() != null) {
-            feedback.setTechnicalSkills(request.getTechnicalSkills());
-        }
-        if (request.getCommunicationSkills() != null) {
-            feedback.setCommunicationSkills(request.getCommunicationSkills());
-        }
-        if (request.getProblemSolving() != null) {
-            feedback.setProblemSolving(request.getProblemSolving());
-        }
-        if (request.getCulturalFit() != null) {
-            feedback.setCulturalFit(request.getCulturalFit());
-        }
-        if (request.getComments() != null) {
-            feedback.setComments(request.getComments());
-        }
-        if (request.getStrengths() != null) {
-            feedback.setStrengths(request.getStrengths());
-        }
-        if (request.getWeaknesses() != null) {
-            feedback.setWeaknesses(request.getWeaknesses());
-        }
-        if (request.getRecommendation() != null) {
-            feedback.setRecommendation(request.getRecommendation());
-        }
-
-        feedback.setUpdatedAt(LocalDateTime.now());
+        return conflictRetry.run(request.getVersion() == null, () -> update(feedbackId, request));
+    }
 
-        Feedback updatedFeedback = feedbackRepository.save(feedback);
+    private FeedbackResponse update(String feedbackId, UpdateFeedbackRequest request) {
+        PartialUpdater.Result result = partialUpdater.update(Feedback.class, feedbackId, request)
+                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.FEEDBACK_NOT_FOUND));
+        calibrationStatsService.recordChange(calibrationStatsService.snapshot(result.before()),
+                calibrationStatsService.snapshot(result.after()));
+        Feedback updatedFeedback = referenceResolver.resolveFeedback(List.of(result.after()), FieldSelection.ALL)
+                .getFirst();
 
         return entityMapper.toFeedbackResponse(updatedFeedback);
     }
 
     @Override
-    @Transactional
     public MessageResponse deleteFeedback(String feedbackId) {
         log.info("Deleting feedback with id: {}", feedbackId);
 
-        if (!feedbackRepository.existsById(feedbackId)) {
+        return conflictRetry.run(true, () -> delete(feedbackId));
+    }
+
+    private MessageResponse delete(String feedbackId) {
+        // Removed and read in one step so its calibration counters are taken away exactly once
+        Document deleted = mongoTemplate.findAndRemove(
+                Query.query(Criteria.where("_id").is(ReferenceResolver.storedId(feedbackId))),
+                Document.class, mongoTemplate.getCollectionName(Feedback.class));
+        if (deleted == null) {
             throw new ResourceNotFoundException(AppConstants.FEEDBACK_NOT_FOUND);
         }
-
-        feedbackRepository.deleteById(feedbackId);
+        calibrationStatsService.recordChange(calibrationStatsService.snapshot(deleted),
+                DashboardStatsService.Snapshot.EMPTY);
 
         return MessageResponse.builder()
                 .message("Feedback deleted successfully")
                 .timestamp(LocalDateTime.now())
                 .build();
     }
-}
 
+    /**
+     * Same filter precedence as the paged finders: interview, then candidate, then interviewer.
+     */
+    private Criteria buildCriteria(String interviewId, String candidateId, String interviewerId) {
+        if (interviewId != null) {
+            return Criteria.where("interview.$id").is(ReferenceResolver.storedId(interviewId));
+        } else if (candidateId != null) {
+            return Criteria.where("candidateId").is(candidateId);
+        } else if (interviewerId != null) {
+            return Criteria.where("interviewerIds").is(interviewerId);
+        }
+        return new Criteria();
+    }
+}
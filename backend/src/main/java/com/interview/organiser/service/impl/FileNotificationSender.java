@@ -0,0 +1,48 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.model.entity.Notification;
+import com.interview.organiser.service.NotificationSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Local stand-in for an SMTP relay: appends one mail-like block per recipient batch to a file,
+ * which tests and local environments can inspect.
+ */
+@Service
+@ConditionalOnProperty(name = "app.notifications.sender", havingValue = "file")
+public class FileNotificationSender implements NotificationSender {
+
+    private final Path path;
+
+    public FileNotificationSender(@Value("${app.notifications.file.path:notifications.log}") String path) {
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public synchronized void send(String recipient, List<Notification> notifications) throws IOException {
+        StringBuilder mail = new StringBuilder()
+                .append("To: ").append(recipient).append('\n')
+                .append("Date: ").append(LocalDateTime.now()).append('\n')
+                .append("Messages: ").append(notifications.size()).append("\n\n");
+        for (Notification notification : notifications) {
+            mail.append("Subject: ").append(notification.getSubject()).append('\n')
+                    .append(notification.getBody()).append("\n\n");
+        }
+        mail.append("----\n");
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, mail, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
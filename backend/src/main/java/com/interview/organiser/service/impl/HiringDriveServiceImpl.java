@@ -0,0 +1,264 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.constants.AppConstants;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.exception.BadRequestException;
+import com.interview.organiser.model.dto.request.BulkScheduleInterviewRequest;
+import com.interview.organiser.model.dto.request.HiringDriveRequest;
+import com.interview.organiser.model.dto.request.ScheduleInterviewRequest;
+import com.interview.organiser.model.dto.response.BulkScheduleInterviewResponse;
+import com.interview.organiser.model.dto.response.HiringDriveResponse;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.repository.ReferenceResolver;
+import com.interview.organiser.service.HiringDriveService;
+import com.interview.organiser.service.InterviewService;
+import com.interview.organiser.service.InterviewerCalendarService;
+import com.interview.organiser.util.HiringDriveSolver;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class HiringDriveServiceImpl implements HiringDriveService {
+
+    static final LocalTime DEFAULT_DAY_START = LocalTime.of(9, 0);
+    static final LocalTime DEFAULT_DAY_END = LocalTime.of(17, 0);
+    static final int DEFAULT_MAX_INTERVIEWS_PER_DAY = 4;
+    // Fixed so that a dry run and the following commit produce the same plan
+    private static final long SEED = 0x5EED;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReferenceResolver referenceResolver;
+    private final InterviewerCalendarService interviewerCalendarService;
+    private final InterviewService interviewService;
+    private final int restarts;
+    private final int iterations;
+
+    public HiringDriveServiceImpl(MongoTemplate mongoTemplate,
+                                  ReferenceResolver referenceResolver,
+                                  InterviewerCalendarService interviewerCalendarService,
+                                  InterviewService interviewService,
+                                  @Value("${app.hiring-drive.restarts:0}") int restarts,
+                                  @Value("${app.hiring-drive.iterations:2000}") int iterations) {
+        this.mongoTemplate = mongoTemplate;
+        this.referenceResolver = referenceResolver;
+        this.interviewerCalendarService = interviewerCalendarService;
+        this.interviewService = interviewService;
+        // One restart per core by default; each runs on the common fork-join pool
+        this.restarts = restarts > 0 ? restarts : Runtime.getRuntime().availableProcessors();
+        this.iterations = iterations;
+    }
+
+    @Override
+    public HiringDriveResponse planDrive(HiringDriveRequest request) {
+        int duration = request.getDuration() != null ? request.getDuration() : AppConstants.DEFAULT_INTERVIEW_DURATION;
+        int panelSize = request.getPanelSize() != null ? request.getPanelSize() : 1;
+        int rounds = request.getRounds() != null ? request.getRounds() : 1;
+        int firstRound = request.getFirstRound() != null ? request.getFirstRound() : 1;
+        int maxPerDay = request.getMaxInterviewsPerInterviewerPerDay() != null
+                ? request.getMaxInterviewsPerInterviewerPerDay() : DEFAULT_MAX_INTERVIEWS_PER_DAY;
+        LocalTime dayStart = request.getDayStart() != null ? request.getDayStart() : DEFAULT_DAY_START;
+        LocalTime dayEnd = request.getDayEnd() != null ? request.getDayEnd() : DEFAULT_DAY_END;
+        log.info("Planning hiring drive for {} candidates and {} interviewers from {} to {}{}",
+                request.getCandidateIds().size(), request.getInterviewerIds().size(),
+                request.getFromDate(), request.getToDate(), request.isDryRun() ? " (dry run)" : "");
+
+        if (request.getToDate().isBefore(request.getFromDate())) {
+            throw new BadRequestException("End date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(request.getFromDate(), request.getToDate()) >= AppConstants.MAX_HIRING_DRIVE_DAYS) {
+            throw new BadRequestException("A hiring drive can span at most " + AppConstants.MAX_HIRING_DRIVE_DAYS + " days");
+        }
+        if (!dayEnd.isAfter(dayStart)) {
+            throw new BadRequestException("Day end must be after day start");
+        }
+
+        List<String> candidateIds = List.copyOf(new LinkedHashSet<>(request.getCandidateIds()));
+        // The plan is committed as one bulk request, so it has to fit in one
+        if ((long) candidateIds.size() * rounds > AppConstants.MAX_BULK_SCHEDULE_SIZE) {
+            throw new BadRequestException("A hiring drive can schedule at most "
+                    + AppConstants.MAX_BULK_SCHEDULE_SIZE + " interviews");
+        }
+
+        // Unknown candidates are reported as unplaced; unknown or unavailable interviewers are left out of the pool
+        Map<Object, Candidate> candidates = referenceResolver.findCandidates(
+                candidateIds.stream().map(ReferenceResolver::storedId).toList());
+        List<String> knownCandidateIds = new ArrayList<>();
+        List<String> unplacedCandidateIds = new ArrayList<>();
+        for (String candidateId : candidateIds) {
+            if (candidates.containsKey(ReferenceResolver.storedId(candidateId))) {
+                knownCandidateIds.add(candidateId);
+            } else {
+                unplacedCandidateIds.add(candidateId);
+            }
+        }
+        Map<Object, Interviewer> interviewers = referenceResolver.findInterviewers(
+                new LinkedHashSet<>(request.getInterviewerIds()).stream().map(ReferenceResolver::storedId).toList());
+        List<String> pool = interviewers.values().stream()
+                .filter(interviewer -> !Boolean.FALSE.equals(interviewer.getAvailability()))
+                .map(Interviewer::getId)
+                .sorted()
+                .toList();
+        if (pool.size() < panelSize) {
+            throw new BadRequestException("Only " + pool.size() + " available interviewers for panels of " + panelSize);
+        }
+
+        // Back-to-back slots within working hours, from now on
+        LocalDateTime now = LocalDateTime.now();
+        List<LocalDateTime> slotStarts = new ArrayList<>();
+        List<Integer> slotDays = new ArrayList<>();
+        Map<LocalDate, Integer> dayIndexes = new HashMap<>();
+        for (LocalDate day = request.getFromDate(); !day.isAfter(request.getToDate()); day = day.plusDays(1)) {
+            if (!request.isIncludeWeekends()
+                    && (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY)) {
+                continue;
+            }
+            for (LocalDateTime start = day.atTime(dayStart);
+                 !start.plusMinutes(duration).isAfter(day.atTime(dayEnd)) && start.toLocalDate().equals(day);
+                 start = start.plusMinutes(duration)) {
+                if (start.isAfter(now)) {
+                    slotDays.add(dayIndexes.computeIfAbsent(day, key -> dayIndexes.size()));
+                    slotStarts.add(start);
+                }
+            }
+        }
+        if (slotStarts.isEmpty()) {
+            throw new BadRequestException("No upcoming " + duration + " minute slots in the given window");
+        }
+
+        boolean[][] busy = new boolean[pool.size()][slotStarts.size()];
+        for (int interviewer = 0; interviewer < pool.size(); interviewer++) {
+            for (int slot = 0; slot < slotStarts.size(); slot++) {
+                LocalDateTime start = slotStarts.get(slot);
+                busy[interviewer][slot] = !interviewerCalendarService.isFree(pool.get(interviewer), start,
+                        start.plusMinutes(duration));
+            }
+        }
+        int[][] existingDailyLoad = existingDailyLoad(pool, dayIndexes, request.getFromDate(), request.getToDate());
+
+        HiringDriveSolver.Problem problem = new HiringDriveSolver.Problem(knownCandidateIds.size(), pool.size(),
+                slotDays.stream().mapToInt(Integer::intValue).toArray(), dayIndexes.size(), busy, existingDailyLoad,
+                panelSize, rounds, maxPerDay);
+        long started = System.nanoTime();
+        HiringDriveSolver.Solution solution = knownCandidateIds.isEmpty()
+                ? new HiringDriveSolver.Solution(List.of(), 0, 0, 0, 0)
+                : HiringDriveSolver.solve(problem, restarts, iterations, SEED);
+        log.info("Placed {} of {} candidates into {} slots in {} ms", solution.placedCandidates(),
+                knownCandidateIds.size(), slotStarts.size(), (System.nanoTime() - started) / 1_000_000);
+
+        boolean[] placed = new boolean[knownCandidateIds.size()];
+        List<HiringDriveResponse.PlannedInterview> plan = new ArrayList<>();
+        for (HiringDriveSolver.Assignment assignment : solution.assignments()) {
+            placed[assignment.candidate()] = true;
+            List<String> panel = new ArrayList<>();
+            for (int interviewer : assignment.panel()) {
+                panel.add(pool.get(interviewer));
+            }
+            plan.add(HiringDriveResponse.PlannedInterview.builder()
+                    .candidateId(knownCandidateIds.get(assignment.candidate()))
+                    .round(firstRound + assignment.round())
+                    .scheduledAt(slotStarts.get(assignment.slot()))
+                    .duration(duration)
+                    .interviewerIds(panel)
+                    .build());
+        }
+        for (int candidate = 0; candidate < placed.length; candidate++) {
+            if (!placed[candidate]) {
+                unplacedCandidateIds.add(knownCandidateIds.get(candidate));
+            }
+        }
+
+        HiringDriveResponse response = HiringDriveResponse.builder()
+                .dryRun(request.isDryRun())
+                .candidates(candidateIds.size())
+                .placedCandidates(solution.placedCandidates())
+                .unplacedCandidateIds(unplacedCandidateIds)
+                .plan(plan)
+                .build();
+        if (!request.isDryRun() && !plan.isEmpty()) {
+            List<ScheduleInterviewRequest> items = plan.stream()
+                    .map(planned -> ScheduleInterviewRequest.builder()
+                            .recruiterId(request.getRecruiterId())
+                            .candidateId(planned.getCandidateId())
+                            .interviewerIds(planned.getInterviewerIds())
+                            .scheduledAt(planned.getScheduledAt())
+                            .duration(planned.getDuration())
+                            .interviewType(request.getInterviewType())
+                            .round(planned.getRound())
+                            .meetingLink(request.getMeetingLink())
+                            .build())
+                    .toList();
+            // Calendar bookings are re-checked there; a slot taken since planning fails all rounds of its candidate,
+            // who then counts as unplaced rather than being left with a partial schedule
+            BulkScheduleInterviewResponse scheduling = interviewService.scheduleInterviews(
+                    new BulkScheduleInterviewRequest(items), true);
+            Set<String> failedCandidateIds = new LinkedHashSet<>();
+            for (BulkScheduleInterviewResponse.ItemResult result : scheduling.getResults()) {
+                if (!result.isSuccess()) {
+                    failedCandidateIds.add(items.get(result.getIndex()).getCandidateId());
+                }
+            }
+            unplacedCandidateIds.addAll(failedCandidateIds);
+            response.setPlacedCandidates(solution.placedCandidates() - failedCandidateIds.size());
+            response.setScheduling(scheduling);
+        }
+        return response;
+    }
+
+    /**
+     * Counts the non-cancelled interviews each pooled interviewer already has on each day of the drive.
+     */
+    private int[][] existingDailyLoad(List<String> pool, Map<LocalDate, Integer> dayIndexes, LocalDate fromDate,
+                                      LocalDate toDate) {
+        Map<String, Integer> poolIndexes = new HashMap<>();
+        for (int i = 0; i < pool.size(); i++) {
+            poolIndexes.put(pool.get(i), i);
+        }
+        int[][] load = new int[pool.size()][dayIndexes.size()];
+
+        Query query = Query.query(Criteria.where("interviewers.$id").in(pool.stream().map(ReferenceResolver::storedId).toList())
+                .and("status").ne(InterviewStatus.CANCELLED.name())
+                .and("scheduledAt").gte(fromDate.atStartOfDay()).lt(toDate.plusDays(1).atStartOfDay()));
+        query.fields().include("scheduledAt").include("interviewers");
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, ReferenceResolver.INTERVIEWS)) {
+            documents.forEach(document -> {
+                // Same zone Spring Data stores LocalDateTime with
+                LocalDate day = LocalDateTime.ofInstant(document.getDate("scheduledAt").toInstant(),
+                        ZoneId.systemDefault()).toLocalDate();
+                Integer dayIndex = dayIndexes.get(day);
+                if (dayIndex == null || !(document.get("interviewers") instanceof List<?> refs)) {
+                    return;
+                }
+                refs.stream()
+                        .map(ReferenceResolver::refId)
+                        .filter(Objects::nonNull)
+                        .map(id -> poolIndexes.get(id.toString()))
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .forEach(interviewer -> load[interviewer][dayIndex]++);
+            });
+        }
+        return load;
+    }
+}
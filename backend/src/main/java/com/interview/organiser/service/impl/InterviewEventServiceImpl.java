@@ -0,0 +1,106 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.constants.enums.InterviewEventType;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.InterviewEvent;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.service.InterviewEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewEventServiceImpl implements InterviewEventService {
+
+    public static final String COUNTERS = "counters";
+    public static final String EVENT_SEQUENCE = "interview_events";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public InterviewEvent append(InterviewEventType type, Interview interview, Map<String, Object> data) {
+        return insert(interviewEvent(nextSeq(1), type, interview, data));
+    }
+
+    @Override
+    public List<InterviewEvent> appendAll(InterviewEventType type, List<Interview> interviews) {
+        if (interviews.isEmpty()) {
+            return List.of();
+        }
+        long firstSeq = nextSeq(interviews.size()) - interviews.size() + 1;
+        List<InterviewEvent> events = new ArrayList<>(interviews.size());
+        for (int i = 0; i < interviews.size(); i++) {
+            events.add(interviewEvent(firstSeq + i, type, interviews.get(i), Map.of()));
+        }
+        List<InterviewEvent> saved = new ArrayList<>(mongoTemplate.insertAll(events));
+        log.debug("Appended {} {} events from #{}", saved.size(), type, firstSeq);
+        return saved;
+    }
+
+    @Override
+    public InterviewEvent append(InterviewEventType type, Candidate candidate, Map<String, Object> data) {
+        return insert(InterviewEvent.builder()
+                .seq(nextSeq(1))
+                .type(type)
+                .candidateId(candidate.getId())
+                .recruiterId(candidate.getRecruiterId())
+                .interviewerIds(List.of())
+                .data(data)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    private InterviewEvent interviewEvent(long seq, InterviewEventType type, Interview interview,
+                                          Map<String, Object> data) {
+        List<String> interviewerIds = interview.getInterviewers() != null
+                ? interview.getInterviewers().stream().map(Interviewer::getId).toList()
+                : List.of();
+        return InterviewEvent.builder()
+                .seq(seq)
+                .type(type)
+                .interviewId(interview.getId())
+                .candidateId(interview.getCandidate() != null ? interview.getCandidate().getId() : null)
+                .recruiterId(interview.getRecruiterId())
+                .interviewerIds(interviewerIds)
+                .status(interview.getStatus())
+                .data(data)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private InterviewEvent insert(InterviewEvent event) {
+        InterviewEvent saved = mongoTemplate.insert(event);
+        log.debug("Appended {} #{} for interview {}", saved.getType(), saved.getSeq(), saved.getInterviewId());
+        return saved;
+    }
+
+    /**
+     * Inside a transaction the counter write conflicts with every concurrent append, so sequence
+     * numbers become visible in order; the losing transaction aborts and ConflictRetry runs it again.
+     * Outside one a crash can leave a gap, which the tailer skips after a timeout. Reserves {@code count}
+     * consecutive numbers and returns the last one.
+     */
+    private long nextSeq(int count) {
+        Document counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(EVENT_SEQUENCE)),
+                new Update().inc("seq", (long) count),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                Document.class,
+                COUNTERS);
+        return ((Number) counter.get("seq")).longValue();
+    }
+}
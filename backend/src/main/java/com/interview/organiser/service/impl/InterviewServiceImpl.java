@@ -1,31 +1,55 @@
 package com.interview.organiser.service.impl;
 
 import com.interview.organiser.constants.AppConstants;
+import com.interview.organiser.constants.enums.InterviewEventType;
 import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.constants.enums.TimelineEntryType;
+import com.interview.organiser.exception.ConcurrentUpdateException;
 import com.interview.organiser.exception.ResourceNotFoundException;
+import com.interview.organiser.exception.SchedulingConflictException;
 import com.interview.organiser.model.dto.request.*;
+import com.interview.organiser.model.dto.response.BulkScheduleInterviewResponse;
 import com.interview.organiser.model.dto.response.InterviewResponse;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
 import com.interview.organiser.model.entity.Candidate;
 import com.interview.organiser.model.entity.Interview;
 import com.interview.organiser.model.entity.Interviewer;
-import com.interview.organiser.repository.CandidateRepository;
+import com.interview.organiser.repository.ConflictRetry;
+import com.interview.organiser.repository.EntityCache;
 import com.interview.organiser.repository.InterviewRepository;
-import com.interview.organiser.repository.InterviewerRepository;
+import com.interview.organiser.repository.KeysetSlice;
+import com.interview.organiser.repository.PartialUpdater;
+import com.interview.organiser.repository.ReferenceResolver;
+import com.interview.organiser.service.CalibrationStatsService;
+import com.interview.organiser.service.DashboardStatsService;
+import com.interview.organiser.service.InterviewEventService;
 import com.interview.organiser.service.InterviewService;
+import com.interview.organiser.service.InterviewTimelineService;
+import com.interview.organiser.service.InterviewerCalendarService;
+import com.interview.organiser.service.InterviewerWorkloadService;
 import com.interview.organiser.service.NotificationService;
 import com.interview.organiser.util.EntityMapper;
+import com.interview.organiser.util.FieldSelection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -33,35 +57,30 @@ import java.util.stream.Collectors;
 public class InterviewServiceImpl implements InterviewService {
 
     private final InterviewRepository interviewRepository;
-    private final CandidateRepository candidateRepository;
-    private final InterviewerRepository interviewerRepository;
+    private final EntityCache entityCache;
     private final NotificationService notificationService;
+    private final DashboardStatsService dashboardStatsService;
+    private final CalibrationStatsService calibrationStatsService;
+    private final InterviewEventService interviewEventService;
+    private final InterviewTimelineService interviewTimelineService;
+    private final InterviewerWorkloadService interviewerWorkloadService;
+    private final InterviewerCalendarService interviewerCalendarService;
+    private final ReferenceResolver referenceResolver;
+    private final PartialUpdater partialUpdater;
+    private final ConflictRetry conflictRetry;
     private final EntityMapper entityMapper;
 
     @Override
     public PageResponse<InterviewResponse> getAllInterviews(InterviewStatus status, String candidateId,
                                                              String interviewerId, LocalDateTime fromDate,
-                                                             LocalDateTime toDate, Pageable pageable) {
+                                                             LocalDateTime toDate, Pageable pageable,
+                                                             FieldSelection fields) {
         log.info("Fetching all interviews with status: {}, candidateId: {}, interviewerId: {}",
                 status, candidateId, interviewerId);
 
-        Page<Interview> interviewPage;
-
-        if (fromDate != null && toDate != null) {
-            interviewPage = interviewRepository.findByScheduledAtBetween(fromDate, toDate, pageable);
-        } else if (status != null && candidateId != null) {
-            interviewPage = interviewRepository.findByCandidateIdAndStatus(candidateId, status, pageable);
-        } else if (status != null && interviewerId != null) {
-            interviewPage = interviewRepository.findByInterviewerIdAndStatus(interviewerId, status, pageable);
-        } else if (status != null) {
-            interviewPage = interviewRepository.findByStatus(status, pageable);
-        } else if (candidateId != null) {
-            interviewPage = interviewRepository.findByCandidateId(candidateId, pageable);
-        } else if (interviewerId != null) {
-            interviewPage = interviewRepository.findByInterviewerId(interviewerId, pageable);
-        } else {
-            interviewPage = interviewRepository.findAll(pageable);
-        }
+        // References are resolved with one batched query per collection instead of per-document DBRef lookups
+        Page<Interview> interviewPage = interviewRepository.findAllWithReferences(
+                status, candidateId, interviewerId, fromDate, toDate, pageable, fields);
 
         List<InterviewResponse> interviewResponses = interviewPage.getContent().stream()
                 .map(entityMapper::toInterviewResponse)
@@ -77,20 +96,60 @@ public class InterviewServiceImpl implements InterviewService {
     }
 
     @Override
-    @Transactional
+    public PageResponse<InterviewResponse> getAllInterviews(InterviewStatus status, String candidateId,
+                                                             String interviewerId, LocalDateTime fromDate,
+                                                             LocalDateTime toDate, CursorPageRequest cursorRequest,
+                                                             FieldSelection fields) {
+        log.info("Fetching interviews after cursor with status: {}, candidateId: {}, interviewerId: {}",
+                status, candidateId, interviewerId);
+
+        KeysetSlice<Interview> interviewSlice = interviewRepository.findAllWithReferences(
+                status, candidateId, interviewerId, fromDate, toDate, cursorRequest, fields);
+
+        List<InterviewResponse> interviewResponses = interviewSlice.getContent().stream()
+                .map(entityMapper::toInterviewResponse)
+                .collect(Collectors.toList());
+
+        return PageResponse.<InterviewResponse>builder()
+                .content(interviewResponses)
+                .size(interviewSlice.getSize())
+                .totalElements(interviewSlice.getTotalElements())
+                .nextCursor(interviewSlice.getNextCursor())
+                .hasNext(interviewSlice.hasNext())
+                .build();
+    }
+
+    @Override
+    public Stream<InterviewResponse> streamInterviews(InterviewStatus status, String candidateId,
+                                                      String interviewerId, LocalDateTime fromDate,
+                                                      LocalDateTime toDate, FieldSelection fields) {
+        log.info("Streaming interviews with status: {}, candidateId: {}, interviewerId: {}",
+                status, candidateId, interviewerId);
+
+        return interviewRepository.streamWithReferences(status, candidateId, interviewerId, fromDate, toDate, fields)
+                .map(entityMapper::toInterviewResponse);
+    }
+
+    @Override
     public InterviewResponse scheduleInterview(ScheduleInterviewRequest request) {
         log.info("Scheduling interview for candidate: {} with interviewers: {}",
                 request.getCandidateId(), request.getInterviewerIds());
 
-        Candidate candidate = candidateRepository.findById(request.getCandidateId())
+        // An attempt aborted by a concurrent append, e.g. on the event sequence, is rolled back and run again
+        return conflictRetry.run(false, () -> schedule(request));
+    }
+
+    private InterviewResponse schedule(ScheduleInterviewRequest request) {
+        Candidate candidate = entityCache.findCandidate(request.getCandidateId())
                 .orElseThrow(() -> new ResourceNotFoundException(AppConstants.CANDIDATE_NOT_FOUND));
 
         List<Interviewer> interviewers = request.getInterviewerIds().stream()
-                .map(interviewerId -> interviewerRepository.findById(interviewerId)
+                .map(interviewerId -> entityCache.findInterviewer(interviewerId)
                         .orElseThrow(() -> new ResourceNotFoundException("Interviewer not found: " + interviewerId)))
                 .collect(Collectors.toList());
 
         Interview interview = Interview.builder()
+                .id(new ObjectId().toHexString())
                 .recruiterId(request.getRecruiterId())
                 .candidate(candidate)
                 .interviewers(interviewers)
@@ -105,17 +164,171 @@ public class InterviewServiceImpl implements InterviewService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        Interview savedInterview = interviewRepository.save(interview);
+        // The id is assigned up front so the slot can be booked atomically before the insert
+        Interview savedInterview = interviewerCalendarService.book(interview, () -> interviewRepository.insert(interview));
+        dashboardStatsService.recordChange(DashboardStatsService.Snapshot.EMPTY,
+                dashboardStatsService.snapshot(savedInterview));
+        interviewEventService.append(InterviewEventType.INTERVIEW_SCHEDULED, savedInterview, Map.of());
 
-        // Update interviewer's total interviews count for each interviewer
-        interviewers.forEach(interviewer -> {
-            interviewer.setTotalInterviews(interviewer.getTotalInterviews() + 1);
-            interviewerRepository.save(interviewer);
-        });
+        interviewerWorkloadService.recordScheduled(interviewers);
 
         return entityMapper.toInterviewResponse(savedInterview);
     }
 
+    @Override
+    public BulkScheduleInterviewResponse scheduleInterviews(BulkScheduleInterviewRequest request) {
+        return scheduleInterviews(request, false);
+    }
+
+    @Override
+    public BulkScheduleInterviewResponse scheduleInterviews(BulkScheduleInterviewRequest request,
+                                                            boolean wholeCandidates) {
+        List<ScheduleInterviewRequest> items = request.getInterviews();
+        log.info("Bulk scheduling {} interviews{}", items.size(), wholeCandidates ? " by whole candidates" : "");
+
+        return conflictRetry.run(false, () -> schedule(items, wholeCandidates));
+    }
+
+    private BulkScheduleInterviewResponse schedule(List<ScheduleInterviewRequest> items, boolean wholeCandidates) {
+        // Resolve every referenced candidate and interviewer with one $in query per collection
+        Set<Object> candidateIds = new LinkedHashSet<>();
+        Set<Object> interviewerIds = new LinkedHashSet<>();
+        for (ScheduleInterviewRequest item : items) {
+            candidateIds.add(ReferenceResolver.storedId(item.getCandidateId()));
+            item.getInterviewerIds().forEach(id -> interviewerIds.add(ReferenceResolver.storedId(id)));
+        }
+        Map<Object, Candidate> candidates = referenceResolver.findCandidates(new ArrayList<>(candidateIds));
+        Map<Object, Interviewer> interviewers = referenceResolver.findInterviewers(new ArrayList<>(interviewerIds));
+
+        BulkScheduleInterviewResponse.ItemResult[] results = new BulkScheduleInterviewResponse.ItemResult[items.size()];
+        List<Interview> interviews = new ArrayList<>();
+        List<Integer> interviewIndexes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < items.size(); i++) {
+            ScheduleInterviewRequest item = items.get(i);
+            Candidate candidate = candidates.get(ReferenceResolver.storedId(item.getCandidateId()));
+            if (candidate == null) {
+                results[i] = failedItem(i, AppConstants.CANDIDATE_NOT_FOUND);
+                continue;
+            }
+            List<Interviewer> itemInterviewers = new ArrayList<>();
+            String missingInterviewerId = null;
+            for (String interviewerId : item.getInterviewerIds()) {
+                Interviewer interviewer = interviewers.get(ReferenceResolver.storedId(interviewerId));
+                if (interviewer == null) {
+                    missingInterviewerId = interviewerId;
+                    break;
+                }
+                itemInterviewers.add(interviewer);
+            }
+            if (missingInterviewerId != null) {
+                results[i] = failedItem(i, "Interviewer not found: " + missingInterviewerId);
+                continue;
+            }
+
+            Interview interview = Interview.builder()
+                    .id(new ObjectId().toHexString())
+                    .recruiterId(item.getRecruiterId())
+                    .candidate(candidate)
+                    .interviewers(itemInterviewers)
+                    .scheduledAt(item.getScheduledAt())
+                    .duration(item.getDuration() != null ? item.getDuration() : AppConstants.DEFAULT_INTERVIEW_DURATION)
+                    .interviewType(item.getInterviewType())
+                    .round(item.getRound())
+                    .status(InterviewStatus.SCHEDULED)
+                    .meetingLink(item.getMeetingLink())
+                    .notes(item.getNotes())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            // Also catches clashes between items of the same request
+            try {
+                interviewerCalendarService.book(interview);
+            } catch (SchedulingConflictException e) {
+                results[i] = failedItem(i, e.getMessage());
+                continue;
+            }
+            interviews.add(interview);
+            interviewIndexes.add(i);
+        }
+
+        if (wholeCandidates) {
+            dropIncompleteCandidates(items, results, interviews, interviewIndexes);
+        }
+
+        if (!interviews.isEmpty()) {
+            List<Interview> savedInterviews;
+            try {
+                savedInterviews = interviewRepository.insert(interviews);
+            } catch (RuntimeException e) {
+                interviews.forEach(interview -> interviewerCalendarService.release(interview.getId()));
+                throw e;
+            }
+
+            DashboardStatsService.Snapshot after = new DashboardStatsService.Snapshot();
+            List<Interviewer> assignments = new ArrayList<>();
+            for (Interview interview : savedInterviews) {
+                after.addAll(dashboardStatsService.snapshot(interview));
+                assignments.addAll(interview.getInterviewers());
+            }
+            dashboardStatsService.recordChange(DashboardStatsService.Snapshot.EMPTY, after);
+            interviewEventService.appendAll(InterviewEventType.INTERVIEW_SCHEDULED, savedInterviews);
+            // One unordered bulk of $inc updates for the whole drive
+            interviewerWorkloadService.recordScheduled(assignments);
+
+            for (int i = 0; i < savedInterviews.size(); i++) {
+                int index = interviewIndexes.get(i);
+                results[index] = BulkScheduleInterviewResponse.ItemResult.builder()
+                        .index(index)
+                        .success(true)
+                        .interview(entityMapper.toInterviewResponse(savedInterviews.get(i)))
+                        .build();
+            }
+        }
+
+        return BulkScheduleInterviewResponse.builder()
+                .requested(items.size())
+                .scheduled(interviews.size())
+                .failed(items.size() - interviews.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * Frees the booked slots of every candidate with a failed item and fails those items too, before anything is
+     * inserted, so a candidate ends up with all of their interviews or none.
+     */
+    private void dropIncompleteCandidates(List<ScheduleInterviewRequest> items,
+                                          BulkScheduleInterviewResponse.ItemResult[] results,
+                                          List<Interview> interviews, List<Integer> interviewIndexes) {
+        Set<String> incomplete = new HashSet<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null) {
+                incomplete.add(items.get(i).getCandidateId());
+            }
+        }
+        for (int i = interviews.size() - 1; i >= 0; i--) {
+            int index = interviewIndexes.get(i);
+            String candidateId = items.get(index).getCandidateId();
+            if (incomplete.contains(candidateId)) {
+                interviewerCalendarService.release(interviews.get(i).getId());
+                results[index] = failedItem(index, "Another interview of candidate " + candidateId
+                        + " could not be scheduled");
+                interviews.remove(i);
+                interviewIndexes.remove(i);
+            }
+        }
+    }
+
+    private static BulkScheduleInterviewResponse.ItemResult failedItem(int index, String error) {
+        return BulkScheduleInterviewResponse.ItemResult.builder()
+                .index(index)
+                .success(false)
+                .error(error)
+                .build();
+    }
+
     @Override
     public InterviewResponse getInterviewById(String interviewId) {
         log.info("Fetching interview with id: {}", interviewId);
@@ -127,69 +340,103 @@ public class InterviewServiceImpl implements InterviewService {
     }
 
     @Override
-    @Transactional
     public InterviewResponse updateInterview(String interviewId, UpdateInterviewRequest request) {
         log.info("Updating interview with id: {}", interviewId);
 
-        Interview interview = interviewRepository.findById(interviewId)
-                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
+        // A slot moved in between fails the sameSlot precondition and is checked again from a fresh read
+        return conflictRetry.run(request.getVersion() == null, () -> update(interviewId, request));
+    }
 
-        if (request.getScheduledAt() != null) {
-            interview.setScheduledAt(request.getScheduledAt());
-        }
-        if (request.getDuration() != null) {
-            interview.setDuration(request.getDuration());
-        }
-        if (request.getInterviewType() != null) {
-            interview.setInterviewType(request.getInterviewType());
-        }
-        if (request.getMeetingLink() != null) {
-            interview.setMeetingLink(request.getMeetingLink());
-        }
-        if (request.getNotes() != null) {
-            interview.setNotes(request.getNotes());
+    private InterviewResponse update(String interviewId, UpdateInterviewRequest request) {
+        PartialUpdater.Result result;
+        if (request.getScheduledAt() != null || request.getDuration() != null) {
+            // Moving the slot is checked against the interviewers' other bookings, and only applies to the slot checked
+            Interview slot = interviewRepository.findSlot(interviewId)
+                    .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
+            Criteria sameSlot = Criteria.where("scheduledAt").is(slot.getScheduledAt())
+                    .and("duration").is(slot.getDuration());
+            if (request.getScheduledAt() != null) {
+                slot.setScheduledAt(request.getScheduledAt());
+            }
+            if (request.getDuration() != null) {
+                slot.setDuration(request.getDuration());
+            }
+            result = interviewerCalendarService.book(slot,
+                    () -> partialUpdater.update(Interview.class, interviewId, request, sameSlot)
+                            .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND)));
+        } else {
+            result = partialUpdater.update(Interview.class, interviewId, request)
+                    .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
         }
+        Interview updatedInterview = referenceResolver.resolveInterviews(List.of(result.after())).getFirst();
 
-        interview.setUpdatedAt(LocalDateTime.now());
-
-        Interview updatedInterview = interviewRepository.save(interview);
+        interviewEventService.append(InterviewEventType.INTERVIEW_UPDATED, updatedInterview,
+                Map.of("fields", result.changed()));
 
         return entityMapper.toInterviewResponse(updatedInterview);
     }
 
     @Override
-    @Transactional
     public InterviewResponse updateInterviewStatus(String interviewId, UpdateInterviewStatusRequest request) {
         log.info("Updating interview status with id: {} to status: {}", interviewId, request.getStatus());
 
-        Interview interview = interviewRepository.findById(interviewId)
-                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
+        // Retried after changes to other fields; a status set by another request in between is a real conflict
+        FirstRead<InterviewStatus> statusRead = new FirstRead<>();
+        return conflictRetry.run(request.getVersion() == null, () -> {
+            Interview interview = findInterview(interviewId, request.getVersion());
+            statusRead.expectUnchanged(interview.getStatus(), "status", interviewId);
+            return applyStatus(interview, request);
+        });
+    }
 
+    private InterviewResponse applyStatus(Interview interview, UpdateInterviewStatusRequest request) {
+        DashboardStatsService.Snapshot before = dashboardStatsService.snapshot(interview);
+        InterviewStatus previousStatus = interview.getStatus();
         interview.setStatus(request.getStatus());
+        interview.setUpdatedAt(LocalDateTime.now());
 
+        Interview updatedInterview;
+        if ((previousStatus == InterviewStatus.CANCELLED) != (request.getStatus() == InterviewStatus.CANCELLED)) {
+            // Cancelling frees the slot; reinstating a cancelled interview has to find it free again
+            updatedInterview = interviewerCalendarService.book(interview, () -> interviewRepository.save(interview));
+        } else {
+            updatedInterview = interviewRepository.save(interview);
+        }
+        dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(updatedInterview));
         if (request.getReason() != null) {
-            String currentNotes = interview.getNotes() != null ? interview.getNotes() : "";
-            interview.setNotes(currentNotes + "\nStatus update reason: " + request.getReason());
+            interviewTimelineService.append(interview.getId(), TimelineEntryType.STATUS_REASON, request.getReason());
         }
-
-        interview.setUpdatedAt(LocalDateTime.now());
-
-        Interview updatedInterview = interviewRepository.save(interview);
+        if (previousStatus != InterviewStatus.CANCELLED && request.getStatus() == InterviewStatus.CANCELLED) {
+            interviewerWorkloadService.recordCancelled(updatedInterview.getInterviewers());
+        } else if (previousStatus == InterviewStatus.CANCELLED && request.getStatus() != InterviewStatus.CANCELLED) {
+            interviewerWorkloadService.recordScheduled(updatedInterview.getInterviewers());
+        }
+        interviewEventService.append(InterviewEventType.INTERVIEW_STATUS_CHANGED, updatedInterview,
+                previousStatus != null ? Map.of("previousStatus", previousStatus.name()) : Map.of());
 
         return entityMapper.toInterviewResponse(updatedInterview);
     }
 
     @Override
-    @Transactional
     public MessageResponse cancelInterview(String interviewId) {
         log.info("Cancelling interview with id: {}", interviewId);
 
-        Interview interview = interviewRepository.findById(interviewId)
-                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
+        // Cancelling is idempotent, so it is simply applied again to whatever a concurrent change left
+        return conflictRetry.run(true, () -> cancel(findInterview(interviewId, null)));
+    }
 
+    private MessageResponse cancel(Interview interview) {
+        DashboardStatsService.Snapshot before = dashboardStatsService.snapshot(interview);
+        boolean alreadyCancelled = interview.getStatus() == InterviewStatus.CANCELLED;
         interview.setStatus(InterviewStatus.CANCELLED);
         interview.setUpdatedAt(LocalDateTime.now());
         interviewRepository.save(interview);
+        dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(interview));
+        if (!alreadyCancelled) {
+            interviewerWorkloadService.recordCancelled(interview.getInterviewers());
+        }
+        interviewerCalendarService.release(interview.getId());
+        interviewEventService.append(InterviewEventType.INTERVIEW_CANCELLED, interview, Map.of());
 
         // Notify all parties about cancellation
         notificationService.notifyInterviewCancelled(interview, "Interview cancelled");
@@ -201,23 +448,26 @@ public class InterviewServiceImpl implements InterviewService {
     }
 
     @Override
-    @Transactional
     public InterviewResponse confirmInterview(String interviewId, ConfirmInterviewRequest request) {
         log.info("Confirming interview with id: {}", interviewId);
 
-        Interview interview = interviewRepository.findById(interviewId)
-                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
+        // Confirmation sets its own flag and adds a timeline entry, so it commutes with any concurrent change
+        return conflictRetry.run(request.getVersion() == null,
+                () -> confirm(findInterview(interviewId, request.getVersion()), request));
+    }
 
+    private InterviewResponse confirm(Interview interview, ConfirmInterviewRequest request) {
+        DashboardStatsService.Snapshot before = dashboardStatsService.snapshot(interview);
         interview.setCandidateConfirmed(request.getConfirmed());
         interview.setCandidateConfirmedAt(LocalDateTime.now());
-
-        if (request.getNotes() != null) {
-            String currentNotes = interview.getNotes() != null ? interview.getNotes() : "";
-            interview.setNotes(currentNotes + "\nCandidate confirmation notes: " + request.getNotes());
-        }
-
         interview.setUpdatedAt(LocalDateTime.now());
         Interview updatedInterview = interviewRepository.save(interview);
+        dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(updatedInterview));
+        if (request.getNotes() != null) {
+            interviewTimelineService.append(interview.getId(), TimelineEntryType.CONFIRMATION_NOTE, request.getNotes());
+        }
+        interviewEventService.append(InterviewEventType.INTERVIEW_CONFIRMED, updatedInterview,
+                Map.of("confirmed", Boolean.TRUE.equals(request.getConfirmed())));
 
         // Notify all parties about confirmation
         if (Boolean.TRUE.equals(request.getConfirmed())) {
@@ -228,13 +478,20 @@ public class InterviewServiceImpl implements InterviewService {
     }
 
     @Override
-    @Transactional
     public InterviewResponse markInterviewResult(String interviewId, MarkInterviewResultRequest request) {
         log.info("Marking interview result for id: {} as {}", interviewId, request.getResult());
 
-        Interview interview = interviewRepository.findById(interviewId)
-                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
+        // Retried after changes to other fields; a status or result set by another request in between is a conflict
+        FirstRead<List<Object>> outcomeRead = new FirstRead<>();
+        return conflictRetry.run(request.getVersion() == null, () -> {
+            Interview interview = findInterview(interviewId, request.getVersion());
+            outcomeRead.expectUnchanged(Arrays.asList(interview.getStatus(), interview.getResult()), "result",
+                    interviewId);
+            return applyResult(interview, request);
+        });
+    }
 
+    private InterviewResponse applyResult(Interview interview, MarkInterviewResultRequest request) {
         // Parse result string to enum
         com.interview.organiser.constants.enums.InterviewResult result;
         try {
@@ -243,16 +500,18 @@ public class InterviewServiceImpl implements InterviewService {
             throw new IllegalArgumentException("Invalid result. Must be SELECTED, REJECTED, or NEXT_ROUND");
         }
 
+        DashboardStatsService.Snapshot before = dashboardStatsService.snapshot(interview);
         interview.setResult(result);
         interview.setStatus(InterviewStatus.COMPLETED);
-
-        if (request.getComments() != null) {
-            String currentNotes = interview.getNotes() != null ? interview.getNotes() : "";
-            interview.setNotes(currentNotes + "\nResult comments: " + request.getComments());
-        }
-
         interview.setUpdatedAt(LocalDateTime.now());
         Interview updatedInterview = interviewRepository.save(interview);
+        dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(updatedInterview));
+        calibrationStatsService.recordResult(updatedInterview.getId(), result);
+        if (request.getComments() != null) {
+            interviewTimelineService.append(interview.getId(), TimelineEntryType.RESULT_COMMENT, request.getComments());
+        }
+        interviewEventService.append(InterviewEventType.INTERVIEW_RESULT_MARKED, updatedInterview,
+                Map.of("result", result.name()));
 
         // Notify candidate about result
         notificationService.notifyCandidateResult(interview.getCandidate(), interview, request.getResult());
@@ -261,21 +520,25 @@ public class InterviewServiceImpl implements InterviewService {
     }
 
     @Override
-    @Transactional
     public InterviewResponse createNextRoundInterview(String interviewId, CreateNextRoundInterviewRequest request) {
         log.info("Creating next round interview for interview id: {}", interviewId);
 
+        return conflictRetry.run(false, () -> createNextRound(interviewId, request));
+    }
+
+    private InterviewResponse createNextRound(String interviewId, CreateNextRoundInterviewRequest request) {
         Interview previousInterview = interviewRepository.findById(interviewId)
                 .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
 
         // Get interviewers for next round
         List<Interviewer> interviewers = request.getInterviewerIds().stream()
-                .map(interviewerId -> interviewerRepository.findById(interviewerId)
+                .map(interviewerId -> entityCache.findInterviewer(interviewerId)
                         .orElseThrow(() -> new ResourceNotFoundException("Interviewer not found: " + interviewerId)))
                 .collect(Collectors.toList());
 
         // Create next round interview
         Interview nextRoundInterview = Interview.builder()
+                .id(new ObjectId().toHexString())
                 .recruiterId(previousInterview.getRecruiterId())
                 .candidate(previousInterview.getCandidate())
                 .interviewers(interviewers)
@@ -291,11 +554,17 @@ public class InterviewServiceImpl implements InterviewService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        Interview savedNextRound = interviewRepository.save(nextRoundInterview);
+        Interview savedNextRound = interviewerCalendarService.book(nextRoundInterview,
+                () -> interviewRepository.insert(nextRoundInterview));
+        dashboardStatsService.recordChange(DashboardStatsService.Snapshot.EMPTY,
+                dashboardStatsService.snapshot(savedNextRound));
+        interviewerWorkloadService.recordScheduled(interviewers);
 
-        // Update previous interview with next round reference
+        // Update previous interview with next round reference; a $set of the one field cannot overwrite other changes
         previousInterview.setNextRoundInterviewId(savedNextRound.getId());
-        interviewRepository.save(previousInterview);
+        partialUpdater.update(Interview.class, interviewId, new NextRoundLink(savedNextRound.getId()));
+        interviewEventService.append(InterviewEventType.NEXT_ROUND_CREATED, savedNextRound,
+                Map.of("previousInterviewId", previousInterview.getId(), "round", savedNextRound.getRound()));
 
         // Notify candidate about next round
         notificationService.notifyNextRoundScheduled(previousInterview.getCandidate(), savedNextRound);
@@ -309,16 +578,21 @@ public class InterviewServiceImpl implements InterviewService {
     }
 
     @Override
-    @Transactional
     public MessageResponse requestFeedback(String interviewId) {
         log.info("Requesting feedback for interview id: {}", interviewId);
 
-        Interview interview = interviewRepository.findById(interviewId)
-                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
+        // Setting the request flag commutes with any concurrent change
+        return conflictRetry.run(true, () -> requestFeedback(findInterview(interviewId, null)));
+    }
 
+    private MessageResponse requestFeedback(Interview interview) {
+        DashboardStatsService.Snapshot before = dashboardStatsService.snapshot(interview);
         interview.setFeedbackRequested(true);
         interview.setFeedbackRequestedAt(LocalDateTime.now());
+        interview.setUpdatedAt(LocalDateTime.now());
         interviewRepository.save(interview);
+        dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(interview));
+        interviewEventService.append(InterviewEventType.FEEDBACK_REQUESTED, interview, Map.of());
 
         // Send feedback requests to all interviewers
         interview.getInterviewers().forEach(interviewer ->
@@ -333,5 +607,40 @@ public class InterviewServiceImpl implements InterviewService {
                 .timestamp(LocalDateTime.now())
                 .build();
     }
-}
 
+    /**
+     * Loads the interview; with an expected version, one that has moved on is a conflict rather than a retry.
+     */
+    private Interview findInterview(String interviewId, Long expectedVersion) {
+        Interview interview = interviewRepository.findById(interviewId)
+                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND));
+        if (expectedVersion != null && !expectedVersion.equals(interview.getVersion())) {
+            throw new ConcurrentUpdateException("Interview " + interviewId + " is at version "
+                    + interview.getVersion() + ", not " + expectedVersion);
+        }
+        return interview;
+    }
+
+    /**
+     * The value of a field as the first attempt of a retried transition read it. The transition was decided
+     * against that value, so a retry that finds it changed must not apply the decision over the other one.
+     */
+    private static final class FirstRead<V> {
+
+        private boolean read;
+        private V value;
+
+        void expectUnchanged(V current, String field, String interviewId) {
+            if (!read) {
+                read = true;
+                value = current;
+            } else if (!Objects.equals(value, current)) {
+                throw new ConcurrentUpdateException("Interview " + interviewId + " " + field
+                        + " was changed by another request");
+            }
+        }
+    }
+
+    private record NextRoundLink(String nextRoundInterviewId) {
+    }
+}
@@ -0,0 +1,236 @@
+package com.interview.organiser.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.organiser.model.entity.InterviewEvent;
+import com.interview.organiser.service.InterviewEventSubscriber;
+import com.interview.organiser.service.InterviewStreamService;
+import com.interview.organiser.util.EntityMapper;
+import com.interview.organiser.util.EventReplayBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fan-out hub between the interview event feed and the open SSE connections.
+ * InterviewEventTailer delivers each event once, in seq order; the hub serializes it once, keeps it in a
+ * bounded replay buffer and queues it for every matching connection. Each connection has its own virtual
+ * thread writing its queue to the response, so a slow client only ever blocks itself, and one that falls
+ * more than queue-capacity events behind is closed and resumes from the replay buffer when it reconnects.
+ * The SSE id is the event seq, so a reconnect's Last-Event-ID is directly a position in the buffer.
+ */
+@Slf4j
+@Service
+public class InterviewStreamServiceImpl implements InterviewStreamService, InterviewEventSubscriber {
+
+    private static final String RESYNC = "resync";
+
+    // Queue markers: STOP ends the writer after the response already finished, COMPLETE also completes it
+    private static final Object STOP = new Object();
+    private static final Object COMPLETE = new Object();
+    private static final Object HEARTBEAT = new Object();
+
+    private final ObjectMapper objectMapper;
+    private final EntityMapper entityMapper;
+    private final long timeoutMs;
+    private final long retryMs;
+    private final int queueCapacity;
+
+    // Guarded by this, together with registering connections, so a new connection sees every event exactly once
+    private final EventReplayBuffer<StreamEvent> replay;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong connectionIds = new AtomicLong();
+
+    public InterviewStreamServiceImpl(ObjectMapper objectMapper,
+                                      EntityMapper entityMapper,
+                                      @Value("${app.stream.replay-size:1000}") int replaySize,
+                                      @Value("${app.stream.queue-capacity:256}") int queueCapacity,
+                                      @Value("${app.stream.timeout-ms:1800000}") long timeoutMs,
+                                      @Value("${app.stream.retry-ms:3000}") long retryMs) {
+        this.objectMapper = objectMapper;
+        this.entityMapper = entityMapper;
+        this.replay = new EventReplayBuffer<>(replaySize);
+        this.queueCapacity = queueCapacity;
+        this.timeoutMs = timeoutMs;
+        this.retryMs = retryMs;
+    }
+
+    @Override
+    public SseEmitter subscribe(String recruiterId, String interviewerId, String candidateId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(connectionIds.incrementAndGet(), emitter,
+                recruiterId, interviewerId, candidateId);
+        emitter.onCompletion(() -> connection.close(STOP));
+        emitter.onTimeout(() -> connection.close(STOP));
+        emitter.onError(e -> connection.close(STOP));
+
+        connection.queue.add(SseEmitter.event().reconnectTime(retryMs).comment("connected"));
+        synchronized (this) {
+            if (lastEventId != null) {
+                Optional<List<StreamEvent>> missed = parseSeq(lastEventId).flatMap(replay::after);
+                if (missed.isPresent()) {
+                    missed.get().stream().filter(connection::matches).forEach(connection.queue::add);
+                } else {
+                    connection.queue.add(SseEmitter.event().name(RESYNC).data("{}", MediaType.APPLICATION_JSON));
+                }
+            }
+            connections.add(connection);
+        }
+        Thread.ofVirtual().name("interview-stream-" + connection.id).start(connection);
+
+        log.debug("Opened interview stream {} (recruiter: {}, interviewer: {}, candidate: {}, last event: {})",
+                connection.id, recruiterId, interviewerId, candidateId, lastEventId);
+        return emitter;
+    }
+
+    @Override
+    public void onEvent(InterviewEvent event) {
+        StreamEvent streamEvent = new StreamEvent(event, serialize(event));
+        synchronized (this) {
+            if (!replay.append(event.getSeq(), streamEvent)) {
+                return;
+            }
+            for (Connection connection : connections) {
+                if (connection.matches(streamEvent)) {
+                    connection.offer(streamEvent);
+                }
+            }
+        }
+    }
+
+    /**
+     * Comment frame on idle connections, so proxies keep them open and dead clients are noticed.
+     */
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Connection connection : connections) {
+            if (connection.queue.isEmpty()) {
+                connection.queue.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        if (!connections.isEmpty()) {
+            log.info("Closing {} interview streams", connections.size());
+        }
+        connections.forEach(connection -> connection.close(COMPLETE));
+    }
+
+    private String serialize(InterviewEvent event) {
+        try {
+            return objectMapper.writeValueAsString(entityMapper.toInterviewEventResponse(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize interview event " + event.getSeq(), e);
+        }
+    }
+
+    private static Optional<Long> parseSeq(String lastEventId) {
+        try {
+            return Optional.of(Long.parseLong(lastEventId.trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private record StreamEvent(InterviewEvent event, String json) {
+    }
+
+    private final class Connection implements Runnable {
+
+        private final long id;
+        private final SseEmitter emitter;
+        private final String recruiterId;
+        private final String interviewerId;
+        private final String candidateId;
+        // Unbounded so a replay always fits; live events are capped by queueCapacity in offer
+        private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Connection(long id, SseEmitter emitter, String recruiterId, String interviewerId,
+                           String candidateId) {
+            this.id = id;
+            this.emitter = emitter;
+            this.recruiterId = recruiterId;
+            this.interviewerId = interviewerId;
+            this.candidateId = candidateId;
+        }
+
+        private boolean matches(StreamEvent streamEvent) {
+            InterviewEvent event = streamEvent.event();
+            return (recruiterId == null || recruiterId.equals(event.getRecruiterId()))
+                    && (candidateId == null || candidateId.equals(event.getCandidateId()))
+                    && (interviewerId == null || (event.getInterviewerIds() != null
+                            && event.getInterviewerIds().contains(interviewerId)));
+        }
+
+        private void offer(StreamEvent streamEvent) {
+            if (queue.size() >= queueCapacity) {
+                log.warn("Interview stream {} fell {} events behind, closing it", id, queue.size());
+                close(COMPLETE);
+                return;
+            }
+            queue.offer(streamEvent);
+        }
+
+        private void close(Object marker) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            connections.remove(this);
+            queue.clear();
+            queue.offer(marker);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Object item = queue.take();
+                    if (item == STOP) {
+                        return;
+                    }
+                    if (item == COMPLETE) {
+                        emitter.complete();
+                        return;
+                    }
+                    emitter.send(frame(item));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; the container reports it through onError as well
+                log.debug("Interview stream {} closed: {}", id, e.getMessage());
+                close(STOP);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close(STOP);
+            }
+        }
+
+        private SseEmitter.SseEventBuilder frame(Object item) {
+            if (item instanceof StreamEvent streamEvent) {
+                return SseEmitter.event()
+                        .id(String.valueOf(streamEvent.event().getSeq()))
+                        .data(streamEvent.json(), MediaType.APPLICATION_JSON);
+            }
+            if (item == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return (SseEmitter.SseEventBuilder) item;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.constants.AppConstants;
+import com.interview.organiser.constants.enums.TimelineEntryType;
+import com.interview.organiser.exception.ResourceNotFoundException;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
+import com.interview.organiser.model.dto.response.InterviewTimelineEntryResponse;
+import com.interview.organiser.model.dto.response.PageResponse;
+import com.interview.organiser.model.entity.InterviewTimelineEntry;
+import com.interview.organiser.repository.InterviewRepository;
+import com.interview.organiser.repository.InterviewTimelineRepository;
+import com.interview.organiser.repository.KeysetPager;
+import com.interview.organiser.repository.KeysetSlice;
+import com.interview.organiser.service.InterviewTimelineService;
+import com.interview.organiser.util.EntityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewTimelineServiceImpl implements InterviewTimelineService {
+
+    // Keyset order of a timeline; served by the interviewId_createdAt_id index
+    private static final List<String> TIMELINE_KEYS = List.of("createdAt", "_id");
+
+    private final InterviewTimelineRepository interviewTimelineRepository;
+    private final InterviewRepository interviewRepository;
+    private final KeysetPager keysetPager;
+    private final MongoTemplate mongoTemplate;
+    private final EntityMapper entityMapper;
+
+    @Override
+    public InterviewTimelineEntry append(String interviewId, TimelineEntryType type, String text) {
+        return interviewTimelineRepository.insert(InterviewTimelineEntry.builder()
+                .interviewId(interviewId)
+                .type(type)
+                .text(text)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public PageResponse<InterviewTimelineEntryResponse> getTimeline(String interviewId, Pageable pageable) {
+        log.info("Fetching timeline of interview id: {}", interviewId);
+        requireInterview(interviewId);
+
+        Page<InterviewTimelineEntry> entryPage =
+                interviewTimelineRepository.findByInterviewIdOrderByCreatedAtAscIdAsc(interviewId, pageable);
+
+        return PageResponse.<InterviewTimelineEntryResponse>builder()
+                .content(entryPage.getContent().stream().map(entityMapper::toInterviewTimelineEntryResponse).toList())
+                .page(entryPage.getNumber())
+                .size(entryPage.getSize())
+                .totalElements(entryPage.getTotalElements())
+                .totalPages(entryPage.getTotalPages())
+                .build();
+    }
+
+    @Override
+    public PageResponse<InterviewTimelineEntryResponse> getTimeline(String interviewId,
+                                                                   CursorPageRequest cursorRequest) {
+        log.info("Fetching timeline of interview id: {} after cursor", interviewId);
+        requireInterview(interviewId);
+
+        KeysetSlice<InterviewTimelineEntry> entrySlice = keysetPager.find(
+                        mongoTemplate.getCollectionName(InterviewTimelineEntry.class),
+                        Criteria.where("interviewId").is(interviewId), TIMELINE_KEYS, cursorRequest)
+                .mapContent(documents -> documents.stream()
+                        .map(document -> mongoTemplate.getConverter().read(InterviewTimelineEntry.class, document))
+                        .toList());
+
+        return PageResponse.<InterviewTimelineEntryResponse>builder()
+                .content(entrySlice.getContent().stream().map(entityMapper::toInterviewTimelineEntryResponse).toList())
+                .size(entrySlice.getSize())
+                .totalElements(entrySlice.getTotalElements())
+                .nextCursor(entrySlice.getNextCursor())
+                .hasNext(entrySlice.hasNext())
+                .build();
+    }
+
+    private void requireInterview(String interviewId) {
+        if (!interviewRepository.existsById(interviewId)) {
+            throw new ResourceNotFoundException(AppConstants.INTERVIEW_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.constants.AppConstants;
+import com.interview.organiser.constants.enums.InterviewEventType;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.exception.SchedulingConflictException;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.InterviewEvent;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.repository.ReferenceResolver;
+import com.interview.organiser.service.InterviewEventSubscriber;
+import com.interview.organiser.service.InterviewerCalendarService;
+import com.interview.organiser.util.IntervalTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewerCalendarServiceImpl implements InterviewerCalendarService, InterviewEventSubscriber {
+
+    // Events after which an interview's slot, interviewers or cancellation may differ from what this instance booked
+    private static final Set<InterviewEventType> SLOT_EVENTS = EnumSet.of(
+            InterviewEventType.INTERVIEW_SCHEDULED,
+            InterviewEventType.NEXT_ROUND_CREATED,
+            InterviewEventType.INTERVIEW_UPDATED,
+            InterviewEventType.INTERVIEW_STATUS_CHANGED,
+            InterviewEventType.INTERVIEW_CANCELLED);
+
+    private final MongoTemplate mongoTemplate;
+
+    // Both maps are guarded by the lock; bookings remembers each interview's slot so it can be moved or freed
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, IntervalTree<String>> calendars = new HashMap<>();
+    private Map<String, Booking> bookings = new HashMap<>();
+    // Non-null while a rebuild streams interviews; every change made meanwhile is replayed onto the rebuilt maps
+    private List<Change> journal;
+    private final AtomicInteger undoOrder = new AtomicInteger();
+
+    @Override
+    public boolean isFree(String interviewerId, LocalDateTime from, LocalDateTime to) {
+        return !freeInterviewers(List.of(interviewerId), from, to).isEmpty();
+    }
+
+    @Override
+    public List<String> freeInterviewers(Collection<String> interviewerIds, LocalDateTime from, LocalDateTime to) {
+        long start = epochMillis(from);
+        long end = epochMillis(to);
+        List<String> free = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String interviewerId : interviewerIds) {
+                IntervalTree<String> calendar = calendars.get(interviewerId);
+                if (calendar == null || !calendar.overlaps(start, end)) {
+                    free.add(interviewerId);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return free;
+    }
+
+    @Override
+    public void book(Interview interview) {
+        reserve(interview);
+    }
+
+    @Override
+    public <T> T book(Interview interview, Supplier<T> write) {
+        Booking previous = reserve(interview);
+        try {
+            return write.get();
+        } catch (RuntimeException e) {
+            restore(interview.getId(), previous);
+            throw e;
+        }
+    }
+
+    @Override
+    public void release(String interviewId) {
+        Booking previous;
+        lock.writeLock().lock();
+        try {
+            previous = put(interviewId, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (previous != null) {
+            restoreOnRollback(interviewId, previous);
+        }
+    }
+
+    /**
+     * Checks the interview's slot against every interviewer's calendar and books it; returns the booking it replaced.
+     */
+    private Booking reserve(Interview interview) {
+        Objects.requireNonNull(interview.getId(), "Interview must have an id before it is booked");
+        if (interview.getStatus() == InterviewStatus.CANCELLED) {
+            Booking previous = currentBooking(interview.getId());
+            release(interview.getId());
+            return previous;
+        }
+        Booking booking = Booking.of(interview);
+
+        Booking previous;
+        lock.writeLock().lock();
+        try {
+            List<String> busy = new ArrayList<>();
+            for (String interviewerId : booking.interviewerIds()) {
+                IntervalTree<String> calendar = calendars.get(interviewerId);
+                if (calendar != null && calendar.overlapping(booking.start(), booking.end()).stream()
+                        .anyMatch(interviewId -> !interviewId.equals(interview.getId()))) {
+                    busy.add(interviewerId);
+                }
+            }
+            if (!busy.isEmpty()) {
+                throw new SchedulingConflictException(busy);
+            }
+            previous = put(interview.getId(), booking);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        restoreOnRollback(interview.getId(), previous);
+        return previous;
+    }
+
+    private Booking currentBooking(String interviewId) {
+        lock.readLock().lock();
+        try {
+            return bookings.get(interviewId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void restore(String interviewId, Booking previous) {
+        lock.writeLock().lock();
+        try {
+            put(interviewId, previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        // Interviews that started more than the longest allowed duration ago cannot overlap a new slot
+        LocalDateTime since = LocalDateTime.now().minusMinutes(AppConstants.MAX_INTERVIEW_DURATION);
+        Query query = Query.query(Criteria.where("scheduledAt").gte(since)
+                .and("status").ne(InterviewStatus.CANCELLED.name()));
+        query.fields().include("scheduledAt").include("duration").include("interviewers");
+
+        // Journaling starts before the read, so a change the stream misses is replayed and one it saw is re-applied
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, IntervalTree<String>> rebuiltCalendars = new HashMap<>();
+        Map<String, Booking> rebuiltBookings = new HashMap<>();
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, ReferenceResolver.INTERVIEWS)) {
+            documents.forEach(document -> {
+                String interviewId = document.get("_id").toString();
+                Booking booking = Booking.of(document);
+                rebuiltBookings.put(interviewId, booking);
+                booking.interviewerIds().forEach(interviewerId -> rebuiltCalendars
+                        .computeIfAbsent(interviewerId, key -> new IntervalTree<>())
+                        .add(booking.start(), booking.end(), interviewId));
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        List<Change> changes;
+        lock.writeLock().lock();
+        try {
+            changes = journal;
+            journal = null;
+            calendars = rebuiltCalendars;
+            bookings = rebuiltBookings;
+            changes.forEach(change -> put(change.interviewId(), change.booking()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt interviewer calendars with {} bookings for {} interviewers, replayed {} concurrent changes",
+                rebuiltBookings.size(), rebuiltCalendars.size(), changes.size());
+    }
+
+    /**
+     * Brings the interview's booking in line with its committed state after a change made through any instance.
+     * The stored slot is authoritative, so it is taken without a conflict check, and re-applying an event this
+     * instance booked itself changes nothing.
+     */
+    @Override
+    public void onEvent(InterviewEvent event) {
+        if (event.getInterviewId() == null || !SLOT_EVENTS.contains(event.getType())) {
+            return;
+        }
+        Query query = Query.query(Criteria.where("_id").is(ReferenceResolver.storedId(event.getInterviewId())));
+        query.fields().include("scheduledAt").include("duration").include("interviewers").include("status");
+        Document interview = mongoTemplate.findOne(query, Document.class, ReferenceResolver.INTERVIEWS);
+
+        Booking booking = interview != null && interview.get("scheduledAt") != null
+                && !InterviewStatus.CANCELLED.name().equals(interview.getString("status"))
+                ? Booking.of(interview)
+                : null;
+        lock.writeLock().lock();
+        try {
+            put(event.getInterviewId(), booking);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces (or with null removes) the interview's booking and returns the previous one. Caller holds the write lock.
+     */
+    private Booking put(String interviewId, Booking booking) {
+        if (journal != null) {
+            journal.add(new Change(interviewId, booking));
+        }
+        Booking previous = booking != null ? bookings.put(interviewId, booking) : bookings.remove(interviewId);
+        if (previous != null) {
+            for (String interviewerId : previous.interviewerIds()) {
+                IntervalTree<String> calendar = calendars.get(interviewerId);
+                if (calendar != null) {
+                    calendar.remove(previous.start(), interviewId);
+                    if (calendar.isEmpty()) {
+                        calendars.remove(interviewerId);
+                    }
+                }
+            }
+        }
+        if (booking != null) {
+            booking.interviewerIds().forEach(interviewerId -> calendars
+                    .computeIfAbsent(interviewerId, key -> new IntervalTree<>())
+                    .add(booking.start(), booking.end(), interviewId));
+        }
+        return previous;
+    }
+
+    private void restoreOnRollback(String interviewId, Booking previous) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // Synchronizations run sorted by order, so later changes are undone first and a booking
+        // released again in the same transaction ends up as it was before the transaction
+        int order = undoOrder.decrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return order;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    restore(interviewId, previous);
+                }
+            }
+        });
+    }
+
+    /**
+     * Uses the zone Spring Data converts LocalDateTime with, so slots match the dates read back by rebuild().
+     */
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Change(String interviewId, Booking booking) {
+    }
+
+    private record Booking(long start, long end, List<String> interviewerIds) {
+
+        static Booking of(Interview interview) {
+            List<String> interviewerIds = interview.getInterviewers() != null
+                    ? interview.getInterviewers().stream().map(Interviewer::getId).toList()
+                    : List.of();
+            return of(epochMillis(interview.getScheduledAt()), interview.getDuration(), interviewerIds);
+        }
+
+        static Booking of(Document interview) {
+            Object interviewers = interview.get("interviewers");
+            List<String> interviewerIds = new ArrayList<>();
+            if (interviewers instanceof List<?> refs) {
+                refs.stream()
+                        .map(ReferenceResolver::refId)
+                        .filter(Objects::nonNull)
+                        .forEach(id -> interviewerIds.add(id.toString()));
+            }
+            long start = interview.getDate("scheduledAt").getTime();
+            return of(start, interview.getInteger("duration"), interviewerIds);
+        }
+
+        private static Booking of(long start, Integer duration, List<String> interviewerIds) {
+            int minutes = duration != null && duration > 0 ? duration : AppConstants.DEFAULT_INTERVIEW_DURATION;
+            // An interviewer listed twice still occupies the slot once
+            return new Booking(start, start + minutes * 60_000L, List.copyOf(new LinkedHashSet<>(interviewerIds)));
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.constants.AppConstants;
+import com.interview.organiser.exception.BadRequestException;
+import com.interview.organiser.exception.ResourceNotFoundException;
+import com.interview.organiser.model.dto.response.InterviewerMatchResponse;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.repository.EntityCache;
+import com.interview.organiser.repository.ReferenceResolver;
+import com.interview.organiser.service.InterviewerCalendarService;
+import com.interview.organiser.service.InterviewerMatchingService;
+import com.interview.organiser.util.EntityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewerMatchingServiceImpl implements InterviewerMatchingService {
+
+    // Score = weighted sum of skill coverage, capped experience and inverse load, each between 0 and 1
+    static final double SKILL_WEIGHT = 0.6;
+    static final double EXPERIENCE_WEIGHT = 0.25;
+    static final double LOAD_WEIGHT = 0.15;
+    static final int EXPERIENCE_CAP_YEARS = 20;
+    // Number of assigned interviews at which the load score drops to one half
+    static final int LOAD_HALF_POINT = 10;
+
+    private static final Comparator<Match> WORST_FIRST = Comparator.comparingDouble(Match::score)
+            .thenComparing(Match::interviewerId, Comparator.reverseOrder());
+
+    private final MongoTemplate mongoTemplate;
+    private final EntityCache entityCache;
+    private final ReferenceResolver referenceResolver;
+    private final InterviewerCalendarService interviewerCalendarService;
+    private final EntityMapper entityMapper;
+
+    // Both maps are guarded by the lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Set<String>> interviewersBySkill = new HashMap<>();
+    private Map<String, Profile> profiles = new HashMap<>();
+
+    @Override
+    public List<InterviewerMatchResponse> matchInterviewers(String candidateId, LocalDateTime from, LocalDateTime to,
+                                                            int limit) {
+        log.info("Matching interviewers for candidate: {} between {} and {}", candidateId, from, to);
+
+        if ((from == null) != (to == null) || (from != null && !to.isAfter(from))) {
+            throw new BadRequestException("Provide both 'from' and 'to', with 'to' after 'from'");
+        }
+        Candidate candidate = entityCache.findCandidate(candidateId)
+                .orElseThrow(() -> new ResourceNotFoundException(AppConstants.CANDIDATE_NOT_FOUND));
+
+        List<Match> matches = rank(candidate.getSkills(), from, to, Math.min(Math.max(limit, 1), AppConstants.MAX_PAGE_SIZE));
+
+        // Only the winners are loaded, with one batched read
+        List<Object> ids = matches.stream().map(match -> ReferenceResolver.storedId(match.interviewerId())).toList();
+        Map<Object, Interviewer> interviewers = referenceResolver.findInterviewers(new ArrayList<>(ids));
+
+        List<InterviewerMatchResponse> responses = new ArrayList<>();
+        for (Match match : matches) {
+            Interviewer interviewer = interviewers.get(ReferenceResolver.storedId(match.interviewerId()));
+            if (interviewer != null) {
+                responses.add(InterviewerMatchResponse.builder()
+                        .interviewer(entityMapper.toInterviewerResponse(interviewer))
+                        .score(match.score())
+                        .matchedSkills(match.matchedSkills())
+                        .build());
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Ranks indexed interviewers against the given skills. Only interviewers sharing at least one skill are
+     * scored, found through the inverted index; with no skills every interviewer is. A bounded heap keeps the
+     * best {@code limit}, and the calendar is only consulted for interviewers that would enter it.
+     */
+    public List<Match> rank(Collection<String> skills, LocalDateTime from, LocalDateTime to, int limit) {
+        Set<String> wanted = normalise(skills);
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> overlaps = new HashMap<>();
+            if (wanted.isEmpty()) {
+                profiles.keySet().forEach(interviewerId -> overlaps.put(interviewerId, 0));
+            } else {
+                for (String skill : wanted) {
+                    for (String interviewerId : interviewersBySkill.getOrDefault(skill, Set.of())) {
+                        overlaps.merge(interviewerId, 1, Integer::sum);
+                    }
+                }
+            }
+
+            for (Map.Entry<String, Integer> overlap : overlaps.entrySet()) {
+                Profile profile = profiles.get(overlap.getKey());
+                if (!profile.available()) {
+                    continue;
+                }
+                Match match = new Match(profile.interviewerId(), score(profile, overlap.getValue(), wanted.size()), null);
+                if (best.size() == limit && WORST_FIRST.compare(match, best.peek()) <= 0) {
+                    continue;
+                }
+                if (from != null && !interviewerCalendarService.isFree(profile.interviewerId(), from, to)) {
+                    continue;
+                }
+                best.add(match);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+
+            List<Match> ranked = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                Match match = best.poll();
+                List<String> matchedSkills = wanted.stream()
+                        .filter(profiles.get(match.interviewerId()).expertise()::contains)
+                        .toList();
+                ranked.add(new Match(match.interviewerId(), match.score(), matchedSkills));
+            }
+            return ranked.reversed();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Interviewer interviewer) {
+        Profile profile = new Profile(interviewer.getId(), normalise(interviewer.getExpertise()),
+                valueOrZero(interviewer.getYearsOfExperience()), valueOrZero(interviewer.getTotalInterviews()),
+                !Boolean.FALSE.equals(interviewer.getAvailability()));
+        lock.writeLock().lock();
+        try {
+            put(profile);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String interviewerId) {
+        lock.writeLock().lock();
+        try {
+            Profile previous = profiles.remove(interviewerId);
+            if (previous != null) {
+                unlinkSkills(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void adjustLoad(String interviewerId, int delta) {
+        lock.writeLock().lock();
+        try {
+            profiles.computeIfPresent(interviewerId, (id, profile) -> profile.withLoad(Math.max(0, profile.load() + delta)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        Query query = new Query();
+        query.fields().include("expertise").include("yearsOfExperience").include("totalInterviews").include("availability");
+
+        Map<String, Profile> rebuiltProfiles = new HashMap<>();
+        Map<String, Set<String>> rebuiltIndex = new HashMap<>();
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, ReferenceResolver.INTERVIEWERS)) {
+            documents.forEach(document -> {
+                Profile profile = new Profile(document.get("_id").toString(),
+                        normalise(document.getList("expertise", String.class)),
+                        valueOrZero(document.getInteger("yearsOfExperience")),
+                        valueOrZero(document.getInteger("totalInterviews")),
+                        !Boolean.FALSE.equals(document.getBoolean("availability")));
+                rebuiltProfiles.put(profile.interviewerId(), profile);
+                profile.expertise().forEach(skill ->
+                        rebuiltIndex.computeIfAbsent(skill, key -> new HashSet<>()).add(profile.interviewerId()));
+            });
+        }
+
+        lock.writeLock().lock();
+        try {
+            profiles = rebuiltProfiles;
+            interviewersBySkill = rebuiltIndex;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt interviewer match index with {} interviewers and {} skills",
+                rebuiltProfiles.size(), rebuiltIndex.size());
+    }
+
+    /**
+     * Caller holds the write lock.
+     */
+    private void put(Profile profile) {
+        Profile previous = profiles.put(profile.interviewerId(), profile);
+        if (previous != null) {
+            unlinkSkills(previous);
+        }
+        profile.expertise().forEach(skill ->
+                interviewersBySkill.computeIfAbsent(skill, key -> new HashSet<>()).add(profile.interviewerId()));
+    }
+
+    private void unlinkSkills(Profile profile) {
+        for (String skill : profile.expertise()) {
+            Set<String> interviewerIds = interviewersBySkill.get(skill);
+            if (interviewerIds != null) {
+                interviewerIds.remove(profile.interviewerId());
+                if (interviewerIds.isEmpty()) {
+                    interviewersBySkill.remove(skill);
+                }
+            }
+        }
+    }
+
+    static double score(Profile profile, int overlap, int wantedSkills) {
+        double skillScore = wantedSkills > 0 ? (double) overlap / wantedSkills : 0;
+        double experienceScore = (double) Math.min(profile.yearsOfExperience(), EXPERIENCE_CAP_YEARS) / EXPERIENCE_CAP_YEARS;
+        double loadScore = (double) LOAD_HALF_POINT / (LOAD_HALF_POINT + profile.load());
+        return SKILL_WEIGHT * skillScore + EXPERIENCE_WEIGHT * experienceScore + LOAD_WEIGHT * loadScore;
+    }
+
+    private static Set<String> normalise(Collection<String> skills) {
+        Set<String> normalised = new LinkedHashSet<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                if (skill != null && !skill.isBlank()) {
+                    normalised.add(skill.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return normalised;
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    public record Match(String interviewerId, double score, List<String> matchedSkills) {
+    }
+
+    record Profile(String interviewerId, Set<String> expertise, int yearsOfExperience, int load, boolean available) {
+
+        Profile withLoad(int newLoad) {
+            return new Profile(interviewerId, expertise, yearsOfExperience, newLoad, available);
+        }
+    }
+}
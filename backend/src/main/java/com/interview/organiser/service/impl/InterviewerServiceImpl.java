@@ -1,29 +1,42 @@
 package com.interview.organiser.service.impl;
 
 import com.interview.organiser.constants.AppConstants;
+import com.interview.organiser.constants.DashboardCounters;
 import com.interview.organiser.exception.ResourceNotFoundException;
 import com.interview.organiser.model.dto.request.CreateInterviewerRequest;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.InviteInterviewerRequest;
 import com.interview.organiser.model.dto.request.UpdateInterviewerRequest;
 import com.interview.organiser.model.dto.response.InterviewerResponse;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
 import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.repository.EntityCache;
 import com.interview.organiser.repository.InterviewerRepository;
-import com.interview.organiser.repository.RecruiterRepository;
-import com.interview.organiser.repository.UserRepository;
+import com.interview.organiser.repository.KeysetPager;
+import com.interview.organiser.repository.KeysetSlice;
+import com.interview.organiser.repository.OffsetPager;
+import com.interview.organiser.repository.PartialUpdater;
+import com.interview.organiser.repository.ReferenceResolver;
+import com.interview.organiser.service.DashboardStatsService;
+import com.interview.organiser.service.InterviewerMatchingService;
 import com.interview.organiser.service.InterviewerService;
 import com.interview.organiser.service.NotificationService;
 import com.interview.organiser.util.EntityMapper;
+import com.interview.organiser.util.FieldSelection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -33,18 +46,31 @@ import java.util.stream.Collectors;
 public class InterviewerServiceImpl implements InterviewerService {
 
     private final InterviewerRepository interviewerRepository;
-    private final UserRepository userRepository;
-    private final RecruiterRepository recruiterRepository;
+    private final KeysetPager keysetPager;
+    private final OffsetPager offsetPager;
+    private final PartialUpdater partialUpdater;
+    private final ReferenceResolver referenceResolver;
+    private final EntityCache entityCache;
     private final NotificationService notificationService;
+    private final DashboardStatsService dashboardStatsService;
+    private final InterviewerMatchingService interviewerMatchingService;
     private final EntityMapper entityMapper;
 
     @Override
-    public PageResponse<InterviewerResponse> getAllInterviewers(String expertise, Boolean available, Pageable pageable) {
-        log.info("Fetching all interviewers with expertise: {}, available: {}", expertise, available);
+    public PageResponse<InterviewerResponse> getAllInterviewers(String expertise, Boolean available,
+                                                                Pageable pageable, FieldSelection fields) {
+        log.info("Fetching all interviewers with expertise: {}, available: {}, fields: {}",
+                expertise, available, fields);
 
         Page<Interviewer> interviewerPage;
 
-        if (expertise != null && available != null) {
+        if (!fields.isAll()) {
+            // Users are resolved in one batch, and only when selected
+            Page<Document> documents = offsetPager.find(ReferenceResolver.INTERVIEWERS,
+                    buildCriteria(expertise, available), pageable, fields.documentFields(Map.of()));
+            interviewerPage = new PageImpl<>(referenceResolver.resolveInterviewers(documents.getContent(), fields),
+                    pageable, documents.getTotalElements());
+        } else if (expertise != null && available != null) {
             interviewerPage = interviewerRepository.findByExpertiseAndAvailability(expertise, available, pageable);
         } else if (expertise != null) {
             interviewerPage = interviewerRepository.findByExpertise(expertise, pageable);
@@ -67,12 +93,39 @@ public class InterviewerServiceImpl implements InterviewerService {
                 .build();
     }
 
+    @Override
+    public PageResponse<InterviewerResponse> getAllInterviewers(String expertise, Boolean available,
+                                                                CursorPageRequest cursorRequest,
+                                                                FieldSelection fields) {
+        log.info("Fetching interviewers after cursor with expertise: {}, available: {}, fields: {}",
+                expertise, available, fields);
+
+        Criteria criteria = buildCriteria(expertise, available);
+        KeysetSlice<Interviewer> interviewerSlice = fields.isAll()
+                ? keysetPager.find(Interviewer.class, criteria, cursorRequest)
+                : keysetPager.find(ReferenceResolver.INTERVIEWERS, criteria, KeysetPager.ID_KEYS, cursorRequest,
+                                fields.documentFields(Map.of()))
+                        .mapContent(documents -> referenceResolver.resolveInterviewers(documents, fields));
+
+        List<InterviewerResponse> interviewerResponses = interviewerSlice.getContent().stream()
+                .map(entityMapper::toInterviewerResponse)
+                .collect(Collectors.toList());
+
+        return PageResponse.<InterviewerResponse>builder()
+                .content(interviewerResponses)
+                .size(interviewerSlice.getSize())
+                .totalElements(interviewerSlice.getTotalElements())
+                .nextCursor(interviewerSlice.getNextCursor())
+                .hasNext(interviewerSlice.hasNext())
+                .build();
+    }
+
     @Override
     @Transactional
     public InterviewerResponse createInterviewer(CreateInterviewerRequest request) {
         log.info("Creating interviewer for user id: {}", request.getUserId());
 
-        com.interview.organiser.model.entity.User user = userRepository.findById(request.getUserId())
+        com.interview.organiser.model.entity.User user = entityCache.findUser(request.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException(AppConstants.USER_NOT_FOUND));
 
         Interviewer interviewer = Interviewer.builder()
@@ -89,6 +142,8 @@ public class InterviewerServiceImpl implements InterviewerService {
                 .build();
 
         Interviewer savedInterviewer = interviewerRepository.save(interviewer);
+        dashboardStatsService.increment(DashboardCounters.GLOBAL_SCOPE, DashboardCounters.TOTAL_INTERVIEWERS, 1);
+        interviewerMatchingService.index(savedInterviewer);
 
         return entityMapper.toInterviewerResponse(savedInterviewer);
     }
@@ -109,7 +164,7 @@ public class InterviewerServiceImpl implements InterviewerService {
         // Get recruiter name for notification
         String recruiterName = "Recruiter";
         if (request.getRecruiterId() != null) {
-            recruiterRepository.findById(request.getRecruiterId())
+            entityCache.findRecruiter(request.getRecruiterId())
                     .ifPresent(recruiter -> {});
         }
 
@@ -128,7 +183,9 @@ public class InterviewerServiceImpl implements InterviewerService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        interviewerRepository.save(interviewer);
+        Interviewer savedInterviewer = interviewerRepository.save(interviewer);
+        dashboardStatsService.increment(DashboardCounters.GLOBAL_SCOPE, DashboardCounters.TOTAL_INTERVIEWERS, 1);
+        interviewerMatchingService.index(savedInterviewer);
 
         // Send invitation notification (mocked)
         notificationService.sendInterviewerInvitation(request.getEmail(), invitationToken, recruiterName);
@@ -143,7 +200,7 @@ public class InterviewerServiceImpl implements InterviewerService {
     public InterviewerResponse getInterviewerById(String interviewerId) {
         log.info("Fetching interviewer with id: {}", interviewerId);
 
-        Interviewer interviewer = interviewerRepository.findById(interviewerId)
+        Interviewer interviewer = entityCache.findInterviewer(interviewerId)
                 .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEWER_NOT_FOUND));
 
         return entityMapper.toInterviewerResponse(interviewer);
@@ -154,25 +211,13 @@ public class InterviewerServiceImpl implements InterviewerService {
     public InterviewerResponse updateInterviewer(String interviewerId, UpdateInterviewerRequest request) {
         log.info("Updating interviewer with id: {}", interviewerId);
 
-        Interviewer interviewer = interviewerRepository.findById(interviewerId)
+        PartialUpdater.Result result = partialUpdater.update(Interviewer.class, interviewerId, request)
                 .orElseThrow(() -> new ResourceNotFoundException(AppConstants.INTERVIEWER_NOT_FOUND));
+        Interviewer updatedInterviewer = referenceResolver.resolveInterviewers(List.of(result.after()),
+                FieldSelection.ALL).getFirst();
 
-        if (request.getDepartment() != null) {
-            interviewer.setDepartment(request.getDepartment());
-        }
-        if (request.getExpertise() != null) {
-            interviewer.setExpertise(request.getExpertise());
-        }
-        if (request.getYearsOfExperience() != null) {
-            interviewer.setYearsOfExperience(request.getYearsOfExperience());
-        }
-        if (request.getAvailability() != null) {
-            interviewer.setAvailability(request.getAvailability());
-        }
-
-        interviewer.setUpdatedAt(LocalDateTime.now());
-
-        Interviewer updatedInterviewer = interviewerRepository.save(interviewer);
+        entityCache.evictInterviewer(interviewerId);
+        interviewerMatchingService.index(updatedInterviewer);
 
         return entityMapper.toInterviewerResponse(updatedInterviewer);
     }
@@ -187,11 +232,27 @@ public class InterviewerServiceImpl implements InterviewerService {
         }
 
         interviewerRepository.deleteById(interviewerId);
+        entityCache.evictInterviewer(interviewerId);
+        dashboardStatsService.increment(DashboardCounters.GLOBAL_SCOPE, DashboardCounters.TOTAL_INTERVIEWERS, -1);
+        interviewerMatchingService.remove(interviewerId);
 
         return MessageResponse.builder()
                 .message("Interviewer deleted successfully")
                 .timestamp(LocalDateTime.now())
                 .build();
     }
-}
 
+    /**
+     * Same filter as the paged finders: expertise matches any entry of the list.
+     */
+    private Criteria buildCriteria(String expertise, Boolean available) {
+        Criteria criteria = new Criteria();
+        if (expertise != null) {
+            criteria.and("expertise").is(expertise);
+        }
+        if (available != null) {
+            criteria.and("availability").is(available);
+        }
+        return criteria;
+    }
+}
@@ -0,0 +1,86 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.repository.EntityCache;
+import com.interview.organiser.service.InterviewerMatchingService;
+import com.interview.organiser.service.InterviewerWorkloadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewerWorkloadServiceImpl implements InterviewerWorkloadService {
+
+    private static final String TOTAL_INTERVIEWS = "totalInterviews";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private final MongoTemplate mongoTemplate;
+    private final InterviewerMatchingService interviewerMatchingService;
+    private final EntityCache entityCache;
+
+    @Override
+    public void recordScheduled(List<Interviewer> interviewers) {
+        adjust(interviewers, 1);
+    }
+
+    @Override
+    public void recordCancelled(List<Interviewer> interviewers) {
+        adjust(interviewers, -1);
+    }
+
+    private void adjust(List<Interviewer> interviewers, int step) {
+        if (interviewers == null || interviewers.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> deltas = new LinkedHashMap<>();
+        interviewers.forEach(interviewer -> deltas.merge(interviewer.getId(), step, Integer::sum));
+        // The count shows in interviewer responses, so it moves updatedAt like any other change
+        LocalDateTime now = LocalDateTime.now();
+
+        if (deltas.size() == 1) {
+            Map.Entry<String, Integer> delta = deltas.entrySet().iterator().next();
+            mongoTemplate.updateFirst(counterQuery(delta.getKey(), delta.getValue()),
+                    new Update().inc(TOTAL_INTERVIEWS, delta.getValue()).set(UPDATED_AT, now), Interviewer.class);
+        } else {
+            // Unordered, so one missing or already-zero interviewer does not hold back the others
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Interviewer.class);
+            deltas.forEach((interviewerId, delta) -> bulk.updateOne(counterQuery(interviewerId, delta),
+                    new Update().inc(TOTAL_INTERVIEWS, delta).set(UPDATED_AT, now)));
+            bulk.execute();
+        }
+        log.debug("Adjusted totalInterviews by {} for interviewers {}", step, deltas);
+        deltas.forEach(interviewerMatchingService::adjustLoad);
+        entityCache.evictInterviewers(deltas.keySet());
+
+        Set<Interviewer> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        instances.addAll(interviewers);
+        for (Interviewer interviewer : instances) {
+            int current = interviewer.getTotalInterviews() != null ? interviewer.getTotalInterviews() : 0;
+            interviewer.setTotalInterviews(Math.max(0, current + deltas.get(interviewer.getId())));
+            interviewer.setUpdatedAt(now);
+        }
+    }
+
+    private static Query counterQuery(String interviewerId, int delta) {
+        Criteria criteria = Criteria.where("_id").is(interviewerId);
+        if (delta < 0) {
+            criteria.and(TOTAL_INTERVIEWS).gte(-delta);
+        }
+        return Query.query(criteria);
+    }
+}
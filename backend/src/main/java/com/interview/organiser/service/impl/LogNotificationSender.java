@@ -0,0 +1,27 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.model.entity.Notification;
+import com.interview.organiser.service.NotificationSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Mock sender that logs notifications instead of sending actual emails/SMS.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.notifications.sender", havingValue = "log", matchIfMissing = true)
+public class LogNotificationSender implements NotificationSender {
+
+    @Override
+    public void send(String recipient, List<Notification> notifications) {
+        log.info("📧 [MOCK NOTIFICATION] {} message(s) to {}", notifications.size(), recipient);
+        for (Notification notification : notifications) {
+            log.info("   Subject: {}", notification.getSubject());
+            notification.getBody().lines().forEach(line -> log.info("   {}", line));
+        }
+    }
+}
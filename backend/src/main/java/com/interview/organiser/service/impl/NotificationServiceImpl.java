@@ -1,146 +1,206 @@
 package com.interview.organiser.service.impl;
 
+import com.interview.organiser.constants.enums.NotificationType;
 import com.interview.organiser.model.entity.Candidate;
 import com.interview.organiser.model.entity.Interview;
 import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.model.entity.Notification;
+import com.interview.organiser.repository.NotificationRepository;
 import com.interview.organiser.service.NotificationService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Mock implementation of NotificationService.
- * Logs notifications to console instead of sending actual emails/SMS.
+ * Outbox implementation of NotificationService.
+ * Each call renders the message from the entities the caller already holds and inserts one outbox
+ * record per recipient; NotificationDispatcher delivers them in the background, so request latency
+ * only includes a single insert.
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    private static final String ADMIN_RECIPIENT = "admin";
+
+    private final NotificationRepository notificationRepository;
+
     @Override
     public void sendInterviewerInvitation(String email, String invitationToken, String recruiterName) {
-        log.info("📧 [MOCK NOTIFICATION] Sending interviewer invitation");
-        log.info("   To: {}", email);
-        log.info("   From: Recruiter {}", recruiterName);
-        log.info("   Token: {}", invitationToken);
-        log.info("   Message: You have been invited to join as an interviewer. Please register using this token.");
+        enqueue(NotificationType.INTERVIEWER_INVITATION, email, null,
+                "You have been invited to join as an interviewer",
+                "From: Recruiter " + recruiterName + "\n"
+                        + "Token: " + invitationToken + "\n"
+                        + "You have been invited to join as an interviewer. Please register using this token.");
     }
 
     @Override
     public void sendCandidateInvitation(String email, String invitationToken, String interviewDetails) {
-        log.info("📧 [MOCK NOTIFICATION] Sending candidate invitation");
-        log.info("   To: {}", email);
-        log.info("   Token: {}", invitationToken);
-        log.info("   Details: {}", interviewDetails);
-        log.info("   Message: You have been invited for an interview. Please register to view details.");
+        enqueue(NotificationType.CANDIDATE_INVITATION, email, null,
+                "You have been invited for an interview",
+                "Token: " + invitationToken + "\n"
+                        + "Details: " + interviewDetails + "\n"
+                        + "You have been invited for an interview. Please register to view details.");
     }
 
     @Override
     public void notifyInterviewScheduled(Candidate candidate, Interview interview) {
-        log.info("📧 [MOCK NOTIFICATION] Notifying candidate about scheduled interview");
-        log.info("   To: {} {}", candidate.getFirstName(), candidate.getLastName());
-        log.info("   Email: {}", candidate.getEmail());
-        log.info("   Interview ID: {}", interview.getId());
-        log.info("   Scheduled At: {}", interview.getScheduledAt().format(DATE_FORMATTER));
-        log.info("   Type: {}", interview.getInterviewType());
-        log.info("   Message: Your interview has been scheduled. Please confirm your availability.");
+        enqueue(NotificationType.INTERVIEW_SCHEDULED, candidateRecipient(candidate), interview.getId(),
+                "Your interview has been scheduled",
+                "Interview ID: " + interview.getId() + "\n"
+                        + "Scheduled At: " + interview.getScheduledAt().format(DATE_FORMATTER) + "\n"
+                        + "Type: " + interview.getInterviewType() + "\n"
+                        + "Your interview has been scheduled. Please confirm your availability.");
     }
 
     @Override
     public void notifyInterviewerAssigned(Interviewer interviewer, Interview interview) {
-        log.info("📧 [MOCK NOTIFICATION] Notifying interviewer about assigned interview");
-        log.info("   To: Interviewer ID {}", interviewer.getId());
-        log.info("   Interview ID: {}", interview.getId());
-        log.info("   Candidate: {} {}", interview.getCandidate().getFirstName(), interview.getCandidate().getLastName());
-        log.info("   Scheduled At: {}", interview.getScheduledAt().format(DATE_FORMATTER));
-        log.info("   Message: You have been assigned to conduct an interview.");
+        enqueue(NotificationType.INTERVIEWER_ASSIGNED, interviewerRecipient(interviewer), interview.getId(),
+                "You have been assigned to an interview",
+                "Interview ID: " + interview.getId() + "\n"
+                        + "Candidate: " + candidateName(interview.getCandidate()) + "\n"
+                        + "Scheduled At: " + interview.getScheduledAt().format(DATE_FORMATTER) + "\n"
+                        + "You have been assigned to conduct an interview.");
     }
 
     @Override
     public void notifyInterviewConfirmed(Interview interview) {
-        log.info("📧 [MOCK NOTIFICATION] Notifying all parties about interview confirmation");
-        log.info("   Interview ID: {}", interview.getId());
-        log.info("   Candidate: {} {}", interview.getCandidate().getFirstName(), interview.getCandidate().getLastName());
-        log.info("   Confirmed At: {}", interview.getCandidateConfirmedAt().format(DATE_FORMATTER));
-        log.info("   Message: The candidate has confirmed their availability for the interview.");
+        enqueueForParticipants(NotificationType.INTERVIEW_CONFIRMED, interview,
+                "Interview confirmed",
+                "Interview ID: " + interview.getId() + "\n"
+                        + "Candidate: " + candidateName(interview.getCandidate()) + "\n"
+                        + "Confirmed At: " + interview.getCandidateConfirmedAt().format(DATE_FORMATTER) + "\n"
+                        + "The candidate has confirmed their availability for the interview.");
     }
 
     @Override
     public void notifyInterviewCancelled(Interview interview, String reason) {
-        log.info("📧 [MOCK NOTIFICATION] Notifying all parties about interview cancellation");
-        log.info("   Interview ID: {}", interview.getId());
-        log.info("   Reason: {}", reason);
-        log.info("   Message: The interview has been cancelled.");
+        enqueueForParticipants(NotificationType.INTERVIEW_CANCELLED, interview,
+                "Interview cancelled",
+                "Interview ID: " + interview.getId() + "\n"
+                        + "Reason: " + reason + "\n"
+                        + "The interview has been cancelled.");
     }
 
     @Override
     public void requestFeedback(Interviewer interviewer, Interview interview) {
-        log.info("📧 [MOCK NOTIFICATION] Requesting feedback from interviewer");
-        log.info("   To: Interviewer ID {}", interviewer.getId());
-        log.info("   Interview ID: {}", interview.getId());
-        log.info("   Candidate: {} {}", interview.getCandidate().getFirstName(), interview.getCandidate().getLastName());
-        log.info("   Message: Please provide your feedback for the completed interview.");
+        enqueue(NotificationType.FEEDBACK_REQUEST, interviewerRecipient(interviewer), interview.getId(),
+                "Feedback requested",
+                "Interview ID: " + interview.getId() + "\n"
+                        + "Candidate: " + candidateName(interview.getCandidate()) + "\n"
+                        + "Please provide your feedback for the completed interview.");
     }
 
     @Override
     public void requestCandidateFeedback(Candidate candidate, Interview interview) {
-        log.info("📧 [MOCK NOTIFICATION] Requesting feedback from candidate");
-        log.info("   To: {} {}", candidate.getFirstName(), candidate.getLastName());
-        log.info("   Email: {}", candidate.getEmail());
-        log.info("   Interview ID: {}", interview.getId());
-        log.info("   Message: We'd love to hear about your interview experience. Feedback is optional.");
+        enqueue(NotificationType.CANDIDATE_FEEDBACK_REQUEST, candidateRecipient(candidate), interview.getId(),
+                "How was your interview?",
+                "Interview ID: " + interview.getId() + "\n"
+                        + "We'd love to hear about your interview experience. Feedback is optional.");
     }
 
     @Override
     public void notifyCandidateResult(Candidate candidate, Interview interview, String result) {
-        log.info("📧 [MOCK NOTIFICATION] Notifying candidate about interview result");
-        log.info("   To: {} {}", candidate.getFirstName(), candidate.getLastName());
-        log.info("   Email: {}", candidate.getEmail());
-        log.info("   Interview ID: {}", interview.getId());
-        log.info("   Result: {}", result);
-        log.info("   Message: Your interview result has been updated.");
+        enqueue(NotificationType.CANDIDATE_RESULT, candidateRecipient(candidate), interview.getId(),
+                "Your interview result has been updated",
+                "Interview ID: " + interview.getId() + "\n"
+                        + "Result: " + result + "\n"
+                        + "Your interview result has been updated.");
     }
 
     @Override
     public void notifyRecruiterNewCandidate(String recruiterId, Candidate candidate) {
-        log.info("📧 [MOCK NOTIFICATION] Notifying recruiter about new candidate");
-        log.info("   To: Recruiter ID {}", recruiterId);
-        log.info("   Candidate: {} {}", candidate.getFirstName(), candidate.getLastName());
-        log.info("   Email: {}", candidate.getEmail());
-        log.info("   Position: {}", candidate.getPosition());
-        log.info("   Message: A new candidate has applied.");
+        enqueue(NotificationType.RECRUITER_NEW_CANDIDATE, "recruiter:" + recruiterId, candidate.getId(),
+                "A new candidate has applied",
+                "Candidate: " + candidateName(candidate) + "\n"
+                        + "Email: " + candidate.getEmail() + "\n"
+                        + "Position: " + candidate.getPosition() + "\n"
+                        + "A new candidate has applied.");
     }
 
     @Override
     public void notifyAdminNewRecruiter(String recruiterName, String recruiterId) {
-        log.info("📧 [MOCK NOTIFICATION] Notifying admin about new recruiter");
-        log.info("   To: Admin");
-        log.info("   Recruiter: {}", recruiterName);
-        log.info("   Recruiter ID: {}", recruiterId);
-        log.info("   Message: A new recruiter has registered and is pending verification.");
+        enqueue(NotificationType.ADMIN_NEW_RECRUITER, ADMIN_RECIPIENT, recruiterId,
+                "A new recruiter is pending verification",
+                "Recruiter: " + recruiterName + "\n"
+                        + "Recruiter ID: " + recruiterId + "\n"
+                        + "A new recruiter has registered and is pending verification.");
     }
 
     @Override
     public void notifyRecruiterVerificationStatus(String recruiterEmail, String status, String reason) {
-        log.info("📧 [MOCK NOTIFICATION] Notifying recruiter about verification status");
-        log.info("   To: {}", recruiterEmail);
-        log.info("   Status: {}", status);
-        log.info("   Reason: {}", reason);
-        log.info("   Message: Your recruiter account verification status has been updated.");
+        enqueue(NotificationType.RECRUITER_VERIFICATION_STATUS, recruiterEmail, null,
+                "Your verification status has been updated",
+                "Status: " + status + "\n"
+                        + "Reason: " + reason + "\n"
+                        + "Your recruiter account verification status has been updated.");
     }
 
     @Override
     public void notifyNextRoundScheduled(Candidate candidate, Interview nextRoundInterview) {
-        log.info("📧 [MOCK NOTIFICATION] Notifying candidate about next round");
-        log.info("   To: {} {}", candidate.getFirstName(), candidate.getLastName());
-        log.info("   Email: {}", candidate.getEmail());
-        log.info("   Next Round Interview ID: {}", nextRoundInterview.getId());
-        log.info("   Round: {}", nextRoundInterview.getRound());
-        log.info("   Scheduled At: {}", nextRoundInterview.getScheduledAt().format(DATE_FORMATTER));
-        log.info("   Message: Congratulations! You have been selected for the next round of interviews.");
+        enqueue(NotificationType.NEXT_ROUND_SCHEDULED, candidateRecipient(candidate), nextRoundInterview.getId(),
+                "You have been selected for the next round",
+                "Next Round Interview ID: " + nextRoundInterview.getId() + "\n"
+                        + "Round: " + nextRoundInterview.getRound() + "\n"
+                        + "Scheduled At: " + nextRoundInterview.getScheduledAt().format(DATE_FORMATTER) + "\n"
+                        + "Congratulations! You have been selected for the next round of interviews.");
+    }
+
+    private void enqueue(NotificationType type, String recipient, String referenceId, String subject, String body) {
+        notificationRepository.insert(build(type, recipient, referenceId, subject, body));
+    }
+
+    private void enqueueForParticipants(NotificationType type, Interview interview, String subject, String body) {
+        List<Notification> notifications = new ArrayList<>();
+        if (interview.getCandidate() != null) {
+            notifications.add(build(type, candidateRecipient(interview.getCandidate()), interview.getId(), subject, body));
+        }
+        if (interview.getInterviewers() != null) {
+            interview.getInterviewers().forEach(interviewer -> notifications.add(
+                    build(type, interviewerRecipient(interviewer), interview.getId(), subject, body)));
+        }
+        if (!notifications.isEmpty()) {
+            notificationRepository.insert(notifications);
+        }
     }
-}
 
+    private Notification build(NotificationType type, String recipient, String referenceId, String subject, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        log.debug("Queued {} notification for {}", type, recipient);
+        return Notification.builder()
+                .type(type)
+                .recipient(recipient)
+                .referenceId(referenceId)
+                .subject(subject)
+                .body(body)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    private static String candidateRecipient(Candidate candidate) {
+        return candidate.getEmail() != null ? candidate.getEmail() : "candidate:" + candidate.getId();
+    }
+
+    private static String interviewerRecipient(Interviewer interviewer) {
+        if (interviewer.getEmail() != null) {
+            return interviewer.getEmail();
+        }
+        if (interviewer.getUser() != null && interviewer.getUser().getEmail() != null) {
+            return interviewer.getUser().getEmail();
+        }
+        return "interviewer:" + interviewer.getId();
+    }
+
+    private static String candidateName(Candidate candidate) {
+        return candidate != null ? candidate.getFirstName() + " " + candidate.getLastName() : "";
+    }
+}
@@ -3,17 +3,25 @@ package com.interview.organiser.service.impl;
 import com.interview.organiser.constants.enums.VerificationStatus;
 import com.interview.organiser.exception.ResourceNotFoundException;
 import com.interview.organiser.model.dto.request.CreateRecruiterRequest;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.UpdateRecruiterRequest;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.RecruiterResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
 import com.interview.organiser.model.entity.Recruiter;
+import com.interview.organiser.repository.ConflictRetry;
+import com.interview.organiser.repository.EntityCache;
+import com.interview.organiser.repository.KeysetPager;
+import com.interview.organiser.repository.KeysetSlice;
+import com.interview.organiser.repository.PartialUpdater;
 import com.interview.organiser.repository.RecruiterRepository;
+import com.interview.organiser.service.DashboardStatsService;
 import com.interview.organiser.service.RecruiterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,12 +35,21 @@ import java.util.stream.Collectors;
 public class RecruiterServiceImpl implements RecruiterService {
 
     private final RecruiterRepository recruiterRepository;
+    private final KeysetPager keysetPager;
+    private final PartialUpdater partialUpdater;
+    private final ConflictRetry conflictRetry;
+    private final EntityCache entityCache;
+    private final DashboardStatsService dashboardStatsService;
 
     @Override
-    @Transactional
     public RecruiterResponse createRecruiter(CreateRecruiterRequest request) {
         log.info("Creating recruiter: {}", request.getName());
 
+        // Aborted by a concurrent counter write, the whole attempt is rolled back and run again
+        return conflictRetry.run(false, () -> create(request));
+    }
+
+    private RecruiterResponse create(CreateRecruiterRequest request) {
         Recruiter recruiter = Recruiter.builder()
                 .name(request.getName())
                 .registrationNumber(request.getRegistrationNumber())
@@ -48,6 +65,8 @@ public class RecruiterServiceImpl implements RecruiterService {
                 .build();
 
         Recruiter savedRecruiter = recruiterRepository.save(recruiter);
+        dashboardStatsService.recordChange(DashboardStatsService.Snapshot.EMPTY,
+                dashboardStatsService.snapshot(savedRecruiter));
 
         return toRecruiterResponse(savedRecruiter);
     }
@@ -56,7 +75,7 @@ public class RecruiterServiceImpl implements RecruiterService {
     public RecruiterResponse getRecruiterById(String recruiterId) {
         log.info("Fetching recruiter with id: {}", recruiterId);
 
-        Recruiter recruiter = recruiterRepository.findById(recruiterId)
+        Recruiter recruiter = entityCache.findRecruiter(recruiterId)
                 .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found"));
 
         return toRecruiterResponse(recruiter);
@@ -91,101 +110,130 @@ public class RecruiterServiceImpl implements RecruiterService {
                 .build();
     }
 
+    @Override
+    public PageResponse<RecruiterResponse> getAllRecruiters(VerificationStatus status, Boolean isActive,
+                                                            CursorPageRequest cursorRequest) {
+        log.info("Fetching recruiters after cursor with status: {}, isActive: {}", status, isActive);
+
+        Criteria criteria = new Criteria();
+        if (status != null) {
+            criteria.and("verificationStatus").is(status.name());
+        }
+        if (isActive != null) {
+            criteria.and("isActive").is(isActive);
+        }
+        KeysetSlice<Recruiter> recruiterSlice = keysetPager.find(Recruiter.class, criteria, cursorRequest);
+
+        List<RecruiterResponse> recruiters = recruiterSlice.getContent().stream()
+                .map(this::toRecruiterResponse)
+                .collect(Collectors.toList());
+
+        return PageResponse.<RecruiterResponse>builder()
+                .content(recruiters)
+                .size(recruiterSlice.getSize())
+                .totalElements(recruiterSlice.getTotalElements())
+                .nextCursor(recruiterSlice.getNextCursor())
+                .hasNext(recruiterSlice.hasNext())
+                .build();
+    }
+
     @Override
     @Transactional
     public RecruiterResponse updateRecruiter(String recruiterId, UpdateRecruiterRequest request) {
         log.info("Updating recruiter with id: {}", recruiterId);
 
-        Recruiter recruiter = recruiterRepository.findById(recruiterId)
+        PartialUpdater.Result result = partialUpdater.update(Recruiter.class, recruiterId, request)
                 .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found"));
+        Recruiter updatedRecruiter = partialUpdater.read(Recruiter.class, result.after());
 
-        if (request.getName() != null) {
-            recruiter.setName(request.getName());
-        }
-        if (request.getContactEmail() != null) {
-            recruiter.setContactEmail(request.getContactEmail());
-        }
-        if (request.getContactPhone() != null) {
-            recruiter.setContactPhone(request.getContactPhone());
-        }
-        if (request.getWebsite() != null) {
-            recruiter.setWebsite(request.getWebsite());
-        }
-        if (request.getDescription() != null) {
-            recruiter.setDescription(request.getDescription());
-        }
-
-        recruiter.setUpdatedAt(LocalDateTime.now());
-
-        Recruiter updatedRecruiter = recruiterRepository.save(recruiter);
+        entityCache.evictRecruiter(recruiterId);
 
         return toRecruiterResponse(updatedRecruiter);
     }
 
     @Override
-    @Transactional
     public RecruiterResponse verifyRecruiter(String recruiterId) {
         log.info("Verifying recruiter with id: {}", recruiterId);
 
-        Recruiter recruiter = recruiterRepository.findById(recruiterId)
-                .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found"));
+        // Setting the verification status is re-applied to a fresh read after a concurrent change
+        return conflictRetry.run(true, () -> {
+            Recruiter recruiter = recruiterRepository.findById(recruiterId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found"));
 
-        recruiter.setVerificationStatus(VerificationStatus.VERIFIED);
-        recruiter.setIsActive(true);
-        recruiter.setUpdatedAt(LocalDateTime.now());
+            DashboardStatsService.Snapshot before = dashboardStatsService.snapshot(recruiter);
+            recruiter.setVerificationStatus(VerificationStatus.VERIFIED);
+            recruiter.setIsActive(true);
+            recruiter.setUpdatedAt(LocalDateTime.now());
 
-        Recruiter verifiedRecruiter = recruiterRepository.save(recruiter);
+            Recruiter verifiedRecruiter = recruiterRepository.save(recruiter);
+            entityCache.evictRecruiter(recruiterId);
+            dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(verifiedRecruiter));
 
-        return toRecruiterResponse(verifiedRecruiter);
+            return toRecruiterResponse(verifiedRecruiter);
+        });
     }
 
     @Override
-    @Transactional
     public RecruiterResponse unverifyRecruiter(String recruiterId, String reason) {
         log.info("Unverifying recruiter with id: {}, reason: {}", recruiterId, reason);
 
-        Recruiter recruiter = recruiterRepository.findById(recruiterId)
-                .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found"));
+        return conflictRetry.run(true, () -> {
+            Recruiter recruiter = recruiterRepository.findById(recruiterId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found"));
 
-        recruiter.setVerificationStatus(VerificationStatus.REJECTED);
-        recruiter.setIsActive(false);
-        recruiter.setUpdatedAt(LocalDateTime.now());
+            DashboardStatsService.Snapshot before = dashboardStatsService.snapshot(recruiter);
+            recruiter.setVerificationStatus(VerificationStatus.REJECTED);
+            recruiter.setIsActive(false);
+            recruiter.setUpdatedAt(LocalDateTime.now());
 
-        Recruiter unverifiedRecruiter = recruiterRepository.save(recruiter);
+            Recruiter unverifiedRecruiter = recruiterRepository.save(recruiter);
+            entityCache.evictRecruiter(recruiterId);
+            dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(unverifiedRecruiter));
 
-        // TODO: Send notification to recruiter about unverification
-        // notificationService.notifyRecruiterVerificationStatus(
-        //     recruiter.getContactEmail(), "UNVERIFIED", reason);
+            // TODO: Send notification to recruiter about unverification
+            // notificationService.notifyRecruiterVerificationStatus(
+            //     recruiter.getContactEmail(), "UNVERIFIED", reason);
 
-        return toRecruiterResponse(unverifiedRecruiter);
+            return toRecruiterResponse(unverifiedRecruiter);
+        });
     }
 
     @Override
-    @Transactional
     public RecruiterResponse rejectRecruiter(String recruiterId, String reason) {
         log.info("Rejecting recruiter with id: {}, reason: {}", recruiterId, reason);
 
-        Recruiter recruiter = recruiterRepository.findById(recruiterId)
-                .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found"));
+        return conflictRetry.run(true, () -> {
+            Recruiter recruiter = recruiterRepository.findById(recruiterId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found"));
 
-        recruiter.setVerificationStatus(VerificationStatus.REJECTED);
-        recruiter.setIsActive(false);
-        recruiter.setUpdatedAt(LocalDateTime.now());
+            DashboardStatsService.Snapshot before = dashboardStatsService.snapshot(recruiter);
+            recruiter.setVerificationStatus(VerificationStatus.REJECTED);
+            recruiter.setIsActive(false);
+            recruiter.setUpdatedAt(LocalDateTime.now());
 
-        Recruiter rejectedRecruiter = recruiterRepository.save(recruiter);
+            Recruiter rejectedRecruiter = recruiterRepository.save(recruiter);
+            entityCache.evictRecruiter(recruiterId);
+            dashboardStatsService.recordChange(before, dashboardStatsService.snapshot(rejectedRecruiter));
 
-        return toRecruiterResponse(rejectedRecruiter);
+            return toRecruiterResponse(rejectedRecruiter);
+        });
     }
 
     @Override
-    @Transactional
     public MessageResponse deleteRecruiter(String recruiterId) {
         log.info("Deleting recruiter with id: {}", recruiterId);
 
+        return conflictRetry.run(true, () -> delete(recruiterId));
+    }
+
+    private MessageResponse delete(String recruiterId) {
         Recruiter recruiter = recruiterRepository.findById(recruiterId)
                 .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found"));
 
         recruiterRepository.delete(recruiter);
+        entityCache.evictRecruiter(recruiterId);
+        dashboardStatsService.recordChange(dashboardStatsService.snapshot(recruiter),
+                DashboardStatsService.Snapshot.EMPTY);
 
         return MessageResponse.builder()
                 .message("Recruiter deleted successfully")
@@ -220,6 +268,7 @@ public class RecruiterServiceImpl implements RecruiterService {
                 .isActive(recruiter.getIsActive())
                 .createdAt(recruiter.getCreatedAt())
                 .updatedAt(recruiter.getUpdatedAt())
+                .version(recruiter.getVersion())
                 .build();
     }
 }
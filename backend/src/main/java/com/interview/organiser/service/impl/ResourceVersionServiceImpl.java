@@ -0,0 +1,244 @@
+package com.interview.organiser.service.impl;
+
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
+import com.interview.organiser.model.entity.Feedback;
+import com.interview.organiser.model.entity.Recruiter;
+import com.interview.organiser.repository.EntityCache;
+import com.interview.organiser.repository.InterviewRepository;
+import com.interview.organiser.repository.KeysetSlice;
+import com.interview.organiser.repository.ReferenceResolver;
+import com.interview.organiser.service.ResourceVersionService;
+import com.interview.organiser.util.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.interview.organiser.repository.ReferenceResolver.CANDIDATES;
+import static com.interview.organiser.repository.ReferenceResolver.INTERVIEWERS;
+import static com.interview.organiser.repository.ReferenceResolver.INTERVIEWS;
+import static com.interview.organiser.repository.ReferenceResolver.USERS;
+
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String VERSION = "version";
+    // Bytes of the SHA-256 digest kept in the entity tag
+    private static final int ETAG_BYTES = 16;
+
+    private final MongoTemplate mongoTemplate;
+    private final InterviewRepository interviewRepository;
+    private final EntityCache entityCache;
+
+    @Override
+    public Optional<Version> getInterviewVersion(String interviewId) {
+        return findStamp(INTERVIEWS, interviewId, "candidate", "interviewers").flatMap(interview -> {
+            Stamper stamper = new Stamper();
+            addInterviews(stamper, List.of(interview));
+            return stamper.version();
+        });
+    }
+
+    @Override
+    public Optional<Version> getInterviewsVersion(InterviewStatus status, String candidateId, String interviewerId,
+                                                  LocalDateTime fromDate, LocalDateTime toDate, Pageable pageable,
+                                                  FieldSelection fields) {
+        Page<Document> page = interviewRepository.findVersionStamps(status, candidateId, interviewerId,
+                fromDate, toDate, pageable);
+        Stamper stamper = new Stamper();
+        stamper.add("page", page.getNumber(), page.getSize(), page.getTotalElements(), fields);
+        addInterviews(stamper, page.getContent());
+        return stamper.version();
+    }
+
+    @Override
+    public Optional<Version> getInterviewsVersion(InterviewStatus status, String candidateId, String interviewerId,
+                                                  LocalDateTime fromDate, LocalDateTime toDate,
+                                                  CursorPageRequest cursorRequest, FieldSelection fields) {
+        KeysetSlice<Document> slice = interviewRepository.findVersionStamps(status, candidateId, interviewerId,
+                fromDate, toDate, cursorRequest);
+        Stamper stamper = new Stamper();
+        stamper.add("slice", slice.getSize(), slice.getNextCursor(), slice.getTotalElements(), fields);
+        addInterviews(stamper, slice.getContent());
+        return stamper.version();
+    }
+
+    @Override
+    public Optional<Version> getFeedbackVersion(String feedbackId) {
+        return findStamp(mongoTemplate.getCollectionName(Feedback.class), feedbackId, "interview").flatMap(feedback -> {
+            Stamper stamper = new Stamper();
+            stamper.add(mongoTemplate.getCollectionName(Feedback.class), feedback);
+            Object interviewId = ReferenceResolver.refId(feedback.get("interview"));
+            if (interviewId != null) {
+                addInterviews(stamper, findStamps(INTERVIEWS, List.of(interviewId), "candidate", "interviewers"));
+            }
+            return stamper.version();
+        });
+    }
+
+    @Override
+    public Optional<Version> getCandidateVersion(String candidateId) {
+        return findStamp(CANDIDATES, candidateId).flatMap(candidate -> {
+            entityCache.evictCandidateIfChanged(candidateId, candidate.getDate(UPDATED_AT));
+            Stamper stamper = new Stamper();
+            stamper.add(CANDIDATES, candidate);
+            return stamper.version();
+        });
+    }
+
+    @Override
+    public Optional<Version> getInterviewerVersion(String interviewerId) {
+        return findStamp(INTERVIEWERS, interviewerId, "user").flatMap(interviewer -> {
+            Stamper stamper = new Stamper();
+            List<Document> users = addInterviewers(stamper, List.of(interviewer));
+            entityCache.evictInterviewerIfChanged(interviewerId, interviewer.getDate(UPDATED_AT),
+                    users.isEmpty() ? null : users.getFirst().getDate(UPDATED_AT));
+            return stamper.version();
+        });
+    }
+
+    @Override
+    public Optional<Version> getRecruiterVersion(String recruiterId) {
+        String recruiters = mongoTemplate.getCollectionName(Recruiter.class);
+        return findStamp(recruiters, recruiterId).flatMap(recruiter -> {
+            entityCache.evictRecruiterIfChanged(recruiterId, recruiter.getDate(UPDATED_AT));
+            Stamper stamper = new Stamper();
+            stamper.add(recruiters, recruiter);
+            return stamper.version();
+        });
+    }
+
+    @Override
+    public Optional<Version> getUserVersion(String userId) {
+        return findStamp(USERS, userId).flatMap(user -> {
+            entityCache.evictUserIfChanged(userId, user.getDate(UPDATED_AT));
+            Stamper stamper = new Stamper();
+            stamper.add(USERS, user);
+            return stamper.version();
+        });
+    }
+
+    /**
+     * Stamps the interviews in order, then every candidate, interviewer and user they reference.
+     */
+    private void addInterviews(Stamper stamper, List<Document> interviews) {
+        Set<Object> candidateIds = new LinkedHashSet<>();
+        Set<Object> interviewerIds = new LinkedHashSet<>();
+        for (Document interview : interviews) {
+            stamper.add(INTERVIEWS, interview);
+            Object candidateId = ReferenceResolver.refId(interview.get("candidate"));
+            if (candidateId != null) {
+                candidateIds.add(candidateId);
+            }
+            if (interview.get("interviewers") instanceof List<?> refs) {
+                refs.stream().map(ReferenceResolver::refId).filter(Objects::nonNull).forEach(interviewerIds::add);
+            }
+        }
+        findStamps(CANDIDATES, candidateIds).forEach(candidate -> stamper.add(CANDIDATES, candidate));
+        addInterviewers(stamper, findStamps(INTERVIEWERS, interviewerIds, "user"));
+    }
+
+    /**
+     * Stamps the interviewers and their users; returns the user stamps.
+     */
+    private List<Document> addInterviewers(Stamper stamper, List<Document> interviewers) {
+        Set<Object> userIds = new LinkedHashSet<>();
+        for (Document interviewer : interviewers) {
+            stamper.add(INTERVIEWERS, interviewer);
+            Object userId = ReferenceResolver.refId(interviewer.get("user"));
+            if (userId != null) {
+                userIds.add(userId);
+            }
+        }
+        List<Document> users = findStamps(USERS, userIds);
+        users.forEach(user -> stamper.add(USERS, user));
+        return users;
+    }
+
+    private Optional<Document> findStamp(String collection, String id, String... references) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        List<Document> stamps = findStamps(collection, List.of(ReferenceResolver.storedId(id)), references);
+        return stamps.isEmpty() ? Optional.empty() : Optional.of(stamps.getFirst());
+    }
+
+    /**
+     * Reads _id, updatedAt, version and the given reference fields, ordered by _id so the version does not depend on
+     * the order references were found in.
+     */
+    private List<Document> findStamps(String collection, Collection<Object> ids, String... references) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Query query = Query.query(Criteria.where("_id").in(ids)).with(Sort.by("_id"));
+        query.fields().include(UPDATED_AT).include(VERSION).include(references);
+        return mongoTemplate.find(query, Document.class, collection);
+    }
+
+    /**
+     * Accumulates a SHA-256 over every stamped document and the latest updatedAt. The version is hashed too, as
+     * some writes bump it without moving updatedAt and responses carry it. Incomplete once a document without
+     * updatedAt is added, since its changes could not be told apart.
+     */
+    private static final class Stamper {
+
+        private final MessageDigest digest;
+        private long lastModified = -1;
+        private boolean complete = true;
+
+        Stamper() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        void add(String collection, Document document) {
+            Date updatedAt = document.getDate(UPDATED_AT);
+            if (updatedAt == null) {
+                complete = false;
+                return;
+            }
+            add(collection, document.get("_id"), updatedAt.getTime(), document.get(VERSION));
+            lastModified = Math.max(lastModified, updatedAt.getTime());
+        }
+
+        void add(Object... parts) {
+            for (Object part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+        }
+
+        Optional<Version> version() {
+            if (!complete) {
+                return Optional.empty();
+            }
+            byte[] hash = digest.digest();
+            return Optional.of(new Version("\"" + HexFormat.of().formatHex(hash, 0, ETAG_BYTES) + "\"", lastModified));
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package com.interview.organiser.service.impl;
 
 import com.interview.organiser.constants.AppConstants;
+import com.interview.organiser.constants.DashboardCounters;
 import com.interview.organiser.constants.enums.UserRole;
 import com.interview.organiser.exception.ResourceNotFoundException;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
 import com.interview.organiser.model.dto.request.UpdateUserRequest;
 import com.interview.organiser.model.dto.response.MessageResponse;
 import com.interview.organiser.model.dto.response.PageResponse;
 import com.interview.organiser.model.dto.response.UserResponse;
+import com.interview.organiser.repository.EntityCache;
+import com.interview.organiser.repository.KeysetPager;
+import com.interview.organiser.repository.KeysetSlice;
+import com.interview.organiser.repository.PartialUpdater;
 import com.interview.organiser.repository.UserRepository;
+import com.interview.organiser.service.DashboardStatsService;
 import com.interview.organiser.service.UserService;
 import com.interview.organiser.util.EntityMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +35,10 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final KeysetPager keysetPager;
+    private final PartialUpdater partialUpdater;
+    private final EntityCache entityCache;
+    private final DashboardStatsService dashboardStatsService;
     private final EntityMapper entityMapper;
 
     @Override
@@ -53,11 +65,32 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    @Override
+    public PageResponse<UserResponse> getAllUsers(UserRole role, CursorPageRequest cursorRequest) {
+        log.info("Fetching users after cursor with role: {}", role);
+
+        Criteria criteria = role != null ? Criteria.where("roles").is(role.name()) : new Criteria();
+        KeysetSlice<com.interview.organiser.model.entity.User> userSlice =
+                keysetPager.find(com.interview.organiser.model.entity.User.class, criteria, cursorRequest);
+
+        List<UserResponse> userResponses = userSlice.getContent().stream()
+                .map(entityMapper::toUserResponse)
+                .collect(Collectors.toList());
+
+        return PageResponse.<UserResponse>builder()
+                .content(userResponses)
+                .size(userSlice.getSize())
+                .totalElements(userSlice.getTotalElements())
+                .nextCursor(userSlice.getNextCursor())
+                .hasNext(userSlice.hasNext())
+                .build();
+    }
+
     @Override
     public UserResponse getUserById(String userId) {
         log.info("Fetching user with id: {}", userId);
 
-        com.interview.organiser.model.entity.User user = userRepository.findById(userId)
+        com.interview.organiser.model.entity.User user = entityCache.findUser(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(AppConstants.USER_NOT_FOUND));
 
         return entityMapper.toUserResponse(user);
@@ -68,25 +101,13 @@ public class UserServiceImpl implements UserService {
     public UserResponse updateUser(String userId, UpdateUserRequest request) {
         log.info("Updating user with id: {}", userId);
 
-        com.interview.organiser.model.entity.User user = userRepository.findById(userId)
+        PartialUpdater.Result result = partialUpdater.update(com.interview.organiser.model.entity.User.class, userId,
+                        request)
                 .orElseThrow(() -> new ResourceNotFoundException(AppConstants.USER_NOT_FOUND));
+        com.interview.organiser.model.entity.User updatedUser =
+                partialUpdater.read(com.interview.organiser.model.entity.User.class, result.after());
 
-        if (request.getFirstName() != null) {
-            user.setFirstName(request.getFirstName());
-        }
-        if (request.getLastName() != null) {
-            user.setLastName(request.getLastName());
-        }
-        if (request.getPhone() != null) {
-            user.setPhone(request.getPhone());
-        }
-        if (request.getIsActive() != null) {
-            user.setIsActive(request.getIsActive());
-        }
-
-        user.setUpdatedAt(LocalDateTime.now());
-
-        com.interview.organiser.model.entity.User updatedUser = userRepository.save(user);
+        entityCache.evictUser(userId);
 
         return entityMapper.toUserResponse(updatedUser);
     }
@@ -101,6 +122,8 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.deleteById(userId);
+        entityCache.evictUser(userId);
+        dashboardStatsService.increment(DashboardCounters.GLOBAL_SCOPE, DashboardCounters.TOTAL_USERS, -1);
 
         return MessageResponse.builder()
                 .message("User deleted successfully")
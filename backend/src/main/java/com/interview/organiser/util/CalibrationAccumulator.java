@@ -0,0 +1,168 @@
+package com.interview.organiser.util;
+
+import com.interview.organiser.constants.CalibrationCounters;
+import com.interview.organiser.constants.enums.FeedbackRecommendation;
+import com.interview.organiser.constants.enums.InterviewResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.interview.organiser.constants.CalibrationCounters.DIMENSIONS;
+import static com.interview.organiser.constants.CalibrationCounters.MAX_SCORE;
+import static com.interview.organiser.constants.CalibrationCounters.MIN_SCORE;
+
+/**
+ * Calibration statistics of one scope, accumulated in a single pass over feedback: a histogram per score
+ * dimension, recommendation counts and a recommendation x interview result matrix, all in primitive arrays.
+ * Scores are small bounded integers, so the histograms give exact counts, means, variances and percentiles,
+ * accumulators add up, and every cell is one calibration_stats counter that writes keep current with $inc.
+ * Not thread-safe.
+ */
+public final class CalibrationAccumulator {
+
+    private static final FeedbackRecommendation[] RECOMMENDATIONS = FeedbackRecommendation.values();
+    private static final InterviewResult[] RESULTS = InterviewResult.values();
+
+    private long feedback;
+    private final long[][] scores = new long[DIMENSIONS.size()][MAX_SCORE + 1];
+    private final long[] recommendations = new long[RECOMMENDATIONS.length];
+    private final long[][] outcomes = new long[RECOMMENDATIONS.length][RESULTS.length];
+
+    /**
+     * Adds one feedback. Scores are given in {@link CalibrationCounters#DIMENSIONS} order; missing or out of
+     * range scores are left out of their histogram.
+     */
+    public void add(Integer[] scores, FeedbackRecommendation recommendation, InterviewResult result) {
+        feedback++;
+        for (int dimension = 0; dimension < DIMENSIONS.size(); dimension++) {
+            Integer score = scores[dimension];
+            if (score != null && score >= MIN_SCORE && score <= MAX_SCORE) {
+                this.scores[dimension][score]++;
+            }
+        }
+        if (recommendation != null) {
+            recommendations[recommendation.ordinal()]++;
+            if (result != null) {
+                outcomes[recommendation.ordinal()][result.ordinal()]++;
+            }
+        }
+    }
+
+    /**
+     * Reads an accumulator back from stored counters; counters it does not know are ignored.
+     */
+    public static CalibrationAccumulator fromCounters(Map<String, Long> counters) {
+        CalibrationAccumulator accumulator = new CalibrationAccumulator();
+        accumulator.feedback = counters.getOrDefault(CalibrationCounters.FEEDBACK_COUNT, 0L);
+        for (int dimension = 0; dimension < DIMENSIONS.size(); dimension++) {
+            for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+                accumulator.scores[dimension][score] =
+                        counters.getOrDefault(CalibrationCounters.score(DIMENSIONS.get(dimension), score), 0L);
+            }
+        }
+        for (FeedbackRecommendation recommendation : RECOMMENDATIONS) {
+            accumulator.recommendations[recommendation.ordinal()] =
+                    counters.getOrDefault(CalibrationCounters.recommendation(recommendation), 0L);
+            for (InterviewResult result : RESULTS) {
+                accumulator.outcomes[recommendation.ordinal()][result.ordinal()] =
+                        counters.getOrDefault(CalibrationCounters.outcome(recommendation, result), 0L);
+            }
+        }
+        return accumulator;
+    }
+
+    /**
+     * The non-zero cells as calibration_stats counters.
+     */
+    public Map<String, Long> toCounters() {
+        Map<String, Long> counters = new HashMap<>();
+        put(counters, CalibrationCounters.FEEDBACK_COUNT, feedback);
+        for (int dimension = 0; dimension < DIMENSIONS.size(); dimension++) {
+            for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+                put(counters, CalibrationCounters.score(DIMENSIONS.get(dimension), score), scores[dimension][score]);
+            }
+        }
+        for (FeedbackRecommendation recommendation : RECOMMENDATIONS) {
+            put(counters, CalibrationCounters.recommendation(recommendation),
+                    recommendations[recommendation.ordinal()]);
+            for (InterviewResult result : RESULTS) {
+                put(counters, CalibrationCounters.outcome(recommendation, result),
+                        outcomes[recommendation.ordinal()][result.ordinal()]);
+            }
+        }
+        return counters;
+    }
+
+    public long feedback() {
+        return feedback;
+    }
+
+    public long count(int dimension) {
+        long count = 0;
+        for (long scored : scores[dimension]) {
+            count += scored;
+        }
+        return count;
+    }
+
+    public Double mean(int dimension) {
+        long count = count(dimension);
+        if (count == 0) {
+            return null;
+        }
+        long sum = 0;
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+            sum += score * scores[dimension][score];
+        }
+        return (double) sum / count;
+    }
+
+    /**
+     * Sample variance; null below two scores.
+     */
+    public Double variance(int dimension) {
+        long count = count(dimension);
+        if (count < 2) {
+            return null;
+        }
+        double mean = mean(dimension);
+        double squares = 0;
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+            squares += scores[dimension][score] * (score - mean) * (score - mean);
+        }
+        return squares / (count - 1);
+    }
+
+    /**
+     * Nearest-rank percentile (0-100); null without scores.
+     */
+    public Integer percentile(int dimension, int percentile) {
+        long count = count(dimension);
+        if (count == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+            seen += scores[dimension][score];
+            if (seen >= rank) {
+                return score;
+            }
+        }
+        return MAX_SCORE;
+    }
+
+    public long recommendations(FeedbackRecommendation recommendation) {
+        return recommendations[recommendation.ordinal()];
+    }
+
+    public long outcomes(FeedbackRecommendation recommendation, InterviewResult result) {
+        return outcomes[recommendation.ordinal()][result.ordinal()];
+    }
+
+    private static void put(Map<String, Long> counters, String counter, long value) {
+        if (value != 0) {
+            counters.put(counter, value);
+        }
+    }
+}
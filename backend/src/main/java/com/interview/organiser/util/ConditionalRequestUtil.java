@@ -0,0 +1,24 @@
+package com.interview.organiser.util;
+
+import com.interview.organiser.service.ResourceVersionService;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+/**
+ * Conditional GET handling for controllers, on top of {@link WebRequest#checkNotModified(String, long)}.
+ */
+public final class ConditionalRequestUtil {
+
+    private ConditionalRequestUtil() {
+    }
+
+    /**
+     * Sets the ETag and Last-Modified response headers from the version and checks them against the request's
+     * If-None-Match / If-Modified-Since. Returns true when the client's copy is current: the response is then
+     * already a 304 and the handler returns null without building the body.
+     */
+    public static boolean notModified(Optional<ResourceVersionService.Version> version, WebRequest request) {
+        return version.isPresent() && request.checkNotModified(version.get().etag(), version.get().lastModified());
+    }
+}
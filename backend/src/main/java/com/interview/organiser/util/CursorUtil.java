@@ -0,0 +1,43 @@
+package com.interview.organiser.util;
+
+import com.interview.organiser.exception.BadRequestException;
+import org.bson.Document;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Encodes keyset positions as opaque URL-safe cursors.
+ * The sort key values are written as extended JSON, so ObjectIds and dates survive the round trip
+ * with their BSON types and can be used directly in the next range query.
+ */
+public final class CursorUtil {
+
+    private static final String KEYS = "k";
+
+    private CursorUtil() {
+    }
+
+    public static String encode(List<Object> values) {
+        String json = new Document(KEYS, values).toJson();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode(List)} for a keyset of the given width.
+     */
+    public static List<Object> decode(String cursor, int keyCount) {
+        List<Object> values;
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            values = Document.parse(json).getList(KEYS, Object.class);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+        if (values == null || values.size() != keyCount) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+        return values;
+    }
+}
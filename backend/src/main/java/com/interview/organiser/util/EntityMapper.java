@@ -46,6 +46,7 @@ public class EntityMapper {
                 .status(candidate.getStatus())
                 .createdAt(candidate.getCreatedAt())
                 .updatedAt(candidate.getUpdatedAt())
+                .version(candidate.getVersion())
                 .build();
     }
 
@@ -62,6 +63,7 @@ public class EntityMapper {
                 .totalInterviews(interviewer.getTotalInterviews())
                 .createdAt(interviewer.getCreatedAt())
                 .updatedAt(interviewer.getUpdatedAt())
+                .version(interviewer.getVersion())
                 .build();
     }
 
@@ -90,6 +92,7 @@ public class EntityMapper {
                 .notes(interview.getNotes())
                 .createdAt(interview.getCreatedAt())
                 .updatedAt(interview.getUpdatedAt())
+                .version(interview.getVersion())
                 .build();
     }
 
@@ -111,6 +114,35 @@ public class EntityMapper {
                 .submittedAt(feedback.getSubmittedAt())
                 .createdAt(feedback.getCreatedAt())
                 .updatedAt(feedback.getUpdatedAt())
+                .version(feedback.getVersion())
+                .build();
+    }
+
+    public InterviewEventResponse toInterviewEventResponse(InterviewEvent event) {
+        if (event == null) return null;
+
+        return InterviewEventResponse.builder()
+                .seq(event.getSeq())
+                .type(event.getType())
+                .interviewId(event.getInterviewId())
+                .candidateId(event.getCandidateId())
+                .recruiterId(event.getRecruiterId())
+                .interviewerIds(event.getInterviewerIds())
+                .status(event.getStatus())
+                .data(event.getData())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+
+    public InterviewTimelineEntryResponse toInterviewTimelineEntryResponse(InterviewTimelineEntry entry) {
+        if (entry == null) return null;
+
+        return InterviewTimelineEntryResponse.builder()
+                .id(entry.getId())
+                .interviewId(entry.getInterviewId())
+                .type(entry.getType())
+                .text(entry.getText())
+                .createdAt(entry.getCreatedAt())
                 .build();
     }
 }
@@ -0,0 +1,64 @@
+package com.interview.organiser.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The most recent items of a seq-ordered feed, kept so a stream can resume after a reconnect.
+ * Coverage starts at the first appended item: {@link #after(long)} only answers for positions from there on,
+ * and once the buffer is full the oldest item is dropped and coverage moves forward with it.
+ * Not thread-safe; callers synchronize.
+ */
+public final class EventReplayBuffer<T> {
+
+    private final int capacity;
+    private final ArrayDeque<Entry<T>> entries = new ArrayDeque<>();
+    // Every item after this seq is held; -1 until the first append
+    private long coveredAfter = -1;
+
+    public EventReplayBuffer(int capacity) {
+        this.capacity = Math.max(capacity, 1);
+    }
+
+    /**
+     * Appends the next item; items at or below the newest seq are duplicates and ignored.
+     */
+    public boolean append(long seq, T item) {
+        if (!entries.isEmpty() && seq <= entries.peekLast().seq()) {
+            return false;
+        }
+        if (coveredAfter < 0) {
+            coveredAfter = seq - 1;
+        }
+        entries.addLast(new Entry<>(seq, item));
+        if (entries.size() > capacity) {
+            coveredAfter = entries.removeFirst().seq();
+        }
+        return true;
+    }
+
+    /**
+     * Items after the given seq in order, or empty when some of them may no longer (or never) have been held.
+     */
+    public Optional<List<T>> after(long seq) {
+        if (coveredAfter < 0 || seq < coveredAfter) {
+            return Optional.empty();
+        }
+        List<T> items = new ArrayList<>();
+        for (Entry<T> entry : entries) {
+            if (entry.seq() > seq) {
+                items.add(entry.item());
+            }
+        }
+        return Optional.of(items);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry<T>(long seq, T item) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.interview.organiser.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.interview.organiser.exception.BadRequestException;
+import com.interview.organiser.model.dto.response.PageResponse;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Sparse fieldset from a {@code fields=} parameter, e.g. {@code id,scheduledAt,candidate.firstName}.
+ * A dotted path selects a field of a nested response; naming the nested field alone selects all of it.
+ * Ids are always kept. Repositories turn the selection into Mongo projections and skip reference lookups
+ * for nested responses that were not selected; {@link #apply} trims the serialized response to match.
+ */
+public final class FieldSelection {
+
+    public static final FieldSelection ALL = new FieldSelection(null);
+    public static final FieldSelection NONE = new FieldSelection(Map.of());
+
+    private static final String ID = "id";
+    private static final String RESPONSE_PACKAGE = PageResponse.class.getPackageName();
+
+    // Selected fields and their nested selections, sorted; null when everything is selected
+    private final Map<String, FieldSelection> fields;
+
+    private FieldSelection(Map<String, FieldSelection> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parses the parameter against the fields of the response type; blank selects everything.
+     */
+    public static FieldSelection parse(String fields, Class<?> responseType) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Map<String, FieldSelection> selected = new TreeMap<>();
+        for (String path : fields.split(",")) {
+            if (!path.isBlank()) {
+                add(selected, path.trim(), path.trim(), responseType);
+            }
+        }
+        return selected.isEmpty() ? ALL : new FieldSelection(selected);
+    }
+
+    private static void add(Map<String, FieldSelection> selected, String path, String remaining, Class<?> type) {
+        int dot = remaining.indexOf('.');
+        String name = dot < 0 ? remaining : remaining.substring(0, dot);
+        Class<?> fieldType = fieldType(type, name, path);
+        if (dot < 0) {
+            selected.put(name, ALL);
+            return;
+        }
+        if (!fieldType.getPackageName().equals(RESPONSE_PACKAGE)) {
+            throw new BadRequestException("Unknown field: " + path);
+        }
+        FieldSelection nested = selected.get(name);
+        if (nested == ALL) {
+            return;
+        }
+        Map<String, FieldSelection> nestedFields = nested != null ? nested.fields : new TreeMap<>();
+        add(nestedFields, path, remaining.substring(dot + 1), fieldType);
+        selected.put(name, new FieldSelection(nestedFields));
+    }
+
+    private static Class<?> fieldType(Class<?> type, String name, String path) {
+        try {
+            Field field = type.getDeclaredField(name);
+            return field.getType();
+        } catch (NoSuchFieldException e) {
+            throw new BadRequestException("Unknown field: " + path);
+        }
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean isNone() {
+        return fields != null && fields.isEmpty();
+    }
+
+    public boolean includes(String field) {
+        return fields == null || ID.equals(field) || fields.containsKey(field);
+    }
+
+    /**
+     * Selection within a nested response: everything when the field was named alone, NONE when not selected.
+     */
+    public FieldSelection nested(String field) {
+        if (fields == null) {
+            return ALL;
+        }
+        return fields.getOrDefault(field, NONE);
+    }
+
+    /**
+     * Document fields to project, with response field names renamed where the document differs
+     * (e.g. interviewer to interviewers); empty when everything is selected. _id is always returned by Mongo.
+     */
+    public List<String> documentFields(Map<String, String> renames) {
+        if (fields == null) {
+            return List.of();
+        }
+        List<String> documentFields = new ArrayList<>(fields.size());
+        for (String field : fields.keySet()) {
+            if (!ID.equals(field)) {
+                documentFields.add(renames.getOrDefault(field, field));
+            }
+        }
+        if (documentFields.isEmpty()) {
+            // An empty projection would return the whole document
+            documentFields.add("_id");
+        }
+        return documentFields;
+    }
+
+    /**
+     * Serializes the page content and drops the fields that were not selected; the page itself when all were.
+     */
+    public PageResponse<?> apply(PageResponse<?> page, ObjectMapper objectMapper) {
+        if (fields == null) {
+            return page;
+        }
+        List<Object> content = new ArrayList<>(page.getContent().size());
+        for (Object item : page.getContent()) {
+            content.add(apply(item, objectMapper));
+        }
+        return PageResponse.<Object>builder()
+                .content(content)
+                .page(page.getPage())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.getHasNext())
+                .build();
+    }
+
+    /**
+     * Serializes one response and drops the fields that were not selected; the response itself when all were.
+     */
+    public Object apply(Object item, ObjectMapper objectMapper) {
+        if (fields == null) {
+            return item;
+        }
+        JsonNode node = objectMapper.valueToTree(item);
+        retain(node);
+        return node;
+    }
+
+    private void retain(JsonNode node) {
+        if (fields == null || !(node instanceof ObjectNode object)) {
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> entries = object.fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            if (!includes(entry.getKey())) {
+                entries.remove();
+            } else if (!ID.equals(entry.getKey())) {
+                fields.get(entry.getKey()).retain(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Canonical form, so equal selections give equal strings (used in list versions).
+     */
+    @Override
+    public String toString() {
+        if (fields == null) {
+            return "*";
+        }
+        List<String> parts = new ArrayList<>(fields.size());
+        fields.forEach((name, nested) -> parts.add(nested.isAll() ? name : name + "(" + nested + ")"));
+        return String.join(",", parts);
+    }
+}
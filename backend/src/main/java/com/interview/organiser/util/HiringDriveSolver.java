@@ -0,0 +1,280 @@
+package com.interview.organiser.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Places candidates into interview slots with panels of interviewers for a hiring drive.
+ * Slots are back to back and never overlap, so an interviewer can sit on one panel per slot. Every candidate
+ * gets either all of their rounds, in increasing slot order, or none. Interviewers never exceed the daily cap
+ * and are never placed in slots where they are already busy.
+ * <p>
+ * Each restart builds a greedy solution from a random candidate order (earliest feasible slot, least loaded
+ * interviewers first) and improves it by local search: remove one candidate, retry the unplaced ones, re-place
+ * the removed one, and keep the change unless fewer candidates are placed or the interviewer days become less
+ * balanced. Restarts run in parallel on the common fork-join pool and the best result wins.
+ */
+public final class HiringDriveSolver {
+
+    private static final Comparator<Solution> BEST_FIRST = Comparator
+            .comparingInt(Solution::placedCandidates).reversed()
+            .thenComparingLong(Solution::imbalance)
+            .thenComparingLong(Solution::lateness)
+            .thenComparingInt(Solution::restart);
+
+    private HiringDriveSolver() {
+    }
+
+    /**
+     * @param slotDay           day index of every slot, slots ordered by start time
+     * @param busy              busy[interviewer][slot] for slots taken by existing bookings
+     * @param existingDailyLoad interviews already booked per interviewer and day
+     */
+    public record Problem(int candidates, int interviewers, int[] slotDay, int days, boolean[][] busy,
+                          int[][] existingDailyLoad, int panelSize, int rounds, int maxPerDay) {
+
+        int slots() {
+            return slotDay.length;
+        }
+    }
+
+    public record Assignment(int candidate, int round, int slot, int[] panel) {
+    }
+
+    /**
+     * @param imbalance sum over interviewer days of the squared number of interviews; lower is more even
+     * @param lateness  sum of the slot indexes used; lower finishes the drive earlier
+     */
+    public record Solution(List<Assignment> assignments, int placedCandidates, long imbalance, long lateness,
+                           int restart) {
+    }
+
+    public static Solution solve(Problem problem, int restarts, int iterations, long seed) {
+        return IntStream.range(0, Math.max(1, restarts))
+                .parallel()
+                .mapToObj(restart -> new Search(problem, new SplittableRandom(seed + restart), restart).run(iterations))
+                .min(BEST_FIRST)
+                .orElseThrow();
+    }
+
+    private static final class Search {
+
+        private final Problem problem;
+        private final SplittableRandom random;
+        private final int restart;
+
+        private final int[][] slotOf;
+        private final int[][][] panelOf;
+        private final boolean[][] used;
+        private final int[][] dayLoad;
+        private final int[] totalLoad;
+        private int placed;
+        private long imbalance;
+        private long lateness;
+
+        // Changes since the last accepted state, replayed backwards to reject a move
+        private final List<Change> changes = new ArrayList<>();
+
+        Search(Problem problem, SplittableRandom random, int restart) {
+            this.problem = problem;
+            this.random = random;
+            this.restart = restart;
+            this.slotOf = new int[problem.candidates()][problem.rounds()];
+            this.panelOf = new int[problem.candidates()][problem.rounds()][];
+            this.used = new boolean[problem.interviewers()][problem.slots()];
+            this.dayLoad = new int[problem.interviewers()][];
+            this.totalLoad = new int[problem.interviewers()];
+            for (int[] rounds : slotOf) {
+                Arrays.fill(rounds, -1);
+            }
+            for (int interviewer = 0; interviewer < problem.interviewers(); interviewer++) {
+                dayLoad[interviewer] = problem.existingDailyLoad()[interviewer].clone();
+                for (int load : dayLoad[interviewer]) {
+                    imbalance += (long) load * load;
+                }
+            }
+        }
+
+        Solution run(int iterations) {
+            for (int candidate : shuffled(problem.candidates())) {
+                place(candidate);
+            }
+            changes.clear();
+
+            for (int iteration = 0; iteration < iterations && placed > 0; iteration++) {
+                int placedBefore = placed;
+                long imbalanceBefore = imbalance;
+
+                int removed = randomPlacedCandidate();
+                unplace(removed);
+                for (int candidate : shuffled(problem.candidates())) {
+                    if (candidate != removed && slotOf[candidate][0] < 0) {
+                        place(candidate);
+                    }
+                }
+                place(removed);
+
+                if (placed < placedBefore || (placed == placedBefore && imbalance > imbalanceBefore)) {
+                    revert();
+                }
+                changes.clear();
+            }
+
+            List<Assignment> assignments = new ArrayList<>();
+            for (int candidate = 0; candidate < problem.candidates(); candidate++) {
+                for (int round = 0; round < problem.rounds(); round++) {
+                    if (slotOf[candidate][round] >= 0) {
+                        assignments.add(new Assignment(candidate, round, slotOf[candidate][round],
+                                panelOf[candidate][round].clone()));
+                    }
+                }
+            }
+            return new Solution(assignments, placed, imbalance, lateness, restart);
+        }
+
+        private boolean place(int candidate) {
+            int previous = -1;
+            for (int round = 0; round < problem.rounds(); round++) {
+                int slot = previous + 1;
+                int[] panel = null;
+                for (; slot < problem.slots(); slot++) {
+                    panel = pickPanel(slot);
+                    if (panel != null) {
+                        break;
+                    }
+                }
+                if (panel == null) {
+                    for (int placedRound = round - 1; placedRound >= 0; placedRound--) {
+                        unassign(candidate, placedRound);
+                    }
+                    return false;
+                }
+                assign(candidate, round, slot, panel);
+                previous = slot;
+            }
+            return true;
+        }
+
+        private void unplace(int candidate) {
+            for (int round = problem.rounds() - 1; round >= 0; round--) {
+                if (slotOf[candidate][round] >= 0) {
+                    unassign(candidate, round);
+                }
+            }
+        }
+
+        /**
+         * Picks the least loaded eligible interviewers for the slot, by load that day then overall load, with
+         * ties broken randomly; returns null when fewer than panelSize are eligible.
+         */
+        private int[] pickPanel(int slot) {
+            int day = problem.slotDay()[slot];
+            int[] panel = new int[problem.panelSize()];
+            int offset = random.nextInt(problem.interviewers());
+            for (int seat = 0; seat < panel.length; seat++) {
+                int best = -1;
+                for (int step = 0; step < problem.interviewers(); step++) {
+                    int interviewer = (offset + step) % problem.interviewers();
+                    if (problem.busy()[interviewer][slot] || used[interviewer][slot]
+                            || dayLoad[interviewer][day] >= problem.maxPerDay() || contains(panel, seat, interviewer)) {
+                        continue;
+                    }
+                    if (best < 0 || dayLoad[interviewer][day] < dayLoad[best][day]
+                            || (dayLoad[interviewer][day] == dayLoad[best][day] && totalLoad[interviewer] < totalLoad[best])) {
+                        best = interviewer;
+                    }
+                }
+                if (best < 0) {
+                    return null;
+                }
+                panel[seat] = best;
+            }
+            return panel;
+        }
+
+        private void assign(int candidate, int round, int slot, int[] panel) {
+            int day = problem.slotDay()[slot];
+            slotOf[candidate][round] = slot;
+            panelOf[candidate][round] = panel;
+            for (int interviewer : panel) {
+                used[interviewer][slot] = true;
+                imbalance += 2L * dayLoad[interviewer][day] + 1;
+                dayLoad[interviewer][day]++;
+                totalLoad[interviewer]++;
+            }
+            lateness += slot;
+            if (round == problem.rounds() - 1) {
+                placed++;
+            }
+            changes.add(new Change(true, candidate, round, slot, panel));
+        }
+
+        private void unassign(int candidate, int round) {
+            int slot = slotOf[candidate][round];
+            int[] panel = panelOf[candidate][round];
+            int day = problem.slotDay()[slot];
+            for (int interviewer : panel) {
+                used[interviewer][slot] = false;
+                dayLoad[interviewer][day]--;
+                imbalance -= 2L * dayLoad[interviewer][day] + 1;
+                totalLoad[interviewer]--;
+            }
+            lateness -= slot;
+            if (round == problem.rounds() - 1) {
+                placed--;
+            }
+            slotOf[candidate][round] = -1;
+            panelOf[candidate][round] = null;
+            changes.add(new Change(false, candidate, round, slot, panel));
+        }
+
+        private void revert() {
+            List<Change> undo = new ArrayList<>(changes);
+            for (int i = undo.size() - 1; i >= 0; i--) {
+                Change change = undo.get(i);
+                if (change.assigned()) {
+                    unassign(change.candidate(), change.round());
+                } else {
+                    assign(change.candidate(), change.round(), change.slot(), change.panel());
+                }
+            }
+        }
+
+        private int randomPlacedCandidate() {
+            int target = random.nextInt(placed);
+            for (int candidate = 0; candidate < problem.candidates(); candidate++) {
+                if (slotOf[candidate][problem.rounds() - 1] >= 0 && target-- == 0) {
+                    return candidate;
+                }
+            }
+            throw new IllegalStateException("Placed candidate count out of sync");
+        }
+
+        private int[] shuffled(int size) {
+            int[] order = IntStream.range(0, size).toArray();
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            return order;
+        }
+
+        private static boolean contains(int[] panel, int filled, int interviewer) {
+            for (int i = 0; i < filled; i++) {
+                if (panel[i] == interviewer) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Change(boolean assigned, int candidate, int round, int slot, int[] panel) {
+    }
+}
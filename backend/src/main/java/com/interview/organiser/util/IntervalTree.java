@@ -0,0 +1,207 @@
+package com.interview.organiser.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AVL tree of half-open intervals [start, end), ordered by start then key and augmented with the
+ * maximum end of every subtree, so an overlap test takes O(log n) and listing the k overlapping
+ * intervals O(log n + k). Intervals are identified by (start, key); adding the same pair again replaces it.
+ * Not thread-safe.
+ */
+public final class IntervalTree<K extends Comparable<K>> {
+
+    private Node<K> root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(long start, long end, K key) {
+        if (end <= start) {
+            throw new IllegalArgumentException("Interval end must be after its start");
+        }
+        root = insert(root, new Node<>(start, end, key));
+    }
+
+    /**
+     * Removes the interval identified by (start, key); returns false when there is none.
+     */
+    public boolean remove(long start, K key) {
+        int before = size;
+        root = delete(root, start, key);
+        return size < before;
+    }
+
+    /**
+     * Returns true if any stored interval overlaps [from, to).
+     */
+    public boolean overlaps(long from, long to) {
+        Node<K> node = root;
+        while (node != null) {
+            if (node.start < to && node.end > from) {
+                return true;
+            }
+            // If the left subtree reaches past from but holds no overlap, nothing to the right can either,
+            // since every interval there starts at or after the left subtree's latest start
+            node = node.left != null && node.left.maxEnd > from ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the keys of all stored intervals overlapping [from, to), in start order.
+     */
+    public List<K> overlapping(long from, long to) {
+        List<K> keys = new ArrayList<>();
+        collect(root, from, to, keys);
+        return keys;
+    }
+
+    private static <K> void collect(Node<K> node, long from, long to, List<K> keys) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collect(node.left, from, to, keys);
+        if (node.start < to) {
+            if (node.end > from) {
+                keys.add(node.key);
+            }
+            collect(node.right, from, to, keys);
+        }
+    }
+
+    private Node<K> insert(Node<K> node, Node<K> added) {
+        if (node == null) {
+            size++;
+            return added;
+        }
+        int cmp = compare(added.start, added.key, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, added);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, added);
+        } else {
+            added.left = node.left;
+            added.right = node.right;
+            node = added;
+        }
+        return balance(node);
+    }
+
+    private Node<K> delete(Node<K> node, long start, K key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, key, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, key);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, key);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node<K> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private Node<K> deleteMin(Node<K> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+
+    private int compare(long start, K key, Node<K> node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : key.compareTo(node.key);
+    }
+
+    private static <K> Node<K> balance(Node<K> node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <K> Node<K> rotateRight(Node<K> node) {
+        Node<K> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <K> Node<K> rotateLeft(Node<K> node) {
+        Node<K> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <K> void update(Node<K> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node<?> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private static final class Node<K> {
+
+        private final long start;
+        private final long end;
+        private final K key;
+        private long maxEnd;
+        private int height = 1;
+        private Node<K> left;
+        private Node<K> right;
+
+        private Node(long start, long end, K key) {
+            this.start = start;
+            this.end = end;
+            this.key = key;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.interview.organiser.util;
 
 import com.interview.organiser.model.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,11 +19,20 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    public static final String ROLES_CLAIM = "roles";
+    public static final String EMAIL_CLAIM = "email";
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    private final Long expiration;
+
+    // Both are immutable and thread-safe, so they are built once instead of per token
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret, @Value("${jwt.expiration}") Long expiration) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
 
     public String extractUserId(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -32,16 +43,17 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verifies the signature and expiry of the token and returns its claims.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     private Boolean isTokenExpired(String token) {
@@ -50,13 +62,13 @@ public class JwtUtil {
 
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("email", user.getEmail());
+        claims.put(EMAIL_CLAIM, user.getEmail());
         // Convert roles Set to comma-separated string
         String rolesString = user.getRoles().stream()
                 .map(Enum::toString)
                 .reduce((a, b) -> a + "," + b)
                 .orElse("");
-        claims.put("roles", rolesString);
+        claims.put(ROLES_CLAIM, rolesString);
         return createToken(claims, user.getId());
     }
 
@@ -66,7 +78,7 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -74,10 +86,5 @@ public class JwtUtil {
         final String userId = extractUserId(token);
         return (userId.equals(user.getId()) && !isTokenExpired(token));
     }
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
 
@@ -0,0 +1,153 @@
+package com.interview.organiser.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Read-through cache of entities by id. Entries expire a fixed time after they were loaded, and beyond
+ * {@code maxSize} the least recently used entry is evicted. Only found entities are cached.
+ * <p>
+ * Loads run outside the lock. A load that overlaps any invalidation is returned but not stored, so a read
+ * racing a write cannot put the old entity back. Cached instances are shared between callers, so paths that
+ * change and save an entity load their own copy from the repository instead.
+ */
+public final class LookupCache<V> {
+
+    private final String name;
+    private final boolean enabled;
+    private final int maxSize;
+    private final Duration ttl;
+    private final LongSupplier nanoClock;
+
+    // Access-ordered; guarded by this
+    private final LinkedHashMap<String, Entry<V>> entries;
+    // Bumped by every invalidation; guarded by this
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public LookupCache(String name, boolean enabled, int maxSize, Duration ttl) {
+        this(name, enabled, maxSize, ttl, System::nanoTime);
+    }
+
+    LookupCache(String name, boolean enabled, int maxSize, Duration ttl, LongSupplier nanoClock) {
+        this.name = name;
+        this.enabled = enabled && maxSize > 0 && ttl.isPositive();
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                if (size() > LookupCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached entity, or loads it and caches it when found. When disabled every call goes to the loader.
+     */
+    public Optional<V> get(String id, Function<String, Optional<V>> loader) {
+        if (!enabled || id == null) {
+            return loader.apply(id);
+        }
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(id);
+            if (entry != null) {
+                if (nanoClock.getAsLong() - entry.loadedAt() < ttl.toNanos()) {
+                    hits.increment();
+                    return Optional.of(entry.value());
+                }
+                entries.remove(id);
+            }
+            loadGeneration = generation;
+        }
+        misses.increment();
+
+        Optional<V> loaded = loader.apply(id);
+        if (loaded.isPresent()) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(id, new Entry<>(loaded.get(), nanoClock.getAsLong()));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(String id) {
+        if (!enabled || id == null) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            entries.remove(id);
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * Invalidates the cached entity only when the predicate finds it stale; returns whether it did.
+     */
+    public boolean invalidateIf(String id, Predicate<V> stale) {
+        if (!enabled || id == null) {
+            return false;
+        }
+        synchronized (this) {
+            Entry<V> entry = entries.get(id);
+            if (entry == null || !stale.test(entry.value())) {
+                return false;
+            }
+            generation++;
+            entries.remove(id);
+        }
+        invalidations.increment();
+        return true;
+    }
+
+    public void invalidateAll() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            entries.clear();
+        }
+        invalidations.increment();
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new Stats(name, enabled, size, maxSize, ttl, hits.sum(), misses.sum(), evictions.sum(),
+                invalidations.sum());
+    }
+
+    public record Stats(String name, boolean enabled, int size, int maxSize, Duration ttl, long hits, long misses,
+                        long evictions, long invalidations) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests > 0 ? (double) hits / requests : 0;
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.interview.organiser.util;
+
+import com.interview.organiser.model.entity.Candidate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the normalised search tokens stored on candidates.
+ * Every word of the searchable fields is lower-cased, stripped of accents and expanded into all of its
+ * prefixes, so "as you type" prefix matching becomes an exact match on an indexed array field.
+ */
+public final class SearchTokenUtil {
+
+    // Words are indexed up to this length; longer query terms are truncated to the same length
+    public static final int MAX_TOKEN_LENGTH = 16;
+
+    public static final int MAX_QUERY_TERMS = 8;
+
+    // Candidate properties the tokens are built from
+    public static final List<String> SOURCE_FIELDS = List.of("firstName", "lastName", "email", "position", "skills");
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private SearchTokenUtil() {
+    }
+
+    /**
+     * Recomputes searchWords and searchTokens from the candidate's name, email, position and skills.
+     */
+    public static void index(Candidate candidate) {
+        Set<String> words = new LinkedHashSet<>();
+        words.addAll(words(candidate.getFirstName()));
+        words.addAll(words(candidate.getLastName()));
+        words.addAll(words(candidate.getEmail()));
+        words.addAll(words(candidate.getPosition()));
+        if (candidate.getSkills() != null) {
+            candidate.getSkills().forEach(skill -> words.addAll(words(skill)));
+        }
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words) {
+            for (int length = 1; length <= word.length(); length++) {
+                tokens.add(word.substring(0, length));
+            }
+        }
+
+        candidate.setSearchWords(new ArrayList<>(words));
+        candidate.setSearchTokens(new ArrayList<>(tokens));
+    }
+
+    /**
+     * Normalises free-text search input into at most {@link #MAX_QUERY_TERMS} distinct terms.
+     */
+    public static List<String> queryTerms(String search) {
+        return words(search).stream().limit(MAX_QUERY_TERMS).toList();
+    }
+
+    private static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : SEPARATORS.split(normalized.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word.length() > MAX_TOKEN_LENGTH ? word.substring(0, MAX_TOKEN_LENGTH) : word);
+            }
+        }
+        return new ArrayList<>(words);
+    }
+}
@@ -0,0 +1,246 @@
+package com.interview.organiser.controller;
+
+import com.interview.organiser.OrganiserApplication;
+import com.interview.organiser.constants.enums.InterviewType;
+import com.interview.organiser.constants.enums.UserRole;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.model.entity.User;
+import com.interview.organiser.util.JwtUtil;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives the interview, candidate and dashboard endpoints over HTTP at increasing concurrency, once with
+ * requests on platform threads and once on virtual threads, and prints throughput and p50/p99 latency per level.
+ * Each mode runs in its own application context on a random port against the same seeded database.
+ * Requires a running MongoDB; enable with {@code mvn test -Dtest=RequestThreadingBenchmarkTest -Dbenchmark.load=true}
+ * and tune with -Dbenchmark.load.levels=16,64,256,1024, -Dbenchmark.load.seconds=10 and app.mongo.pool.* properties.
+ */
+@EnabledIfSystemProperty(named = "benchmark.load", matches = "true")
+class RequestThreadingBenchmarkTest {
+
+    private static final String RECRUITER_ID = "load-recruiter";
+    private static final int CANDIDATES = 500;
+    private static final int INTERVIEWERS = 20;
+    private static final int INTERVIEWS = 2000;
+    private static final List<String> PATHS = List.of(
+            "/interviews?size=20",
+            "/interviews?size=20&cursor=true",
+            "/interviews?size=20&status=SCHEDULED",
+            "/candidates?size=20",
+            "/dashboard/admin",
+            "/dashboard/recruiter/" + RECRUITER_ID);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        int[] levels = Arrays.stream(System.getProperty("benchmark.load.levels", "16,64,256,1024").split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .toArray();
+        Duration duration = Duration.ofSeconds(Long.getLong("benchmark.load.seconds", 10));
+
+        List<Result> results = new ArrayList<>();
+        boolean seeded = false;
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                MongoTemplate mongoTemplate = context.getBean(MongoTemplate.class);
+                if (!seeded) {
+                    seed(mongoTemplate);
+                    seeded = true;
+                }
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                        + context.getEnvironment().getProperty("server.servlet.context-path", "");
+                String token = context.getBean(JwtUtil.class).generateToken(User.builder()
+                        .id("load-admin").email("admin@load.test").roles(Set.of(UserRole.ADMIN)).build());
+
+                // Warm up JIT, connection pools and the entity cache before measuring
+                drive(virtual, baseUrl, token, 8, Duration.ofSeconds(3));
+                for (int level : levels) {
+                    Result result = drive(virtual, baseUrl, token, level, duration);
+                    System.out.println(result);
+                    results.add(result);
+                }
+                if (virtual) {
+                    mongoTemplate.getDb().drop();
+                }
+            }
+        }
+
+        System.out.printf("%-9s %7s %9s %8s %9s %9s %7s%n", "threads", "clients", "requests", "req/s",
+                "p50 ms", "p99 ms", "errors");
+        results.forEach(result -> System.out.printf("%-9s %7d %9d %8.0f %9.1f %9.1f %7d%n",
+                result.virtual() ? "virtual" : "platform", result.clients(), result.requests(),
+                result.throughput(), result.p50Millis(), result.p99Millis(), result.errors()));
+        results.forEach(result -> assertEquals(0, result.errors(), result.toString()));
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(OrganiserApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.data.mongodb.database=organiser_load_benchmark",
+                        "spring.main.banner-mode=off",
+                        "jwt.secret=benchmark-secret-key-that-is-long-enough-for-hs256",
+                        "jwt.expiration=3600000",
+                        "app.jobs.interview-events.enabled=false",
+                        "app.jobs.notification-dispatch.enabled=false",
+                        // Per-request info logging would dominate the measurement
+                        "logging.level.com.interview.organiser=WARN")
+                .run();
+    }
+
+    private static void seed(MongoTemplate mongoTemplate) {
+        // Clear rather than drop, so the indexes created on startup stay in place for both runs
+        mongoTemplate.getCollectionNames().forEach(name -> mongoTemplate.getCollection(name).deleteMany(new Document()));
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidates.add(Candidate.builder()
+                    .recruiterId(RECRUITER_ID)
+                    .firstName("Candidate" + i).lastName("Load").email("candidate" + i + "@load.test")
+                    .createdAt(now).updatedAt(now)
+                    .build());
+        }
+        candidates = new ArrayList<>(mongoTemplate.insertAll(candidates));
+
+        List<Interviewer> interviewers = new ArrayList<>();
+        for (int i = 0; i < INTERVIEWERS; i++) {
+            User user = mongoTemplate.insert(User.builder()
+                    .email("interviewer" + i + "@load.test").firstName("Interviewer" + i)
+                    .roles(Set.of(UserRole.INTERVIEWER))
+                    .build());
+            interviewers.add(mongoTemplate.insert(Interviewer.builder()
+                    .user(user).email(user.getEmail()).isRegistered(true)
+                    .build()));
+        }
+
+        List<Interview> interviews = new ArrayList<>();
+        for (int i = 0; i < INTERVIEWS; i++) {
+            interviews.add(Interview.builder()
+                    .recruiterId(RECRUITER_ID)
+                    .candidate(candidates.get(i % CANDIDATES))
+                    .interviewers(List.of(interviewers.get(i % INTERVIEWERS)))
+                    .scheduledAt(now.plusHours(i))
+                    .duration(60)
+                    .interviewType(InterviewType.TECHNICAL)
+                    .round(1)
+                    .createdAt(now).updatedAt(now)
+                    .build());
+        }
+        mongoTemplate.insertAll(interviews);
+    }
+
+    /**
+     * Runs the given number of closed-loop clients, each cycling through the endpoints, for the duration.
+     */
+    private Result drive(boolean virtual, String baseUrl, String token, int clients, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Latencies>> futures = new ArrayList<>(clients);
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < clients; client++) {
+                int offset = client;
+                futures.add(executor.submit(() -> {
+                    Latencies latencies = new Latencies();
+                    for (int i = offset; System.nanoTime() < deadline; i++) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATHS.get(i % PATHS.size())))
+                                .header("Authorization", "Bearer " + token)
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request,
+                                    HttpResponse.BodyHandlers.discarding());
+                            latencies.add(System.nanoTime() - sent, response.statusCode() != 200);
+                        } catch (IOException e) {
+                            latencies.add(System.nanoTime() - sent, true);
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Latencies all = new Latencies();
+        for (Future<Latencies> future : futures) {
+            all.addAll(future.get());
+        }
+        long[] sorted = all.sorted();
+        return new Result(virtual, clients, sorted.length, all.errors, sorted.length / (elapsed / 1e9),
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static final class Latencies {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long latency, boolean error) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latency;
+            if (error) {
+                errors++;
+            }
+        }
+
+        void addAll(Latencies other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.nanos[i], false);
+            }
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private record Result(boolean virtual, int clients, long requests, long errors, double throughput,
+                          double p50Millis, double p99Millis) {
+    }
+}
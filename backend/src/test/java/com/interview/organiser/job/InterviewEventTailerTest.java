@@ -0,0 +1,109 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.constants.enums.InterviewEventType;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.InterviewEvent;
+import com.interview.organiser.service.InterviewEventService;
+import com.interview.organiser.service.InterviewEventSubscriber;
+import com.interview.organiser.service.impl.InterviewEventServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Appends events through InterviewEventService and reads them back with fresh tailers.
+ * Requires a running MongoDB; enable with {@code mvn test -Dmongo.integration=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.data.mongodb.database=organiser_event_test",
+        "jwt.secret=event-test-secret-key-that-is-long-enough-for-hs256",
+        "jwt.expiration=3600000",
+        "app.jobs.interview-events.enabled=false"
+})
+@EnabledIfSystemProperty(named = "mongo.integration", matches = "true")
+class InterviewEventTailerTest {
+
+    private static final long GAP_TIMEOUT_MS = 300;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private InterviewEventService interviewEventService;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(InterviewEvent.class);
+        mongoTemplate.dropCollection(InterviewEventServiceImpl.COUNTERS);
+        mongoTemplate.dropCollection(InterviewEventTailer.CHECKPOINTS);
+    }
+
+    @Test
+    void deliversEventsInSeqOrderAndResumesFromCheckpoint() {
+        String reader = "reader-" + UUID.randomUUID();
+        List<Long> received = new ArrayList<>();
+
+        InterviewEventTailer tailer = tailer(reader, received::add);
+        append(3);
+        assertEquals(3, tailer.tail());
+        assertEquals(List.of(1L, 2L, 3L), received);
+
+        append(2);
+        received.clear();
+        assertEquals(2, tailer(reader, received::add).tail());
+        assertEquals(List.of(4L, 5L), received);
+    }
+
+    @Test
+    void waitsForMissingSeqThenSkipsItAfterTheGapTimeout() throws InterruptedException {
+        List<Long> received = new ArrayList<>();
+        InterviewEventTailer tailer = tailer("reader-" + UUID.randomUUID(), received::add);
+
+        append(1);
+        // An append that took a sequence number but never inserted its event
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(InterviewEventServiceImpl.EVENT_SEQUENCE)),
+                new Update().inc("seq", 1L), InterviewEventServiceImpl.COUNTERS);
+        append(1);
+
+        assertEquals(1, tailer.tail());
+        assertEquals(0, tailer.tail());
+        Thread.sleep(GAP_TIMEOUT_MS + 50);
+        assertEquals(1, tailer.tail());
+        assertEquals(List.of(1L, 3L), received);
+    }
+
+    private void append(int count) {
+        for (int i = 0; i < count; i++) {
+            Interview interview = Interview.builder()
+                    .id(UUID.randomUUID().toString())
+                    .recruiterId("recruiter")
+                    .status(InterviewStatus.SCHEDULED)
+                    .build();
+            interviewEventService.append(InterviewEventType.INTERVIEW_SCHEDULED, interview, Map.of());
+        }
+    }
+
+    private InterviewEventTailer tailer(String reader, Consumer<Long> sink) {
+        InterviewEventTailer tailer = new InterviewEventTailer(mongoTemplate,
+                new StaticListableBeanFactory().getBeanProvider(InterviewEventSubscriber.class),
+                reader, 100, GAP_TIMEOUT_MS, true);
+        tailer.subscribe(event -> sink.accept(event.getSeq()));
+        return tailer;
+    }
+}
@@ -0,0 +1,87 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.constants.enums.TimelineEntryType;
+import com.interview.organiser.model.entity.InterviewTimelineEntry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InterviewNotesMigrationJobTest {
+
+    @Test
+    void splitsAppendedTextIntoEntriesInOrder() {
+        InterviewNotesMigrationJob.Split split = InterviewNotesMigrationJob.split("Bring a laptop"
+                + "\nCandidate confirmation notes: Running late\nby ten minutes"
+                + "\nStatus update reason: Panel moved"
+                + "\nResult comments: Strong on design");
+
+        assertEquals("Bring a laptop", split.notes());
+        assertEquals(List.of(
+                new InterviewNotesMigrationJob.Entry(TimelineEntryType.CONFIRMATION_NOTE,
+                        "Running late\nby ten minutes"),
+                new InterviewNotesMigrationJob.Entry(TimelineEntryType.STATUS_REASON, "Panel moved"),
+                new InterviewNotesMigrationJob.Entry(TimelineEntryType.RESULT_COMMENT, "Strong on design")),
+                split.entries());
+    }
+
+    @Test
+    void appendedToEmptyNotesLeavesNothingBehind() {
+        InterviewNotesMigrationJob.Split split = InterviewNotesMigrationJob.split("\nResult comments: Hire");
+
+        assertTrue(split.notes().isEmpty());
+        assertEquals(1, split.entries().size());
+    }
+
+    @Test
+    void notesWithoutAppendedTextAreKept() {
+        InterviewNotesMigrationJob.Split split = InterviewNotesMigrationJob.split("Result comments: none yet");
+
+        assertEquals("Result comments: none yet", split.notes());
+        assertTrue(split.entries().isEmpty());
+    }
+
+    @Test
+    void migratedInterviewIsStampedAsChangedAndItsEntriesKeepTheOldTime() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), anyString())).thenReturn(Stream.of(
+                new Document("_id", new ObjectId())
+                        .append("notes", "Bring a laptop\nResult comments: Hire")
+                        .append("updatedAt", new Date(0))));
+        when(mongoTemplate.getCollectionName(InterviewTimelineEntry.class)).thenReturn("interview_timeline");
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), anyString()))
+                .thenReturn(bulk);
+
+        assertEquals(1, new InterviewNotesMigrationJob(mongoTemplate).migrate());
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), anyString());
+        Document written = update.getValue().getUpdateObject();
+        assertEquals("Bring a laptop", written.get("$set", Document.class).get("notes"));
+        assertTrue(written.get("$set", Document.class).getDate("updatedAt").after(new Date(0)));
+        assertEquals(new Document("version", 1), written.get("$inc"));
+
+        ArgumentCaptor<Update> entry = ArgumentCaptor.forClass(Update.class);
+        verify(bulk).upsert(any(Query.class), entry.capture());
+        assertEquals(new Date(0), entry.getValue().getUpdateObject().get("$setOnInsert", Document.class)
+                .get("createdAt"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.interview.organiser.job;
+
+import com.interview.organiser.constants.enums.NotificationStatus;
+import com.interview.organiser.model.entity.Notification;
+import com.interview.organiser.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the outbox dispatcher against a real MongoDB with the file sink as sender.
+ * Requires a running MongoDB; enable with {@code mvn test -Dmongo.integration=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.data.mongodb.database=organiser_notification_test",
+        "jwt.secret=notification-test-secret-key-that-is-long-enough-for-hs256",
+        "jwt.expiration=3600000",
+        "app.notifications.sender=file",
+        "app.notifications.file.path=target/notification-test.log",
+        "app.notifications.dispatch-interval-ms=3600000"
+})
+@EnabledIfSystemProperty(named = "mongo.integration", matches = "true")
+class NotificationDispatcherTest {
+
+    private static final Path SINK = Path.of("target/notification-test.log");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mongoTemplate.dropCollection(Notification.class);
+        Files.deleteIfExists(SINK);
+    }
+
+    @Test
+    void deliversOneBatchPerRecipient() throws IOException {
+        notificationService.notifyAdminNewRecruiter("Acme", "r1");
+        notificationService.notifyAdminNewRecruiter("Globex", "r2");
+        notificationService.notifyRecruiterVerificationStatus("hr@acme.test", "VERIFIED", "ok");
+
+        assertEquals(3, dispatcher.dispatchBatch());
+
+        String sink = Files.readString(SINK);
+        assertEquals(2, sink.split("----").length - 1);
+        assertTrue(sink.contains("To: admin\n"));
+        assertTrue(sink.contains("Messages: 2"));
+        assertTrue(mongoTemplate.findAll(Notification.class).stream()
+                .allMatch(notification -> notification.getStatus() == NotificationStatus.SENT));
+        assertEquals(0, dispatcher.dispatchBatch());
+    }
+
+    @Test
+    void failedDeliveriesAreRetriedWithBackoffThenParked() {
+        NotificationDispatcher failing = new NotificationDispatcher(mongoTemplate,
+                (recipient, notifications) -> {
+                    throw new IOException("relay unavailable");
+                },
+                2, 100, 2, 1000, 5000, 60000);
+        notificationService.notifyAdminNewRecruiter("Acme", "r1");
+
+        assertEquals(1, failing.dispatchBatch());
+        Notification retried = mongoTemplate.findOne(new Query(), Notification.class);
+        assertEquals(NotificationStatus.PENDING, retried.getStatus());
+        assertEquals(1, retried.getAttempts());
+        assertTrue(retried.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(0, failing.dispatchBatch(), "not due until the backoff has passed");
+
+        mongoTemplate.updateFirst(new Query(), new Update().set("nextAttemptAt", LocalDateTime.now().minusSeconds(1)),
+                Notification.class);
+        assertEquals(1, failing.dispatchBatch());
+        List<Notification> parked = mongoTemplate.findAll(Notification.class);
+        assertEquals(NotificationStatus.FAILED, parked.get(0).getStatus());
+        assertEquals("relay unavailable", parked.get(0).getLastError());
+        failing.shutdown();
+    }
+
+    @Test
+    void expiredLeasesCostAnAttemptAndAreParkedWhenExhausted() {
+        NotificationDispatcher failing = new NotificationDispatcher(mongoTemplate,
+                (recipient, notifications) -> {
+                    throw new IOException("relay unavailable");
+                },
+                2, 100, 3, 1000, 5000, 60000);
+        notificationService.notifyAdminNewRecruiter("Acme", "r1");
+        Update crashed = new Update()
+                .set("status", NotificationStatus.PROCESSING.name())
+                .set("claimToken", "crashed-dispatcher")
+                .set("claimedUntil", LocalDateTime.now().minusSeconds(1));
+        mongoTemplate.updateFirst(new Query(), crashed, Notification.class);
+
+        assertEquals(1, failing.dispatchBatch());
+        assertEquals(2, mongoTemplate.findOne(new Query(), Notification.class).getAttempts(),
+                "the reclaimed lease and the failed send both count");
+
+        mongoTemplate.updateFirst(new Query(), crashed, Notification.class);
+        assertEquals(0, failing.dispatchBatch());
+        Notification parked = mongoTemplate.findOne(new Query(), Notification.class);
+        assertEquals(NotificationStatus.FAILED, parked.getStatus());
+        assertEquals(3, parked.getAttempts());
+        failing.shutdown();
+    }
+
+    @Test
+    void outcomesOfALostClaimAreNotWritten() {
+        // While the send is in flight the lease runs out and another dispatcher claims the record
+        NotificationDispatcher slow = new NotificationDispatcher(mongoTemplate,
+                (recipient, notifications) -> mongoTemplate.updateFirst(new Query(),
+                        new Update().set("claimToken", "other-dispatcher"), Notification.class),
+                1, 100, 5, 1000, 5000, 60000);
+        notificationService.notifyAdminNewRecruiter("Acme", "r1");
+
+        assertEquals(1, slow.dispatchBatch());
+        Notification reclaimed = mongoTemplate.findOne(new Query(), Notification.class);
+        assertEquals(NotificationStatus.PROCESSING, reclaimed.getStatus());
+        assertEquals("other-dispatcher", reclaimed.getClaimToken());
+        slow.shutdown();
+    }
+
+    @Test
+    void backoffGrowsExponentiallyUpToTheCap() {
+        NotificationDispatcher policy = new NotificationDispatcher(mongoTemplate, (recipient, notifications) -> {
+        }, 1, 10, 5, 1000, 8000, 60000);
+
+        for (int attempt = 1; attempt <= 6; attempt++) {
+            long expected = Math.min(1000L << (attempt - 1), 8000);
+            long actual = policy.backoff(attempt).toMillis();
+            assertTrue(actual >= expected / 2 && actual <= expected, "attempt " + attempt + ": " + actual);
+        }
+        policy.shutdown();
+    }
+}
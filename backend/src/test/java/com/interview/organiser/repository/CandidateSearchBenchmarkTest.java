@@ -0,0 +1,184 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.config.IndexManager;
+import com.interview.organiser.constants.enums.CandidateStatus;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.util.SearchTokenUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the token index search with the former case-insensitive $regex search over a large
+ * candidate collection (1M by default, override with {@code -Dbenchmark.candidates=N}).
+ * Requires a running MongoDB; enable with {@code mvn test -Dbenchmark.mongo=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.data.mongodb.database=organiser_search_benchmark",
+        "jwt.secret=benchmark-secret-key-that-is-long-enough-for-hs256",
+        "jwt.expiration=3600000"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark.mongo", matches = "true")
+class CandidateSearchBenchmarkTest {
+
+    private static final int CANDIDATES = Integer.getInteger("benchmark.candidates", 1_000_000);
+    private static final int INSERT_BATCH = 10_000;
+    private static final int RUNS = 5;
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Carla", "Dmitri", "Elena", "Farid", "Grace", "Hiro",
+            "Ines", "Jonas", "Kofi", "Lena", "Mateo", "Nadia", "Oscar", "Priya", "Quentin", "Rosa", "Sven", "Tariq"};
+    private static final String[] LAST_NAMES = {"Smith", "Garcia", "Müller", "Kowalski", "Nguyen", "Okafor", "Rossi",
+            "Sato", "Dubois", "Larsen", "Silva", "Novak", "Haddad", "Ivanova", "Johansson", "Kim", "Moreau", "Patel"};
+    private static final String[] POSITIONS = {"Backend Engineer", "Frontend Developer", "Data Scientist",
+            "Site Reliability Engineer", "Product Designer", "Engineering Manager", "QA Analyst"};
+    private static final String[] SKILLS = {"Java", "Spring", "Kotlin", "React", "TypeScript", "Python", "Kubernetes",
+            "MongoDB", "PostgreSQL", "Terraform", "Go", "Rust"};
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private IndexManager indexManager;
+
+    @BeforeAll
+    void seed() {
+        mongoTemplate.getDb().drop();
+        indexManager.ensureIndexes();
+
+        CandidateStatus[] statuses = CandidateStatus.values();
+        List<Candidate> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < CANDIDATES; i++) {
+            String firstName = FIRST_NAMES[i % FIRST_NAMES.length];
+            String lastName = LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+            Candidate candidate = Candidate.builder()
+                    .recruiterId("bench-recruiter")
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .email(firstName.toLowerCase(Locale.ROOT) + "." + i + "@bench.test")
+                    .position(POSITIONS[i % POSITIONS.length])
+                    .skills(List.of(SKILLS[i % SKILLS.length], SKILLS[(i / 7) % SKILLS.length]))
+                    .status(statuses[i % statuses.length])
+                    .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                    .build();
+            SearchTokenUtil.index(candidate);
+            batch.add(candidate);
+            if (batch.size() == INSERT_BATCH) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.insertAll(batch);
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        mongoTemplate.getDb().drop();
+    }
+
+    @Test
+    void tokenSearchMatchesRegexSearchAndIsFaster() {
+        for (String search : List.of("ali", "smith", "kowal", "backend eng", "kubernetes", "grace.1")) {
+            Page<Candidate> tokenPage = candidateRepository.search(null, search, PAGE);
+            Page<Candidate> regexPage = regexSearch(null, search);
+
+            long tokenNanos = median(() -> candidateRepository.search(null, search, PAGE));
+            long regexNanos = median(() -> regexSearch(null, search));
+            System.out.printf("search '%s': token %d hits in %.1f ms, regex %d hits in %.1f ms%n", search,
+                    tokenPage.getTotalElements(), tokenNanos / 1e6, regexPage.getTotalElements(), regexNanos / 1e6);
+
+            assertFalse(tokenPage.getContent().isEmpty(), "no token hits for " + search);
+            for (Candidate candidate : tokenPage.getContent()) {
+                assertTrue(matchesEveryTerm(candidate, search), candidate.getEmail() + " does not match " + search);
+            }
+        }
+
+        long tokenNanos = median(() -> candidateRepository.search(CandidateStatus.SCREENING, "smi", PAGE));
+        long regexNanos = median(() -> regexSearch(CandidateStatus.SCREENING, "smi"));
+        System.out.printf("status + search 'smi': token %.1f ms, regex %.1f ms%n", tokenNanos / 1e6, regexNanos / 1e6);
+        assertTrue(tokenNanos < regexNanos, "token search should beat the regex collection scan");
+    }
+
+    @Test
+    void wholeWordHitRanksFirstEvenPastThePrefixCap() {
+        // Inserted last, so by record id it follows every "Smith" that already fills the prefix cap
+        Candidate smi = Candidate.builder()
+                .recruiterId("bench-recruiter").firstName("Ana").lastName("Smi").email("ana.smi@bench.test")
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                .build();
+        SearchTokenUtil.index(smi);
+        smi = mongoTemplate.insert(smi);
+        try {
+            CappedPage<Candidate> page = candidateRepository.search(null, "smi", PAGE);
+            assertEquals(smi.getId(), page.getContent().getFirst().getId());
+            assertTrue(page.isCapped(), "a prefix of most of the collection should be capped");
+        } finally {
+            mongoTemplate.remove(smi);
+        }
+    }
+
+    /**
+     * The search the repository used before the token index: an unanchored case-insensitive $regex per field.
+     */
+    private Page<Candidate> regexSearch(CandidateStatus status, String search) {
+        String pattern = Pattern.quote(search);
+        Criteria criteria = new Criteria().orOperator(
+                Criteria.where("firstName").regex(pattern, "i"),
+                Criteria.where("lastName").regex(pattern, "i"),
+                Criteria.where("email").regex(pattern, "i"),
+                Criteria.where("position").regex(pattern, "i"));
+        if (status != null) {
+            criteria = new Criteria().andOperator(Criteria.where("status").is(status.name()), criteria);
+        }
+        Query query = Query.query(criteria);
+        List<Candidate> content = mongoTemplate.find(Query.of(query).with(PAGE), Candidate.class);
+        long total = mongoTemplate.count(query, Candidate.class);
+        return new PageImpl<>(content, PAGE, total);
+    }
+
+    private static boolean matchesEveryTerm(Candidate candidate, String search) {
+        // search() does not return the stored tokens, so recompute them from the returned fields
+        SearchTokenUtil.index(candidate);
+        return candidate.getSearchTokens().containsAll(SearchTokenUtil.queryTerms(search));
+    }
+
+    private static long median(Supplier<?> search) {
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+}
@@ -0,0 +1,75 @@
+package com.interview.organiser.repository;
+
+import com.mongodb.MongoException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.TransientClientSessionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConflictRetryTest {
+
+    private final ConflictRetry conflictRetry = new ConflictRetry(
+            new DefaultListableBeanFactory().getBeanProvider(PlatformTransactionManager.class), 3, 0);
+
+    @Test
+    void versionConflictsAreRetriedOnlyWhenRetryable() {
+        AtomicInteger attempts = new AtomicInteger();
+        assertEquals("done", conflictRetry.run(true, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("stale");
+            }
+            return "done";
+        }));
+        assertEquals(3, attempts.get());
+
+        attempts.set(0);
+        assertThrows(OptimisticLockingFailureException.class, () -> conflictRetry.run(false, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void abortedTransactionsAreRetriedEvenWhenNotRetryable() {
+        // Spring translates a WriteConflict by its code, so only the driver's label marks it transient
+        MongoException writeConflict = new MongoException(112, "WriteConflict");
+        writeConflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+
+        AtomicInteger attempts = new AtomicInteger();
+        assertEquals("done", conflictRetry.run(false, () -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new DataIntegrityViolationException("WriteConflict", writeConflict);
+            }
+            return "done";
+        }));
+        assertEquals(2, attempts.get());
+
+        attempts.set(0);
+        TransientClientSessionException exhausted = assertThrows(TransientClientSessionException.class,
+                () -> conflictRetry.run(false, () -> {
+                    attempts.incrementAndGet();
+                    throw new DataIntegrityViolationException("WriteConflict", writeConflict);
+                }));
+        assertEquals(3, attempts.get());
+        assertSame(writeConflict, exhausted.getCause().getCause());
+    }
+
+    @Test
+    void otherFailuresPropagateAtOnce() {
+        AtomicInteger attempts = new AtomicInteger();
+        assertThrows(DataIntegrityViolationException.class, () -> conflictRetry.run(true, () -> {
+            attempts.incrementAndGet();
+            throw new DataIntegrityViolationException("duplicate", new MongoException(11000, "E11000"));
+        }));
+        assertEquals(1, attempts.get());
+    }
+}
@@ -0,0 +1,176 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.model.dto.request.CursorPageRequest;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Invokes every query method declared on the application's repositories, captures the commands it sends
+ * and runs explain() on each one. Fails when a winning plan contains a COLLSCAN, so a new query method
+ * has to come with an index in IndexManager.
+ * Requires a running MongoDB; enable with {@code mvn test -Dmongo.integration=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.data.mongodb.database=organiser_index_coverage",
+        "jwt.secret=index-coverage-secret-key-that-is-long-enough-for-hs256",
+        "jwt.expiration=3600000"
+})
+@EnabledIfSystemProperty(named = "mongo.integration", matches = "true")
+class IndexCoverageTest {
+
+    private static final String REPOSITORY_PACKAGE = "com.interview.organiser.repository";
+    private static final String SAMPLE_ID = "000000000000000000000000";
+    private static final Set<String> QUERY_COMMANDS = Set.of("find", "count", "aggregate", "delete", "distinct", "findAndModify", "update");
+    private static final Set<String> COMMAND_METADATA = Set.of("$db", "lsid", "$clusterTime", "$readPreference", "txnNumber", "apiVersion");
+
+    // Methods that are knowingly unindexed, with the reason
+    private static final Set<String> ALLOWED_SCANS = Set.of();
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CapturingCommandListener commandListener;
+
+    @Test
+    void everyRepositoryQueryUsesAnIndex() throws Exception {
+        List<String> collectionScans = new ArrayList<>();
+
+        for (Object repository : applicationContext.getBeansOfType(MongoRepository.class).values()) {
+            for (Class<?> repositoryInterface : applicationInterfaces(repository.getClass())) {
+                for (Method method : repositoryInterface.getDeclaredMethods()) {
+                    if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+                        continue;
+                    }
+                    String name = repositoryInterface.getSimpleName() + "." + method.getName();
+
+                    commandListener.commands.clear();
+                    method.invoke(repository, sampleArguments(method));
+                    for (BsonDocument command : new ArrayList<>(commandListener.commands)) {
+                        if (!ALLOWED_SCANS.contains(name) && usesCollectionScan(command)) {
+                            collectionScans.add(name + " -> " + command.toJson());
+                        }
+                    }
+                }
+            }
+        }
+
+        assertTrue(collectionScans.isEmpty(), "Queries without a supporting index:\n" + String.join("\n", collectionScans));
+    }
+
+    private boolean usesCollectionScan(BsonDocument command) {
+        BsonDocument explainable = command.clone();
+        COMMAND_METADATA.forEach(explainable::remove);
+        Document explain = mongoTemplate.getDb().runCommand(
+                new BsonDocument("explain", explainable).append("verbosity", new BsonString("queryPlanner")));
+        return explain.toJson().contains("\"COLLSCAN\"");
+    }
+
+    private static Set<Class<?>> applicationInterfaces(Class<?> type) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> candidate : type.getInterfaces()) {
+            if (candidate.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                interfaces.add(candidate);
+                interfaces.addAll(applicationInterfaces(candidate));
+            }
+        }
+        return interfaces;
+    }
+
+    private static Object[] sampleArguments(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            arguments[i] = sampleValue(types[i], method);
+        }
+        return arguments;
+    }
+
+    private static Object sampleValue(Class<?> type, Method method) {
+        if (type == String.class) {
+            return SAMPLE_ID;
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (Pageable.class.isAssignableFrom(type)) {
+            return PageRequest.of(0, 10);
+        }
+        if (type == CursorPageRequest.class) {
+            return new CursorPageRequest(null, 10, true);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(SAMPLE_ID);
+        }
+        throw new IllegalStateException("No sample value for " + type.getName() + " in " + method
+                + "; extend IndexCoverageTest.sampleValue");
+    }
+
+    static class CapturingCommandListener implements CommandListener {
+
+        final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (QUERY_COMMANDS.contains(event.getCommandName())) {
+                commands.add(event.getCommand().clone());
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class CommandCaptureConfig {
+
+        @Bean
+        CapturingCommandListener capturingCommandListener() {
+            return new CapturingCommandListener();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer capturingCommandCustomizer(CapturingCommandListener listener) {
+            return builder -> builder.addCommandListener(listener);
+        }
+    }
+}
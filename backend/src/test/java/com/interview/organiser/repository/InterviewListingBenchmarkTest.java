@@ -0,0 +1,172 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.config.MongoCommandCounter;
+import com.interview.organiser.constants.enums.InterviewType;
+import com.interview.organiser.constants.enums.UserRole;
+import com.interview.organiser.model.dto.request.CursorPageRequest;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.model.dto.response.InterviewResponse;
+import com.interview.organiser.model.entity.User;
+import com.interview.organiser.util.EntityMapper;
+import com.interview.organiser.util.FieldSelection;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the number of Mongo commands needed to render one page of interviews through the
+ * default @DBRef resolution and through the batched reference read path.
+ * Requires a running MongoDB; enable with {@code mvn test -Dbenchmark.mongo=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.data.mongodb.database=organiser_benchmark",
+        "jwt.secret=benchmark-secret-key-that-is-long-enough-for-hs256",
+        "jwt.expiration=3600000"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark.mongo", matches = "true")
+class InterviewListingBenchmarkTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private MongoCommandCounter commandCounter;
+
+    @Autowired
+    private EntityMapper entityMapper;
+
+    @BeforeAll
+    void seed() {
+        mongoTemplate.getDb().drop();
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            candidates.add(Candidate.builder()
+                    .firstName("Candidate" + i).lastName("Bench").email("candidate" + i + "@bench.test")
+                    .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        candidates = new ArrayList<>(mongoTemplate.insertAll(candidates));
+
+        List<Interviewer> interviewers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            User user = mongoTemplate.insert(User.builder()
+                    .email("interviewer" + i + "@bench.test").firstName("Interviewer" + i)
+                    .roles(Set.of(UserRole.INTERVIEWER))
+                    .build());
+            interviewers.add(mongoTemplate.insert(Interviewer.builder()
+                    .user(user).email(user.getEmail()).isRegistered(true)
+                    .build()));
+        }
+
+        List<Interview> interviews = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            interviews.add(Interview.builder()
+                    .recruiterId("bench-recruiter")
+                    .candidate(candidates.get(i))
+                    .interviewers(List.of(interviewers.get(i % 20), interviewers.get((i + 1) % 20)))
+                    .scheduledAt(LocalDateTime.now().plusDays(i))
+                    .interviewType(InterviewType.TECHNICAL)
+                    .round(1)
+                    .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        mongoTemplate.insertAll(interviews);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        mongoTemplate.getDb().drop();
+    }
+
+    @Test
+    void batchedReadPathUsesConstantNumberOfCommandsPerPage() {
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE);
+
+        commandCounter.reset();
+        Page<Interview> legacy = interviewRepository.findAll(pageable);
+        legacy.getContent().forEach(entityMapper::toInterviewResponse);
+        long legacyCommands = commandCounter.total();
+        System.out.printf("DBRef read path: %d commands per page %s%n", legacyCommands, commandCounter.snapshot());
+
+        commandCounter.reset();
+        Page<Interview> batched = interviewRepository.findAllWithReferences(null, null, null, null, null, pageable,
+                FieldSelection.ALL);
+        batched.getContent().forEach(entityMapper::toInterviewResponse);
+        long batchedCommands = commandCounter.total();
+        System.out.printf("Batched read path: %d commands per page %s%n", batchedCommands, commandCounter.snapshot());
+
+        assertEquals(PAGE_SIZE, batched.getContent().size());
+        assertEquals(legacy.getTotalElements(), batched.getTotalElements());
+        assertTrue(batchedCommands <= 5, "expected find + count + one $in per referenced collection");
+        assertTrue(batchedCommands < legacyCommands);
+    }
+
+    @Test
+    void calendarFieldsSkipTheInterviewerLookups() {
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE);
+        FieldSelection calendar = FieldSelection.parse(
+                "scheduledAt,duration,status,candidate.firstName,candidate.lastName", InterviewResponse.class);
+
+        commandCounter.reset();
+        Page<Interview> sparse = interviewRepository.findAllWithReferences(null, null, null, null, null, pageable,
+                calendar);
+        List<InterviewResponse> responses = sparse.getContent().stream()
+                .map(entityMapper::toInterviewResponse)
+                .toList();
+        System.out.printf("Calendar read path: %d commands per page %s%n", commandCounter.total(),
+                commandCounter.snapshot());
+
+        assertEquals(PAGE_SIZE, responses.size());
+        assertTrue(commandCounter.total() <= 3, "expected find + count + one $in on candidates");
+        assertNotNull(responses.getFirst().getCandidate().getFirstName());
+        assertNull(responses.getFirst().getCandidate().getEmail());
+        assertNull(responses.getFirst().getInterviewer());
+    }
+
+    @Test
+    void cursorWalkVisitsEveryInterviewOnceWithoutCounting() {
+        Set<String> seen = new HashSet<>();
+        String after = null;
+        int slices = 0;
+
+        commandCounter.reset();
+        do {
+            KeysetSlice<Interview> slice = interviewRepository.findAllWithReferences(
+                    null, null, null, null, null, new CursorPageRequest(after, 7, false), FieldSelection.ALL);
+            slice.getContent().forEach(interview -> assertTrue(seen.add(interview.getId()), "visited twice"));
+            after = slice.getNextCursor();
+            slices++;
+        } while (after != null);
+        System.out.printf("Cursor walk: %d slices, %s%n", slices, commandCounter.snapshot());
+
+        assertEquals(PAGE_SIZE, seen.size());
+        assertEquals(0, commandCounter.snapshot().getOrDefault("count", 0L));
+    }
+}
@@ -0,0 +1,174 @@
+package com.interview.organiser.repository;
+
+import com.interview.organiser.exception.GlobalExceptionHandler;
+import com.interview.organiser.model.dto.request.UpdateInterviewRequest;
+import com.interview.organiser.model.entity.Interview;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the findAndModify that PartialUpdater sends and the result it derives, against a mocked template
+ * with the real mapping, so no MongoDB is needed.
+ */
+class PartialUpdaterTest {
+
+    private static final String INTERVIEWS = "interviews";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final PartialUpdater partialUpdater = new PartialUpdater(mongoTemplate);
+
+    private final ObjectId id = new ObjectId();
+    private final LocalDateTime slot = LocalDateTime.now().plusDays(1).withNano(0);
+
+    @BeforeEach
+    void mapping() {
+        // Same conversions Spring Boot configures, so java.time values map as they do in the application
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+    }
+
+    @Test
+    void writesOnlyTheFieldsTheRequestSets() {
+        stored(new Document("_id", id).append("meetingLink", "https://meet.test/old").append("notes", "kept")
+                .append("version", 4L));
+
+        PartialUpdater.Result result = partialUpdater.update(Interview.class, id.toHexString(),
+                UpdateInterviewRequest.builder().meetingLink("https://meet.test/new").build()).orElseThrow();
+
+        Document update = sentUpdate().getUpdateObject();
+        Document sets = update.get("$set", Document.class);
+        assertEquals("https://meet.test/new", sets.get("meetingLink"));
+        assertTrue(sets.containsKey("updatedAt"));
+        assertEquals(2, sets.size(), "null request fields must not be written: " + sets.keySet());
+        assertEquals(new Document("version", 1), update.get("$inc"));
+
+        assertEquals(List.of("meetingLink"), result.changed());
+        assertTrue(result.changed("meetingLink"));
+        assertFalse(result.changed("notes"));
+        assertEquals("https://meet.test/old", result.before().get("meetingLink"));
+        assertEquals("https://meet.test/new", result.after().get("meetingLink"));
+        assertEquals("kept", result.after().get("notes"));
+        assertEquals(5L, result.after().get("version"));
+    }
+
+    @Test
+    void expectedVersionIsAPreconditionNotAWrite() {
+        stored(new Document("_id", id).append("version", 3L));
+
+        partialUpdater.update(Interview.class, id.toHexString(),
+                UpdateInterviewRequest.builder().notes("n").version(3L).build());
+
+        assertFalse(sentUpdate().getUpdateObject().get("$set", Document.class).containsKey("version"));
+        List<Object> clauses = sentQuery().getQueryObject().getList("$and", Object.class);
+        assertTrue(clauses.contains(new Document("version", 3L)), clauses.toString());
+    }
+
+    @Test
+    void staleVersionConflictsAndIsAnsweredWith409() {
+        when(mongoTemplate.exists(any(Query.class), eq(INTERVIEWS))).thenReturn(true);
+
+        OptimisticLockingFailureException conflict = assertThrows(OptimisticLockingFailureException.class,
+                () -> partialUpdater.update(Interview.class, id.toHexString(),
+                        UpdateInterviewRequest.builder().notes("n").version(2L).build()));
+
+        assertEquals(HttpStatus.CONFLICT, new GlobalExceptionHandler()
+                .handleConcurrentUpdateException(conflict, new MockHttpServletRequest()).getStatusCode());
+    }
+
+    @Test
+    void missingInterviewIsEmptyNotAConflict() {
+        when(mongoTemplate.exists(any(Query.class), eq(INTERVIEWS))).thenReturn(false);
+
+        assertEquals(Optional.empty(), partialUpdater.update(Interview.class, id.toHexString(),
+                UpdateInterviewRequest.builder().notes("n").version(2L).build()));
+    }
+
+    @Test
+    void extraPreconditionGuardsTheUpdate() {
+        // The sameSlot criteria updateInterview passes when it moves an interview
+        Criteria sameSlot = Criteria.where("scheduledAt").is(slot).and("duration").is(60);
+        UpdateInterviewRequest move = UpdateInterviewRequest.builder().scheduledAt(slot.plusHours(1)).build();
+
+        stored(new Document("_id", id).append("scheduledAt", date(slot)).append("duration", 60));
+        PartialUpdater.Result result = partialUpdater.update(Interview.class, id.toHexString(), move, sameSlot)
+                .orElseThrow();
+        List<Object> clauses = sentQuery().getQueryObject().getList("$and", Object.class);
+        assertTrue(clauses.contains(new Document("scheduledAt", slot).append("duration", 60)), clauses.toString());
+        assertEquals(List.of("scheduledAt"), result.changed());
+        assertEquals(date(slot.plusHours(1)), result.after().get("scheduledAt"));
+
+        // Moved by another request in between: the slot no longer matches, so the update is refused
+        stored(null);
+        when(mongoTemplate.exists(any(Query.class), eq(INTERVIEWS))).thenReturn(true);
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> partialUpdater.update(Interview.class, id.toHexString(), move, sameSlot));
+    }
+
+    @Test
+    void requestFieldWithoutMatchingPropertyIsRejected() {
+        record Renamed(String meetingUrl) {
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> partialUpdater.update(Interview.class, id.toHexString(), new Renamed("https://meet.test")));
+    }
+
+    private void stored(Document before) {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Document.class), eq(INTERVIEWS))).thenReturn(before);
+    }
+
+    private Update sentUpdate() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class),
+                eq(Document.class), eq(INTERVIEWS));
+        return update.getValue();
+    }
+
+    private Query sentQuery() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(query.capture(), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Document.class), eq(INTERVIEWS));
+        return query.getValue();
+    }
+
+    private static Date date(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,122 @@
+package com.interview.organiser.security;
+
+import com.interview.organiser.constants.enums.UserRole;
+import com.interview.organiser.model.entity.User;
+import com.interview.organiser.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "filter-test-secret-key-that-is-long-enough-for-hs256";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 3_600_000L);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesFromTokenClaims() throws Exception {
+        String token = jwtUtil.generateToken(user());
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, 16);
+
+        // Second pass is served from the verified-token cache
+        for (int i = 0; i < 2; i++) {
+            Authentication authentication = filter(filter, "Bearer " + token);
+
+            assertNotNull(authentication);
+            assertEquals("user-1", authentication.getPrincipal());
+            assertEquals(Set.of("ROLE_RECRUITER", "ROLE_INTERVIEWER"), authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    void ignoresTamperedExpiredAndForeignTokens() throws Exception {
+        String token = jwtUtil.generateToken(user());
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, 16);
+        filter(filter, "Bearer " + token);
+        SecurityContextHolder.clearContext();
+
+        String[] parts = token.split("\\.");
+        String otherPayload = jwtUtil.generateToken(User.builder().id("user-2").email("b@example.com")
+                .roles(Set.of(UserRole.ADMIN)).build()).split("\\.")[1];
+        String tampered = parts[0] + "." + otherPayload + "." + parts[2];
+        String expired = new JwtUtil(SECRET, -1_000L).generateToken(user());
+        String foreign = new JwtUtil(SECRET.replace('f', 'g'), 3_600_000L).generateToken(user());
+
+        assertNull(filter(filter, "Bearer " + tampered));
+        assertNull(filter(filter, "Bearer " + expired));
+        assertNull(filter(filter, "Bearer " + foreign));
+        assertNull(filter(filter, "Bearer not-a-token"));
+        assertNull(filter(filter, null));
+    }
+
+    /**
+     * Per-request overhead of the filter with and without the verified-token cache.
+     * Enable with {@code mvn test -Dtest=JwtAuthenticationFilterTest -Dbenchmark.auth=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.auth", matches = "true")
+    void benchmarkPerRequestOverhead() throws Exception {
+        String header = "Bearer " + jwtUtil.generateToken(user());
+        int iterations = Integer.getInteger("benchmark.iterations", 200_000);
+
+        for (int cacheSize : new int[]{0, 10_000}) {
+            JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, cacheSize);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/candidates");
+            request.addHeader("Authorization", header);
+
+            for (int i = 0; i < iterations / 4; i++) {
+                run(filter, request);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                run(filter, request);
+            }
+            long nanosPerRequest = (System.nanoTime() - start) / iterations;
+            System.out.printf("JWT filter, cache size %d: %d ns/request%n", cacheSize, nanosPerRequest);
+        }
+    }
+
+    private static Authentication filter(JwtAuthenticationFilter filter, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/candidates");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static void run(JwtAuthenticationFilter filter, MockHttpServletRequest request) throws Exception {
+        // OncePerRequestFilter marks the request as filtered, so clear the marker between runs
+        request.clearAttributes();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+    }
+
+    private static User user() {
+        return User.builder()
+                .id("user-1")
+                .email("a@example.com")
+                .roles(Set.of(UserRole.RECRUITER, UserRole.INTERVIEWER))
+                .build();
+    }
+}
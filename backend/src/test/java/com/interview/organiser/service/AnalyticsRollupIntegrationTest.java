@@ -0,0 +1,142 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.AnalyticsGranularity;
+import com.interview.organiser.constants.enums.CandidateStatus;
+import com.interview.organiser.constants.enums.FeedbackRecommendation;
+import com.interview.organiser.constants.enums.InterviewResult;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.constants.enums.InterviewType;
+import com.interview.organiser.model.dto.response.FunnelResponse;
+import com.interview.organiser.model.dto.response.InterviewVolumeResponse;
+import com.interview.organiser.model.dto.response.ResultRatesResponse;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Feedback;
+import com.interview.organiser.model.entity.Interview;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the rollups against a small seeded pipeline, and that a refresh moves a rescheduled interview out of
+ * the week it was counted in. Requires a running MongoDB; enable with {@code mvn test -Dmongo.integration=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.data.mongodb.database=organiser_analytics_rollups",
+        "jwt.secret=analytics-test-secret-key-that-is-long-enough-for-hs256",
+        "jwt.expiration=3600000",
+        "app.jobs.analytics-rollup.enabled=false",
+        "app.jobs.interview-events.enabled=false",
+        "app.jobs.notification-dispatch.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "mongo.integration", matches = "true")
+class AnalyticsRollupIntegrationTest {
+
+    private static final String RECRUITER = "analytics-recruiter";
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+    private static final LocalDate FROM = MONDAY.toLocalDate().minusDays(30);
+    private static final LocalDate TO = MONDAY.toLocalDate().plusDays(30);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    private Interview pending;
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.getDb().drop();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime selectingInterview = MONDAY.plusDays(1).plusHours(10);
+        Candidate hired = candidate("hired", CandidateStatus.SELECTED, selectingInterview.minusDays(10), now);
+        Candidate screening = candidate("screening", CandidateStatus.SCREENING, MONDAY.minusDays(3), now);
+        candidate("rejected", CandidateStatus.REJECTED, MONDAY.minusDays(2), now);
+
+        Interview selected = mongoTemplate.insert(Interview.builder()
+                .recruiterId(RECRUITER).candidate(hired).interviewType(InterviewType.TECHNICAL).round(1)
+                .scheduledAt(selectingInterview).status(InterviewStatus.COMPLETED).result(InterviewResult.SELECTED)
+                .createdAt(now).updatedAt(now)
+                .build());
+        pending = mongoTemplate.insert(Interview.builder()
+                .recruiterId(RECRUITER).candidate(screening).interviewType(InterviewType.TECHNICAL).round(1)
+                .scheduledAt(MONDAY.plusDays(2).plusHours(14)).createdAt(now).updatedAt(now)
+                .build());
+        mongoTemplate.insert(Feedback.builder()
+                .interview(selected).candidateId(hired.getId()).rating(4)
+                .recommendation(FeedbackRecommendation.STRONG_HIRE)
+                .submittedAt(selectingInterview.plusHours(2)).createdAt(now).updatedAt(now)
+                .build());
+
+        analyticsRollupService.rebuild();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        mongoTemplate.getDb().drop();
+    }
+
+    @Test
+    void rollupsAddUpToTheSeededPipeline() {
+        FunnelResponse funnel = analyticsService.getFunnel(RECRUITER, FROM, TO);
+        assertEquals(3, funnel.getCandidates());
+        assertEquals(1, funnel.getRejected());
+        assertEquals(List.of(3L, 2L, 1L, 1L),
+                funnel.getStages().stream().map(FunnelResponse.Stage::getReached).toList());
+
+        assertEquals(10.0, analyticsService.getTimeToHire(RECRUITER, FROM, TO).getAverageDays());
+
+        ResultRatesResponse.Round round = analyticsService.getResultRates(RECRUITER, FROM, TO).getRounds().getFirst();
+        assertEquals(2, round.getInterviews());
+        assertEquals(1, round.getDecided());
+        assertEquals(1.0, round.getSelectionRate());
+        assertEquals(4.0, round.getAverageRating());
+        assertEquals(1, round.getRecommendations().get(FeedbackRecommendation.STRONG_HIRE.name()));
+
+        assertEquals(List.of(2L), weeklyInterviews());
+    }
+
+    @Test
+    void refreshMovesARescheduledInterviewToItsNewWeek() {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(pending.getId())),
+                new Update().set("scheduledAt", MONDAY.plusDays(9)).set("updatedAt", LocalDateTime.now()),
+                Interview.class);
+
+        analyticsRollupService.refresh();
+
+        assertEquals(List.of(1L, 1L), weeklyInterviews());
+        assertEquals(List.of(MONDAY, MONDAY.plusDays(7)),
+                analyticsService.getInterviewVolume(RECRUITER, AnalyticsGranularity.WEEK, FROM, TO).getBuckets()
+                        .stream().map(InterviewVolumeResponse.Bucket::getStart).toList());
+    }
+
+    private List<Long> weeklyInterviews() {
+        return analyticsService.getInterviewVolume(RECRUITER, AnalyticsGranularity.WEEK, FROM, TO).getBuckets()
+                .stream().map(InterviewVolumeResponse.Bucket::getInterviews).toList();
+    }
+
+    private Candidate candidate(String name, CandidateStatus status, LocalDateTime createdAt, LocalDateTime now) {
+        return mongoTemplate.insert(Candidate.builder()
+                .recruiterId(RECRUITER).firstName(name).lastName("Candidate").email(name + "@analytics.test")
+                .status(status).createdAt(createdAt).updatedAt(now)
+                .build());
+    }
+}
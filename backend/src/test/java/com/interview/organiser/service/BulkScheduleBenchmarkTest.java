@@ -0,0 +1,162 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.config.MongoCommandCounter;
+import com.interview.organiser.constants.enums.InterviewType;
+import com.interview.organiser.model.dto.request.BulkScheduleInterviewRequest;
+import com.interview.organiser.model.dto.request.ScheduleInterviewRequest;
+import com.interview.organiser.model.dto.response.BulkScheduleInterviewResponse;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.Interviewer;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Schedules a hiring drive through the bulk endpoint's service method and checks that the number of
+ * Mongo commands does not grow with the number of interviews, and that scheduling by whole candidates
+ * leaves no candidate with only some of their interviews.
+ * Requires a running MongoDB; enable with {@code mvn test -Dbenchmark.mongo=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.data.mongodb.database=organiser_bulk_benchmark",
+        "jwt.secret=benchmark-secret-key-that-is-long-enough-for-hs256",
+        "jwt.expiration=3600000",
+        "app.jobs.interview-events.enabled=false",
+        "app.jobs.notification-dispatch.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark.mongo", matches = "true")
+class BulkScheduleBenchmarkTest {
+
+    private static final int INTERVIEWS = 300;
+    private static final int INTERVIEWERS = 20;
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(1).withNano(0);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private MongoCommandCounter commandCounter;
+
+    @Autowired
+    private InterviewerCalendarService interviewerCalendarService;
+
+    private final List<Candidate> candidates = new ArrayList<>();
+    private final List<Interviewer> interviewers = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        mongoTemplate.getDb().drop();
+        List<Candidate> newCandidates = new ArrayList<>();
+        for (int i = 0; i < INTERVIEWS; i++) {
+            newCandidates.add(Candidate.builder()
+                    .firstName("Candidate" + i).lastName("Bulk").email("candidate" + i + "@bulk.test")
+                    .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        candidates.addAll(mongoTemplate.insertAll(newCandidates));
+
+        for (int i = 0; i < INTERVIEWERS; i++) {
+            interviewers.add(mongoTemplate.insert(Interviewer.builder()
+                    .email("interviewer" + i + "@bulk.test")
+                    .build()));
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        mongoTemplate.getDb().drop();
+    }
+
+    @Test
+    void schedulesHiringDriveWithConstantNumberOfCommands() {
+        List<ScheduleInterviewRequest> items = new ArrayList<>();
+        for (int i = 0; i < INTERVIEWS; i++) {
+            items.add(item(candidates.get(i).getId(),
+                    List.of(interviewers.get(i % INTERVIEWERS).getId(), interviewers.get((i + 1) % INTERVIEWERS).getId()),
+                    i));
+        }
+        items.add(item("000000000000000000000000", List.of(interviewers.get(0).getId()), INTERVIEWS));
+        // Same interviewer and slot as the first item
+        items.add(item(candidates.get(0).getId(), List.of(interviewers.get(0).getId()), 0));
+
+        commandCounter.reset();
+        BulkScheduleInterviewResponse response = interviewService.scheduleInterviews(
+                BulkScheduleInterviewRequest.builder().interviews(items).build());
+        long commands = commandCounter.total();
+        System.out.printf("Bulk schedule of %d interviews: %d commands %s%n", INTERVIEWS, commands,
+                commandCounter.snapshot());
+
+        assertEquals(INTERVIEWS, response.getScheduled());
+        assertEquals(2, response.getFailed());
+        assertFalse(response.getResults().get(INTERVIEWS).isSuccess());
+        assertFalse(response.getResults().get(INTERVIEWS + 1).isSuccess());
+        assertEquals(INTERVIEWS, mongoTemplate.count(new Query(), Interview.class));
+        // Every interview has two interviewers spread evenly over the pool
+        mongoTemplate.findAll(Interviewer.class).forEach(interviewer ->
+                assertEquals(2 * INTERVIEWS / INTERVIEWERS, interviewer.getTotalInterviews()));
+        assertTrue(commands <= 10, "expected two $in reads plus a fixed number of batched writes");
+    }
+
+    @Test
+    void candidateWithAFailedRoundKeepsNoneOfTheirInterviews() {
+        // Own interviewers and slots far past the other test's, so test order does not matter
+        Interviewer panel = mongoTemplate.insert(Interviewer.builder().email("whole@bulk.test").build());
+        Interviewer otherPanel = mongoTemplate.insert(Interviewer.builder().email("other@bulk.test").build());
+        String complete = candidates.get(0).getId();
+        String incomplete = candidates.get(1).getId();
+        int slot = 24 * 60;
+        List<ScheduleInterviewRequest> items = List.of(
+                item(complete, List.of(panel.getId()), slot),
+                item(complete, List.of(panel.getId()), slot + 1),
+                item(incomplete, List.of(otherPanel.getId()), slot),
+                // Same interviewer and slot as the complete candidate's second round
+                item(incomplete, List.of(panel.getId()), slot + 1));
+
+        BulkScheduleInterviewResponse response = interviewService.scheduleInterviews(
+                BulkScheduleInterviewRequest.builder().interviews(items).build(), true);
+
+        assertEquals(2, response.getScheduled());
+        assertEquals(2, response.getFailed());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertTrue(response.getResults().get(1).isSuccess());
+        assertFalse(response.getResults().get(2).isSuccess());
+        assertFalse(response.getResults().get(3).isSuccess());
+        assertEquals(0, mongoTemplate.count(Query.query(Criteria.where("interviewers.$id")
+                .is(new ObjectId(otherPanel.getId()))), Interview.class));
+        // The released round no longer blocks its interviewer
+        assertTrue(interviewerCalendarService.isFree(otherPanel.getId(), START.plusHours(slot),
+                START.plusHours(slot + 1)));
+    }
+
+    private static ScheduleInterviewRequest item(String candidateId, List<String> interviewerIds, int slot) {
+        return ScheduleInterviewRequest.builder()
+                .recruiterId("bulk-recruiter")
+                .candidateId(candidateId)
+                .interviewerIds(interviewerIds)
+                .scheduledAt(START.plusHours(slot))
+                .interviewType(InterviewType.TECHNICAL)
+                .round(1)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.CandidateStatus;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.repository.CounterReconciler;
+import com.interview.organiser.service.DashboardStatsService.Snapshot;
+import com.interview.organiser.service.impl.DashboardStatsServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.interview.organiser.constants.DashboardCounters.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DashboardStatsSnapshotTest {
+
+    // Snapshots are computed in memory; nothing here touches MongoDB
+    private final DashboardStatsService service = new DashboardStatsServiceImpl(null, null);
+
+    @Test
+    void interviewContributesToEveryScopeItBelongsTo() {
+        Interview interview = interview(InterviewStatus.SCHEDULED);
+
+        Map<String, Map<String, Long>> counters = service.snapshot(interview).counters();
+
+        assertEquals(Map.of(TOTAL_INTERVIEWS, 1L, ACTIVE_INTERVIEWS, 1L), counters.get(GLOBAL_SCOPE));
+        assertEquals(Map.of(TOTAL_INTERVIEWS, 1L, UPCOMING_INTERVIEWS, 1L, COMPLETED_INTERVIEWS, 0L,
+                PENDING_FEEDBACKS, 0L), counters.get(recruiterScope("r1")));
+        assertEquals(counters.get(recruiterScope("r1")), counters.get(interviewerScope("i1")));
+        assertEquals(counters.get(recruiterScope("r1")), counters.get(interviewerScope("i2")));
+        assertEquals(Map.of(TOTAL_INTERVIEWS, 1L, UPCOMING_INTERVIEWS, 1L, COMPLETED_INTERVIEWS, 0L,
+                PENDING_CONFIRMATIONS, 1L), counters.get(candidateScope("c1")));
+        assertEquals(5, counters.size());
+    }
+
+    @Test
+    void differenceKeepsOnlyCountersThatMoved() {
+        Interview interview = interview(InterviewStatus.SCHEDULED);
+        Snapshot before = service.snapshot(interview);
+        interview.setStatus(InterviewStatus.COMPLETED);
+        interview.setFeedbackRequested(true);
+
+        Map<String, Map<String, Long>> delta = Snapshot.difference(before, service.snapshot(interview)).counters();
+
+        assertEquals(Map.of(ACTIVE_INTERVIEWS, -1L), delta.get(GLOBAL_SCOPE));
+        assertEquals(Map.of(UPCOMING_INTERVIEWS, -1L, COMPLETED_INTERVIEWS, 1L, PENDING_FEEDBACKS, 1L),
+                delta.get(interviewerScope("i1")));
+        assertEquals(Map.of(UPCOMING_INTERVIEWS, -1L, COMPLETED_INTERVIEWS, 1L, PENDING_CONFIRMATIONS, -1L),
+                delta.get(candidateScope("c1")));
+        assertTrue(Snapshot.difference(before, before).counters().isEmpty());
+    }
+
+    @Test
+    void creationAndDeletionAreDifferencesAgainstEmpty() {
+        Snapshot candidate = service.snapshot(Candidate.builder()
+                .recruiterId("r1").status(CandidateStatus.REJECTED).build());
+
+        assertEquals(Map.of(GLOBAL_SCOPE, Map.of(TOTAL_CANDIDATES, 1L),
+                        recruiterScope("r1"), Map.of(TOTAL_CANDIDATES, 1L)),
+                Snapshot.difference(Snapshot.EMPTY, candidate).counters());
+        assertEquals(Map.of(GLOBAL_SCOPE, Map.of(TOTAL_CANDIDATES, -1L),
+                        recruiterScope("r1"), Map.of(TOTAL_CANDIDATES, -1L)),
+                Snapshot.difference(candidate, Snapshot.EMPTY).counters());
+    }
+
+    @Test
+    void correctionsAreTheDifferenceToTheRecount() {
+        Map<String, CounterReconciler.Stored> stored = Map.of(
+                GLOBAL_SCOPE, new CounterReconciler.Stored(Map.of(TOTAL_USERS, 5L, TOTAL_INTERVIEWS, 3L), 7L),
+                recruiterScope("r1"), new CounterReconciler.Stored(Map.of(TOTAL_CANDIDATES, 2L), 1L),
+                recruiterScope("gone"), new CounterReconciler.Stored(Map.of(TOTAL_CANDIDATES, 0L), null));
+        Map<String, Map<String, Long>> recounted = Map.of(
+                GLOBAL_SCOPE, Map.of(TOTAL_USERS, 5L, TOTAL_INTERVIEWS, 4L, ACTIVE_INTERVIEWS, 0L),
+                recruiterScope("r1"), Map.of(TOTAL_CANDIDATES, 2L),
+                recruiterScope("new"), Map.of(TOTAL_CANDIDATES, 1L));
+
+        Map<String, Map<String, Long>> corrections = CounterReconciler.corrections(stored, recounted);
+
+        assertEquals(Map.of(
+                GLOBAL_SCOPE, Map.of(TOTAL_INTERVIEWS, 1L),
+                recruiterScope("gone"), Map.of(),
+                recruiterScope("new"), Map.of(TOTAL_CANDIDATES, 1L)), corrections);
+    }
+
+    private static Interview interview(InterviewStatus status) {
+        return Interview.builder()
+                .recruiterId("r1")
+                .candidate(Candidate.builder().id("c1").build())
+                .interviewers(List.of(Interviewer.builder().id("i1").build(), Interviewer.builder().id("i2").build()))
+                .status(status)
+                .candidateConfirmed(false)
+                .feedbackRequested(false)
+                .build();
+    }
+}
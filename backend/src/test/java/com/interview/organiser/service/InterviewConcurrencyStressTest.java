@@ -0,0 +1,182 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.InterviewType;
+import com.interview.organiser.exception.ConcurrentUpdateException;
+import com.interview.organiser.model.dto.request.ConfirmInterviewRequest;
+import com.interview.organiser.model.dto.request.MarkInterviewResultRequest;
+import com.interview.organiser.model.dto.request.UpdateInterviewRequest;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.InterviewTimelineEntry;
+import com.interview.organiser.model.entity.Interviewer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hammers one interview from many threads and checks that no write is lost: every confirmation that returned
+ * has its note on the timeline, every one that was refused with a conflict has not, and the version counts
+ * exactly the successful writes. Competing results marked against the same version let exactly one through.
+ * Requires a running MongoDB; enable with {@code mvn test -Dmongo.integration=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.data.mongodb.database=organiser_interview_concurrency",
+        "jwt.secret=concurrency-test-secret-key-that-is-long-enough-for-hs256",
+        "jwt.expiration=3600000",
+        "app.jobs.interview-events.enabled=false",
+        "app.jobs.notification-dispatch.enabled=false",
+        "app.concurrency.max-attempts=8"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "mongo.integration", matches = "true")
+class InterviewConcurrencyStressTest {
+
+    private static final int THREADS = 32;
+    private static final int CALLS_PER_THREAD = 20;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    private Interview interview;
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.getDb().drop();
+        Candidate candidate = mongoTemplate.insert(Candidate.builder()
+                .firstName("Contended").lastName("Candidate").email("candidate@concurrency.test")
+                .build());
+        Interviewer interviewer = mongoTemplate.insert(Interviewer.builder().email("panel@concurrency.test").build());
+        interview = mongoTemplate.insert(Interview.builder()
+                .recruiterId("concurrency-recruiter")
+                .candidate(candidate)
+                .interviewers(List.of(interviewer))
+                .scheduledAt(LocalDateTime.now().plusDays(1).withNano(0))
+                .interviewType(InterviewType.TECHNICAL)
+                .round(1)
+                .build());
+    }
+
+    @AfterAll
+    void cleanUp() {
+        mongoTemplate.getDb().drop();
+    }
+
+    @Test
+    void concurrentTransitionsOnOneInterviewLoseNoWrites() throws Exception {
+        List<String> notes = new ArrayList<>();
+        List<Callable<Object>> calls = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            for (int call = 0; call < CALLS_PER_THREAD; call++) {
+                String note = "t" + thread + "-c" + call;
+                notes.add(note);
+                switch (call % 4) {
+                    case 0 -> calls.add(() -> interviewService.requestFeedback(interview.getId()));
+                    case 1 -> calls.add(() -> interviewService.updateInterview(interview.getId(),
+                            UpdateInterviewRequest.builder().meetingLink("https://meet.test/" + note).build()));
+                    default -> calls.add(() -> interviewService.confirmInterview(interview.getId(),
+                            ConfirmInterviewRequest.builder().confirmed(true).notes(note).build()));
+                }
+            }
+        }
+
+        List<Future<Object>> futures = invokeAll(calls);
+        Interview stored = mongoTemplate.findById(interview.getId(), Interview.class);
+        Set<String> timeline = mongoTemplate.find(Query.query(Criteria.where("interviewId").is(interview.getId())),
+                        InterviewTimelineEntry.class).stream()
+                .map(InterviewTimelineEntry::getText)
+                .collect(Collectors.toSet());
+
+        long succeeded = 0;
+        long conflicts = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            boolean confirmation = i % CALLS_PER_THREAD % 4 >= 2;
+            try {
+                futures.get(i).get();
+                succeeded++;
+                if (confirmation) {
+                    assertTrue(timeline.contains(notes.get(i)), "lost note " + notes.get(i));
+                }
+            } catch (ExecutionException e) {
+                assertConflict(e);
+                conflicts++;
+                if (confirmation) {
+                    assertFalse(timeline.contains(notes.get(i)), "refused note " + notes.get(i));
+                }
+            }
+        }
+        System.out.printf("%d calls on one interview: %d applied, %d refused with 409%n",
+                futures.size(), succeeded, conflicts);
+        assertEquals(succeeded, stored.getVersion());
+        assertTrue(stored.getCandidateConfirmed());
+        assertTrue(stored.getFeedbackRequested());
+    }
+
+    @Test
+    void competingResultsAgainstTheSameVersionLetOneThrough() throws Exception {
+        long version = mongoTemplate.findById(interview.getId(), Interview.class).getVersion();
+        List<String> results = List.of("SELECTED", "REJECTED", "NEXT_ROUND");
+        List<Callable<Object>> calls = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            MarkInterviewResultRequest request = MarkInterviewResultRequest.builder()
+                    .result(results.get(i % results.size()))
+                    .comments("decision " + i)
+                    .version(version)
+                    .build();
+            calls.add(() -> interviewService.markInterviewResult(interview.getId(), request));
+        }
+
+        long succeeded = 0;
+        for (Future<Object> future : invokeAll(calls)) {
+            try {
+                future.get();
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertConflict(e);
+            }
+        }
+        assertEquals(1, succeeded);
+        assertEquals(version + 1, mongoTemplate.findById(interview.getId(), Interview.class).getVersion());
+    }
+
+    private static List<Future<Object>> invokeAll(List<Callable<Object>> calls) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            return executor.invokeAll(calls);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertConflict(ExecutionException e) {
+        if (!(e.getCause() instanceof ConcurrentUpdateException)) {
+            assertInstanceOf(ConcurrencyFailureException.class, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.InterviewType;
+import com.interview.organiser.exception.GlobalExceptionHandler;
+import com.interview.organiser.model.dto.request.ScheduleInterviewRequest;
+import com.interview.organiser.model.dto.response.ErrorResponse;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.InterviewEvent;
+import com.interview.organiser.model.entity.Interviewer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.TransientClientSessionException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Schedules interviews from many threads with Mongo transactions on, so every schedule's event append
+ * contends for the one sequence counter. Each call must either commit or be refused with 409, never a 500,
+ * and the committed events must carry a contiguous run of sequence numbers: aborted attempts leave no gap.
+ * Requires a MongoDB replica set; enable with {@code mvn test -Dmongo.integration=true -Dmongo.transactions=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.data.mongodb.database=organiser_schedule_transactions",
+        "jwt.secret=transaction-test-secret-key-that-is-long-enough-for-hs256",
+        "jwt.expiration=3600000",
+        "app.mongo.transactions.enabled=true",
+        "app.jobs.interview-events.enabled=false",
+        "app.jobs.notification-dispatch.enabled=false",
+        "app.concurrency.max-attempts=8"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "mongo.integration", matches = "true")
+@EnabledIfSystemProperty(named = "mongo.transactions", matches = "true")
+class InterviewScheduleTransactionTest {
+
+    private static final int THREADS = 32;
+    private static final int CALLS_PER_THREAD = 5;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private InterviewerCalendarService interviewerCalendarService;
+
+    private Candidate candidate;
+    private final List<Interviewer> interviewers = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.getDb().drop();
+        interviewerCalendarService.rebuild();
+        candidate = mongoTemplate.insert(Candidate.builder()
+                .firstName("Busy").lastName("Candidate").email("candidate@transactions.test")
+                .build());
+        interviewers.clear();
+        for (int i = 0; i < THREADS * CALLS_PER_THREAD; i++) {
+            interviewers.add(mongoTemplate.insert(Interviewer.builder().email("panel" + i + "@transactions.test")
+                    .build()));
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        mongoTemplate.getDb().drop();
+    }
+
+    @Test
+    void concurrentSchedulesCommitOrConflictWithoutSequenceGaps() throws Exception {
+        LocalDateTime slot = LocalDateTime.now().plusDays(1).withNano(0);
+        List<Callable<Object>> calls = new ArrayList<>();
+        // Every call books its own interviewer, so the only contention is on shared documents
+        for (Interviewer interviewer : interviewers) {
+            ScheduleInterviewRequest request = ScheduleInterviewRequest.builder()
+                    .recruiterId("transaction-recruiter")
+                    .candidateId(candidate.getId())
+                    .interviewerIds(List.of(interviewer.getId()))
+                    .scheduledAt(slot)
+                    .interviewType(InterviewType.TECHNICAL)
+                    .round(1)
+                    .build();
+            calls.add(() -> interviewService.scheduleInterview(request));
+        }
+
+        long succeeded = 0;
+        long conflicts = 0;
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        for (Future<Object> future : invokeAll(calls)) {
+            try {
+                future.get();
+                succeeded++;
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof TransientClientSessionException)) {
+                    assertInstanceOf(ConcurrencyFailureException.class, e.getCause());
+                }
+                ResponseEntity<ErrorResponse> response = handler.handleConcurrentUpdateException(
+                        (RuntimeException) e.getCause(), new MockHttpServletRequest());
+                assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+                conflicts++;
+            }
+        }
+        System.out.printf("%d concurrent schedules with transactions: %d committed, %d refused with 409%n",
+                calls.size(), succeeded, conflicts);
+
+        List<InterviewEvent> events = mongoTemplate.find(new Query().with(Sort.by("seq")), InterviewEvent.class);
+        assertTrue(succeeded > 0);
+        assertEquals(succeeded, mongoTemplate.count(new Query(), Interview.class));
+        assertEquals(succeeded, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(events.getFirst().getSeq() + i, events.get(i).getSeq());
+        }
+    }
+
+    private static List<Future<Object>> invokeAll(List<Callable<Object>> calls) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            return executor.invokeAll(calls);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.InterviewEventType;
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.InterviewEvent;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.service.impl.InterviewerCalendarServiceImpl;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InterviewerCalendarServiceTest {
+
+    private static final LocalDateTime SLOT = LocalDateTime.now().plusDays(1).withNano(0);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final InterviewerCalendarServiceImpl calendar = new InterviewerCalendarServiceImpl(mongoTemplate);
+
+    @Test
+    void bookingsAndReleasesDuringARebuildSurviveTheSwap() {
+        String stored = new ObjectId().toHexString();
+        String released = new ObjectId().toHexString();
+        calendar.book(interview(released, "panel-b", SLOT));
+
+        // The stream has already read both interviews when the concurrent booking and release happen
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), any(String.class))).thenAnswer(call -> {
+            calendar.book(interview(new ObjectId().toHexString(), "panel-c", SLOT));
+            calendar.release(released);
+            return Stream.of(document(stored, "panel-a", SLOT), document(released, "panel-b", SLOT));
+        });
+        calendar.rebuild();
+
+        assertFalse(calendar.isFree("panel-a", SLOT, SLOT.plusMinutes(30)));
+        assertTrue(calendar.isFree("panel-b", SLOT, SLOT.plusMinutes(30)));
+        assertFalse(calendar.isFree("panel-c", SLOT, SLOT.plusMinutes(30)));
+    }
+
+    @Test
+    void followsChangesMadeThroughOtherInstances() {
+        String interviewId = new ObjectId().toHexString();
+        Document interview = document(interviewId, "panel-a", SLOT);
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), any(String.class))).thenReturn(interview);
+
+        calendar.onEvent(event(InterviewEventType.INTERVIEW_SCHEDULED, interviewId));
+        assertFalse(calendar.isFree("panel-a", SLOT, SLOT.plusMinutes(30)));
+
+        interview.put("scheduledAt", date(SLOT.plusHours(2)));
+        calendar.onEvent(event(InterviewEventType.INTERVIEW_UPDATED, interviewId));
+        assertTrue(calendar.isFree("panel-a", SLOT, SLOT.plusMinutes(30)));
+        assertFalse(calendar.isFree("panel-a", SLOT.plusHours(2), SLOT.plusHours(3)));
+
+        interview.put("status", InterviewStatus.CANCELLED.name());
+        calendar.onEvent(event(InterviewEventType.INTERVIEW_CANCELLED, interviewId));
+        assertTrue(calendar.isFree("panel-a", SLOT.plusHours(2), SLOT.plusHours(3)));
+    }
+
+    @Test
+    void eventsThatLeaveTheSlotAloneAreNotLookedUp() {
+        String interviewId = new ObjectId().toHexString();
+        calendar.book(interview(interviewId, "panel-a", SLOT));
+
+        // findOne is unstubbed and would free the slot if it were read
+        calendar.onEvent(event(InterviewEventType.INTERVIEW_CONFIRMED, interviewId));
+        assertFalse(calendar.isFree("panel-a", SLOT, SLOT.plusMinutes(30)));
+    }
+
+    private static Interview interview(String id, String interviewerId, LocalDateTime scheduledAt) {
+        return Interview.builder()
+                .id(id)
+                .interviewers(List.of(Interviewer.builder().id(interviewerId).build()))
+                .scheduledAt(scheduledAt)
+                .duration(60)
+                .status(InterviewStatus.SCHEDULED)
+                .build();
+    }
+
+    private static Document document(String id, String interviewerId, LocalDateTime scheduledAt) {
+        return new Document("_id", new ObjectId(id))
+                .append("scheduledAt", date(scheduledAt))
+                .append("duration", 60)
+                .append("interviewers", List.of(new DBRef("interviewers", interviewerId)))
+                .append("status", InterviewStatus.SCHEDULED.name());
+    }
+
+    private static InterviewEvent event(InterviewEventType type, String interviewId) {
+        return InterviewEvent.builder().type(type).interviewId(interviewId).build();
+    }
+
+    private static Date date(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,105 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.InterviewStatus;
+import com.interview.organiser.model.entity.Interview;
+import com.interview.organiser.model.entity.Interviewer;
+import com.interview.organiser.service.impl.InterviewerCalendarServiceImpl;
+import com.interview.organiser.service.impl.InterviewerMatchingServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InterviewerMatchingServiceTest {
+
+    private static final LocalDateTime SLOT = LocalDateTime.of(2030, 1, 7, 10, 0);
+
+    private final InterviewerCalendarServiceImpl calendar = new InterviewerCalendarServiceImpl(null);
+    private final InterviewerMatchingServiceImpl matching =
+            new InterviewerMatchingServiceImpl(null, null, null, calendar, null);
+
+    @Test
+    void ranksBySkillCoverageThenExperienceAndLoad() {
+        matching.index(interviewer("java-spring", List.of("Java", "Spring"), 5, 0, true));
+        matching.index(interviewer("java-senior", List.of("java"), 20, 0, true));
+        matching.index(interviewer("java-busy", List.of("Java"), 20, 30, true));
+        matching.index(interviewer("java-away", List.of("Java", "Spring"), 20, 0, false));
+        matching.index(interviewer("python", List.of("Python"), 20, 0, true));
+
+        List<InterviewerMatchingServiceImpl.Match> matches = matching.rank(List.of("Java", "Spring"), null, null, 10);
+
+        assertEquals(List.of("java-spring", "java-senior", "java-busy"),
+                matches.stream().map(InterviewerMatchingServiceImpl.Match::interviewerId).toList());
+        assertEquals(List.of("java", "spring"), matches.get(0).matchedSkills());
+    }
+
+    @Test
+    void leavesOutInterviewersBookedInTheWindow() {
+        Interviewer booked = interviewer("booked", List.of("Java"), 10, 0, true);
+        matching.index(booked);
+        matching.index(interviewer("free", List.of("Java"), 1, 0, true));
+        calendar.book(Interview.builder().id("interview-1").interviewers(List.of(booked))
+                .scheduledAt(SLOT).duration(60).status(InterviewStatus.SCHEDULED).build());
+
+        assertEquals(List.of("free"), matching.rank(List.of("Java"), SLOT.plusMinutes(30), SLOT.plusMinutes(90), 10)
+                .stream().map(InterviewerMatchingServiceImpl.Match::interviewerId).toList());
+        assertEquals(List.of("booked", "free"), matching.rank(List.of("Java"), SLOT.plusHours(1), SLOT.plusHours(2), 10)
+                .stream().map(InterviewerMatchingServiceImpl.Match::interviewerId).toList());
+    }
+
+    /**
+     * Latency of ranking a large interviewer pool against a candidate's skills, with calendar checks.
+     * Enable with {@code mvn test -Dtest=InterviewerMatchingServiceTest -Dbenchmark.matching=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.matching", matches = "true")
+    void benchmarkRankingLargePool() {
+        int interviewers = Integer.getInteger("benchmark.interviewers", 10_000);
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            skills.add("skill" + i);
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < interviewers; i++) {
+            List<String> expertise = new ArrayList<>();
+            for (int j = 0; j < 8; j++) {
+                // Skewed towards popular skills, as real expertise lists are
+                expertise.add(skills.get((int) (Math.pow(random.nextDouble(), 2) * skills.size())));
+            }
+            Interviewer interviewer = interviewer("interviewer" + i, expertise, random.nextInt(25), random.nextInt(40), true);
+            matching.index(interviewer);
+            if (i % 3 == 0) {
+                calendar.book(Interview.builder().id("interview" + i).interviewers(List.of(interviewer))
+                        .scheduledAt(SLOT.plusHours(random.nextInt(8))).duration(60)
+                        .status(InterviewStatus.SCHEDULED).build());
+            }
+        }
+        List<String> candidateSkills = List.of("skill0", "skill1", "skill3", "skill7", "skill20", "skill50");
+
+        int runs = 2_000;
+        for (int i = 0; i < runs; i++) {
+            matching.rank(candidateSkills, SLOT, SLOT.plusHours(1), 10);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            matching.rank(candidateSkills, SLOT, SLOT.plusHours(1), 10);
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / runs;
+        System.out.printf("Ranked %d interviewers in %.1f us per request%n", interviewers, micros);
+    }
+
+    private static Interviewer interviewer(String id, List<String> expertise, int years, int load, boolean available) {
+        return Interviewer.builder()
+                .id(id)
+                .expertise(expertise)
+                .yearsOfExperience(years)
+                .totalInterviews(load)
+                .availability(available)
+                .build();
+    }
+}
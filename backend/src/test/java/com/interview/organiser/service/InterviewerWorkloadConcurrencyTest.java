@@ -0,0 +1,122 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.constants.enums.InterviewType;
+import com.interview.organiser.model.dto.request.ScheduleInterviewRequest;
+import com.interview.organiser.model.dto.response.InterviewResponse;
+import com.interview.organiser.model.entity.Candidate;
+import com.interview.organiser.model.entity.Interviewer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Schedules and cancels interviews for the same interviewers from many threads at once and checks that
+ * totalInterviews ends up exact, i.e. no increment is lost to a read-modify-write race.
+ * Requires a running MongoDB; enable with {@code mvn test -Dmongo.integration=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.data.mongodb.database=organiser_workload_concurrency",
+        "jwt.secret=workload-test-secret-key-that-is-long-enough-for-hs256",
+        "jwt.expiration=3600000",
+        "app.jobs.interview-events.enabled=false",
+        "app.jobs.notification-dispatch.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "mongo.integration", matches = "true")
+class InterviewerWorkloadConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int SCHEDULES_PER_THREAD = 25;
+    private static final int CANCELLATIONS = 50;
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(1).withNano(0);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    private Candidate candidate;
+    private Interviewer shared;
+    private Interviewer other;
+
+    @BeforeAll
+    void seed() {
+        mongoTemplate.getDb().drop();
+        candidate = mongoTemplate.insert(Candidate.builder()
+                .firstName("Concurrent").lastName("Candidate").email("candidate@workload.test")
+                .build());
+        shared = mongoTemplate.insert(Interviewer.builder().email("shared@workload.test").build());
+        other = mongoTemplate.insert(Interviewer.builder().email("other@workload.test").build());
+    }
+
+    @AfterAll
+    void cleanUp() {
+        mongoTemplate.getDb().drop();
+    }
+
+    @Test
+    void concurrentSchedulingAndCancellationKeepExactCounts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<InterviewResponse>> schedules = new ArrayList<>();
+            for (int i = 0; i < THREADS * SCHEDULES_PER_THREAD; i++) {
+                // Every interview uses the shared interviewer; every other one also uses a second interviewer
+                List<String> interviewerIds = i % 2 == 0
+                        ? List.of(shared.getId())
+                        : List.of(shared.getId(), other.getId());
+                LocalDateTime slot = START.plusHours(i);
+                schedules.add(() -> interviewService.scheduleInterview(request(interviewerIds, slot)));
+            }
+            List<InterviewResponse> scheduled = new ArrayList<>();
+            for (Future<InterviewResponse> future : executor.invokeAll(schedules)) {
+                scheduled.add(future.get());
+            }
+
+            List<Callable<Object>> cancellations = new ArrayList<>();
+            for (int i = 0; i < CANCELLATIONS; i++) {
+                String interviewId = scheduled.get(i).getId();
+                cancellations.add(() -> interviewService.cancelInterview(interviewId));
+            }
+            for (Future<Object> future : executor.invokeAll(cancellations)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int total = THREADS * SCHEDULES_PER_THREAD;
+        assertEquals(total - CANCELLATIONS, totalInterviews(shared));
+        assertEquals(total / 2 - CANCELLATIONS / 2, totalInterviews(other));
+    }
+
+    private int totalInterviews(Interviewer interviewer) {
+        return mongoTemplate.findById(interviewer.getId(), Interviewer.class).getTotalInterviews();
+    }
+
+    private ScheduleInterviewRequest request(List<String> interviewerIds, LocalDateTime scheduledAt) {
+        return ScheduleInterviewRequest.builder()
+                .recruiterId("workload-recruiter")
+                .candidateId(candidate.getId())
+                .interviewerIds(interviewerIds)
+                .scheduledAt(scheduledAt)
+                .interviewType(InterviewType.TECHNICAL)
+                .round(1)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.interview.organiser.service;
+
+import com.interview.organiser.repository.EntityCache;
+import com.interview.organiser.repository.InterviewRepository;
+import com.interview.organiser.service.ResourceVersionService.Version;
+import com.interview.organiser.service.impl.ResourceVersionServiceImpl;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Date;
+import java.util.List;
+
+import static com.interview.organiser.repository.ReferenceResolver.INTERVIEWS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResourceVersionServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final ResourceVersionService resourceVersionService = new ResourceVersionServiceImpl(mongoTemplate,
+            mock(InterviewRepository.class), mock(EntityCache.class));
+
+    @Test
+    void writeThatOnlyBumpsTheVersionChangesTheETag() {
+        ObjectId id = new ObjectId();
+        Date updatedAt = new Date();
+
+        // e.g. requestFeedback before it set updatedAt, or the notes migration: same updatedAt, next version
+        stored(new Document("_id", id).append("updatedAt", updatedAt).append("version", 3L));
+        Version before = resourceVersionService.getInterviewVersion(id.toHexString()).orElseThrow();
+        stored(new Document("_id", id).append("updatedAt", updatedAt).append("version", 4L));
+        Version after = resourceVersionService.getInterviewVersion(id.toHexString()).orElseThrow();
+
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(before.lastModified(), after.lastModified());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(query.capture(), eq(Document.class), eq(INTERVIEWS));
+        assertTrue(query.getValue().getFieldsObject().containsKey("version"), query.getValue().toString());
+    }
+
+    @Test
+    void unchangedDocumentKeepsItsETag() {
+        ObjectId id = new ObjectId();
+        stored(new Document("_id", id).append("updatedAt", new Date()).append("version", 3L));
+
+        assertEquals(resourceVersionService.getInterviewVersion(id.toHexString()),
+                resourceVersionService.getInterviewVersion(id.toHexString()));
+    }
+
+    private void stored(Document interview) {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(INTERVIEWS))).thenReturn(List.of(interview));
+    }
+}
@@ -0,0 +1,48 @@
+package com.interview.organiser.util;
+
+import com.interview.organiser.constants.CalibrationCounters;
+import com.interview.organiser.constants.enums.FeedbackRecommendation;
+import com.interview.organiser.constants.enums.InterviewResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CalibrationAccumulatorTest {
+
+    private static final int RATING = CalibrationCounters.DIMENSIONS.indexOf("rating");
+
+    @Test
+    void derivesStatisticsFromTheHistogram() {
+        CalibrationAccumulator accumulator = new CalibrationAccumulator();
+        for (int rating : new int[]{2, 4, 4, 4, 5, 5, 7, 9}) {
+            accumulator.add(new Integer[]{rating, null, null, null, null}, FeedbackRecommendation.HIRE,
+                    InterviewResult.SELECTED);
+        }
+
+        assertEquals(8, accumulator.count(RATING));
+        assertEquals(5.0, accumulator.mean(RATING));
+        assertEquals(32.0 / 7, accumulator.variance(RATING), 1e-9);
+        assertEquals(4, accumulator.percentile(RATING, 25));
+        assertEquals(4, accumulator.percentile(RATING, 50));
+        assertEquals(9, accumulator.percentile(RATING, 90));
+        assertEquals(0, accumulator.count(RATING + 1));
+        assertNull(accumulator.mean(RATING + 1));
+        assertEquals(8, accumulator.outcomes(FeedbackRecommendation.HIRE, InterviewResult.SELECTED));
+    }
+
+    @Test
+    void roundTripsThroughCounters() {
+        CalibrationAccumulator accumulator = new CalibrationAccumulator();
+        accumulator.add(new Integer[]{3, 8, 11, null, 6}, FeedbackRecommendation.NO_HIRE, InterviewResult.REJECTED);
+        accumulator.add(new Integer[]{7, 8, 5, 5, 6}, FeedbackRecommendation.HOLD, null);
+
+        CalibrationAccumulator restored = CalibrationAccumulator.fromCounters(accumulator.toCounters());
+
+        assertEquals(accumulator.toCounters(), restored.toCounters());
+        assertEquals(2, restored.feedback());
+        assertEquals(1, restored.count(2)); // The out of range score is left out
+        assertEquals(1, restored.recommendations(FeedbackRecommendation.HOLD));
+        assertEquals(1, restored.outcomes(FeedbackRecommendation.NO_HIRE, InterviewResult.REJECTED));
+    }
+}
@@ -0,0 +1,29 @@
+package com.interview.organiser.util;
+
+import com.interview.organiser.exception.BadRequestException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorUtilTest {
+
+    @Test
+    void roundTripsBsonTypedKeys() {
+        List<Object> keys = List.of(new Date(1_700_000_000_000L), new ObjectId());
+
+        assertEquals(keys, CursorUtil.decode(CursorUtil.encode(keys), 2));
+    }
+
+    @Test
+    void rejectsTamperedOrMismatchedCursors() {
+        String cursor = CursorUtil.encode(List.of(new ObjectId()));
+
+        assertThrows(BadRequestException.class, () -> CursorUtil.decode("not-a-cursor", 1));
+        assertThrows(BadRequestException.class, () -> CursorUtil.decode(cursor, 2));
+    }
+}
@@ -0,0 +1,43 @@
+package com.interview.organiser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventReplayBufferTest {
+
+    @Test
+    void replaysOnlyWhatItStillCovers() {
+        EventReplayBuffer<String> buffer = new EventReplayBuffer<>(3);
+        assertEquals(Optional.empty(), buffer.after(0));
+
+        buffer.append(5, "e5");
+        buffer.append(6, "e6");
+        buffer.append(8, "e8");
+        assertEquals(Optional.of(List.of("e6", "e8")), buffer.after(5));
+        assertEquals(Optional.of(List.of("e5", "e6", "e8")), buffer.after(4));
+        assertEquals(Optional.empty(), buffer.after(3));
+
+        buffer.append(9, "e9");
+        assertEquals(3, buffer.size());
+        assertEquals(Optional.empty(), buffer.after(4));
+        assertEquals(Optional.of(List.of("e6", "e8", "e9")), buffer.after(5));
+        assertEquals(Optional.of(List.of()), buffer.after(12));
+    }
+
+    @Test
+    void ignoresRedeliveredSeqs() {
+        EventReplayBuffer<String> buffer = new EventReplayBuffer<>(10);
+
+        assertTrue(buffer.append(1, "e1"));
+        assertTrue(buffer.append(2, "e2"));
+        assertFalse(buffer.append(2, "again"));
+        assertFalse(buffer.append(1, "again"));
+        assertEquals(Optional.of(List.of("e1", "e2")), buffer.after(0));
+    }
+}
@@ -0,0 +1,85 @@
+package com.interview.organiser.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.organiser.exception.BadRequestException;
+import com.interview.organiser.model.dto.response.CandidateResponse;
+import com.interview.organiser.model.dto.response.InterviewResponse;
+import com.interview.organiser.model.dto.response.InterviewerResponse;
+import com.interview.organiser.model.dto.response.PageResponse;
+import com.interview.organiser.model.dto.response.UserResponse;
+import com.interview.organiser.repository.ReferenceResolver;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldSelectionTest {
+
+    @Test
+    void mapsSelectedFieldsToProjectionsAndNestedSelections() {
+        FieldSelection fields = FieldSelection.parse("scheduledAt, candidate.firstName,interviewer.user.email,status",
+                InterviewResponse.class);
+
+        assertEquals(List.of("candidate", "interviewers", "scheduledAt", "status"),
+                fields.documentFields(ReferenceResolver.INTERVIEW_FIELDS));
+        assertEquals(List.of("firstName"), fields.nested("candidate").documentFields(ReferenceResolver.USER_FIELDS));
+        assertEquals(List.of("user"), fields.nested("interviewer").documentFields(ReferenceResolver.USER_FIELDS));
+        assertTrue(fields.nested("notes").isNone());
+        assertEquals("candidate(firstName),interviewer(user(email)),scheduledAt,status", fields.toString());
+    }
+
+    @Test
+    void namingANestedResponseSelectsAllOfIt() {
+        FieldSelection fields = FieldSelection.parse("candidate.email,candidate", InterviewResponse.class);
+
+        assertTrue(fields.nested("candidate").isAll());
+        assertSame(FieldSelection.ALL, FieldSelection.parse(" ", InterviewResponse.class));
+        assertEquals(List.of("_id"), FieldSelection.parse("id", InterviewResponse.class).documentFields(Map.of()));
+    }
+
+    @Test
+    void rejectsUnknownFields() {
+        assertThrows(BadRequestException.class,
+                () -> FieldSelection.parse("candidate.salary", InterviewResponse.class));
+        assertThrows(BadRequestException.class,
+                () -> FieldSelection.parse("notes.length", InterviewResponse.class));
+    }
+
+    @Test
+    void trimsTheSerializedPageToTheSelection() {
+        InterviewResponse interview = InterviewResponse.builder()
+                .id("i1")
+                .scheduledAt(LocalDateTime.of(2026, 3, 2, 10, 0))
+                .notes("private notes")
+                .candidate(CandidateResponse.builder().id("c1").firstName("Ada").email("ada@example.com").build())
+                .interviewer(InterviewerResponse.builder().id("v1").department("Platform")
+                        .user(UserResponse.builder().id("u1").email("lin@example.com").build()).build())
+                .build();
+        PageResponse<InterviewResponse> page = PageResponse.<InterviewResponse>builder()
+                .content(List.of(interview)).page(0).size(10).totalElements(1L).totalPages(1).build();
+
+        PageResponse<?> sparse = FieldSelection.parse("scheduledAt,candidate.firstName,interviewer.user.email",
+                InterviewResponse.class).apply(page, new ObjectMapper().findAndRegisterModules());
+
+        JsonNode node = (JsonNode) sparse.getContent().getFirst();
+        assertEquals(List.of("id", "candidate", "interviewer", "scheduledAt"), fieldNames(node));
+        assertEquals(List.of("id", "firstName"), fieldNames(node.get("candidate")));
+        assertEquals(List.of("id", "user"), fieldNames(node.get("interviewer")));
+        assertEquals("lin@example.com", node.get("interviewer").get("user").get("email").asText());
+        assertEquals(1L, sparse.getTotalElements());
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
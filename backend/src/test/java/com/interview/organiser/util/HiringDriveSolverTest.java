@@ -0,0 +1,142 @@
+package com.interview.organiser.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HiringDriveSolverTest {
+
+    @Test
+    void placesEveryCandidateWhenThereIsRoom() {
+        // 2 days of 8 slots, 6 interviewers capped at 6 a day, panels of 2, 2 rounds: 40 seats needed of about 66
+        HiringDriveSolver.Problem problem = problem(10, 6, 2, 8, 2, 2, 6, new Random(1), 0.1);
+
+        HiringDriveSolver.Solution solution = HiringDriveSolver.solve(problem, 4, 500, 7);
+
+        assertEquals(10, solution.placedCandidates());
+        assertFeasible(problem, solution);
+    }
+
+    @Test
+    void placesAsManyCandidatesAsTheDailyCapAllows() {
+        // 1 day, 3 interviewers capped at 2 interviews: 6 single-interviewer slots for 10 candidates
+        HiringDriveSolver.Problem problem = problem(10, 3, 1, 8, 1, 1, 2, new Random(2), 0);
+
+        HiringDriveSolver.Solution solution = HiringDriveSolver.solve(problem, 2, 200, 7);
+
+        assertEquals(6, solution.placedCandidates());
+        assertEquals(6, solution.assignments().size());
+        assertFeasible(problem, solution);
+    }
+
+    @Test
+    void sameInputsGiveTheSamePlan() {
+        HiringDriveSolver.Problem problem = problem(40, 10, 3, 8, 2, 2, 3, new Random(3), 0.2);
+
+        HiringDriveSolver.Solution first = HiringDriveSolver.solve(problem, 4, 300, 11);
+        HiringDriveSolver.Solution second = HiringDriveSolver.solve(problem, 4, 300, 11);
+
+        assertEquals(describe(first), describe(second));
+        assertFeasible(problem, first);
+    }
+
+    /**
+     * Planning time for a large drive. Enable with
+     * {@code mvn test -Dtest=HiringDriveSolverTest -Dbenchmark.drive=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.drive", matches = "true")
+    void benchmarkLargeDrive() {
+        HiringDriveSolver.Problem problem = problem(250, 60, 10, 8, 2, 2, 4, new Random(4), 0.15);
+        int restarts = Runtime.getRuntime().availableProcessors();
+
+        HiringDriveSolver.solve(problem, restarts, 2_000, 1);
+        long start = System.nanoTime();
+        HiringDriveSolver.Solution solution = HiringDriveSolver.solve(problem, restarts, 2_000, 1);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertFeasible(problem, solution);
+        System.out.printf("Placed %d of %d candidates with %d restarts in %d ms (imbalance %d)%n",
+                solution.placedCandidates(), problem.candidates(), restarts, millis, solution.imbalance());
+    }
+
+    private static HiringDriveSolver.Problem problem(int candidates, int interviewers, int days, int slotsPerDay,
+                                                     int panelSize, int rounds, int maxPerDay, Random random,
+                                                     double busyRate) {
+        int[] slotDay = new int[days * slotsPerDay];
+        for (int slot = 0; slot < slotDay.length; slot++) {
+            slotDay[slot] = slot / slotsPerDay;
+        }
+        boolean[][] busy = new boolean[interviewers][slotDay.length];
+        int[][] existing = new int[interviewers][days];
+        for (int interviewer = 0; interviewer < interviewers; interviewer++) {
+            for (int slot = 0; slot < slotDay.length; slot++) {
+                if (random.nextDouble() < busyRate) {
+                    busy[interviewer][slot] = true;
+                    existing[interviewer][slotDay[slot]]++;
+                }
+            }
+        }
+        return new HiringDriveSolver.Problem(candidates, interviewers, slotDay, days, busy, existing,
+                panelSize, rounds, maxPerDay);
+    }
+
+    private static void assertFeasible(HiringDriveSolver.Problem problem, HiringDriveSolver.Solution solution) {
+        int[][] rounds = new int[problem.candidates()][problem.rounds()];
+        int[][] dayLoad = new int[problem.interviewers()][];
+        for (int interviewer = 0; interviewer < problem.interviewers(); interviewer++) {
+            dayLoad[interviewer] = problem.existingDailyLoad()[interviewer].clone();
+        }
+        Set<Long> seats = new HashSet<>();
+        for (int[] candidateRounds : rounds) {
+            Arrays.fill(candidateRounds, -1);
+        }
+
+        for (HiringDriveSolver.Assignment assignment : solution.assignments()) {
+            rounds[assignment.candidate()][assignment.round()] = assignment.slot();
+            assertEquals(problem.panelSize(), assignment.panel().length);
+            for (int interviewer : assignment.panel()) {
+                assertFalse(problem.busy()[interviewer][assignment.slot()], "interviewer already busy");
+                assertTrue(seats.add((long) interviewer * problem.slotDay().length + assignment.slot()),
+                        "interviewer double-booked");
+                dayLoad[interviewer][problem.slotDay()[assignment.slot()]]++;
+            }
+        }
+
+        int placed = 0;
+        for (int[] candidateRounds : rounds) {
+            boolean any = candidateRounds[0] >= 0;
+            for (int round = 1; round < candidateRounds.length; round++) {
+                assertEquals(any, candidateRounds[round] >= 0, "candidate only partly placed");
+                if (any) {
+                    assertTrue(candidateRounds[round] > candidateRounds[round - 1], "rounds out of order");
+                }
+            }
+            placed += any ? 1 : 0;
+        }
+        assertEquals(solution.placedCandidates(), placed);
+
+        for (int interviewer = 0; interviewer < problem.interviewers(); interviewer++) {
+            for (int day = 0; day < problem.days(); day++) {
+                int planned = dayLoad[interviewer][day] - problem.existingDailyLoad()[interviewer][day];
+                assertTrue(planned == 0 || dayLoad[interviewer][day] <= problem.maxPerDay(), "daily cap exceeded");
+            }
+        }
+    }
+
+    private static List<String> describe(HiringDriveSolver.Solution solution) {
+        return solution.assignments().stream()
+                .map(assignment -> assignment.candidate() + "/" + assignment.round() + "@" + assignment.slot()
+                        + Arrays.toString(assignment.panel()))
+                .toList();
+    }
+}
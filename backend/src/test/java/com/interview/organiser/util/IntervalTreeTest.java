@@ -0,0 +1,55 @@
+package com.interview.organiser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntervalTreeTest {
+
+    @Test
+    void treatsIntervalsAsHalfOpen() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.add(10, 20, "a");
+
+        assertFalse(tree.overlaps(20, 30));
+        assertFalse(tree.overlaps(0, 10));
+        assertTrue(tree.overlaps(19, 21));
+        assertEquals(List.of("a"), tree.overlapping(0, 100));
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomAddsAndRemoves() {
+        Random random = new Random(42);
+        IntervalTree<String> tree = new IntervalTree<>();
+        List<long[]> intervals = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            if (!intervals.isEmpty() && random.nextInt(3) == 0) {
+                long[] removed = intervals.remove(random.nextInt(intervals.size()));
+                assertTrue(tree.remove(removed[0], "k" + removed[2]));
+            } else {
+                long start = random.nextInt(10_000);
+                long[] added = {start, start + 1 + random.nextInt(200), i};
+                intervals.add(added);
+                tree.add(added[0], added[1], "k" + i);
+            }
+
+            long from = random.nextInt(10_000);
+            long to = from + 1 + random.nextInt(300);
+            List<String> expected = intervals.stream()
+                    .filter(interval -> interval[0] < to && interval[1] > from)
+                    .sorted((x, y) -> x[0] != y[0] ? Long.compare(x[0], y[0]) : ("k" + x[2]).compareTo("k" + y[2]))
+                    .map(interval -> "k" + interval[2])
+                    .toList();
+            assertEquals(expected, tree.overlapping(from, to));
+            assertEquals(!expected.isEmpty(), tree.overlaps(from, to));
+        }
+        assertEquals(intervals.size(), tree.size());
+    }
+}
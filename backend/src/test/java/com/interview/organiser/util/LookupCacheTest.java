@@ -0,0 +1,103 @@
+package com.interview.organiser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LookupCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Optional<String>> loader = id -> {
+        loads.incrementAndGet();
+        return id.startsWith("missing") ? Optional.empty() : Optional.of("entity-" + id);
+    };
+
+    @Test
+    void servesRepeatedLookupsFromTheCacheUntilTheyExpire() {
+        LookupCache<String> cache = new LookupCache<>("test", true, 10, Duration.ofSeconds(60), now::get);
+
+        assertEquals(Optional.of("entity-a"), cache.get("a", loader));
+        assertEquals(Optional.of("entity-a"), cache.get("a", loader));
+        assertEquals(1, loads.get());
+
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+        cache.get("a", loader);
+        assertEquals(2, loads.get());
+
+        // Absent entities are not cached
+        cache.get("missing", loader);
+        cache.get("missing", loader);
+        assertEquals(4, loads.get());
+
+        LookupCache.Stats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(4, stats.misses());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryBeyondMaxSize() {
+        LookupCache<String> cache = new LookupCache<>("test", true, 2, Duration.ofSeconds(60), now::get);
+        cache.get("a", loader);
+        cache.get("b", loader);
+        cache.get("a", loader);
+        cache.get("c", loader);
+        assertEquals(3, loads.get());
+
+        // "a" was used after "b", so "b" made room for "c"
+        cache.get("a", loader);
+        assertEquals(3, loads.get());
+        cache.get("b", loader);
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.stats().evictions());
+    }
+
+    @Test
+    void doesNotStoreALoadThatRacedAnInvalidation() {
+        LookupCache<String> cache = new LookupCache<>("test", true, 10, Duration.ofSeconds(60), now::get);
+
+        // The entity changes while it is being loaded, so the loaded copy may be stale
+        assertEquals(Optional.of("stale"), cache.get("a", id -> {
+            cache.invalidate(id);
+            return Optional.of("stale");
+        }));
+
+        assertEquals(Optional.of("entity-a"), cache.get("a", loader));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidatesOnlyEntriesTheCheckFindsStale() {
+        LookupCache<String> cache = new LookupCache<>("test", true, 10, Duration.ofSeconds(60), now::get);
+        cache.get("a", loader);
+
+        assertFalse(cache.invalidateIf("a", "entity-b"::equals));
+        assertFalse(cache.invalidateIf("b", value -> true));
+        cache.get("a", loader);
+        assertEquals(1, loads.get());
+
+        assertTrue(cache.invalidateIf("a", value -> true));
+        cache.get("a", loader);
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().invalidations());
+    }
+
+    @Test
+    void goesStraightToTheLoaderWhenDisabled() {
+        LookupCache<String> cache = new LookupCache<>("test", false, 10, Duration.ofSeconds(60), now::get);
+
+        cache.get("a", loader);
+        cache.get("a", loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.stats().hits() + cache.stats().misses());
+    }
+}
@@ -0,0 +1,47 @@
+package com.interview.organiser.util;
+
+import com.interview.organiser.model.entity.Candidate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchTokenUtilTest {
+
+    @Test
+    void indexesNormalisedWordsAndPrefixes() {
+        Candidate candidate = Candidate.builder()
+                .firstName("José")
+                .lastName("Müller-Smith")
+                .email("jose.muller@example.com")
+                .position("Backend Engineer")
+                .skills(List.of("Spring Boot", "C++"))
+                .build();
+
+        SearchTokenUtil.index(candidate);
+
+        assertTrue(candidate.getSearchWords().containsAll(List.of("jose", "muller", "smith", "example", "backend", "spring", "c")));
+        assertTrue(candidate.getSearchTokens().containsAll(List.of("j", "jo", "jos", "jose", "sm", "smith", "eng", "boo")));
+        assertFalse(candidate.getSearchTokens().contains("ith"));
+    }
+
+    @Test
+    void truncatesLongWordsAndQueryTermsToTheSameLength() {
+        Candidate candidate = Candidate.builder().firstName("Supercalifragilisticexpialidocious").build();
+
+        SearchTokenUtil.index(candidate);
+
+        List<String> terms = SearchTokenUtil.queryTerms("SUPERCALIFRAGILISTICEXPIALIDOCIOUS");
+        assertEquals(SearchTokenUtil.MAX_TOKEN_LENGTH, terms.get(0).length());
+        assertTrue(candidate.getSearchTokens().containsAll(terms));
+    }
+
+    @Test
+    void splitsQueryOnSeparatorsAndDropsDuplicates() {
+        assertEquals(List.of("john", "doe", "acme"), SearchTokenUtil.queryTerms("  John.Doe@ACME john "));
+        assertTrue(SearchTokenUtil.queryTerms(" @@ ").isEmpty());
+    }
+}